@@ -5,6 +5,12 @@ DROP TABLE IF EXISTS categories cascade;
 DROP TABLE IF EXISTS products cascade;
 DROP TABLE IF EXISTS reviews cascade;
 DROP TABLE IF EXISTS votes cascade;
+DROP TABLE IF EXISTS product_rating_stats cascade;
+DROP TABLE IF EXISTS review_vote_stats cascade;
+DROP TABLE IF EXISTS outbox_events cascade;
+DROP TABLE IF EXISTS replay_checkpoints cascade;
+DROP TABLE IF EXISTS replay_reviews cascade;
+DROP TABLE IF EXISTS replay_votes cascade;
 
 CREATE TABLE categories (
 	category_id SERIAL PRIMARY KEY,
@@ -14,14 +20,19 @@ CREATE TABLE products (
 	product_id SERIAL PRIMARY KEY,
 	category_id bigint not null,
 	product_name varchar(100) not null unique, 
-	product_description varchar(500) 
+	product_description varchar(500),
+	product_search tsvector GENERATED ALWAYS AS (
+		setweight(to_tsvector('english', product_name), 'A') ||
+		setweight(to_tsvector('english', coalesce(product_description, '')), 'B')
+		) STORED
 	);
 CREATE TABLE reviews (
 	review_id SERIAL PRIMARY KEY,
 	rating integer not null, 
 	product_id bigint not null, 
 	email varchar(100) not null, 
-	review_text varchar(1000) not null 
+	review_text varchar(1000) not null,
+	review_search tsvector GENERATED ALWAYS AS (to_tsvector('english', review_text)) STORED
 	);
 CREATE TABLE votes (
 	vote_id SERIAL PRIMARY KEY,
@@ -29,6 +40,41 @@ CREATE TABLE votes (
 	review_id bigint not null, 
 	email varchar(100) not null
 	);
+CREATE TABLE product_rating_stats (
+	product_id bigint not null,
+	rating integer not null,
+	review_count bigint not null default 0,
+	PRIMARY KEY (product_id, rating)
+	);
+CREATE TABLE review_vote_stats (
+	review_id bigint not null,
+	useful boolean not null,
+	vote_count bigint not null default 0,
+	PRIMARY KEY (review_id, useful)
+	);
+CREATE TABLE outbox_events (
+	outbox_id SERIAL PRIMARY KEY,
+	event_type varchar(100) not null,
+	payload text not null,
+	created_at timestamp with time zone not null,
+	relay_order bigserial not null
+	);
+CREATE TABLE replay_checkpoints (
+	topic varchar(100) not null,
+	partition_id integer not null,
+	next_offset bigint not null,
+	PRIMARY KEY (topic, partition_id)
+	);
+CREATE TABLE replay_reviews (
+	review_id bigint PRIMARY KEY,
+	product_id bigint not null,
+	rating integer not null
+	);
+CREATE TABLE replay_votes (
+	vote_id bigint PRIMARY KEY,
+	review_id bigint not null,
+	useful boolean not null
+	);
 	
 ALTER TABLE products 
 ADD CONSTRAINT FK_products_categories 
@@ -44,5 +90,34 @@ ALTER TABLE votes
 ADD CONSTRAINT FK_votes_reviews 
 FOREIGN KEY (review_id) 
 REFERENCES reviews (review_id);
-	
-	
\ No newline at end of file
+
+-- ids are handed out by hibernate's pooled optimizer, one sequence call per 50 rows
+ALTER SEQUENCE reviews_review_id_seq INCREMENT BY 50;
+
+ALTER SEQUENCE votes_vote_id_seq INCREMENT BY 50;
+
+ALTER SEQUENCE outbox_events_outbox_id_seq INCREMENT BY 50;
+
+-- outbox ids come in blocks per node, the relay follows relay_order, drawn once the row is inserted
+CREATE INDEX ix_outbox_events_relay_order ON outbox_events (relay_order);
+
+CREATE UNIQUE INDEX uq_reviews_product_email ON reviews (product_id, email);
+
+CREATE UNIQUE INDEX uq_votes_review_email ON votes (review_id, email);
+
+-- the search vectors are generated by postgres, every write path keeps them current
+CREATE INDEX ix_products_search ON products USING GIN (product_search);
+
+CREATE INDEX ix_reviews_search ON reviews USING GIN (review_search);
+
+ALTER TABLE product_rating_stats 
+ADD CONSTRAINT FK_product_rating_stats_products 
+FOREIGN KEY (product_id) 
+REFERENCES products (product_id) 
+ON DELETE CASCADE;
+
+ALTER TABLE review_vote_stats 
+ADD CONSTRAINT FK_review_vote_stats_reviews 
+FOREIGN KEY (review_id) 
+REFERENCES reviews (review_id) 
+ON DELETE CASCADE;
@@ -1,10 +1,27 @@
 DROP DATABASE IF EXISTS userappSqlDb;
 CREATE DATABASE userappSqlDb;
 DROP TABLE IF EXISTS usersapp;
+DROP TABLE IF EXISTS outbox_events;
+DROP TABLE IF EXISTS processed_events;
 
 CREATE TABLE usersapp(
     user_app_id SERIAL PRIMARY KEY,
 	email VARCHAR(255) NOT NULL UNIQUE,
 	name VARCHAR(255) NOT NULL,
 	lastname VARCHAR(255) NOT NULL
-);
\ No newline at end of file
+);
+
+CREATE TABLE outbox_events(
+    outbox_id SERIAL PRIMARY KEY,
+	event_type VARCHAR(100) NOT NULL,
+	payload TEXT NOT NULL,
+	created_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+-- ids are handed out by hibernate's pooled optimizer, one sequence call per 50 rows
+ALTER SEQUENCE usersapp_user_app_id_seq INCREMENT BY 50;
+
+CREATE TABLE processed_events(
+    event_id UUID PRIMARY KEY,
+	processed_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
@@ -14,7 +14,9 @@ import com.google.protobuf.Empty;
 
 import dev.ime.api.validation.DtoValidator;
 import dev.ime.application.dto.PaginationDto;
+import dev.ime.application.dto.UserDto;
 import dev.ime.application.exception.EmptyResponseException;
+import dev.ime.application.utils.PageToken;
 import dev.ime.application.service.AuthGrpcServiceAdapter;
 import dev.ime.common.config.GlobalConstants;
 import dev.ime.common.mapper.UserMapper;
@@ -33,6 +35,7 @@ public class AuthGrpcServiceImpl extends AuthGrpcServiceGrpc.AuthGrpcServiceImpl
 	private final UserMapper userMapper;
 	private final DtoValidator dtoValidator;
 	private static final Logger logger = LoggerFactory.getLogger(AuthGrpcServiceImpl.class);
+	private static final Set<String> SORT_ATTRS = Set.of(GlobalConstants.USER_ID, GlobalConstants.USER_EMAIL);
 
 	public AuthGrpcServiceImpl(AuthGrpcServiceAdapter authGrpcService, UserMapper userMapper, DtoValidator dtoValidator) {
 		super();
@@ -78,10 +81,16 @@ public class AuthGrpcServiceImpl extends AuthGrpcServiceGrpc.AuthGrpcServiceImpl
 
 		logger.info(GlobalConstants.MSG_PATTERN_INFO, request.getClass().getSimpleName(), request);
 		
-		PaginationDto paginationDto = createPaginationDto(request);
+		Optional<PageToken> pageToken = PageToken.decode(request.getPageToken(), SORT_ATTRS);
+		PaginationDto requestPagination = createPaginationDto(request);
+		PaginationDto paginationDto = pageToken.map(token -> token.applyTo(requestPagination)).orElse(requestPagination);
 		PageRequest pageRequest = createPageable(paginationDto);
-		List<UserProto> userProtoList = userMapper.fromListUserDtoToListUserProto(authGrpcService.findAll(pageRequest));
+		List<UserDto> dtoList = pageToken
+				.map(token -> authGrpcService.findAll(pageRequest, token.toCursor()))
+				.orElseGet(() -> authGrpcService.findAll(pageRequest));
+		List<UserProto> userProtoList = userMapper.fromListUserDtoToListUserProto(dtoList);
 		ListUsersResponse listUsersResponse = ListUsersResponse.newBuilder().addAllUsers(userProtoList)
+				.setNextPageToken(createNextPageToken(dtoList, paginationDto))
 				.build();
 
 		responseObserver.onNext(listUsersResponse);
@@ -90,10 +99,9 @@ public class AuthGrpcServiceImpl extends AuthGrpcServiceGrpc.AuthGrpcServiceImpl
 	
 	private PaginationDto createPaginationDto(PaginationRequest request) {
 		
-		Set<String> attrsSet = Set.of(GlobalConstants.USER_ID,GlobalConstants.USER_EMAIL);
 		Integer page = Optional.ofNullable(request.getPage()).filter( i -> i >= 0).orElse(0);
     	Integer size = Optional.ofNullable(request.getSize()).filter( i -> i > 0).orElse(100);
-        String sortBy = Optional.ofNullable(request.getSortBy()).filter(attrsSet::contains).orElse(GlobalConstants.USER_ID);
+        String sortBy = Optional.ofNullable(request.getSortBy()).filter(SORT_ATTRS::contains).orElse(GlobalConstants.USER_ID);
         String sortDir = Optional.ofNullable(request.getSortDir())
         		.map(String::toUpperCase)
         		.filter( sorting -> sorting.equals(GlobalConstants.PS_A) || sorting.equals(GlobalConstants.PS_D))
@@ -104,8 +112,20 @@ public class AuthGrpcServiceImpl extends AuthGrpcServiceGrpc.AuthGrpcServiceImpl
 	
 	private PageRequest createPageable(PaginationDto paginationDto) {
 
-		Sort sort = Sort.by(Sort.Direction.fromString(paginationDto.sortDir()), paginationDto.sortBy());
+		Sort.Direction direction = Sort.Direction.fromString(paginationDto.sortDir());
+		Sort sort = Sort.by(direction, paginationDto.sortBy());
+		if (!paginationDto.sortBy().equals(GlobalConstants.USER_ID)) {
+			sort = sort.and(Sort.by(direction, GlobalConstants.USER_ID));
+		}
 		return PageRequest.of(paginationDto.page(), paginationDto.size(), sort);
 	}
 
+	private String createNextPageToken(List<UserDto> dtoList, PaginationDto paginationDto) {
+
+		return PageToken.next(dtoList, paginationDto, dto -> switch (paginationDto.sortBy()) {
+			case GlobalConstants.USER_EMAIL -> dto.email();
+			default -> dto.userId();
+		}, UserDto::userId);
+	}
+
 }
@@ -12,6 +12,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 
 import dev.ime.application.dto.ErrorResponse;
 import dev.ime.application.exception.BasicException;
+import dev.ime.application.exception.PasswordHashingBusyException;
 import dev.ime.common.config.GlobalConstants;
 
 @ControllerAdvice
@@ -39,6 +40,21 @@ public class ApiExceptionHandler {
 		
 	}
 	
+	@ExceptionHandler(PasswordHashingBusyException.class)
+	public ResponseEntity<ErrorResponse> handlePasswordHashingBusyException(PasswordHashingBusyException ex){
+
+		logger.error(GlobalConstants.MSG_PATTERN_SEVERE, GlobalConstants.EX_HASHINGBUSY, ex.getMessage());
+
+		ErrorResponse response = new ErrorResponse(
+				ex.getIdentifier(),
+				ex.getName(),
+				ex.getDescription(), 
+				ex.getErrors()
+    		);
+
+		return new ResponseEntity<>(response, HttpStatus.SERVICE_UNAVAILABLE);
+	}
+	
 	@ExceptionHandler({
 		dev.ime.application.exception.BasicException.class
 		})	
@@ -4,6 +4,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import dev.ime.application.exception.BasicException;
+import dev.ime.application.exception.PasswordHashingBusyException;
 import dev.ime.common.config.GlobalConstants;
 import io.grpc.Metadata;
 import io.grpc.Status;
@@ -32,6 +33,14 @@ public class GrpcExceptionAdvice {
         return status.asException(metadata);		
     }
 	
+	@GrpcExceptionHandler
+    public StatusException handlePasswordHashingBusyException(PasswordHashingBusyException ex) {
+
+		logger.error(GlobalConstants.MSG_PATTERN_SEVERE, ex.getMessage(), ex.getErrors());
+
+		return Status.RESOURCE_EXHAUSTED.withDescription(ex.getDescription()).withCause(ex).asException();
+    }
+	
 	@GrpcExceptionHandler
     public Status handleException(Exception ex) {
 
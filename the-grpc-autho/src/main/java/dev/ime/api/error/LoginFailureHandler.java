@@ -0,0 +1,43 @@
+package dev.ime.api.error;
+
+import java.io.IOException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.authentication.SimpleUrlAuthenticationFailureHandler;
+
+import dev.ime.application.exception.PasswordHashingBusyAuthenticationException;
+import dev.ime.common.config.GlobalConstants;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * form login failures, a saturated hashing pool answers 503 with Retry-After and the rest go back to the
+ * login page as before
+ */
+public class LoginFailureHandler extends SimpleUrlAuthenticationFailureHandler {
+
+	private static final Logger logger = LoggerFactory.getLogger(LoginFailureHandler.class);
+
+	public LoginFailureHandler() {
+		super("/login?error");
+	}
+
+	@Override
+	public void onAuthenticationFailure(HttpServletRequest request, HttpServletResponse response,
+			AuthenticationException exception) throws IOException, ServletException {
+
+		if (exception instanceof PasswordHashingBusyAuthenticationException) {
+			logger.error(GlobalConstants.MSG_PATTERN_SEVERE, GlobalConstants.EX_HASHINGBUSY, exception.getMessage());
+			response.setHeader(HttpHeaders.RETRY_AFTER, GlobalConstants.HASHING_RETRY_AFTER_SECONDS);
+			response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), GlobalConstants.EX_HASHINGBUSY_DESC);
+			return;
+		}
+		super.onAuthenticationFailure(request, response, exception);
+	}
+
+}
@@ -0,0 +1,19 @@
+package dev.ime.application.exception;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+import dev.ime.common.config.GlobalConstants;
+
+/**
+ * the login side of PasswordHashingBusyException, an AuthenticationException so a busy pool fails the
+ * login through the security failure handlers instead of escaping the filter chain
+ */
+public class PasswordHashingBusyAuthenticationException extends AuthenticationServiceException {
+
+	private static final long serialVersionUID = 4137284129750637310L;
+
+	public PasswordHashingBusyAuthenticationException(PasswordHashingBusyException cause) {
+		super(GlobalConstants.EX_HASHINGBUSY_DESC, cause);
+	}
+
+}
@@ -0,0 +1,20 @@
+package dev.ime.application.exception;
+
+import java.util.Map;
+import java.util.UUID;
+
+import dev.ime.common.config.GlobalConstants;
+
+public class PasswordHashingBusyException extends BasicException{
+
+	private static final long serialVersionUID = -2871533064162794113L;
+
+	public PasswordHashingBusyException(Map<String, String> errors) {
+		super(
+				UUID.randomUUID(), 
+				GlobalConstants.EX_HASHINGBUSY, 
+				GlobalConstants.EX_HASHINGBUSY_DESC, 
+				errors);
+	}
+
+}
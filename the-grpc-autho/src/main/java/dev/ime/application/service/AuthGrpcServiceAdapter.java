@@ -6,22 +6,24 @@ import java.util.Optional;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import dev.ime.application.dto.RegisterRequestDto;
-import dev.ime.application.dto.UserAppDto;
 import dev.ime.application.dto.UserDto;
 import dev.ime.application.exception.EmailUsedException;
-import dev.ime.application.exception.GrpcClientCommunicationException;
 import dev.ime.common.config.GlobalConstants;
 import dev.ime.common.mapper.UserMapper;
+import dev.ime.domain.model.PageCursor;
 import dev.ime.domain.model.Role;
 import dev.ime.domain.model.User;
 import dev.ime.domain.port.inbound.AuthGrpcServicePort;
 import dev.ime.domain.port.outbound.PublisherPort;
+import dev.ime.domain.port.outbound.UserDetailsCachePort;
 import dev.ime.domain.port.outbound.UserRepository;
 
 @Service
@@ -29,19 +31,22 @@ public class AuthGrpcServiceAdapter implements AuthGrpcServicePort<UserDto,Regis
 
 	private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
-    private final UserAppGrpcClient userAppGrpcClient;
     private final UserMapper userMapper;
 	private final PublisherPort publisherAdapter;
+	private final UserDetailsCachePort userDetailsCache;
+	private final TransactionTemplate transactionTemplate;
 	private static final Logger logger = LoggerFactory.getLogger(AuthGrpcServiceAdapter.class);
 
 	public AuthGrpcServiceAdapter(UserRepository userRepository, PasswordEncoder passwordEncoder,
-			UserAppGrpcClient userAppGrpcClient, UserMapper userMapper, PublisherPort publisherAdapter) {
+			UserMapper userMapper, PublisherPort publisherAdapter, UserDetailsCachePort userDetailsCache,
+			@Qualifier("transactionManager") PlatformTransactionManager transactionManager) {
 		super();
 		this.userRepository = userRepository;
 		this.passwordEncoder = passwordEncoder;
-		this.userAppGrpcClient = userAppGrpcClient;
 		this.userMapper = userMapper;
 		this.publisherAdapter = publisherAdapter;
+		this.userDetailsCache = userDetailsCache;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
 	}
 
 	@Override
@@ -55,28 +60,55 @@ public class AuthGrpcServiceAdapter implements AuthGrpcServicePort<UserDto,Regis
 		
 		return userMapper.fromListDomainToListDto(userRepository.findAll(pageable));
 	}
+
+	@Override
+	public List<UserDto> findAll(Pageable pageable, PageCursor cursor) {
+		
+		return userMapper.fromListDomainToListDto(userRepository.findAll(pageable, cursor));
+	}
 	
-	@Transactional("transactionManager")
+	/**
+	 * the availability check and the hashing run before the transaction, a connection is held for the insert
+	 * and its user.created event only. user-pack builds the profile from that event, redelivered until it is
+	 * stored, and answers userapp.creation.failed when it never can be, which cancelRegistration undoes
+	 */
 	@Override
 	public Optional<UserDto> register(RegisterRequestDto registerRequestDto) {
 		
+		logger.info(GlobalConstants.MSG_PATTERN_INFO, GlobalConstants.CREATE_USER, registerRequestDto.email());
 		checkEmailAvailability(registerRequestDto.email());	
 		User user = createNewDomainUserObject(registerRequestDto);		
-		User userSaved = userRepository.save(user);
-		UserAppDto userAppDto = createUserAppDto(registerRequestDto,userSaved);		
-		boolean result = userAppGrpcClient.createUser(userAppDto);
-		logger.info(GlobalConstants.MSG_PATTERN_INFO, GlobalConstants.MSG_CONRESULT, result);
-
-		if ( !result ) {
-			throw new GrpcClientCommunicationException(Map.of(GlobalConstants.MSG_CONRESULT, String.valueOf(result)));
-		}
-		
-		publisherAdapter.publishEvent(userMapper.fromDomToEvent(userSaved));
+		User userSaved = transactionTemplate.execute(status -> {
+			User saved = userRepository.save(user);
+			publisherAdapter.publishEvent(userMapper.fromDomToEvent(saved, registerRequestDto));
+			return saved;
+		});
 		
 		return Optional.ofNullable(userSaved)
 				.map(userMapper::fromDomainToDto);		
 	}
 
+	/**
+	 * compensates a registration whose profile could not be created, a user already gone is left alone.
+	 * this node evicts once the delete is committed, the user.deleted event evicts on the others
+	 */
+	@Override
+	public boolean cancelRegistration(Long userId, String email) {
+
+		Optional<User> deleted = transactionTemplate.execute(status -> {
+			Optional<User> user = userRepository.delete(userId, email);
+			user.ifPresent(u -> publisherAdapter.publishEvent(userMapper.fromDomToEvent(GlobalConstants.USER_DELETED, u)));
+			return user;
+		});
+		if (deleted == null || deleted.isEmpty()) {
+			return false;
+		}
+
+		userDetailsCache.evict(email);
+		logger.info(GlobalConstants.MSG_PATTERN_INFO, GlobalConstants.MSG_REGISTRATION_CANCELLED, email);
+		return true;
+	}
+
 	private User createNewDomainUserObject(RegisterRequestDto registerRequestDto) {
 		
 		return new User(
@@ -89,21 +121,11 @@ public class AuthGrpcServiceAdapter implements AuthGrpcServicePort<UserDto,Regis
 	
 	private void checkEmailAvailability(String email) {
 		
-	    if (userRepository.findByEmail(email).isPresent()) {
+	    if (userRepository.existsByEmail(email)) {
 	    	
 	        throw new EmailUsedException(Map.of(GlobalConstants.USER_EMAIL, email));
 	    
 	    }
 	}
-	
-	private UserAppDto createUserAppDto(RegisterRequestDto registerRequestDto, User userSaved) {		
-		
-		return new UserAppDto(
-				null,
-				userSaved.getEmail(),
-				registerRequestDto.name(),
-				registerRequestDto.lastname()				
-				);		
-	}
 
 }
@@ -1,7 +1,11 @@
 package dev.ime.common.config;
 
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -9,23 +13,57 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.server.authorization.settings.AuthorizationServerSettings;
 
 import dev.ime.common.mapper.UserMapper;
+import dev.ime.domain.model.User;
+import dev.ime.domain.port.outbound.UserDetailsCachePort;
 import dev.ime.domain.port.outbound.UserRepository;
+import dev.ime.infrastructure.adapter.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
 
 @Configuration
 public class AppConfig {
 	
+	/**
+	 * the users come from the cache, each call still gets an entity of its own because the
+	 * authentication may erase or change the details it is handed
+	 * @param userRepository
+	 * @param userMapper
+	 * @param userDetailsCache
+	 * @return UserDetailsService
+	 */
 	@Bean
-	UserDetailsService userDetailsService(UserRepository userRepository, UserMapper userMapper) {
+	UserDetailsService userDetailsService(UserRepository userRepository, UserMapper userMapper, UserDetailsCachePort userDetailsCache) {
 	       
-		return username -> userRepository.findByEmail(username)
+		return username -> userDetailsCache.getOrLoad(username, userRepository::findByEmail)
 	                .map(userMapper::fromDomainToJpa)
 	                .orElseThrow(() -> new UsernameNotFoundException(GlobalConstants.EX_USERNOTFOUND));
 	}
 	
+	/**
+	 * a login whose stored hash was made with another strength gets rehashed with the current one
+	 * @param userRepository
+	 * @param userMapper
+	 * @param userDetailsCache
+	 * @return UserDetailsPasswordService
+	 */
+	@Bean
+	UserDetailsPasswordService userDetailsPasswordService(UserRepository userRepository, UserMapper userMapper,
+			UserDetailsCachePort userDetailsCache) {
+
+		return (user, newPassword) -> {
+			Optional<User> updated = userRepository.updatePassword(user.getUsername(), newPassword);
+			userDetailsCache.evict(user.getUsername());
+			return updated.map(userMapper::fromDomainToJpa)
+					.orElseThrow(() -> new UsernameNotFoundException(GlobalConstants.EX_USERNOTFOUND));
+		};
+	}
+
 	@Bean
-    PasswordEncoder passwordEncoder() {
+    PasswordEncoder passwordEncoder(MeterRegistry meterRegistry,
+    		@Value("${properties.password.bcrypt-strength:10}") int strength,
+    		@Value("${properties.password.hashing.threads:0}") int threads,
+    		@Value("${properties.password.hashing.queue-capacity:64}") int queueCapacity) {
     	
-        return new BCryptPasswordEncoder();
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength), strength, threads, queueCapacity, meterRegistry);
         
     }
     
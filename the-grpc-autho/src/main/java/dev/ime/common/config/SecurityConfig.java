@@ -15,6 +15,8 @@ import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.LoginUrlAuthenticationEntryPoint;
 import org.springframework.security.web.util.matcher.MediaTypeRequestMatcher;
 
+import dev.ime.api.error.LoginFailureHandler;
+
 
 @Configuration
 @EnableWebSecurity
@@ -53,6 +55,7 @@ public class SecurityConfig {
 		http
         .authorizeHttpRequests(auth -> {
 			auth.requestMatchers("/api/**").permitAll();
+			auth.requestMatchers("/actuator/health", "/actuator/prometheus").permitAll();
             auth.requestMatchers("/login", "/success", "/callback", "/error").permitAll();
 			auth.requestMatchers("/h2-console/**").permitAll();
             auth.anyRequest().authenticated();
@@ -60,7 +63,8 @@ public class SecurityConfig {
         .headers(head-> head.frameOptions(f->f.sameOrigin()))
 		.csrf(AbstractHttpConfigurer::disable)
 		.formLogin(form -> form
-	            .defaultSuccessUrl("/success"));
+	            .defaultSuccessUrl("/success")
+	            .failureHandler(new LoginFailureHandler()));
 		return http.build();
 		
 	}
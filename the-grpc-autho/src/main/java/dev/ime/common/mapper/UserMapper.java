@@ -2,33 +2,25 @@ package dev.ime.common.mapper;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 import org.springframework.stereotype.Component;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-
 import dev.ime.application.dto.RegisterRequestDto;
-import dev.ime.application.dto.UserAppDto;
 import dev.ime.application.dto.UserDto;
 import dev.ime.common.config.GlobalConstants;
 import dev.ime.domain.model.Event;
+import dev.ime.domain.model.EventData;
 import dev.ime.domain.model.User;
 import dev.ime.infrastructure.entity.UserJpaEntity;
-import dev.proto.CreateUserAppRequest;
 import dev.proto.CreateUserRequest;
 import dev.proto.UserProto;
 
 @Component
 public class UserMapper {
 
-	private final ObjectMapper objectMapper;
-	
-	public UserMapper(ObjectMapper objectMapper) {
-		super();
-		this.objectMapper = objectMapper;
-	}
+	private static final String[] USER_EVENT_KEYS = { GlobalConstants.USER_ID, GlobalConstants.USER_EMAIL,
+			GlobalConstants.USER_ROLE, GlobalConstants.USERAPP_NAME, GlobalConstants.USERAPP_LASTNAME };
+	private static final String[] USER_KEYS = { GlobalConstants.USER_ID, GlobalConstants.USER_EMAIL, GlobalConstants.USER_ROLE };
 
 	public RegisterRequestDto fromRegisterRequestToRegisterDto(CreateUserRequest request){
 		
@@ -40,15 +32,6 @@ public class UserMapper {
 				);		
 	}
 	
-	public CreateUserAppRequest fromUserAppDtoToCreateUserAppRequest(UserAppDto userAppDto) {
-		
-		return CreateUserAppRequest.newBuilder()
-				.setEmail(userAppDto.email())
-				.setName(userAppDto.name())
-				.setLastname(userAppDto.lastname())
-				.build();		
-	}
-
 	public UserJpaEntity fromDomainToJpa(User user) {
 		
 		return new UserJpaEntity(
@@ -119,19 +102,35 @@ public class UserMapper {
 
 	}
 
-	public Event fromDomToEvent(User dom) {		
+	/**
+	 * carries what user-pack needs to build the profile, the password hash never leaves this service
+	 * @param dom the stored user
+	 * @param registerRequestDto the request it was registered with
+	 * @return Event
+	 */
+	public Event fromDomToEvent(User dom, RegisterRequestDto registerRequestDto) {		
 		
 		return new Event(
 				GlobalConstants.USER_CAT,
 				GlobalConstants.USER_CREATED,
-				createEventData(dom)
+				createEventData(dom, registerRequestDto)
 				);
 		
 	}
 	
-	private Map<String, Object> createEventData(User dom) {
+	public Event fromDomToEvent(String eventType, User dom) {
+
+		return new Event(
+				GlobalConstants.USER_CAT,
+				eventType,
+				EventData.of(USER_KEYS, dom.getUserId(), dom.getEmail(), dom.getRole() != null ? dom.getRole().name() : null)
+				);
+	}
+
+	private EventData createEventData(User dom, RegisterRequestDto registerRequestDto) {
 		
-		return objectMapper.convertValue(dom, new TypeReference<Map<String, Object>>() {});
+		return EventData.of(USER_EVENT_KEYS, dom.getUserId(), dom.getEmail(),
+				dom.getRole() != null ? dom.getRole().name() : null, registerRequestDto.name(), registerRequestDto.lastname());
 
 	}
 }
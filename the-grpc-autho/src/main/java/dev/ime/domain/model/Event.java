@@ -20,11 +20,11 @@ public final class Event {
 	
 	public Event(String eventCategory, String eventType, Map<String, Object> eventData) {
 		super();
-		this.eventId = UUID.randomUUID();
+		this.eventId = EventIdGenerator.nextId();
 		this.eventCategory = eventCategory;
 		this.eventType = eventType;
 		this.eventTimestamp = Instant.now();
-		this.eventData = Collections.unmodifiableMap(new HashMap<>(eventData));
+		this.eventData = copyOf(eventData);
 	}
 
     @JsonCreator
@@ -35,7 +35,13 @@ public final class Event {
 		this.eventCategory = eventCategory;
 		this.eventType = eventType;
 		this.eventTimestamp = eventTimestamp;
-		this.eventData = Collections.unmodifiableMap(new HashMap<>(eventData));
+		this.eventData = copyOf(eventData);
+	}
+
+	private static Map<String, Object> copyOf(Map<String, Object> eventData) {
+
+		// EventData is already read-only, any other map could still change under the event
+		return eventData instanceof EventData ? eventData : Collections.unmodifiableMap(new HashMap<>(eventData));
 	}
 
 	public UUID getEventId() {
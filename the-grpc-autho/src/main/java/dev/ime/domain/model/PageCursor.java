@@ -0,0 +1,8 @@
+package dev.ime.domain.model;
+
+/**
+ * sort value and id of the last row already served, the next page starts right after it
+ */
+public record PageCursor(Object sortValue, Long lastId) {
+
+}
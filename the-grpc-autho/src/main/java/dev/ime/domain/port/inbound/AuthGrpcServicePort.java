@@ -5,9 +5,13 @@ import java.util.Optional;
 
 import org.springframework.data.domain.Pageable;
 
+import dev.ime.domain.model.PageCursor;
+
 public interface AuthGrpcServicePort<T,U> {
 
 	List<T> findAll();
 	List<T> findAll(Pageable pageable);
+	List<T> findAll(Pageable pageable, PageCursor cursor);
 	Optional<T> register(U dto);
+	boolean cancelRegistration(Long userId, String email);
 }
@@ -1,8 +1,11 @@
 package dev.ime.domain.port.outbound;
 
+import java.util.List;
+
 import dev.ime.domain.model.Event;
 
 public interface PublisherPort {
 	
 	void publishEvent(Event event);
+	void publishEvents(List<Event> events);
 }
@@ -0,0 +1,16 @@
+package dev.ime.domain.port.outbound;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+import dev.ime.domain.model.User;
+
+/**
+ * node local cache of the users behind logins, kept coherent across nodes by evicting on the published events
+ */
+public interface UserDetailsCachePort {
+
+	Optional<User> getOrLoad(String email, Function<String, Optional<User>> loader);
+	void evict(String email);
+
+}
@@ -5,13 +5,18 @@ import java.util.Optional;
 
 import org.springframework.data.domain.Pageable;
 
+import dev.ime.domain.model.PageCursor;
 import dev.ime.domain.model.User;
 
 public interface UserRepository {
 
 	List<User> findAll();
 	List<User> findAll(Pageable pageable);
+	List<User> findAll(Pageable pageable, PageCursor cursor);
 	Optional<User> findByEmail(String email); 
+	boolean existsByEmail(String email);
 	User save(User user);
+	Optional<User> updatePassword(String email, String password);
+	Optional<User> delete(Long userId, String email);
 	
 }
@@ -0,0 +1,124 @@
+package dev.ime.infrastructure.adapter;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import dev.ime.application.exception.PasswordHashingBusyAuthenticationException;
+import dev.ime.application.exception.PasswordHashingBusyException;
+import dev.ime.common.config.GlobalConstants;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * hashing runs on its own core-sized pool instead of the calling grpc or servlet thread, a full queue
+ * rejects at once rather than letting a signup or login burst take every cpu. a stored hash of another
+ * cost than the configured one asks for an upgrade, so it is rehashed on the next successful login.
+ * matches only runs for logins, there a full queue is an AuthenticationException the login failure handler answers
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+	private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[abxy]?\\$(\\d{2})\\$");
+	private static final String OP_ENCODE = "encode";
+	private static final String OP_MATCHES = "matches";
+
+	private final PasswordEncoder delegate;
+	private final int strength;
+	private final ThreadPoolExecutor executor;
+	private final Timer queueWaitTimer;
+	private final Timer encodeTimer;
+	private final Timer matchesTimer;
+	private final Counter rejectedCounter;
+
+	public BoundedPasswordEncoder(PasswordEncoder delegate, int strength, int threads, int queueCapacity, MeterRegistry meterRegistry) {
+		super();
+		this.delegate = delegate;
+		this.strength = strength;
+		int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+		this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueCapacity),
+				Thread.ofPlatform().name("password-hashing-", 0).daemon().factory(),
+				new ThreadPoolExecutor.AbortPolicy());
+		this.queueWaitTimer = Timer.builder(GlobalConstants.METRIC_HASH_WAIT).register(meterRegistry);
+		this.encodeTimer = createHashTimer(OP_ENCODE, meterRegistry);
+		this.matchesTimer = createHashTimer(OP_MATCHES, meterRegistry);
+		this.rejectedCounter = Counter.builder(GlobalConstants.METRIC_HASH_REJECTED).register(meterRegistry);
+		Gauge.builder(GlobalConstants.METRIC_HASH_QUEUE, executor, pool -> pool.getQueue().size()).register(meterRegistry);
+	}
+
+	public void close() {
+		executor.shutdown();
+	}
+
+	@Override
+	public String encode(CharSequence rawPassword) {
+
+		return submit(OP_ENCODE, encodeTimer, () -> delegate.encode(rawPassword));
+	}
+
+	@Override
+	public boolean matches(CharSequence rawPassword, String encodedPassword) {
+
+		try {
+			return submit(OP_MATCHES, matchesTimer, () -> delegate.matches(rawPassword, encodedPassword));
+		} catch (PasswordHashingBusyException e) {
+			throw new PasswordHashingBusyAuthenticationException(e);
+		}
+	}
+
+	@Override
+	public boolean upgradeEncoding(String encodedPassword) {
+
+		if (encodedPassword == null) {
+			return false;
+		}
+		Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+		return matcher.find() && Integer.parseInt(matcher.group(1)) != strength;
+	}
+
+	private <T> T submit(String operation, Timer hashTimer, Callable<T> hashing) {
+
+		long queuedAt = System.nanoTime();
+		Future<T> future;
+		try {
+			future = executor.submit(() -> {
+				queueWaitTimer.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+				return hashTimer.recordCallable(hashing);
+			});
+		} catch (RejectedExecutionException e) {
+			rejectedCounter.increment();
+			throw new PasswordHashingBusyException(Map.of(GlobalConstants.OBJ_FIELD, operation));
+		}
+
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		} catch (ExecutionException e) {
+			throw e.getCause() instanceof RuntimeException runtimeException
+					? runtimeException
+					: new IllegalStateException(e.getCause());
+		}
+	}
+
+	private Timer createHashTimer(String operation, MeterRegistry meterRegistry) {
+
+		return Timer.builder(GlobalConstants.METRIC_HASH_TIME)
+				.tag(GlobalConstants.TAG_OPERATION, operation)
+				.register(meterRegistry);
+	}
+
+}
@@ -0,0 +1,108 @@
+package dev.ime.infrastructure.adapter;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import dev.ime.common.config.GlobalConstants;
+import dev.ime.domain.model.Event;
+import dev.ime.infrastructure.entity.OutboxEventJpaEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+
+/**
+ * drains the outbox in id order, one kafka transaction per batch. rows are deleted only after kafka
+ * committed, so a failure leaves them for the next run and delivery is at least once.
+ * the id is drawn when the row is inserted, after the aggregate was locked, so the events of one aggregate
+ * go out in commit order. events of different aggregates can still go out in another order than they
+ * committed, consumers only rely on the order per key. the rows are locked without skipping, nodes take turns
+ */
+@Component
+public class OutboxRelayAdapter {
+
+	private static final String PARAM_IDS = "outboxIds";
+
+	private final EntityManager entityManager;
+	private final KafkaPublisherAdapter kafkaPublisherAdapter;
+	private final ObjectMapper objectMapper;
+	private final TransactionTemplate transactionTemplate;
+	private final int batchSize;
+	private static final Logger logger = LoggerFactory.getLogger(OutboxRelayAdapter.class);
+
+	public OutboxRelayAdapter(EntityManager entityManager, KafkaPublisherAdapter kafkaPublisherAdapter,
+			ObjectMapper objectMapper, @Qualifier("transactionManager") PlatformTransactionManager transactionManager,
+			@Value("${properties.outbox.relay.batch-size:500}") int batchSize) {
+		super();
+		this.entityManager = entityManager;
+		this.kafkaPublisherAdapter = kafkaPublisherAdapter;
+		this.objectMapper = objectMapper;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * keeps draining while batches come back full, a burst does not wait for the next run
+	 */
+	@Scheduled(fixedDelayString = "${properties.outbox.relay.delay-ms:100}")
+	public void relay() {
+
+		try {
+			Integer relayed;
+			do {
+				relayed = transactionTemplate.execute(status -> relayBatch());
+			} while (relayed != null && relayed == batchSize);
+		} catch (RuntimeException e) {
+			logger.error(GlobalConstants.MSG_PATTERN_SEVERE, GlobalConstants.MSG_OUTBOX_FAIL, e.getMessage());
+		}
+	}
+
+	private int relayBatch() {
+
+		TypedQuery<OutboxEventJpaEntity> query = entityManager.createQuery("SELECT o FROM OutboxEventJpaEntity o ORDER BY o.outboxId", OutboxEventJpaEntity.class);
+		query.setLockMode(LockModeType.PESSIMISTIC_WRITE);
+		query.setMaxResults(batchSize);
+		List<OutboxEventJpaEntity> rows = query.getResultList();
+		if (rows.isEmpty()) {
+			return 0;
+		}
+
+		List<Event> events = rows.stream().map(this::fromJpaToEvent).flatMap(Optional::stream).toList();
+		if (!events.isEmpty()) {
+			kafkaPublisherAdapter.publishRelayed(events);
+		}
+
+		Query delete = entityManager.createQuery("DELETE FROM OutboxEventJpaEntity o WHERE o.outboxId IN :" + PARAM_IDS);
+		delete.setParameter(PARAM_IDS, rows.stream().map(OutboxEventJpaEntity::getOutboxId).toList());
+		delete.executeUpdate();
+		logger.info(GlobalConstants.MSG_PATTERN_INFO, GlobalConstants.MSG_OUTBOX_RELAYED, events.size());
+
+		return rows.size();
+	}
+
+	/**
+	 * a payload that cannot be read would block the outbox forever, it is logged and dropped instead
+	 */
+	private Optional<Event> fromJpaToEvent(OutboxEventJpaEntity entity) {
+
+		try {
+			return Optional.of(objectMapper.readValue(entity.getPayload(), Event.class));
+		} catch (JsonProcessingException e) {
+			logger.error(GlobalConstants.MSG_PATTERN_SEVERE, GlobalConstants.MSG_OUTBOX_UNREADABLE, entity);
+			return Optional.empty();
+		}
+	}
+
+}
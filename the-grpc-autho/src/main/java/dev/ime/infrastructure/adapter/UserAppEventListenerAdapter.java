@@ -0,0 +1,58 @@
+package dev.ime.infrastructure.adapter;
+
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import dev.ime.application.dto.RegisterRequestDto;
+import dev.ime.application.dto.UserDto;
+import dev.ime.common.config.GlobalConstants;
+import dev.ime.domain.model.Event;
+import dev.ime.domain.port.inbound.AuthGrpcServicePort;
+
+/**
+ * the answer side of the registration saga, user-pack reports here the profiles it could not create.
+ * events are keyed by email, so the ones of a user are handled in order
+ */
+@Component
+public class UserAppEventListenerAdapter {
+
+	private final AuthGrpcServicePort<UserDto, RegisterRequestDto> authGrpcService;
+	private final ParallelBatchProcessor parallelBatchProcessor;
+	private static final Logger logger = LoggerFactory.getLogger(UserAppEventListenerAdapter.class);
+
+	public UserAppEventListenerAdapter(AuthGrpcServicePort<UserDto, RegisterRequestDto> authGrpcService,
+			ParallelBatchProcessor parallelBatchProcessor) {
+		super();
+		this.authGrpcService = authGrpcService;
+		this.parallelBatchProcessor = parallelBatchProcessor;
+	}
+
+	@KafkaListener(topics = GlobalConstants.USERAPP_TOPIC, groupId = GlobalConstants.AUTHO_GROUP,
+			containerFactory = GlobalConstants.BATCH_LISTENER_FACTORY)
+	public void onEvents(List<ConsumerRecord<String, Event>> records, Consumer<?, ?> consumer) {
+
+		parallelBatchProcessor.process(GlobalConstants.AUTHO_GROUP, records, consumer, this::onEvent);
+	}
+
+	public void onEvent(Event event) {
+
+		if (!GlobalConstants.USERAPP_CREATION_FAILED.equals(event.getEventType())) {
+			return;
+		}
+
+		Map<String, Object> data = event.getEventData();
+		if (data.get(GlobalConstants.USER_ID) instanceof Number userId && data.get(GlobalConstants.USER_EMAIL) instanceof String email) {
+			authGrpcService.cancelRegistration(userId.longValue(), email);
+		} else {
+			logger.error(GlobalConstants.MSG_PATTERN_SEVERE, GlobalConstants.MSG_USERAPP_EVENT_SKIP, event);
+		}
+	}
+
+}
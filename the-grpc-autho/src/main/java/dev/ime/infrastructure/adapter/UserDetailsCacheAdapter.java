@@ -0,0 +1,69 @@
+package dev.ime.infrastructure.adapter;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import dev.ime.common.config.GlobalConstants;
+import dev.ime.domain.model.User;
+import dev.ime.domain.port.outbound.UserDetailsCachePort;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * users bounded by count, the ttl only backs up a lost eviction event. an unknown email is never cached,
+ * so the user registering with it is found on the next login
+ */
+@Component
+public class UserDetailsCacheAdapter implements UserDetailsCachePort {
+
+	private final Cache<String, User> cache;
+	private final AtomicLong evictions = new AtomicLong();
+
+	public UserDetailsCacheAdapter(MeterRegistry meterRegistry,
+			@Value("${properties.cache.user-details.max-size:10000}") long maxSize,
+			@Value("${properties.cache.user-details.ttl:5m}") Duration ttl) {
+		super();
+		this.cache = Caffeine.newBuilder()
+				.maximumSize(maxSize)
+				.expireAfterWrite(ttl)
+				.recordStats()
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, GlobalConstants.USER_DETAILS_CACHE);
+		Gauge.builder(GlobalConstants.METRIC_CACHE_HIT_RATE, cache, c -> c.stats().hitRate())
+		.tag(GlobalConstants.TAG_CACHE, GlobalConstants.USER_DETAILS_CACHE)
+		.register(meterRegistry);
+	}
+
+	@Override
+	public Optional<User> getOrLoad(String email, Function<String, Optional<User>> loader) {
+
+		User user = cache.getIfPresent(email);
+		if (user != null) {
+			return Optional.of(user);
+		}
+
+		// a row read before an eviction may be stale, such a load is served but never stored
+		long evictionsBeforeLoad = evictions.get();
+		Optional<User> loaded = loader.apply(email);
+		loaded.ifPresent(found -> cache.asMap().compute(email, (k, current) -> evictions.get() == evictionsBeforeLoad ? found : current));
+
+		return loaded;
+	}
+
+	@Override
+	public void evict(String email) {
+
+		evictions.incrementAndGet();
+		cache.invalidate(email);
+	}
+
+}
@@ -0,0 +1,51 @@
+package dev.ime.infrastructure.adapter;
+
+import java.util.List;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import dev.ime.common.config.GlobalConstants;
+import dev.ime.domain.model.Event;
+import dev.ime.domain.port.outbound.UserDetailsCachePort;
+
+/**
+ * every node joins its own consumer group so all of them see every change, whichever node made it.
+ * a new node starts with an empty cache, so it only needs the events published from then on
+ */
+@Component
+public class UserDetailsCacheEvictionAdapter {
+
+	private final UserDetailsCachePort userDetailsCache;
+	private final ParallelBatchProcessor parallelBatchProcessor;
+	private static final Logger logger = LoggerFactory.getLogger(UserDetailsCacheEvictionAdapter.class);
+
+	public UserDetailsCacheEvictionAdapter(UserDetailsCachePort userDetailsCache, ParallelBatchProcessor parallelBatchProcessor) {
+		super();
+		this.userDetailsCache = userDetailsCache;
+		this.parallelBatchProcessor = parallelBatchProcessor;
+	}
+
+	@KafkaListener(topics = GlobalConstants.USER_TOPIC,
+			groupId = GlobalConstants.USER_DETAILS_CACHE_GROUP + "-${random.uuid}",
+			properties = "auto.offset.reset=latest",
+			containerFactory = GlobalConstants.BATCH_LISTENER_FACTORY)
+	public void onEvents(List<ConsumerRecord<String, Event>> records, Consumer<?, ?> consumer) {
+
+		parallelBatchProcessor.process(GlobalConstants.USER_DETAILS_CACHE_GROUP, records, consumer, this::onEvent);
+	}
+
+	public void onEvent(Event event) {
+
+		if ((GlobalConstants.USER_UPDATED.equals(event.getEventType()) || GlobalConstants.USER_DELETED.equals(event.getEventType()))
+				&& event.getEventData().get(GlobalConstants.USER_EMAIL) instanceof String email) {
+			userDetailsCache.evict(email);
+			logger.info(GlobalConstants.MSG_PATTERN_INFO, GlobalConstants.MSG_CACHE_EVICT, email);
+		}
+	}
+
+}
@@ -3,6 +3,10 @@ package dev.ime.infrastructure.adapter;
 import java.util.List;
 import java.util.Optional;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
@@ -10,6 +14,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import dev.ime.common.config.GlobalConstants;
 import dev.ime.common.mapper.UserMapper;
+import dev.ime.domain.model.PageCursor;
 import dev.ime.domain.model.User;
 import dev.ime.domain.port.outbound.UserRepository;
 import dev.ime.infrastructure.entity.UserJpaEntity;
@@ -28,11 +33,41 @@ public class UserRepositoryAdapter implements UserRepository {
     @PersistenceContext
 	private final EntityManager entityManager;
     private final UserMapper userMapper;    
+    private final EmailBloomFilter emailFilter;
+	private static final Logger logger = LoggerFactory.getLogger(UserRepositoryAdapter.class);
 
-	public UserRepositoryAdapter(EntityManager entityManager, UserMapper userMapper) {
+	public UserRepositoryAdapter(EntityManager entityManager, UserMapper userMapper, EmailBloomFilter emailFilter) {
 		super();
 		this.entityManager = entityManager;
 		this.userMapper = userMapper;
+		this.emailFilter = emailFilter;
+	}
+
+	/**
+	 * fills the email filter from id ranges of the table, until then existsByEmail asks the database every time
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void buildEmailFilter() {
+
+		try {
+			Object[] bounds = entityManager.createQuery("SELECT MIN(u.userId), MAX(u.userId) FROM UserJpaEntity u", Object[].class)
+					.getSingleResult();
+			long minId = bounds[0] instanceof Number min ? min.longValue() : 0L;
+			long maxId = bounds[1] instanceof Number max ? max.longValue() : -1L;
+			emailFilter.build(minId, maxId, this::findEmailsBetween);
+			logger.info(GlobalConstants.MSG_PATTERN_INFO, GlobalConstants.MSG_EMAIL_FILTER_BUILT, minId + ".." + maxId);
+		} catch (RuntimeException e) {
+			logger.error(GlobalConstants.MSG_PATTERN_SEVERE, GlobalConstants.MSG_EMAIL_FILTER_FAIL, e.getMessage());
+		}
+	}
+
+	private List<String> findEmailsBetween(Long fromId, Long toId) {
+
+		String queryString = "SELECT u.email FROM UserJpaEntity u WHERE u.userId BETWEEN :fromId AND :toId";
+		return entityManager.createQuery(queryString, String.class)
+				.setParameter("fromId", fromId)
+				.setParameter("toId", toId)
+				.getResultList();
 	}
 
 	@Override
@@ -61,6 +96,22 @@ public class UserRepositoryAdapter implements UserRepository {
         return userMapper.fromListJpaToListDomain(query.getResultList());
 	}
 
+	@Override
+	public List<User> findAll(Pageable pageable, PageCursor cursor) {
+		
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+	    CriteriaQuery<UserJpaEntity> cq = cb.createQuery(UserJpaEntity.class);
+	    Root<UserJpaEntity> root = cq.from(UserJpaEntity.class);	  
+	    
+	    cq.where(KeysetPredicates.after(cb, root, pageable.getSort(), GlobalConstants.USER_ID, cursor));
+	    cq.orderBy(buildSortOrder(pageable.getSort(), cb, root));
+	    
+        TypedQuery<UserJpaEntity> query = entityManager.createQuery(cq);
+        query.setMaxResults(pageable.getPageSize());                           
+        
+        return userMapper.fromListJpaToListDomain(query.getResultList());
+	}
+
 	private List<Order> buildSortOrder(Sort sort, CriteriaBuilder criteriaBuilder, Root<UserJpaEntity> root) {
 	
 		return sort.stream()
@@ -88,6 +139,25 @@ public class UserRepositoryAdapter implements UserRepository {
         return userList.isEmpty() ? Optional.empty() : Optional.of(userList.get(0));
 	}
 
+	/**
+	 * the filter answers an unregistered email on its own, only a possible hit runs the query on the unique index
+	 */
+	@Override
+	public boolean existsByEmail(String email) {
+
+		return emailFilter.contains(email, this::queryExistsByEmail);
+	}
+
+	private boolean queryExistsByEmail(String email) {
+
+		String queryString = "SELECT u.userId FROM UserJpaEntity u WHERE u.email = :email";
+		return !entityManager.createQuery(queryString, Long.class)
+				.setParameter(GlobalConstants.USER_EMAIL, email)
+				.setMaxResults(1)
+				.getResultList()
+				.isEmpty();
+	}
+
 	@Override
 	@Transactional("transactionManager")
     public User save(User user) {
@@ -95,10 +165,41 @@ public class UserRepositoryAdapter implements UserRepository {
 		UserJpaEntity userJpaEntity = userMapper.fromDomainToJpa(user);
 		if (userJpaEntity.getUserId() == null) {
 			entityManager.persist(userJpaEntity);
+			emailFilter.put(userJpaEntity.getEmail());
 		} else {
 			userJpaEntity = entityManager.merge(userJpaEntity);  
 		}
 		return userMapper.fromJpaToDomain(userJpaEntity);
 	}
 
+	@Override
+	@Transactional("transactionManager")
+	public Optional<User> updatePassword(String email, String password) {
+
+		String queryString = "SELECT u FROM UserJpaEntity u WHERE u.email = :email";
+		List<UserJpaEntity> result = entityManager.createQuery(queryString, UserJpaEntity.class)
+				.setParameter(GlobalConstants.USER_EMAIL, email)
+				.getResultList();
+		result.forEach(entity -> entity.setPassword(password));
+
+		return result.stream().findFirst().map(userMapper::fromJpaToDomain);
+	}
+
+	/**
+	 * id and email both have to match, so only the row the caller knows about is removed
+	 */
+	@Override
+	@Transactional("transactionManager")
+	public Optional<User> delete(Long userId, String email) {
+
+		String queryString = "SELECT u FROM UserJpaEntity u WHERE u.userId = :userId AND u.email = :email";
+		List<UserJpaEntity> result = entityManager.createQuery(queryString, UserJpaEntity.class)
+				.setParameter(GlobalConstants.USER_ID, userId)
+				.setParameter(GlobalConstants.USER_EMAIL, email)
+				.getResultList();
+		result.forEach(entityManager::remove);
+
+		return result.stream().findFirst().map(userMapper::fromJpaToDomain);
+	}
+
 }
@@ -0,0 +1,43 @@
+package dev.ime.infrastructure.entity;
+
+import java.time.Instant;
+
+import dev.ime.common.config.GlobalConstants;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Entity
+@Table(name = GlobalConstants.OUTBOX_DB)
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@ToString
+@Builder
+public class OutboxEventJpaEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "outbox_id")
+	private Long outboxId;
+
+	@Column(name = "event_type", nullable = false, length = 100)
+	private String eventType;
+
+	@Column(name = "payload", nullable = false, columnDefinition = "text")
+	private String payload;
+
+	@Column(name = "created_at", nullable = false)
+	private Instant createdAt;
+
+}
@@ -12,6 +12,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import dev.ime.application.exception.BasicException;
+import dev.ime.application.exception.PasswordHashingBusyException;
 import io.grpc.Status;
 import io.grpc.StatusException;
 
@@ -43,6 +44,18 @@ class GrpcExceptionAdviceTest {
 				);
 	}
 
+	@Test
+	void handlePasswordHashingBusyException_shouldReturnResourceExhausted() {
+
+		PasswordHashingBusyException ex = new PasswordHashingBusyException(errors);
+
+		StatusException status = grpcExceptionAdvice.handlePasswordHashingBusyException(ex);
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				()-> Assertions.assertThat(status.getStatus().getCode()).isEqualTo(Status.Code.RESOURCE_EXHAUSTED)
+				);
+	}
+
 	@Test
 	void lastExceptionStands_shouldReturnStatus() {
 
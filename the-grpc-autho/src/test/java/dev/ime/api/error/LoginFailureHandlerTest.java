@@ -0,0 +1,80 @@
+package dev.ime.api.error;
+
+import java.util.Map;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import dev.ime.application.exception.PasswordHashingBusyAuthenticationException;
+import dev.ime.application.exception.PasswordHashingBusyException;
+import dev.ime.common.config.GlobalConstants;
+
+class LoginFailureHandlerTest {
+
+	private LoginFailureHandler loginFailureHandler;
+	private MockHttpServletRequest request;
+	private MockHttpServletResponse response;
+
+	private final String email = "email@email.tk";
+
+	@BeforeEach
+	private void setUp() {
+
+		loginFailureHandler = new LoginFailureHandler();
+		request = new MockHttpServletRequest("POST", "/login");
+		response = new MockHttpServletResponse();
+	}
+
+	@Test
+	void onAuthenticationFailure_withBusyHashing_shouldAnswerServiceUnavailable() throws Exception {
+
+		PasswordEncoder busyEncoder = new PasswordEncoder() {
+
+			@Override
+			public String encode(CharSequence rawPassword) {
+				return rawPassword.toString();
+			}
+
+			@Override
+			public boolean matches(CharSequence rawPassword, String encodedPassword) {
+				throw new PasswordHashingBusyAuthenticationException(new PasswordHashingBusyException(Map.of(GlobalConstants.OBJ_FIELD, "matches")));
+			}
+		};
+		DaoAuthenticationProvider provider = new DaoAuthenticationProvider(busyEncoder);
+		provider.setUserDetailsService(username -> User.withUsername(username).password("god").roles("USER").build());
+		ProviderManager authenticationManager = new ProviderManager(provider);
+
+		AuthenticationException exception = org.junit.jupiter.api.Assertions.assertThrows(AuthenticationException.class,
+				() -> authenticationManager.authenticate(UsernamePasswordAuthenticationToken.unauthenticated(email, "god")));
+		loginFailureHandler.onAuthenticationFailure(request, response, exception);
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				() -> Assertions.assertThat(exception).isInstanceOf(PasswordHashingBusyAuthenticationException.class),
+				() -> Assertions.assertThat(response.getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value()),
+				() -> Assertions.assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo(GlobalConstants.HASHING_RETRY_AFTER_SECONDS),
+				() -> Assertions.assertThat(response.getRedirectedUrl()).isNull());
+	}
+
+	@Test
+	void onAuthenticationFailure_withBadCredentials_shouldRedirectToLogin() throws Exception {
+
+		loginFailureHandler.onAuthenticationFailure(request, response, new BadCredentialsException("Bad credentials"));
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				() -> Assertions.assertThat(response.getRedirectedUrl()).isEqualTo("/login?error"),
+				() -> Assertions.assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isNull());
+	}
+
+}
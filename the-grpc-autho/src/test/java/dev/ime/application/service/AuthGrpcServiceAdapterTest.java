@@ -11,6 +11,7 @@ import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -19,16 +20,19 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 
 import dev.ime.application.dto.RegisterRequestDto;
-import dev.ime.application.dto.UserAppDto;
 import dev.ime.application.dto.UserDto;
+import dev.ime.application.exception.EmailUsedException;
 import dev.ime.common.config.GlobalConstants;
 import dev.ime.common.mapper.UserMapper;
 import dev.ime.domain.model.Event;
 import dev.ime.domain.model.Role;
 import dev.ime.domain.model.User;
 import dev.ime.domain.port.outbound.PublisherPort;
+import dev.ime.domain.port.outbound.UserDetailsCachePort;
 import dev.ime.domain.port.outbound.UserRepository;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,11 +43,13 @@ class AuthGrpcServiceAdapterTest {
 	@Mock
     private PasswordEncoder passwordEncoder;
 	@Mock
-    private UserAppGrpcClient userAppGrpcClient;
-	@Mock
     private UserMapper userMapper;
 	@Mock
 	private PublisherPort publisherAdapter;
+	@Mock
+	private UserDetailsCachePort userDetailsCache;
+	@Mock
+	private PlatformTransactionManager transactionManager;
 	
 	@InjectMocks
 	private AuthGrpcServiceAdapter authGrpcServiceAdapter;
@@ -115,11 +121,10 @@ class AuthGrpcServiceAdapterTest {
 	@Test
 	void register_shouldReturnOptUserDto() {
 		
-		Mockito.when(userRepository.findByEmail(Mockito.anyString())).thenReturn(Optional.empty());
+		Mockito.when(userRepository.existsByEmail(Mockito.anyString())).thenReturn(false);
 		Mockito.when(userRepository.save(Mockito.any(User.class))).thenReturn(user);
-		Mockito.when(userAppGrpcClient.createUser(Mockito.any(UserAppDto.class))).thenReturn(true);
 		Mockito.doNothing().when(publisherAdapter).publishEvent(Mockito.any(Event.class));
-		Mockito.when(userMapper.fromDomToEvent(Mockito.any(User.class))).thenReturn(event);
+		Mockito.when(userMapper.fromDomToEvent(Mockito.any(User.class), Mockito.any(RegisterRequestDto.class))).thenReturn(event);
 		Mockito.when(userMapper.fromDomainToDto(Mockito.any(User.class))).thenReturn(userDto);
 		
 		Optional<UserDto> optResult = authGrpcServiceAdapter.register(registerRequestDto);
@@ -128,6 +133,80 @@ class AuthGrpcServiceAdapterTest {
 				()-> Assertions.assertThat(optResult).isNotNull(),
 				()-> Assertions.assertThat(optResult.get().userId()).isEqualTo(userId)
 		);
+		Mockito.verify(publisherAdapter).publishEvent(event);
 	}
-	
+
+	@Test
+	void register_shouldHashBeforeOpeningTransaction() {
+
+		Mockito.when(userRepository.existsByEmail(Mockito.anyString())).thenReturn(false);
+		Mockito.when(userRepository.save(Mockito.any(User.class))).thenReturn(user);
+		Mockito.when(userMapper.fromDomToEvent(Mockito.any(User.class), Mockito.any(RegisterRequestDto.class))).thenReturn(event);
+		Mockito.when(userMapper.fromDomainToDto(Mockito.any(User.class))).thenReturn(userDto);
+
+		authGrpcServiceAdapter.register(registerRequestDto);
+
+		InOrder inOrder = Mockito.inOrder(userRepository, passwordEncoder, transactionManager, publisherAdapter);
+		inOrder.verify(userRepository).existsByEmail(email);
+		inOrder.verify(passwordEncoder).encode(password);
+		inOrder.verify(transactionManager).getTransaction(Mockito.any(TransactionDefinition.class));
+		inOrder.verify(userRepository).save(Mockito.any(User.class));
+		inOrder.verify(publisherAdapter).publishEvent(event);
+		inOrder.verify(transactionManager).commit(Mockito.any());
+	}
+
+	@Test
+	void register_withEmailUsed_shouldThrowWithoutSavingOrPublishing() {
+
+		Mockito.when(userRepository.existsByEmail(Mockito.anyString())).thenReturn(true);
+
+		Assertions.assertThatThrownBy(() -> authGrpcServiceAdapter.register(registerRequestDto))
+		.isInstanceOf(EmailUsedException.class);
+		Mockito.verify(userRepository, Mockito.never()).save(Mockito.any(User.class));
+		Mockito.verifyNoInteractions(publisherAdapter);
+	}
+
+	@Test
+	void cancelRegistration_shouldDeleteUserAndPublish() {
+
+		Mockito.when(userRepository.delete(userId, email)).thenReturn(Optional.of(user));
+		Mockito.when(userMapper.fromDomToEvent(GlobalConstants.USER_DELETED, user)).thenReturn(event);
+
+		boolean result = authGrpcServiceAdapter.cancelRegistration(userId, email);
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				()-> Assertions.assertThat(result).isTrue()
+				);
+		Mockito.verify(publisherAdapter).publishEvent(event);
+	}
+
+	@Test
+	void cancelRegistration_shouldEvictLocallyAfterCommit() {
+
+		Mockito.when(userRepository.delete(userId, email)).thenReturn(Optional.of(user));
+		Mockito.when(userMapper.fromDomToEvent(GlobalConstants.USER_DELETED, user)).thenReturn(event);
+
+		authGrpcServiceAdapter.cancelRegistration(userId, email);
+
+		InOrder inOrder = Mockito.inOrder(userRepository, publisherAdapter, transactionManager, userDetailsCache);
+		inOrder.verify(transactionManager).getTransaction(Mockito.any(TransactionDefinition.class));
+		inOrder.verify(userRepository).delete(userId, email);
+		inOrder.verify(publisherAdapter).publishEvent(event);
+		inOrder.verify(transactionManager).commit(Mockito.any());
+		inOrder.verify(userDetailsCache).evict(email);
+	}
+
+	@Test
+	void cancelRegistration_withUserGone_shouldNotPublish() {
+
+		Mockito.when(userRepository.delete(userId, email)).thenReturn(Optional.empty());
+
+		boolean result = authGrpcServiceAdapter.cancelRegistration(userId, email);
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				()-> Assertions.assertThat(result).isFalse()
+				);
+		Mockito.verifyNoInteractions(publisherAdapter, userDetailsCache);
+	}
+
 }
@@ -0,0 +1,154 @@
+package dev.ime.infrastructure.adapter;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import dev.ime.application.exception.PasswordHashingBusyAuthenticationException;
+import dev.ime.application.exception.PasswordHashingBusyException;
+import dev.ime.common.config.GlobalConstants;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class BoundedPasswordEncoderTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final int strength = 4;
+	private BoundedPasswordEncoder boundedPasswordEncoder;
+
+	@AfterEach
+	private void tearDown() {
+
+		boundedPasswordEncoder.close();
+	}
+
+	private void awaitQueued(int tasks) throws InterruptedException {
+
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (meterRegistry.get(GlobalConstants.METRIC_HASH_QUEUE).gauge().value() < tasks && System.nanoTime() < deadline) {
+			Thread.sleep(5);
+		}
+	}
+
+	@Test
+	void encode_shouldHashOffCallerAndRecordTimes() {
+
+		boundedPasswordEncoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength), strength, 2, 4, meterRegistry);
+
+		String encoded = boundedPasswordEncoder.encode("god");
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				() -> Assertions.assertThat(boundedPasswordEncoder.matches("god", encoded)).isTrue(),
+				() -> Assertions.assertThat(boundedPasswordEncoder.matches("devil", encoded)).isFalse(),
+				() -> Assertions.assertThat(meterRegistry.get(GlobalConstants.METRIC_HASH_TIME)
+						.tag(GlobalConstants.TAG_OPERATION, "matches").timer().count()).isEqualTo(2L),
+				() -> Assertions.assertThat(meterRegistry.get(GlobalConstants.METRIC_HASH_WAIT).timer().count()).isEqualTo(3L));
+	}
+
+	@Test
+	void upgradeEncoding_shouldAskForRehashOnlyWhenCostDiffers() {
+
+		boundedPasswordEncoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength), strength, 1, 1, meterRegistry);
+		String current = new BCryptPasswordEncoder(strength).encode("god");
+		String older = new BCryptPasswordEncoder(5).encode("god");
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				() -> Assertions.assertThat(boundedPasswordEncoder.upgradeEncoding(current)).isFalse(),
+				() -> Assertions.assertThat(boundedPasswordEncoder.upgradeEncoding(older)).isTrue(),
+				() -> Assertions.assertThat(boundedPasswordEncoder.upgradeEncoding(null)).isFalse());
+	}
+
+	@Test
+	void encode_withFullQueue_shouldRejectAtOnce() throws Exception {
+
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		PasswordEncoder blocking = new PasswordEncoder() {
+
+			@Override
+			public String encode(CharSequence rawPassword) {
+				started.countDown();
+				try {
+					release.await(5, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return rawPassword.toString();
+			}
+
+			@Override
+			public boolean matches(CharSequence rawPassword, String encodedPassword) {
+				return rawPassword.toString().equals(encodedPassword);
+			}
+		};
+		boundedPasswordEncoder = new BoundedPasswordEncoder(blocking, strength, 1, 1, meterRegistry);
+
+		try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+			Future<String> running = callers.submit(() -> boundedPasswordEncoder.encode("first"));
+			started.await(5, TimeUnit.SECONDS);
+			Future<String> queued = callers.submit(() -> boundedPasswordEncoder.encode("second"));
+			awaitQueued(1);
+
+			Assertions.assertThatThrownBy(() -> boundedPasswordEncoder.encode("third"))
+			.isInstanceOf(PasswordHashingBusyException.class);
+
+			release.countDown();
+			org.junit.jupiter.api.Assertions.assertAll(
+					() -> Assertions.assertThat(running.get()).isEqualTo("first"),
+					() -> Assertions.assertThat(queued.get()).isEqualTo("second"),
+					() -> Assertions.assertThat(meterRegistry.get(GlobalConstants.METRIC_HASH_REJECTED).counter().count()).isEqualTo(1.0));
+		}
+	}
+
+	@Test
+	void matches_withFullQueue_shouldRejectAsAuthenticationException() throws Exception {
+
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		PasswordEncoder blocking = new PasswordEncoder() {
+
+			@Override
+			public String encode(CharSequence rawPassword) {
+				return rawPassword.toString();
+			}
+
+			@Override
+			public boolean matches(CharSequence rawPassword, String encodedPassword) {
+				started.countDown();
+				try {
+					release.await(5, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return rawPassword.toString().equals(encodedPassword);
+			}
+		};
+		boundedPasswordEncoder = new BoundedPasswordEncoder(blocking, strength, 1, 1, meterRegistry);
+
+		try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+			Future<Boolean> running = callers.submit(() -> boundedPasswordEncoder.matches("first", "first"));
+			started.await(5, TimeUnit.SECONDS);
+			Future<Boolean> queued = callers.submit(() -> boundedPasswordEncoder.matches("second", "second"));
+			awaitQueued(1);
+
+			Assertions.assertThatThrownBy(() -> boundedPasswordEncoder.matches("third", "third"))
+			.isInstanceOf(PasswordHashingBusyAuthenticationException.class)
+			.isInstanceOf(AuthenticationException.class)
+			.hasCauseInstanceOf(PasswordHashingBusyException.class);
+
+			release.countDown();
+			org.junit.jupiter.api.Assertions.assertAll(
+					() -> Assertions.assertThat(running.get()).isTrue(),
+					() -> Assertions.assertThat(queued.get()).isTrue());
+		}
+	}
+
+}
@@ -0,0 +1,199 @@
+package dev.ime.infrastructure.adapter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import org.apache.kafka.common.KafkaException;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import dev.ime.common.config.GlobalConstants;
+import dev.ime.domain.model.Event;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class GroupCommitPublisherAdapterTest {
+
+	@Mock
+	private KafkaPublisherAdapter kafkaPublisherAdapter;
+	@Mock
+	private KafkaTemplate<String, Object> kafkaTemplate;
+	@Mock
+	private EventSpool eventSpool;
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private GroupCommitPublisherAdapter groupCommitPublisherAdapter;
+
+	private void start(int maxBatchSize, long lingerMs, int maxPending) {
+
+		start(kafkaPublisherAdapter, maxBatchSize, lingerMs, maxPending);
+	}
+
+	private void start(KafkaPublisherAdapter publisher, int maxBatchSize, long lingerMs, int maxPending) {
+
+		groupCommitPublisherAdapter = new GroupCommitPublisherAdapter(publisher, meterRegistry, maxBatchSize, lingerMs, maxPending);
+		groupCommitPublisherAdapter.start();
+	}
+
+	@AfterEach
+	private void tearDown() throws InterruptedException {
+
+		groupCommitPublisherAdapter.stop();
+	}
+
+	private Event createEvent(long id) {
+
+		return new Event(GlobalConstants.USER_CAT, GlobalConstants.USER_CREATED, Map.of(GlobalConstants.USER_ID, id));
+	}
+
+	@Test
+	void submit_withFullBatch_shouldCommitWithoutWaitingLinger() throws Exception {
+
+		start(2, 60_000L, 10);
+		Mockito.when(kafkaPublisherAdapter.publishOrSpool(Mockito.anyList())).thenReturn(true);
+		Event first = createEvent(1L);
+		Event second = createEvent(2L);
+
+		CompletableFuture.allOf(groupCommitPublisherAdapter.submit(first), groupCommitPublisherAdapter.submit(second))
+		.get(5, TimeUnit.SECONDS);
+
+		Mockito.verify(kafkaPublisherAdapter).publishOrSpool(List.of(first, second));
+		org.junit.jupiter.api.Assertions.assertAll(
+				() -> Assertions.assertThat(meterRegistry.get(GlobalConstants.METRIC_PUBLISH_BATCH).summary().totalAmount()).isEqualTo(2.0),
+				() -> Assertions.assertThat(meterRegistry.get(GlobalConstants.METRIC_PUBLISH_COMMIT).timer().count()).isEqualTo(1L),
+				() -> Assertions.assertThat(meterRegistry.get(GlobalConstants.METRIC_PUBLISH_PENDING).gauge().value()).isZero());
+	}
+
+	@Test
+	void publishEvents_shouldSplitIntoBoundedBatches() {
+
+		start(2, 1L, 10);
+		Mockito.when(kafkaPublisherAdapter.publishOrSpool(Mockito.anyList())).thenReturn(true);
+		List<Event> events = LongStream.rangeClosed(1L, 5L).mapToObj(this::createEvent).toList();
+
+		groupCommitPublisherAdapter.publishEvents(events);
+
+		Mockito.verify(kafkaPublisherAdapter, Mockito.atLeast(3)).publishOrSpool(Mockito.argThat(batch -> batch.size() <= 2));
+		Assertions.assertThat(meterRegistry.get(GlobalConstants.METRIC_PUBLISH_BATCH).summary().totalAmount()).isEqualTo(5.0);
+	}
+
+	@Test
+	void publishEvent_withFailedCommit_shouldThrowToCaller() {
+
+		start(1, 1L, 10);
+		KafkaException failure = new KafkaException("abort");
+		Mockito.doThrow(failure).when(kafkaPublisherAdapter).publishOrSpool(Mockito.anyList());
+
+		Assertions.assertThatThrownBy(() -> groupCommitPublisherAdapter.publishEvent(createEvent(1L))).isSameAs(failure);
+	}
+
+	@Test
+	void submit_overMaxPending_shouldReject() throws InterruptedException {
+
+		start(100, 60_000L, 1);
+		Mockito.when(kafkaPublisherAdapter.publishOrSpool(Mockito.anyList())).thenReturn(true);
+
+		CompletableFuture<Void> accepted = groupCommitPublisherAdapter.submit(createEvent(1L));
+		CompletableFuture<Void> rejected = groupCommitPublisherAdapter.submit(createEvent(2L));
+
+		Assertions.assertThatThrownBy(rejected::get).isInstanceOf(ExecutionException.class)
+		.hasCauseInstanceOf(RejectedExecutionException.class);
+		groupCommitPublisherAdapter.stop();
+		Assertions.assertThat(accepted).isCompleted();
+	}
+
+	@Test
+	void submit_afterStop_shouldReject() throws InterruptedException {
+
+		start(1, 1L, 10);
+		groupCommitPublisherAdapter.stop();
+
+		Assertions.assertThat(groupCommitPublisherAdapter.submit(createEvent(1L))).isCompletedExceptionally();
+	}
+
+	@Test
+	void submit_withKafkaDown_shouldSpoolAndFail() {
+
+		Mockito.when(kafkaTemplate.executeInTransaction(Mockito.any())).thenThrow(new KafkaException("broker down"));
+		start(new KafkaPublisherAdapter(kafkaTemplate, eventSpool, meterRegistry), 1, 1L, 10);
+		Event event = createEvent(1L);
+
+		CompletableFuture<Void> future = groupCommitPublisherAdapter.submit(event);
+
+		Assertions.assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class)
+		.hasCauseInstanceOf(IllegalStateException.class)
+		.hasRootCauseMessage(GlobalConstants.MSG_SPOOLED);
+		Mockito.verify(eventSpool).append(List.of(event));
+	}
+
+	@Test
+	void publishEvent_insideTransaction_shouldSubmitOnlyAfterCommit() {
+
+		start(1, 1L, 10);
+		Mockito.when(kafkaPublisherAdapter.publishOrSpool(Mockito.anyList())).thenReturn(true);
+		Event event = createEvent(1L);
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			groupCommitPublisherAdapter.publishEvent(event);
+
+			Mockito.verifyNoInteractions(kafkaPublisherAdapter);
+			TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		Mockito.verify(kafkaPublisherAdapter, Mockito.timeout(5_000L)).publishOrSpool(List.of(event));
+	}
+
+	@Test
+	void publishEvent_insideRolledBackTransaction_shouldPublishNothing() throws InterruptedException {
+
+		start(1, 1L, 10);
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			groupCommitPublisherAdapter.publishEvent(createEvent(1L));
+			TransactionSynchronizationManager.getSynchronizations()
+			.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+		groupCommitPublisherAdapter.stop();
+
+		Mockito.verifyNoInteractions(kafkaPublisherAdapter);
+	}
+
+	@Test
+	void publishEvent_afterCommitWithFullQueue_shouldPublishDirectly() throws InterruptedException {
+
+		start(100, 60_000L, 1);
+		Mockito.when(kafkaPublisherAdapter.publishOrSpool(Mockito.anyList())).thenReturn(true);
+		Event queued = createEvent(1L);
+		Event overflow = createEvent(2L);
+		groupCommitPublisherAdapter.submit(queued);
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			groupCommitPublisherAdapter.publishEvent(overflow);
+			TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		Mockito.verify(kafkaPublisherAdapter).publishEvents(List.of(overflow));
+		groupCommitPublisherAdapter.stop();
+		Mockito.verify(kafkaPublisherAdapter).publishOrSpool(List.of(queued));
+	}
+
+}
@@ -1,32 +1,40 @@
 package dev.ime.infrastructure.adapter;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
 import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaOperations;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 
 import dev.ime.common.config.GlobalConstants;
 import dev.ime.domain.model.Event;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(MockitoExtension.class)
 class KafkaPublisherAdapterTest {
 
 	@Mock
 	private KafkaTemplate<String, Object> kafkaTemplate;
+	@Mock
+	private EventSpool eventSpool;
 
-	@InjectMocks
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
 	private KafkaPublisherAdapter kafkaPublisherAdapter;
 
 	private Event event;
@@ -40,9 +48,17 @@ class KafkaPublisherAdapterTest {
 	@BeforeEach
 	private void setUp() {
 
+		kafkaPublisherAdapter = new KafkaPublisherAdapter(kafkaTemplate, eventSpool, meterRegistry);
 		event = new Event(eventId, eventCategory, eventType, eventTimestamp, eventData);
 	}
 
+	@SuppressWarnings("unchecked")
+	private void runTransactions() {
+
+		Mockito.when(kafkaTemplate.executeInTransaction(Mockito.any())).thenAnswer(invocation ->
+				invocation.getArgument(0, KafkaOperations.OperationsCallback.class).doInOperations(kafkaTemplate));
+	}
+
 	@Test
 	@SuppressWarnings("unchecked")
 	void publishEvent_shouldCompleteProcess() {
@@ -50,6 +66,7 @@ class KafkaPublisherAdapterTest {
 		CompletableFuture<SendResult<String, Object>> completableFuture = new CompletableFuture<>();
 		SendResult<String, Object> sendResult = Mockito.mock(SendResult.class);
 		completableFuture.complete(sendResult);
+		runTransactions();
 		Mockito.when(kafkaTemplate.send(Mockito.any(ProducerRecord.class))).thenReturn(completableFuture);
 		Mockito.when(sendResult.getProducerRecord()).thenReturn(producerRecord);
 
@@ -59,4 +76,154 @@ class KafkaPublisherAdapterTest {
 		Mockito.verify(sendResult).getProducerRecord();
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	void publishEvents_shouldSendEveryEvent() {
+
+		CompletableFuture<SendResult<String, Object>> completableFuture = new CompletableFuture<>();
+		SendResult<String, Object> sendResult = Mockito.mock(SendResult.class);
+		completableFuture.complete(sendResult);
+		runTransactions();
+		Mockito.when(kafkaTemplate.send(Mockito.any(ProducerRecord.class))).thenReturn(completableFuture);
+		Mockito.when(sendResult.getProducerRecord()).thenReturn(producerRecord);
+
+		kafkaPublisherAdapter.publishEvents(List.of(event, event));
+
+		Mockito.verify(kafkaTemplate, Mockito.times(2)).send(Mockito.any(ProducerRecord.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void publishEvent_shouldKeyByAggregateIdWithTypeHeader() {
+
+		Event userEvent = new Event(GlobalConstants.USER_CAT, GlobalConstants.USER_CREATED, Map.of(GlobalConstants.USER_EMAIL, "email@email.tk"));
+		ArgumentCaptor<ProducerRecord<String, Object>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+		runTransactions();
+		Mockito.when(kafkaTemplate.send(captor.capture())).thenReturn(new CompletableFuture<>());
+
+		kafkaPublisherAdapter.publishEvent(userEvent);
+
+		ProducerRecord<String, Object> sent = captor.getValue();
+		org.junit.jupiter.api.Assertions.assertAll(
+				() -> Assertions.assertThat(sent.topic()).isEqualTo(GlobalConstants.USER_TOPIC),
+				() -> Assertions.assertThat(sent.key()).isEqualTo("email@email.tk"),
+				() -> Assertions.assertThat(sent.value()).isEqualTo(userEvent),
+				() -> Assertions.assertThat(sent.headers().lastHeader(GlobalConstants.HEADER_EVENT_TYPE).value())
+				.isEqualTo(GlobalConstants.USER_CREATED.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void publishEvent_withDeletion_shouldFollowItWithTombstone() {
+
+		Event deletedEvent = new Event(GlobalConstants.USER_CAT, GlobalConstants.USER_DELETED, Map.of(GlobalConstants.USER_EMAIL, "email@email.tk"));
+		ArgumentCaptor<ProducerRecord<String, Object>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+		runTransactions();
+		Mockito.when(kafkaTemplate.send(captor.capture())).thenReturn(new CompletableFuture<>());
+
+		kafkaPublisherAdapter.publishEvent(deletedEvent);
+
+		List<ProducerRecord<String, Object>> sent = captor.getAllValues();
+		org.junit.jupiter.api.Assertions.assertAll(
+				() -> Assertions.assertThat(sent).hasSize(2),
+				() -> Assertions.assertThat(sent.get(0).value()).isEqualTo(deletedEvent),
+				() -> Assertions.assertThat(sent.get(1).topic()).isEqualTo(GlobalConstants.USER_TOPIC),
+				() -> Assertions.assertThat(sent.get(1).key()).isEqualTo("email@email.tk"),
+				() -> Assertions.assertThat(sent.get(1).value()).isNull());
+		Mockito.verify(kafkaTemplate).executeInTransaction(Mockito.any());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void publishEvent_shouldRecordLatencyPerTopic() {
+
+		CompletableFuture<SendResult<String, Object>> completableFuture = new CompletableFuture<>();
+		SendResult<String, Object> sendResult = Mockito.mock(SendResult.class);
+		completableFuture.complete(sendResult);
+		runTransactions();
+		Mockito.when(kafkaTemplate.send(Mockito.any(ProducerRecord.class))).thenReturn(completableFuture);
+		Mockito.when(sendResult.getProducerRecord()).thenReturn(producerRecord);
+
+		kafkaPublisherAdapter.publishEvent(event);
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				() -> Assertions.assertThat(meterRegistry.get(GlobalConstants.METRIC_SEND_LATENCY)
+						.tag(GlobalConstants.TAG_TOPIC, EventTopology.topic(event)).timer().count()).isEqualTo(1L),
+				() -> Assertions.assertThat(meterRegistry.get(GlobalConstants.METRIC_IN_FLIGHT).gauge().value()).isZero());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void publishEvent_withFailedSend_shouldCountFailure() {
+
+		runTransactions();
+		Mockito.when(kafkaTemplate.send(Mockito.any(ProducerRecord.class)))
+		.thenReturn(CompletableFuture.failedFuture(new TimeoutException("no ack")));
+
+		kafkaPublisherAdapter.publishEvent(event);
+
+		Assertions.assertThat(meterRegistry.get(GlobalConstants.METRIC_SEND_FAILURES)
+				.tag(GlobalConstants.TAG_TOPIC, EventTopology.topic(event)).counter().count()).isEqualTo(1.0);
+	}
+
+	@Test
+	void publishEvents_withFailedCommit_shouldCountFailureAndSpool() {
+
+		Mockito.when(kafkaTemplate.executeInTransaction(Mockito.any())).thenThrow(new TimeoutException("commit timed out"));
+
+		kafkaPublisherAdapter.publishEvents(List.of(event, event));
+
+		Assertions.assertThat(meterRegistry.get(GlobalConstants.METRIC_SEND_FAILURES)
+				.tag(GlobalConstants.TAG_TOPIC, EventTopology.topic(event)).counter().count()).isEqualTo(2.0);
+		Mockito.verify(eventSpool).append(List.of(event, event));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void publishEvent_withFailedSendAndCommit_shouldCountFailureOnce() {
+
+		Mockito.when(kafkaTemplate.executeInTransaction(Mockito.any())).thenAnswer(invocation -> {
+			invocation.getArgument(0, KafkaOperations.OperationsCallback.class).doInOperations(kafkaTemplate);
+			throw new TimeoutException("commit timed out");
+		});
+		Mockito.when(kafkaTemplate.send(Mockito.any(ProducerRecord.class)))
+		.thenReturn(CompletableFuture.failedFuture(new TimeoutException("no ack")));
+
+		kafkaPublisherAdapter.publishEvent(event);
+
+		Assertions.assertThat(meterRegistry.get(GlobalConstants.METRIC_SEND_FAILURES)
+				.tag(GlobalConstants.TAG_TOPIC, EventTopology.topic(event)).counter().count()).isEqualTo(1.0);
+	}
+
+	@Test
+	void publishEvents_withKafkaDown_shouldSpool() {
+
+		Mockito.when(kafkaTemplate.executeInTransaction(Mockito.any())).thenThrow(new TimeoutException("broker down"));
+
+		kafkaPublisherAdapter.publishEvents(List.of(event));
+
+		Mockito.verify(eventSpool).append(List.of(event));
+	}
+
+	@Test
+	void publishEvents_withSpoolPending_shouldAppendBehindIt() {
+
+		Mockito.when(eventSpool.hasPending()).thenReturn(true);
+
+		kafkaPublisherAdapter.publishEvents(List.of(event));
+
+		Mockito.verify(eventSpool).append(List.of(event));
+		Mockito.verifyNoInteractions(kafkaTemplate);
+	}
+
+	@Test
+	void publishRelayed_withKafkaDown_shouldThrowWithoutSpooling() {
+
+		Mockito.when(kafkaTemplate.executeInTransaction(Mockito.any())).thenThrow(new TimeoutException("broker down"));
+		List<Event> events = List.of(event);
+
+		Assertions.assertThatThrownBy(() -> kafkaPublisherAdapter.publishRelayed(events)).isInstanceOf(TimeoutException.class);
+		Mockito.verifyNoInteractions(eventSpool);
+	}
+
 }
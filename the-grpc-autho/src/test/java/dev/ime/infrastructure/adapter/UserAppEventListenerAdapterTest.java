@@ -0,0 +1,65 @@
+package dev.ime.infrastructure.adapter;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import dev.ime.application.dto.RegisterRequestDto;
+import dev.ime.application.dto.UserDto;
+import dev.ime.common.config.GlobalConstants;
+import dev.ime.domain.model.Event;
+import dev.ime.domain.port.inbound.AuthGrpcServicePort;
+
+@ExtendWith(MockitoExtension.class)
+class UserAppEventListenerAdapterTest {
+
+	@Mock
+	private AuthGrpcServicePort<UserDto, RegisterRequestDto> authGrpcService;
+	@Mock
+	private ParallelBatchProcessor parallelBatchProcessor;
+
+	@InjectMocks
+	private UserAppEventListenerAdapter userAppEventListenerAdapter;
+
+	private final Long userId = 1L;
+	private final String email = "email@email.tk";
+
+	@Test
+	void onEvent_withCreationFailed_shouldCancelRegistration() {
+
+		Event event = new Event(GlobalConstants.USERAPP_CAT, GlobalConstants.USERAPP_CREATION_FAILED,
+				Map.of(GlobalConstants.USER_ID, 1, GlobalConstants.USER_EMAIL, email));
+
+		userAppEventListenerAdapter.onEvent(event);
+
+		Mockito.verify(authGrpcService).cancelRegistration(userId, email);
+	}
+
+	@Test
+	void onEvent_withCreationFailedWithoutEmail_shouldSkip() {
+
+		Event event = new Event(GlobalConstants.USERAPP_CAT, GlobalConstants.USERAPP_CREATION_FAILED,
+				Map.of(GlobalConstants.USER_ID, userId));
+
+		userAppEventListenerAdapter.onEvent(event);
+
+		Mockito.verifyNoInteractions(authGrpcService);
+	}
+
+	@Test
+	void onEvent_withProfileCreated_shouldIgnore() {
+
+		Event event = new Event(GlobalConstants.USERAPP_CAT, GlobalConstants.USERAPP_CREATED,
+				Map.of(GlobalConstants.USER_ID, userId, GlobalConstants.USER_EMAIL, email));
+
+		userAppEventListenerAdapter.onEvent(event);
+
+		Mockito.verifyNoInteractions(authGrpcService);
+	}
+
+}
@@ -0,0 +1,75 @@
+package dev.ime.infrastructure.adapter;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import dev.ime.common.config.GlobalConstants;
+import dev.ime.domain.model.Role;
+import dev.ime.domain.model.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class UserDetailsCacheAdapterTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final UserDetailsCacheAdapter userDetailsCacheAdapter = new UserDetailsCacheAdapter(meterRegistry, 100L, Duration.ofMinutes(1));
+	private final AtomicInteger loads = new AtomicInteger();
+	private final String email = "email@email.tk";
+	private final User user = new User(1L, email, "god", Role.USER);
+
+	private Optional<User> load(Optional<User> result) {
+
+		loads.incrementAndGet();
+		return result;
+	}
+
+	@Test
+	void getOrLoad_shouldLoadOnlyOnceAndCountHits() {
+
+		Optional<User> first = userDetailsCacheAdapter.getOrLoad(email, key -> load(Optional.of(user)));
+		Optional<User> second = userDetailsCacheAdapter.getOrLoad(email, key -> load(Optional.empty()));
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				() -> Assertions.assertThat(first).contains(user),
+				() -> Assertions.assertThat(second).contains(user),
+				() -> Assertions.assertThat(loads).hasValue(1),
+				() -> Assertions.assertThat(meterRegistry.get(GlobalConstants.METRIC_CACHE_HIT_RATE).gauge().value()).isEqualTo(0.5));
+	}
+
+	@Test
+	void getOrLoad_withUnknownEmail_shouldNotCacheAbsence() {
+
+		userDetailsCacheAdapter.getOrLoad(email, key -> load(Optional.empty()));
+		Optional<User> registered = userDetailsCacheAdapter.getOrLoad(email, key -> load(Optional.of(user)));
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				() -> Assertions.assertThat(registered).contains(user),
+				() -> Assertions.assertThat(loads).hasValue(2));
+	}
+
+	@Test
+	void evict_shouldForceReload() {
+
+		userDetailsCacheAdapter.getOrLoad(email, key -> load(Optional.of(user)));
+		userDetailsCacheAdapter.evict(email);
+		userDetailsCacheAdapter.getOrLoad(email, key -> load(Optional.of(user)));
+
+		Assertions.assertThat(loads).hasValue(2);
+	}
+
+	@Test
+	void getOrLoad_withEvictionDuringLoad_shouldNotStoreStaleUser() {
+
+		userDetailsCacheAdapter.getOrLoad(email, key -> {
+			userDetailsCacheAdapter.evict(email);
+			return load(Optional.of(user));
+		});
+		userDetailsCacheAdapter.getOrLoad(email, key -> load(Optional.of(user)));
+
+		Assertions.assertThat(loads).hasValue(2);
+	}
+
+}
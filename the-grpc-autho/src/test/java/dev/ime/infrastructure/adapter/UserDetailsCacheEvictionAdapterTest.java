@@ -0,0 +1,72 @@
+package dev.ime.infrastructure.adapter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import dev.ime.common.config.GlobalConstants;
+import dev.ime.domain.model.Event;
+import dev.ime.domain.port.outbound.UserDetailsCachePort;
+
+@ExtendWith(MockitoExtension.class)
+class UserDetailsCacheEvictionAdapterTest {
+
+	@Mock
+	private UserDetailsCachePort userDetailsCache;
+	@Mock
+	private ParallelBatchProcessor parallelBatchProcessor;
+
+	@InjectMocks
+	private UserDetailsCacheEvictionAdapter userDetailsCacheEvictionAdapter;
+
+	private final String email = "email@email.tk";
+
+	@Test
+	void onEvent_withUserDeleted_shouldEvict() {
+
+		userDetailsCacheEvictionAdapter.onEvent(new Event(GlobalConstants.USER_CAT, GlobalConstants.USER_DELETED, Map.of(GlobalConstants.USER_EMAIL, email)));
+
+		Mockito.verify(userDetailsCache).evict(email);
+	}
+
+	@Test
+	void onEvent_withUserUpdated_shouldEvict() {
+
+		userDetailsCacheEvictionAdapter.onEvent(new Event(GlobalConstants.USER_CAT, GlobalConstants.USER_UPDATED, Map.of(GlobalConstants.USER_EMAIL, email)));
+
+		Mockito.verify(userDetailsCache).evict(email);
+	}
+
+	@Test
+	void onEvent_withUserCreated_shouldNotEvict() {
+
+		userDetailsCacheEvictionAdapter.onEvent(new Event(GlobalConstants.USER_CAT, GlobalConstants.USER_CREATED, Map.of(GlobalConstants.USER_EMAIL, email)));
+
+		Mockito.verifyNoInteractions(userDetailsCache);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	void onEvents_shouldHandEachEventToOnEvent() {
+
+		Event event = new Event(GlobalConstants.USER_CAT, GlobalConstants.USER_DELETED, Map.of(GlobalConstants.USER_EMAIL, email));
+		List<ConsumerRecord<String, Event>> records = List.of(new ConsumerRecord<>(GlobalConstants.USER_TOPIC, 0, 0L, email, event));
+		Mockito.doAnswer(invocation -> {
+			((Consumer<Event>) invocation.getArgument(3)).accept(event);
+			return null;
+		}).when(parallelBatchProcessor).process(Mockito.eq(GlobalConstants.USER_DETAILS_CACHE_GROUP), Mockito.eq(records), Mockito.any(), Mockito.any(Consumer.class));
+
+		userDetailsCacheEvictionAdapter.onEvents(records, null);
+
+		Mockito.verify(userDetailsCache).evict(email);
+	}
+
+}
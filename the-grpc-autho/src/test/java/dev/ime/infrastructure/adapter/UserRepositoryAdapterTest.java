@@ -2,6 +2,7 @@ package dev.ime.infrastructure.adapter;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Predicate;
 
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,6 +17,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
 import dev.ime.common.mapper.UserMapper;
+import dev.ime.domain.model.PageCursor;
 import dev.ime.domain.model.Role;
 import dev.ime.domain.model.User;
 import dev.ime.infrastructure.entity.UserJpaEntity;
@@ -23,6 +25,7 @@ import jakarta.persistence.EntityManager;
 import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Root;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,6 +35,8 @@ class UserRepositoryAdapterTest {
 	private UserMapper userMapper;
 	@Mock
 	private EntityManager entityManager;
+	@Mock
+	private EmailBloomFilter emailFilter;
 
 	@InjectMocks
 	private UserRepositoryAdapter userRepositoryAdapter;
@@ -96,6 +101,33 @@ class UserRepositoryAdapterTest {
 				() -> Mockito.verify(query).setMaxResults(10));
 	}
 
+	@SuppressWarnings("unchecked")
+	@Test
+	void findAll_withCursor_shouldSeekWithoutOffset() {
+
+		CriteriaBuilder cb = Mockito.mock(CriteriaBuilder.class);
+		CriteriaQuery<UserJpaEntity> cq = Mockito.mock(CriteriaQuery.class);
+		Root<UserJpaEntity> root = Mockito.mock(Root.class);
+		TypedQuery<UserJpaEntity> query = Mockito.mock(TypedQuery.class);
+		Mockito.when(entityManager.getCriteriaBuilder()).thenReturn(cb);
+		Mockito.when(cb.createQuery(UserJpaEntity.class)).thenReturn(cq);
+		Mockito.when(cq.from(UserJpaEntity.class)).thenReturn(root);
+		Mockito.when(cq.orderBy(Mockito.anyList())).thenReturn(cq);
+		Mockito.when(entityManager.createQuery(cq)).thenReturn(query);
+		Mockito.when(query.setMaxResults(Mockito.anyInt())).thenReturn(query);
+		Mockito.when(query.getResultList()).thenReturn(List.of(userJpaEntity));
+		Mockito.when(userMapper.fromListJpaToListDomain(Mockito.anyList())).thenReturn(List.of(user));
+
+		List<User> result = userRepositoryAdapter.findAll(pageable, new PageCursor(email, userId));
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				() -> Assertions.assertThat(result).hasSize(1),
+				() -> Mockito.verify(cb).greaterThan(Mockito.<Expression<String>>any(), Mockito.eq(email)),
+				() -> Mockito.verify(cb).greaterThan(Mockito.<Expression<Long>>any(), Mockito.eq(userId)),
+				() -> Mockito.verify(query, Mockito.never()).setFirstResult(Mockito.anyInt()),
+				() -> Mockito.verify(query).setMaxResults(10));
+	}
+
 	@SuppressWarnings("unchecked")
 	@Test
 	void findByEmail_shouldReturnOptUser() {
@@ -148,5 +180,71 @@ class UserRepositoryAdapterTest {
 				()-> Assertions.assertThat(userUpdated.getUserId()).isEqualTo(userId)
 				);		
 	}
-	
+
+	@SuppressWarnings("unchecked")
+	@Test
+	void updatePassword_shouldRewriteStoredHash() {
+
+		TypedQuery<UserJpaEntity> query = Mockito.mock(TypedQuery.class);
+		Mockito.when(entityManager.createQuery(Mockito.anyString(), Mockito.eq(UserJpaEntity.class))).thenReturn(query);
+		Mockito.when(query.setParameter(Mockito.anyString(), Mockito.any())).thenReturn(query);
+		Mockito.when(query.getResultList()).thenReturn(List.of(userJpaEntity));
+		Mockito.when(userMapper.fromJpaToDomain(Mockito.any(UserJpaEntity.class))).thenReturn(user);
+
+		Optional<User> optUser = userRepositoryAdapter.updatePassword(email, "rehashed");
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				()-> Assertions.assertThat(optUser).contains(user),
+				()-> Assertions.assertThat(userJpaEntity.getPassword()).isEqualTo("rehashed")
+				);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	void delete_shouldRemoveMatchingUser() {
+
+		TypedQuery<UserJpaEntity> query = Mockito.mock(TypedQuery.class);
+		Mockito.when(entityManager.createQuery(Mockito.anyString(), Mockito.eq(UserJpaEntity.class))).thenReturn(query);
+		Mockito.when(query.setParameter(Mockito.anyString(), Mockito.any())).thenReturn(query);
+		Mockito.when(query.getResultList()).thenReturn(List.of(userJpaEntity));
+		Mockito.when(userMapper.fromJpaToDomain(Mockito.any(UserJpaEntity.class))).thenReturn(user);
+
+		Optional<User> optUser = userRepositoryAdapter.delete(userId, email);
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				()-> Assertions.assertThat(optUser).contains(user)
+				);
+		Mockito.verify(entityManager).remove(userJpaEntity);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	void existsByEmail_withPossibleHit_shouldQueryIndex() {
+
+		TypedQuery<Long> query = Mockito.mock(TypedQuery.class);
+		Mockito.when(emailFilter.contains(Mockito.eq(email), Mockito.any())).thenAnswer(invocation ->
+				((Predicate<String>) invocation.getArgument(1)).test(email));
+		Mockito.when(entityManager.createQuery(Mockito.anyString(), Mockito.eq(Long.class))).thenReturn(query);
+		Mockito.when(query.setParameter(Mockito.anyString(), Mockito.any())).thenReturn(query);
+		Mockito.when(query.setMaxResults(1)).thenReturn(query);
+		Mockito.when(query.getResultList()).thenReturn(List.of(userId));
+
+		boolean exists = userRepositoryAdapter.existsByEmail(email);
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				()-> Assertions.assertThat(exists).isTrue()
+				);
+	}
+
+	@Test
+	void save_withNewUser_shouldAddEmailToFilter() {
+
+		Mockito.when(userMapper.fromDomainToJpa(Mockito.any(User.class))).thenReturn(userJpaEntityNew);
+		Mockito.when(userMapper.fromJpaToDomain(Mockito.any(UserJpaEntity.class))).thenReturn(user);
+
+		userRepositoryAdapter.save(user);
+
+		Mockito.verify(emailFilter).put(email);
+	}
+
 }
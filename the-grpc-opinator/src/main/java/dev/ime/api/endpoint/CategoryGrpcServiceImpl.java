@@ -16,6 +16,7 @@ import dev.ime.api.validation.CategoryRequestValidator;
 import dev.ime.application.dto.CategoryDto;
 import dev.ime.application.dto.PaginationDto;
 import dev.ime.application.exception.EmptyResponseException;
+import dev.ime.application.utils.PageToken;
 import dev.ime.common.constants.GlobalConstants;
 import dev.ime.common.mapper.CategoryMapper;
 import dev.ime.domain.port.inbound.GenericServicePort;
@@ -38,6 +39,7 @@ public class CategoryGrpcServiceImpl extends CategoryGrpcServiceGrpc.CategoryGrp
 	private final CategoryMapper categoryMapper;
 	private final CategoryRequestValidator requestValidator;
 	private static final Logger logger = LoggerFactory.getLogger(CategoryGrpcServiceImpl.class);
+	private static final Set<String> SORT_ATTRS = Set.of(GlobalConstants.CAT_ID, GlobalConstants.CAT_NAME);
 
 	public CategoryGrpcServiceImpl(GenericServicePort<CategoryDto> categoryServiceAdapter,
 			CategoryMapper categoryMapper, CategoryRequestValidator requestValidator) {
@@ -118,10 +120,17 @@ public class CategoryGrpcServiceImpl extends CategoryGrpcServiceGrpc.CategoryGrp
 
 		logger.info(GlobalConstants.MSG_PATTERN_INFO, request.getClass().getSimpleName(), request);
 		
-		PaginationDto paginationDto = createPaginationDto(request);
+		Optional<PageToken> pageToken = PageToken.decode(request.getPageToken(), SORT_ATTRS);
+		PaginationDto requestPagination = createPaginationDto(request);
+		PaginationDto paginationDto = pageToken.map(token -> token.applyTo(requestPagination)).orElse(requestPagination);
 		PageRequest pageRequest = createPageable(paginationDto);
-		List<CategoryProto> protoList = categoryMapper.fromListDtoToListProto(categoryServiceAdapter.findAll(pageRequest));
-		ListCategoriesResponse listResponse = ListCategoriesResponse.newBuilder().addAllCategories(protoList).build();
+		List<CategoryDto> dtoList = pageToken
+				.map(token -> categoryServiceAdapter.findAll(pageRequest, token.toCursor()))
+				.orElseGet(() -> categoryServiceAdapter.findAll(pageRequest));
+		List<CategoryProto> protoList = categoryMapper.fromListDtoToListProto(dtoList);
+		ListCategoriesResponse listResponse = ListCategoriesResponse.newBuilder().addAllCategories(protoList)
+				.setNextPageToken(createNextPageToken(dtoList, paginationDto))
+				.build();
 
 		responseObserver.onNext(listResponse);
 		responseObserver.onCompleted();
@@ -129,10 +138,9 @@ public class CategoryGrpcServiceImpl extends CategoryGrpcServiceGrpc.CategoryGrp
 
 	private PaginationDto createPaginationDto(PaginationRequest request) {
 		
-		Set<String> attrsSet = Set.of(GlobalConstants.CAT_ID,GlobalConstants.CAT_NAME);
 		Integer page = Optional.ofNullable(request.getPage()).filter( i -> i >= 0).orElse(0);
     	Integer size = Optional.ofNullable(request.getSize()).filter( i -> i > 0).orElse(100);
-        String sortBy = Optional.ofNullable(request.getSortBy()).filter(attrsSet::contains).orElse(GlobalConstants.CAT_ID);
+        String sortBy = Optional.ofNullable(request.getSortBy()).filter(SORT_ATTRS::contains).orElse(GlobalConstants.CAT_ID);
         String sortDir = Optional.ofNullable(request.getSortDir())
         		.map(String::toUpperCase)
         		.filter( sorting -> sorting.equals(GlobalConstants.PS_A) || sorting.equals(GlobalConstants.PS_D))
@@ -143,10 +151,22 @@ public class CategoryGrpcServiceImpl extends CategoryGrpcServiceGrpc.CategoryGrp
 	
 	private PageRequest createPageable(PaginationDto paginationDto) {
 
-		Sort sort = Sort.by(Sort.Direction.fromString(paginationDto.sortDir()), paginationDto.sortBy());
+		Sort.Direction direction = Sort.Direction.fromString(paginationDto.sortDir());
+		Sort sort = Sort.by(direction, paginationDto.sortBy());
+		if (!paginationDto.sortBy().equals(GlobalConstants.CAT_ID)) {
+			sort = sort.and(Sort.by(direction, GlobalConstants.CAT_ID));
+		}
 		return PageRequest.of(paginationDto.page(), paginationDto.size(), sort);
 	}
 
+	private String createNextPageToken(List<CategoryDto> dtoList, PaginationDto paginationDto) {
+
+		return PageToken.next(dtoList, paginationDto, dto -> switch (paginationDto.sortBy()) {
+			case GlobalConstants.CAT_NAME -> dto.categoryName();
+			default -> dto.categoryId();
+		}, CategoryDto::categoryId);
+	}
+
 	@Override
 	public void getCategory(GetCategoryRequest request, StreamObserver<CategoryProto> responseObserver) {
 
@@ -0,0 +1,107 @@
+package dev.ime.api.endpoint;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import dev.ime.common.constants.GlobalConstants;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+
+/**
+ * reads a client stream in chunks and answers every chunk with its own message, the processor gets the chunk
+ * together with the stream position of its first message. the next chunk is only requested from the client once
+ * the previous answer could be written, so a call holds one chunk and one answer however long the stream is.
+ * chunks already processed stay stored if the client cancels halfway
+ * @param <Q> request message type
+ * @param <R> response message type, one per chunk
+ */
+public class ChunkedRequestReader<Q, R> implements StreamObserver<Q> {
+
+	private final int chunkSize;
+	private final BiFunction<Integer, List<Q>, R> chunkProcessor;
+	private final StreamObserver<R> responseObserver;
+	private final ServerCallStreamObserver<R> serverCallObserver;
+	private final List<Q> chunk;
+	private int received;
+	// reads and ready callbacks are serialized by the call, no locking needed
+	private boolean awaitingReady;
+	private static final Logger logger = LoggerFactory.getLogger(ChunkedRequestReader.class);
+
+	public ChunkedRequestReader(int chunkSize, BiFunction<Integer, List<Q>, R> chunkProcessor,
+			StreamObserver<R> responseObserver) {
+		super();
+		this.chunkSize = chunkSize;
+		this.chunkProcessor = chunkProcessor;
+		this.responseObserver = responseObserver;
+		this.chunk = new ArrayList<>(chunkSize);
+		if (responseObserver instanceof ServerCallStreamObserver<R> callObserver) {
+			this.serverCallObserver = callObserver;
+			callObserver.disableAutoRequest();
+			callObserver.setOnReadyHandler(this::onReady);
+			callObserver.request(chunkSize);
+		} else {
+			this.serverCallObserver = null;
+		}
+	}
+
+	@Override
+	public void onNext(Q request) {
+
+		chunk.add(request);
+		if (chunk.size() >= chunkSize) {
+			processChunk();
+			requestNextChunk();
+		}
+	}
+
+	@Override
+	public void onError(Throwable t) {
+
+		logger.info(GlobalConstants.MSG_PATTERN_INFO, GlobalConstants.MSG_STREAM_CANCELLED, t.getMessage());
+		chunk.clear();
+	}
+
+	@Override
+	public void onCompleted() {
+
+		processChunk();
+		responseObserver.onCompleted();
+	}
+
+	private void processChunk() {
+
+		if (chunk.isEmpty()) {
+			return;
+		}
+
+		R response = chunkProcessor.apply(received, List.copyOf(chunk));
+		received += chunk.size();
+		chunk.clear();
+		responseObserver.onNext(response);
+	}
+
+	private void requestNextChunk() {
+
+		if (serverCallObserver == null) {
+			return;
+		}
+		if (serverCallObserver.isReady()) {
+			serverCallObserver.request(chunkSize);
+		} else {
+			awaitingReady = true;
+		}
+	}
+
+	private void onReady() {
+
+		if (awaitingReady && serverCallObserver.isReady()) {
+			awaitingReady = false;
+			serverCallObserver.request(chunkSize);
+		}
+	}
+
+}
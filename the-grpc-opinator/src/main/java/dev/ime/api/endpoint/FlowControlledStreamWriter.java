@@ -0,0 +1,80 @@
+package dev.ime.api.endpoint;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import dev.ime.common.constants.GlobalConstants;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+
+/**
+ * writes server-streaming messages only when the transport is ready, so a slow client
+ * parks the producer instead of piling messages up in memory
+ * @param <T> message type
+ */
+public class FlowControlledStreamWriter<T> {
+
+	private final StreamObserver<T> responseObserver;
+	private final ServerCallStreamObserver<T> serverCallObserver;
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition ready = lock.newCondition();
+
+	public FlowControlledStreamWriter(StreamObserver<T> responseObserver) {
+		super();
+		this.responseObserver = responseObserver;
+		if (responseObserver instanceof ServerCallStreamObserver<T> callObserver) {
+			this.serverCallObserver = callObserver;
+			callObserver.setOnReadyHandler(this::signalReady);
+		} else {
+			this.serverCallObserver = null;
+		}
+	}
+
+	public void write(T message) {
+
+		awaitReady();
+		responseObserver.onNext(message);
+	}
+
+	private void awaitReady() {
+
+		if (serverCallObserver == null) {
+			return;
+		}
+
+		lock.lock();
+		try {
+			while (!serverCallObserver.isReady()) {
+				checkCancelled();
+				// onReady callbacks share the call executor with this handler, so poll as well
+				ready.await(GlobalConstants.STREAM_READY_WAIT_MS, TimeUnit.MILLISECONDS);
+			}
+			checkCancelled();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw Status.CANCELLED.withDescription(GlobalConstants.MSG_STREAM_CANCELLED).withCause(e).asRuntimeException();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void checkCancelled() {
+
+		if (serverCallObserver.isCancelled()) {
+			throw Status.CANCELLED.withDescription(GlobalConstants.MSG_STREAM_CANCELLED).asRuntimeException();
+		}
+	}
+
+	private void signalReady() {
+
+		lock.lock();
+		try {
+			ready.signalAll();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+}
@@ -8,17 +8,22 @@ import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 
 import com.google.protobuf.Empty;
+import com.google.protobuf.InvalidProtocolBufferException;
 
 import dev.ime.api.validation.ProductRequestValidator;
 import dev.ime.application.dto.PaginationDto;
 import dev.ime.application.dto.ProductDto;
 import dev.ime.application.exception.EmptyResponseException;
+import dev.ime.application.exception.ValidationException;
+import dev.ime.application.utils.PageToken;
 import dev.ime.common.constants.GlobalConstants;
 import dev.ime.common.mapper.ProductMapper;
-import dev.ime.domain.port.inbound.GenericServicePort;
+import dev.ime.domain.port.inbound.ProductServicePort;
+import dev.ime.domain.port.outbound.ResponseCachePort;
 import dev.proto.CreateProductRequest;
 import dev.proto.DeleteProductRequest;
 import dev.proto.DeleteProductResponse;
@@ -27,6 +32,9 @@ import dev.proto.ListProductsResponse;
 import dev.proto.PaginationRequest;
 import dev.proto.ProductGrpcServiceGrpc;
 import dev.proto.ProductProto;
+import dev.proto.ProductStatsProto;
+import dev.proto.SearchProductsResponse;
+import dev.proto.SearchRequest;
 import dev.proto.UpdateProductRequest;
 import io.grpc.stub.StreamObserver;
 import net.devh.boot.grpc.server.service.GrpcService;
@@ -34,17 +42,20 @@ import net.devh.boot.grpc.server.service.GrpcService;
 @GrpcService
 public class ProductGrpcServiceImpl  extends ProductGrpcServiceGrpc.ProductGrpcServiceImplBase{
 
-	private final GenericServicePort<ProductDto> productServiceAdapter;
+	private final ProductServicePort productServiceAdapter;
 	private final ProductMapper productMapper;
 	private final ProductRequestValidator requestValidator;
+	private final ResponseCachePort responseCacheAdapter;
 	private static final Logger logger = LoggerFactory.getLogger(ProductGrpcServiceImpl.class);
+	private static final Set<String> SORT_ATTRS = Set.of(GlobalConstants.PROD_ID, GlobalConstants.PROD_NAME, GlobalConstants.PROD_DESC);
 	
-	public ProductGrpcServiceImpl(GenericServicePort<ProductDto> productServiceAdapter, ProductMapper productMapper,
-			ProductRequestValidator requestValidator) {
+	public ProductGrpcServiceImpl(ProductServicePort productServiceAdapter, ProductMapper productMapper,
+			ProductRequestValidator requestValidator, ResponseCachePort responseCacheAdapter) {
 		super();
 		this.productServiceAdapter = productServiceAdapter;
 		this.productMapper = productMapper;
 		this.requestValidator = requestValidator;
+		this.responseCacheAdapter = responseCacheAdapter;
 	}
 
 	@Override
@@ -75,6 +86,7 @@ public class ProductGrpcServiceImpl  extends ProductGrpcServiceGrpc.ProductGrpcS
 		requestValidator.validateUpdateRequest(request);
 		ProductDto dto = productMapper.fromUpdateToDto(request);
 		Optional<ProductDto> opt = productServiceAdapter.update(dto);
+		responseCacheAdapter.evict(GlobalConstants.PROD_CAT, dto.productId());
 		ProductProto productProto = opt.map(productMapper::fromDtoToProto).orElseThrow(
 				() -> new EmptyResponseException(Map.of(GlobalConstants.PROD_CAT, GlobalConstants.MSG_NODATA)));
 		logger.info(GlobalConstants.MSG_PATTERN_INFO, GlobalConstants.PROD_UPDATED, productProto);
@@ -92,6 +104,10 @@ public class ProductGrpcServiceImpl  extends ProductGrpcServiceGrpc.ProductGrpcS
 		
 		DeleteProductResponse deleteProductResponse = Optional.ofNullable(request.getProductId())
 				.map(productServiceAdapter::deleteById)
+				.map(b -> {
+					responseCacheAdapter.evict(GlobalConstants.PROD_CAT, request.getProductId());
+					return b;
+				})
 				.map(b -> DeleteProductResponse.newBuilder().setSuccess(b).build())
 				.map(item -> {
 					logger.info(GlobalConstants.MSG_PATTERN_INFO, GlobalConstants.PROD_DELETED, item);
@@ -118,10 +134,17 @@ public class ProductGrpcServiceImpl  extends ProductGrpcServiceGrpc.ProductGrpcS
 
 		logger.info(GlobalConstants.MSG_PATTERN_INFO, request.getClass().getSimpleName(), request);
 		
-		PaginationDto paginationDto = createPaginationDto(request);
+		Optional<PageToken> pageToken = PageToken.decode(request.getPageToken(), SORT_ATTRS);
+		PaginationDto requestPagination = createPaginationDto(request);
+		PaginationDto paginationDto = pageToken.map(token -> token.applyTo(requestPagination)).orElse(requestPagination);
 		PageRequest pageRequest = createPageable(paginationDto);
-		List<ProductProto> protoList = productMapper.fromListDtoToListProto(productServiceAdapter.findAll(pageRequest));
-		ListProductsResponse listResponse = ListProductsResponse.newBuilder().addAllProducts(protoList).build();
+		List<ProductDto> dtoList = pageToken
+				.map(token -> productServiceAdapter.findAll(pageRequest, token.toCursor()))
+				.orElseGet(() -> productServiceAdapter.findAll(pageRequest));
+		List<ProductProto> protoList = productMapper.fromListDtoToListProto(dtoList);
+		ListProductsResponse listResponse = ListProductsResponse.newBuilder().addAllProducts(protoList)
+				.setNextPageToken(createNextPageToken(dtoList, paginationDto))
+				.build();
 
 		responseObserver.onNext(listResponse);
 		responseObserver.onCompleted();
@@ -129,10 +152,9 @@ public class ProductGrpcServiceImpl  extends ProductGrpcServiceGrpc.ProductGrpcS
 
 	private PaginationDto createPaginationDto(PaginationRequest request) {
 		
-		Set<String> attrsSet = Set.of(GlobalConstants.PROD_ID,GlobalConstants.PROD_NAME,GlobalConstants.PROD_DESC);
 		Integer page = Optional.ofNullable(request.getPage()).filter( i -> i >= 0).orElse(0);
     	Integer size = Optional.ofNullable(request.getSize()).filter( i -> i > 0).orElse(100);
-        String sortBy = Optional.ofNullable(request.getSortBy()).filter(attrsSet::contains).orElse(GlobalConstants.PROD_ID);
+        String sortBy = Optional.ofNullable(request.getSortBy()).filter(SORT_ATTRS::contains).orElse(GlobalConstants.PROD_ID);
         String sortDir = Optional.ofNullable(request.getSortDir())
         		.map(String::toUpperCase)
         		.filter( sorting -> sorting.equals(GlobalConstants.PS_A) || sorting.equals(GlobalConstants.PS_D))
@@ -143,26 +165,98 @@ public class ProductGrpcServiceImpl  extends ProductGrpcServiceGrpc.ProductGrpcS
 	
 	private PageRequest createPageable(PaginationDto paginationDto) {
 
-		Sort sort = Sort.by(Sort.Direction.fromString(paginationDto.sortDir()), paginationDto.sortBy());
+		Sort.Direction direction = Sort.Direction.fromString(paginationDto.sortDir());
+		Sort sort = Sort.by(direction, paginationDto.sortBy());
+		if (!paginationDto.sortBy().equals(GlobalConstants.PROD_ID)) {
+			sort = sort.and(Sort.by(direction, GlobalConstants.PROD_ID));
+		}
 		return PageRequest.of(paginationDto.page(), paginationDto.size(), sort);
 	}
 
+	private String createNextPageToken(List<ProductDto> dtoList, PaginationDto paginationDto) {
+
+		return PageToken.next(dtoList, paginationDto, dto -> switch (paginationDto.sortBy()) {
+			case GlobalConstants.PROD_NAME -> dto.productName();
+			case GlobalConstants.PROD_DESC -> dto.productDescription();
+			default -> dto.productId();
+		}, ProductDto::productId);
+	}
+
+	@Override
+	public void searchProducts(SearchRequest request, StreamObserver<SearchProductsResponse> responseObserver) {
+
+		logger.info(GlobalConstants.MSG_PATTERN_INFO, GlobalConstants.SEARCH_PROD, request);
+		requestValidator.validateSearchRequest(request);
+
+		Slice<ProductDto> slice = productServiceAdapter.search(request.getQuery().strip(), createSearchPageable(request));
+		SearchProductsResponse response = SearchProductsResponse.newBuilder()
+				.addAllProducts(productMapper.fromListDtoToListProto(slice.getContent()))
+				.setHasNext(slice.hasNext())
+				.build();
+
+		responseObserver.onNext(response);
+		responseObserver.onCompleted();
+	}
+
+	/**
+	 * search pages only reach into the first SEARCH_MAX_RESULTS matches, a page past them is rejected
+	 */
+	private PageRequest createSearchPageable(SearchRequest request) {
+
+		int page = Math.max(request.getPage(), 0);
+		int size = request.getSize() > 0 ? Math.min(request.getSize(), GlobalConstants.SEARCH_MAX_SIZE) : GlobalConstants.SEARCH_MAX_SIZE;
+		if ((long) page * size >= GlobalConstants.SEARCH_MAX_RESULTS) {
+			throw new ValidationException(Map.of(GlobalConstants.PS_PAGE, String.valueOf(request.getPage())));
+		}
+		return PageRequest.of(page, size);
+	}
+
 	@Override
 	public void getProduct(GetProductRequest request, StreamObserver<ProductProto> responseObserver) {
 
 		requestValidator.validateGetRequest(request);
-		
-		ProductProto productProto = Optional.ofNullable(request.getProductId())
+
+		byte[] payload = responseCacheAdapter.getOrLoad(GlobalConstants.PROD_CAT, request.getProductId(),
+				() -> findProduct(request.getProductId()).toByteArray());
+		ProductProto productProto = parseProduct(payload);
+		logger.info(GlobalConstants.MSG_PATTERN_INFO, GlobalConstants.PROD_CAT, productProto);
+
+		responseObserver.onNext(productProto);
+		responseObserver.onCompleted();
+	}
+
+	private ProductProto findProduct(Long id) {
+
+		return Optional.ofNullable(id)
 				.flatMap(productServiceAdapter::findById)
 				.map(productMapper::fromDtoToProto)
-				.map(item -> {
-					logger.info(GlobalConstants.MSG_PATTERN_INFO, GlobalConstants.PROD_CAT, item);
-					return item;
-				})
 				.orElseThrow(
 				() -> new EmptyResponseException(Map.of(GlobalConstants.PROD_CAT, GlobalConstants.MSG_NODATA)));
+	}
 
-		responseObserver.onNext(productProto);
+	private ProductProto parseProduct(byte[] payload) {
+
+		try {
+			return ProductProto.parseFrom(payload);
+		} catch (InvalidProtocolBufferException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	@Override
+	public void getProductStats(GetProductRequest request, StreamObserver<ProductStatsProto> responseObserver) {
+
+		logger.info(GlobalConstants.MSG_PATTERN_INFO, GlobalConstants.STATS_PROD, request);
+
+		requestValidator.validateGetRequest(request);
+
+		ProductStatsProto statsProto = Optional.ofNullable(request.getProductId())
+				.flatMap(productServiceAdapter::findStats)
+				.map(productMapper::fromStatsDtoToProto)
+				.orElseThrow(
+				() -> new EmptyResponseException(Map.of(GlobalConstants.PROD_STATS, GlobalConstants.MSG_NODATA)));
+
+		responseObserver.onNext(statsProto);
 		responseObserver.onCompleted();
 	}
 
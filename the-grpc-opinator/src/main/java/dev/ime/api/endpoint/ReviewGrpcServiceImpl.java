@@ -1,5 +1,7 @@
 package dev.ime.api.endpoint;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -8,18 +10,27 @@ import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 
 import com.google.protobuf.Empty;
+import com.google.protobuf.InvalidProtocolBufferException;
 
 import dev.ime.api.validation.ReviewRequestValidator;
 import dev.ime.application.dto.PaginationDto;
 import dev.ime.application.dto.ReviewDto;
+import dev.ime.application.exception.BasicException;
 import dev.ime.application.exception.EmptyResponseException;
+import dev.ime.application.exception.ValidationException;
+import dev.ime.application.utils.PageToken;
 import dev.ime.common.constants.GlobalConstants;
 import dev.ime.common.mapper.ReviewMapper;
-import dev.ime.domain.port.inbound.GenericServicePort;
+import dev.ime.domain.model.BulkOutcome;
+import dev.ime.domain.port.inbound.ReviewServicePort;
+import dev.ime.domain.port.outbound.ResponseCachePort;
 import dev.proto.CreateReviewRequest;
+import dev.proto.CreateReviewResult;
+import dev.proto.CreateReviewsResponse;
 import dev.proto.DeleteReviewRequest;
 import dev.proto.DeleteReviewResponse;
 import dev.proto.GetReviewRequest;
@@ -27,6 +38,9 @@ import dev.proto.ListReviewsResponse;
 import dev.proto.PaginationRequest;
 import dev.proto.ReviewGrpcServiceGrpc;
 import dev.proto.ReviewProto;
+import dev.proto.ReviewStatsProto;
+import dev.proto.SearchRequest;
+import dev.proto.SearchReviewsResponse;
 import dev.proto.UpdateReviewRequest;
 import io.grpc.stub.StreamObserver;
 import net.devh.boot.grpc.server.service.GrpcService;
@@ -34,17 +48,20 @@ import net.devh.boot.grpc.server.service.GrpcService;
 @GrpcService
 public class ReviewGrpcServiceImpl extends ReviewGrpcServiceGrpc.ReviewGrpcServiceImplBase{
 
-	private final GenericServicePort<ReviewDto> reviewServiceAdapter;
+	private final ReviewServicePort reviewServiceAdapter;
 	private final ReviewMapper reviewMapper;
 	private final ReviewRequestValidator requestValidator;
+	private final ResponseCachePort responseCacheAdapter;
 	private static final Logger logger = LoggerFactory.getLogger(ReviewGrpcServiceImpl.class);
+	private static final Set<String> SORT_ATTRS = Set.of(GlobalConstants.REV_ID, GlobalConstants.USER_EMAIL, GlobalConstants.REV_TXT, GlobalConstants.REV_RAT);
 	
-	public ReviewGrpcServiceImpl(GenericServicePort<ReviewDto> reviewServiceAdapter, ReviewMapper reviewMapper,
-			ReviewRequestValidator reviewRequestValidator) {
+	public ReviewGrpcServiceImpl(ReviewServicePort reviewServiceAdapter, ReviewMapper reviewMapper,
+			ReviewRequestValidator reviewRequestValidator, ResponseCachePort responseCacheAdapter) {
 		super();
 		this.reviewServiceAdapter = reviewServiceAdapter;
 		this.reviewMapper = reviewMapper;
 		this.requestValidator = reviewRequestValidator;
+		this.responseCacheAdapter = responseCacheAdapter;
 	}
 
 	@Override
@@ -68,6 +85,69 @@ public class ReviewGrpcServiceImpl extends ReviewGrpcServiceGrpc.ReviewGrpcServi
 		responseObserver.onCompleted();
 	}
 
+	@Override
+	public StreamObserver<CreateReviewRequest> createReviews(StreamObserver<CreateReviewsResponse> responseObserver) {
+
+		return new ChunkedRequestReader<>(GlobalConstants.BULK_CHUNK_SIZE, this::createReviewChunk, responseObserver);
+	}
+
+	/**
+	 * invalid messages are answered right away, the rest of the chunk is stored in one transaction.
+	 * a failure of that transaction rejects every message it carried
+	 */
+	private CreateReviewsResponse createReviewChunk(int offset, List<CreateReviewRequest> requests) {
+
+		CreateReviewResult[] results = new CreateReviewResult[requests.size()];
+		List<Integer> positions = new ArrayList<>();
+		List<ReviewDto> dtos = new ArrayList<>();
+		for (int i = 0; i < requests.size(); i++) {
+			try {
+				requestValidator.validateCreateRequest(requests.get(i));
+				positions.add(i);
+				dtos.add(reviewMapper.fromCreateToDto(requests.get(i)));
+			} catch (BasicException e) {
+				results[i] = createReviewRejection(offset + i, e.getName());
+			}
+		}
+
+		List<BulkOutcome<ReviewDto>> outcomes = saveReviewChunk(dtos);
+		for (int i = 0; i < positions.size(); i++) {
+			int position = positions.get(i);
+			BulkOutcome<ReviewDto> outcome = outcomes.get(i);
+			results[position] = outcome.isCreated()
+					? CreateReviewResult.newBuilder().setIndex(offset + position).setReview(reviewMapper.fromDtoToProto(outcome.item())).build()
+					: createReviewRejection(offset + position, outcome.error());
+		}
+
+		CreateReviewsResponse response = CreateReviewsResponse.newBuilder()
+				.addAllResults(List.of(results))
+				.setCreatedCount((int) Arrays.stream(results).filter(CreateReviewResult::hasReview).count())
+				.build();
+		logger.info(GlobalConstants.MSG_PATTERN_INFO, GlobalConstants.BULK_REV, response.getCreatedCount() + "/" + results.length);
+
+		return response;
+	}
+
+	private List<BulkOutcome<ReviewDto>> saveReviewChunk(List<ReviewDto> dtos) {
+
+		if (dtos.isEmpty()) {
+			return List.of();
+		}
+
+		try {
+			return reviewServiceAdapter.saveAll(dtos);
+		} catch (BasicException e) {
+			return dtos.stream().map(dto -> BulkOutcome.<ReviewDto>rejected(e.getName())).toList();
+		} catch (RuntimeException e) {
+			logger.error(GlobalConstants.MSG_PATTERN_SEVERE, GlobalConstants.BULK_REV, e.getMessage());
+			return dtos.stream().map(dto -> BulkOutcome.<ReviewDto>rejected(e.getClass().getSimpleName())).toList();
+		}
+	}
+
+	private CreateReviewResult createReviewRejection(int index, String error) {
+		return CreateReviewResult.newBuilder().setIndex(index).setError(error).build();
+	}
+
 	@Override
 	public void updateReview(UpdateReviewRequest request, StreamObserver<ReviewProto> responseObserver) {
 
@@ -75,6 +155,7 @@ public class ReviewGrpcServiceImpl extends ReviewGrpcServiceGrpc.ReviewGrpcServi
 		requestValidator.validateUpdateRequest(request);
 		ReviewDto dto = reviewMapper.fromUpdateToDto(request);
 		Optional<ReviewDto> opt = reviewServiceAdapter.update(dto);
+		responseCacheAdapter.evict(GlobalConstants.REV_CAT, dto.reviewId());
 		ReviewProto reviewProto = opt.map(reviewMapper::fromDtoToProto).orElseThrow(
 				() -> new EmptyResponseException(Map.of(GlobalConstants.REV_CAT, GlobalConstants.MSG_NODATA)));
 		logger.info(GlobalConstants.MSG_PATTERN_INFO, GlobalConstants.REV_UPDATED, reviewProto);
@@ -92,6 +173,10 @@ public class ReviewGrpcServiceImpl extends ReviewGrpcServiceGrpc.ReviewGrpcServi
 		
 		DeleteReviewResponse deleteReviewResponse = Optional.ofNullable(request.getReviewId())
 				.map(reviewServiceAdapter::deleteById)
+				.map(b -> {
+					responseCacheAdapter.evict(GlobalConstants.REV_CAT, request.getReviewId());
+					return b;
+				})
 				.map(b -> DeleteReviewResponse.newBuilder().setSuccess(b).build())
 				.map(item -> {
 					logger.info(GlobalConstants.MSG_PATTERN_INFO, GlobalConstants.REV_DELETED, item);
@@ -113,15 +198,33 @@ public class ReviewGrpcServiceImpl extends ReviewGrpcServiceGrpc.ReviewGrpcServi
 		responseObserver.onCompleted();
 	}
 
+	@Override
+	public void streamReviews(Empty request, StreamObserver<ReviewProto> responseObserver) {
+
+		logger.info(GlobalConstants.MSG_PATTERN_INFO, GlobalConstants.STREAM_REV, request);
+
+		FlowControlledStreamWriter<ReviewProto> streamWriter = new FlowControlledStreamWriter<>(responseObserver);
+		reviewServiceAdapter.streamAll(dto -> streamWriter.write(reviewMapper.fromDtoToProto(dto)));
+
+		responseObserver.onCompleted();
+	}
+
 	@Override
 	public void listReviewsPaginated(PaginationRequest request, StreamObserver<ListReviewsResponse> responseObserver) {
 
 		logger.info(GlobalConstants.MSG_PATTERN_INFO, request.getClass().getSimpleName(), request);
 		
-		PaginationDto paginationDto = createPaginationDto(request);
+		Optional<PageToken> pageToken = PageToken.decode(request.getPageToken(), SORT_ATTRS);
+		PaginationDto requestPagination = createPaginationDto(request);
+		PaginationDto paginationDto = pageToken.map(token -> token.applyTo(requestPagination)).orElse(requestPagination);
 		PageRequest pageRequest = createPageable(paginationDto);
-		List<ReviewProto> protoList = reviewMapper.fromListDtoToListProto(reviewServiceAdapter.findAll(pageRequest));
-		ListReviewsResponse listResponse = ListReviewsResponse.newBuilder().addAllReviews(protoList).build();
+		List<ReviewDto> dtoList = pageToken
+				.map(token -> reviewServiceAdapter.findAll(pageRequest, token.toCursor()))
+				.orElseGet(() -> reviewServiceAdapter.findAll(pageRequest));
+		List<ReviewProto> protoList = reviewMapper.fromListDtoToListProto(dtoList);
+		ListReviewsResponse listResponse = ListReviewsResponse.newBuilder().addAllReviews(protoList)
+				.setNextPageToken(createNextPageToken(dtoList, paginationDto))
+				.build();
 
 		responseObserver.onNext(listResponse);
 		responseObserver.onCompleted();
@@ -129,10 +232,9 @@ public class ReviewGrpcServiceImpl extends ReviewGrpcServiceGrpc.ReviewGrpcServi
 
 	private PaginationDto createPaginationDto(PaginationRequest request) {
 		
-		Set<String> attrsSet = Set.of(GlobalConstants.REV_ID,GlobalConstants.USER_EMAIL,GlobalConstants.REV_TXT, GlobalConstants.REV_RAT);
 		Integer page = Optional.ofNullable(request.getPage()).filter( i -> i >= 0).orElse(0);
     	Integer size = Optional.ofNullable(request.getSize()).filter( i -> i > 0).orElse(100);
-        String sortBy = Optional.ofNullable(request.getSortBy()).filter(attrsSet::contains).orElse(GlobalConstants.REV_ID);
+        String sortBy = Optional.ofNullable(request.getSortBy()).filter(SORT_ATTRS::contains).orElse(GlobalConstants.REV_ID);
         String sortDir = Optional.ofNullable(request.getSortDir())
         		.map(String::toUpperCase)
         		.filter( sorting -> sorting.equals(GlobalConstants.PS_A) || sorting.equals(GlobalConstants.PS_D))
@@ -143,26 +245,99 @@ public class ReviewGrpcServiceImpl extends ReviewGrpcServiceGrpc.ReviewGrpcServi
 	
 	private PageRequest createPageable(PaginationDto paginationDto) {
 
-		Sort sort = Sort.by(Sort.Direction.fromString(paginationDto.sortDir()), paginationDto.sortBy());
+		Sort.Direction direction = Sort.Direction.fromString(paginationDto.sortDir());
+		Sort sort = Sort.by(direction, paginationDto.sortBy());
+		if (!paginationDto.sortBy().equals(GlobalConstants.REV_ID)) {
+			sort = sort.and(Sort.by(direction, GlobalConstants.REV_ID));
+		}
 		return PageRequest.of(paginationDto.page(), paginationDto.size(), sort);
 	}
 
+	private String createNextPageToken(List<ReviewDto> dtoList, PaginationDto paginationDto) {
+
+		return PageToken.next(dtoList, paginationDto, dto -> switch (paginationDto.sortBy()) {
+			case GlobalConstants.USER_EMAIL -> dto.email();
+			case GlobalConstants.REV_TXT -> dto.reviewText();
+			case GlobalConstants.REV_RAT -> dto.rating();
+			default -> dto.reviewId();
+		}, ReviewDto::reviewId);
+	}
+
+	@Override
+	public void searchReviews(SearchRequest request, StreamObserver<SearchReviewsResponse> responseObserver) {
+
+		logger.info(GlobalConstants.MSG_PATTERN_INFO, GlobalConstants.SEARCH_REV, request);
+		requestValidator.validateSearchRequest(request);
+
+		Slice<ReviewDto> slice = reviewServiceAdapter.search(request.getQuery().strip(), createSearchPageable(request));
+		SearchReviewsResponse response = SearchReviewsResponse.newBuilder()
+				.addAllReviews(reviewMapper.fromListDtoToListProto(slice.getContent()))
+				.setHasNext(slice.hasNext())
+				.build();
+
+		responseObserver.onNext(response);
+		responseObserver.onCompleted();
+	}
+
+	/**
+	 * search pages only reach into the first SEARCH_MAX_RESULTS matches, a page past them is rejected
+	 */
+	private PageRequest createSearchPageable(SearchRequest request) {
+
+		int page = Math.max(request.getPage(), 0);
+		int size = request.getSize() > 0 ? Math.min(request.getSize(), GlobalConstants.SEARCH_MAX_SIZE) : GlobalConstants.SEARCH_MAX_SIZE;
+		if ((long) page * size >= GlobalConstants.SEARCH_MAX_RESULTS) {
+			throw new ValidationException(Map.of(GlobalConstants.PS_PAGE, String.valueOf(request.getPage())));
+		}
+		return PageRequest.of(page, size);
+	}
+
 	@Override
 	public void getReview(GetReviewRequest request, StreamObserver<ReviewProto> responseObserver) {
 
 		requestValidator.validateGetRequest(request);
-		
-		ReviewProto reviewProto = Optional.ofNullable(request.getReviewId())
+
+		byte[] payload = responseCacheAdapter.getOrLoad(GlobalConstants.REV_CAT, request.getReviewId(),
+				() -> findReview(request.getReviewId()).toByteArray());
+		ReviewProto reviewProto = parseReview(payload);
+		logger.info(GlobalConstants.MSG_PATTERN_INFO, GlobalConstants.REV_CAT, reviewProto);
+
+		responseObserver.onNext(reviewProto);
+		responseObserver.onCompleted();
+	}
+
+	private ReviewProto findReview(Long id) {
+
+		return Optional.ofNullable(id)
 				.flatMap(reviewServiceAdapter::findById)
 				.map(reviewMapper::fromDtoToProto)
-				.map(item -> {
-					logger.info(GlobalConstants.MSG_PATTERN_INFO, GlobalConstants.REV_CAT, item);
-					return item;
-				})
 				.orElseThrow(
 				() -> new EmptyResponseException(Map.of(GlobalConstants.REV_CAT, GlobalConstants.MSG_NODATA)));
+	}
 
-		responseObserver.onNext(reviewProto);
+	private ReviewProto parseReview(byte[] payload) {
+
+		try {
+			return ReviewProto.parseFrom(payload);
+		} catch (InvalidProtocolBufferException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	@Override
+	public void getReviewStats(GetReviewRequest request, StreamObserver<ReviewStatsProto> responseObserver) {
+
+		logger.info(GlobalConstants.MSG_PATTERN_INFO, GlobalConstants.STATS_REV, request);
+
+		requestValidator.validateGetRequest(request);
+
+		ReviewStatsProto statsProto = Optional.ofNullable(request.getReviewId())
+				.flatMap(reviewServiceAdapter::findStats)
+				.map(reviewMapper::fromStatsDtoToProto)
+				.orElseThrow(
+				() -> new EmptyResponseException(Map.of(GlobalConstants.REV_STATS, GlobalConstants.MSG_NODATA)));
+
+		responseObserver.onNext(statsProto);
 		responseObserver.onCompleted();
 	}
 
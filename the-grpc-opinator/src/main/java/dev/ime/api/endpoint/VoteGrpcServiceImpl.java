@@ -1,5 +1,7 @@
 package dev.ime.api.endpoint;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -15,11 +17,16 @@ import com.google.protobuf.Empty;
 import dev.ime.api.validation.VoteRequestValidator;
 import dev.ime.application.dto.PaginationDto;
 import dev.ime.application.dto.VoteDto;
+import dev.ime.application.exception.BasicException;
 import dev.ime.application.exception.EmptyResponseException;
+import dev.ime.application.utils.PageToken;
 import dev.ime.common.constants.GlobalConstants;
 import dev.ime.common.mapper.VoteMapper;
-import dev.ime.domain.port.inbound.GenericServicePort;
+import dev.ime.domain.model.BulkOutcome;
+import dev.ime.domain.port.inbound.VoteServicePort;
 import dev.proto.CreateVoteRequest;
+import dev.proto.CreateVoteResult;
+import dev.proto.CreateVotesResponse;
 import dev.proto.DeleteVoteRequest;
 import dev.proto.DeleteVoteResponse;
 import dev.proto.GetVoteRequest;
@@ -34,12 +41,13 @@ import net.devh.boot.grpc.server.service.GrpcService;
 @GrpcService
 public class VoteGrpcServiceImpl extends VoteGrpcServiceGrpc.VoteGrpcServiceImplBase{
 
-	private final GenericServicePort<VoteDto> voteServiceAdapter;
+	private final VoteServicePort voteServiceAdapter;
 	private final VoteMapper voteMapper;
 	private final VoteRequestValidator requestValidator;
 	private static final Logger logger = LoggerFactory.getLogger(VoteGrpcServiceImpl.class);
+	private static final Set<String> SORT_ATTRS = Set.of(GlobalConstants.VOT_ID, GlobalConstants.USER_EMAIL, GlobalConstants.VOT_US);
 	
-	public VoteGrpcServiceImpl(GenericServicePort<VoteDto> voteServiceAdapter, VoteMapper voteMapper,
+	public VoteGrpcServiceImpl(VoteServicePort voteServiceAdapter, VoteMapper voteMapper,
 			VoteRequestValidator requestValidator) {
 		super();
 		this.voteServiceAdapter = voteServiceAdapter;
@@ -68,6 +76,69 @@ public class VoteGrpcServiceImpl extends VoteGrpcServiceGrpc.VoteGrpcServiceImpl
 		responseObserver.onCompleted();
 	}
 
+	@Override
+	public StreamObserver<CreateVoteRequest> createVotes(StreamObserver<CreateVotesResponse> responseObserver) {
+
+		return new ChunkedRequestReader<>(GlobalConstants.BULK_CHUNK_SIZE, this::createVoteChunk, responseObserver);
+	}
+
+	/**
+	 * invalid messages are answered right away, the rest of the chunk is stored in one transaction.
+	 * a failure of that transaction rejects every message it carried
+	 */
+	private CreateVotesResponse createVoteChunk(int offset, List<CreateVoteRequest> requests) {
+
+		CreateVoteResult[] results = new CreateVoteResult[requests.size()];
+		List<Integer> positions = new ArrayList<>();
+		List<VoteDto> dtos = new ArrayList<>();
+		for (int i = 0; i < requests.size(); i++) {
+			try {
+				requestValidator.validateCreateRequest(requests.get(i));
+				positions.add(i);
+				dtos.add(voteMapper.fromCreateToDto(requests.get(i)));
+			} catch (BasicException e) {
+				results[i] = createVoteRejection(offset + i, e.getName());
+			}
+		}
+
+		List<BulkOutcome<VoteDto>> outcomes = saveVoteChunk(dtos);
+		for (int i = 0; i < positions.size(); i++) {
+			int position = positions.get(i);
+			BulkOutcome<VoteDto> outcome = outcomes.get(i);
+			results[position] = outcome.isCreated()
+					? CreateVoteResult.newBuilder().setIndex(offset + position).setVote(voteMapper.fromDtoToProto(outcome.item())).build()
+					: createVoteRejection(offset + position, outcome.error());
+		}
+
+		CreateVotesResponse response = CreateVotesResponse.newBuilder()
+				.addAllResults(List.of(results))
+				.setCreatedCount((int) Arrays.stream(results).filter(CreateVoteResult::hasVote).count())
+				.build();
+		logger.info(GlobalConstants.MSG_PATTERN_INFO, GlobalConstants.BULK_VOT, response.getCreatedCount() + "/" + results.length);
+
+		return response;
+	}
+
+	private List<BulkOutcome<VoteDto>> saveVoteChunk(List<VoteDto> dtos) {
+
+		if (dtos.isEmpty()) {
+			return List.of();
+		}
+
+		try {
+			return voteServiceAdapter.saveAll(dtos);
+		} catch (BasicException e) {
+			return dtos.stream().map(dto -> BulkOutcome.<VoteDto>rejected(e.getName())).toList();
+		} catch (RuntimeException e) {
+			logger.error(GlobalConstants.MSG_PATTERN_SEVERE, GlobalConstants.BULK_VOT, e.getMessage());
+			return dtos.stream().map(dto -> BulkOutcome.<VoteDto>rejected(e.getClass().getSimpleName())).toList();
+		}
+	}
+
+	private CreateVoteResult createVoteRejection(int index, String error) {
+		return CreateVoteResult.newBuilder().setIndex(index).setError(error).build();
+	}
+
 	@Override
 	public void updateVote(UpdateVoteRequest request, StreamObserver<VoteProto> responseObserver) {
 
@@ -113,15 +184,33 @@ public class VoteGrpcServiceImpl extends VoteGrpcServiceGrpc.VoteGrpcServiceImpl
 		responseObserver.onCompleted();
 	}
 
+	@Override
+	public void streamVotes(Empty request, StreamObserver<VoteProto> responseObserver) {
+
+		logger.info(GlobalConstants.MSG_PATTERN_INFO, GlobalConstants.STREAM_VOT, request);
+
+		FlowControlledStreamWriter<VoteProto> streamWriter = new FlowControlledStreamWriter<>(responseObserver);
+		voteServiceAdapter.streamAll(dto -> streamWriter.write(voteMapper.fromDtoToProto(dto)));
+
+		responseObserver.onCompleted();
+	}
+
 	@Override
 	public void listVotesPaginated(PaginationRequest request, StreamObserver<ListVotesResponse> responseObserver) {
 
 		logger.info(GlobalConstants.MSG_PATTERN_INFO, request.getClass().getSimpleName(), request);
 		
-		PaginationDto paginationDto = createPaginationDto(request);
+		Optional<PageToken> pageToken = PageToken.decode(request.getPageToken(), SORT_ATTRS);
+		PaginationDto requestPagination = createPaginationDto(request);
+		PaginationDto paginationDto = pageToken.map(token -> token.applyTo(requestPagination)).orElse(requestPagination);
 		PageRequest pageRequest = createPageable(paginationDto);
-		List<VoteProto> protoList = voteMapper.fromListDtoToListProto(voteServiceAdapter.findAll(pageRequest));
-		ListVotesResponse listResponse = ListVotesResponse.newBuilder().addAllVotes(protoList).build();
+		List<VoteDto> dtoList = pageToken
+				.map(token -> voteServiceAdapter.findAll(pageRequest, token.toCursor()))
+				.orElseGet(() -> voteServiceAdapter.findAll(pageRequest));
+		List<VoteProto> protoList = voteMapper.fromListDtoToListProto(dtoList);
+		ListVotesResponse listResponse = ListVotesResponse.newBuilder().addAllVotes(protoList)
+				.setNextPageToken(createNextPageToken(dtoList, paginationDto))
+				.build();
 
 		responseObserver.onNext(listResponse);
 		responseObserver.onCompleted();
@@ -129,10 +218,9 @@ public class VoteGrpcServiceImpl extends VoteGrpcServiceGrpc.VoteGrpcServiceImpl
 
 	private PaginationDto createPaginationDto(PaginationRequest request) {
 		
-		Set<String> attrsSet = Set.of(GlobalConstants.VOT_ID,GlobalConstants.USER_EMAIL,GlobalConstants.VOT_US);
 		Integer page = Optional.ofNullable(request.getPage()).filter( i -> i >= 0).orElse(0);
     	Integer size = Optional.ofNullable(request.getSize()).filter( i -> i > 0).orElse(100);
-        String sortBy = Optional.ofNullable(request.getSortBy()).filter(attrsSet::contains).orElse(GlobalConstants.VOT_ID);
+        String sortBy = Optional.ofNullable(request.getSortBy()).filter(SORT_ATTRS::contains).orElse(GlobalConstants.VOT_ID);
         String sortDir = Optional.ofNullable(request.getSortDir())
         		.map(String::toUpperCase)
         		.filter( sorting -> sorting.equals(GlobalConstants.PS_A) || sorting.equals(GlobalConstants.PS_D))
@@ -143,10 +231,23 @@ public class VoteGrpcServiceImpl extends VoteGrpcServiceGrpc.VoteGrpcServiceImpl
 	
 	private PageRequest createPageable(PaginationDto paginationDto) {
 
-		Sort sort = Sort.by(Sort.Direction.fromString(paginationDto.sortDir()), paginationDto.sortBy());
+		Sort.Direction direction = Sort.Direction.fromString(paginationDto.sortDir());
+		Sort sort = Sort.by(direction, paginationDto.sortBy());
+		if (!paginationDto.sortBy().equals(GlobalConstants.VOT_ID)) {
+			sort = sort.and(Sort.by(direction, GlobalConstants.VOT_ID));
+		}
 		return PageRequest.of(paginationDto.page(), paginationDto.size(), sort);
 	}
 
+	private String createNextPageToken(List<VoteDto> dtoList, PaginationDto paginationDto) {
+
+		return PageToken.next(dtoList, paginationDto, dto -> switch (paginationDto.sortBy()) {
+			case GlobalConstants.USER_EMAIL -> dto.email();
+			case GlobalConstants.VOT_US -> dto.useful();
+			default -> dto.voteId();
+		}, VoteDto::voteId);
+	}
+
 	@Override
 	public void getVote(GetVoteRequest request, StreamObserver<VoteProto> responseObserver) {
 
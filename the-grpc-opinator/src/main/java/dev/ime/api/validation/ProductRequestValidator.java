@@ -17,6 +17,7 @@ import dev.ime.common.constants.GlobalConstants;
 import dev.proto.CreateProductRequest;
 import dev.proto.DeleteProductRequest;
 import dev.proto.GetProductRequest;
+import dev.proto.SearchRequest;
 import dev.proto.UpdateProductRequest;
 
 @Component
@@ -30,6 +31,7 @@ public class ProductRequestValidator {
         FIELD_DESCRIPTOR_MAP.put(UpdateProductRequest.class, UpdateProductRequest.getDescriptor()::findFieldByName);
         FIELD_DESCRIPTOR_MAP.put(DeleteProductRequest.class, DeleteProductRequest.getDescriptor()::findFieldByName);
         FIELD_DESCRIPTOR_MAP.put(GetProductRequest.class, GetProductRequest.getDescriptor()::findFieldByName);
+        FIELD_DESCRIPTOR_MAP.put(SearchRequest.class, SearchRequest.getDescriptor()::findFieldByName);
    }
 
 	public void validateCreateRequest(CreateProductRequest request) {
@@ -61,6 +63,12 @@ public class ProductRequestValidator {
 		
 	}
 
+	public void validateSearchRequest(SearchRequest request) {
+		
+		checkString(request, GlobalConstants.PS_QUERY, GlobalConstants.PATTERN_SEARCH);
+		
+	}
+
 	private void checkIdField(Long value, String field) {
 		
 		if ( value == null || value <= 0 ) {
@@ -17,6 +17,7 @@ import dev.ime.common.constants.GlobalConstants;
 import dev.proto.CreateReviewRequest;
 import dev.proto.DeleteReviewRequest;
 import dev.proto.GetReviewRequest;
+import dev.proto.SearchRequest;
 import dev.proto.UpdateReviewRequest;
 
 @Component
@@ -30,6 +31,7 @@ public class ReviewRequestValidator {
         FIELD_DESCRIPTOR_MAP.put(UpdateReviewRequest.class, UpdateReviewRequest.getDescriptor()::findFieldByName);
         FIELD_DESCRIPTOR_MAP.put(DeleteReviewRequest.class, DeleteReviewRequest.getDescriptor()::findFieldByName);
         FIELD_DESCRIPTOR_MAP.put(GetReviewRequest.class, GetReviewRequest.getDescriptor()::findFieldByName);
+        FIELD_DESCRIPTOR_MAP.put(SearchRequest.class, SearchRequest.getDescriptor()::findFieldByName);
     }
 	
 	public void validateCreateRequest(CreateReviewRequest request) {
@@ -59,6 +61,12 @@ public class ReviewRequestValidator {
 		
 	}
 
+	public void validateSearchRequest(SearchRequest request) {
+		
+		checkString(request, GlobalConstants.PS_QUERY, GlobalConstants.PATTERN_SEARCH);
+		
+	}
+
 	private void checkIdField(Long value, String field) {
 		
 		if ( value == null || value <= 0 ) {
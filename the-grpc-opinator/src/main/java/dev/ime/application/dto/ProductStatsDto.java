@@ -0,0 +1,12 @@
+package dev.ime.application.dto;
+
+import java.util.Map;
+
+public record ProductStatsDto(
+		Long productId,
+		long reviewCount,
+		double averageRating,
+		Map<Integer, Long> ratingHistogram
+	    ) {
+
+}
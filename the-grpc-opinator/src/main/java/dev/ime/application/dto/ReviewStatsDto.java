@@ -0,0 +1,9 @@
+package dev.ime.application.dto;
+
+public record ReviewStatsDto(
+		Long reviewId,
+		long usefulCount,
+		long notUsefulCount
+	    ) {
+
+}
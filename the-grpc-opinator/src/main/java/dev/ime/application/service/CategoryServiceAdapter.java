@@ -7,29 +7,35 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import dev.ime.application.dto.CategoryDto;
 import dev.ime.common.constants.GlobalConstants;
 import dev.ime.common.mapper.CategoryMapper;
 import dev.ime.common.mapper.EventMapper;
 import dev.ime.domain.model.Category;
+import dev.ime.domain.model.PageCursor;
 import dev.ime.domain.port.inbound.GenericServicePort;
 import dev.ime.domain.port.outbound.GenericRepositoryPort;
 import dev.ime.domain.port.outbound.PublisherPort;
+import dev.ime.domain.port.outbound.QueryRepositoryPort;
 
 @Service
 public class CategoryServiceAdapter implements GenericServicePort<CategoryDto>{
 
 	private final GenericRepositoryPort<Category> categoryRepositoryAdapter;
+	private final QueryRepositoryPort<CategoryDto> categoryQueryRepositoryAdapter;
 	private final CategoryMapper categoryMapper;
 	private final EventMapper eventMapper;
 	private final PublisherPort publisherAdapter;
 	private static final Logger logger = LoggerFactory.getLogger(CategoryServiceAdapter.class);
 
 	public CategoryServiceAdapter(GenericRepositoryPort<Category> categoryRepositoryAdapter,
+			QueryRepositoryPort<CategoryDto> categoryQueryRepositoryAdapter,
 			CategoryMapper categoryMapper, EventMapper eventMapper, PublisherPort publisherAdapter) {
 		super();
 		this.categoryRepositoryAdapter = categoryRepositoryAdapter;
+		this.categoryQueryRepositoryAdapter = categoryQueryRepositoryAdapter;
 		this.categoryMapper = categoryMapper;
 		this.eventMapper = eventMapper;
 		this.publisherAdapter = publisherAdapter;
@@ -38,20 +44,25 @@ public class CategoryServiceAdapter implements GenericServicePort<CategoryDto>{
 	@Override
 	public List<CategoryDto> findAll() {
 		
-		return categoryMapper.fromListDomainToListDto(categoryRepositoryAdapter.findAll());
+		return categoryQueryRepositoryAdapter.findAll();
 	}
 
 	@Override
 	public List<CategoryDto> findAll(Pageable pageable) {
 		
-		return categoryMapper.fromListDomainToListDto(categoryRepositoryAdapter.findAll(pageable));
+		return categoryQueryRepositoryAdapter.findAll(pageable);
+	}
+
+	@Override
+	public List<CategoryDto> findAll(Pageable pageable, PageCursor cursor) {
+		
+		return categoryQueryRepositoryAdapter.findAll(pageable, cursor);
 	}
 
 	@Override
 	public Optional<CategoryDto> findById(Long id) {
 		
-		return categoryRepositoryAdapter.findById(id)
-				.map(categoryMapper::fromDomainToDto)
+		return categoryQueryRepositoryAdapter.findById(id)
 		        .map(item -> {
 		            logger.info(GlobalConstants.MSG_PATTERN_INFO, GlobalConstants.CAT_CAT, item);
 		            return item;
@@ -59,6 +70,7 @@ public class CategoryServiceAdapter implements GenericServicePort<CategoryDto>{
 	}
 
 	@Override
+	@Transactional("transactionManager")
 	public Optional<CategoryDto> save(CategoryDto dto) {
 
 		return  Optional.of(dto)
@@ -76,6 +88,7 @@ public class CategoryServiceAdapter implements GenericServicePort<CategoryDto>{
 	}
 
 	@Override
+	@Transactional("transactionManager")
 	public Optional<CategoryDto> update(CategoryDto dto) {
 
 		return  Optional.of(dto)
@@ -93,6 +106,7 @@ public class CategoryServiceAdapter implements GenericServicePort<CategoryDto>{
 	}
 
 	@Override
+	@Transactional("transactionManager")
 	public boolean deleteById(Long id) {
 		
 		return Optional.of(categoryRepositoryAdapter.deleteById(id))
@@ -6,30 +6,41 @@ import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import dev.ime.application.dto.ProductDto;
+import dev.ime.application.dto.ProductStatsDto;
 import dev.ime.common.constants.GlobalConstants;
 import dev.ime.common.mapper.EventMapper;
 import dev.ime.common.mapper.ProductMapper;
+import dev.ime.domain.model.PageCursor;
 import dev.ime.domain.model.Product;
-import dev.ime.domain.port.inbound.GenericServicePort;
+import dev.ime.domain.port.inbound.ProductServicePort;
 import dev.ime.domain.port.outbound.GenericRepositoryPort;
 import dev.ime.domain.port.outbound.PublisherPort;
+import dev.ime.domain.port.outbound.SearchQueryRepositoryPort;
+import dev.ime.domain.port.outbound.StatsRepositoryPort;
 
 @Service
-public class ProductServiceAdapter implements GenericServicePort<ProductDto> {
+public class ProductServiceAdapter implements ProductServicePort {
 
 	private final GenericRepositoryPort<Product> productRepositoryAdapter;
+	private final SearchQueryRepositoryPort<ProductDto> productQueryRepositoryAdapter;
+	private final StatsRepositoryPort statsRepositoryAdapter;
 	private final ProductMapper productMapper;
 	private final EventMapper eventMapper;
 	private final PublisherPort publisherAdapter;
 	private static final Logger logger = LoggerFactory.getLogger(ProductServiceAdapter.class);
 
-	public ProductServiceAdapter(GenericRepositoryPort<Product> productRepositoryAdapter, ProductMapper productMapper,
-			EventMapper eventMapper, PublisherPort publisherAdapter) {
+	public ProductServiceAdapter(GenericRepositoryPort<Product> productRepositoryAdapter,
+			SearchQueryRepositoryPort<ProductDto> productQueryRepositoryAdapter, StatsRepositoryPort statsRepositoryAdapter,
+			ProductMapper productMapper, EventMapper eventMapper, PublisherPort publisherAdapter) {
 		super();
 		this.productRepositoryAdapter = productRepositoryAdapter;
+		this.productQueryRepositoryAdapter = productQueryRepositoryAdapter;
+		this.statsRepositoryAdapter = statsRepositoryAdapter;
 		this.productMapper = productMapper;
 		this.eventMapper = eventMapper;
 		this.publisherAdapter = publisherAdapter;
@@ -38,20 +49,31 @@ public class ProductServiceAdapter implements GenericServicePort<ProductDto> {
 	@Override
 	public List<ProductDto> findAll() {
 		
-		return productMapper.fromListDomainToListDto(productRepositoryAdapter.findAll());
+		return productQueryRepositoryAdapter.findAll();
 	}
 
 	@Override
 	public List<ProductDto> findAll(Pageable pageable) {
 		
-		return productMapper.fromListDomainToListDto(productRepositoryAdapter.findAll(pageable));
+		return productQueryRepositoryAdapter.findAll(pageable);
+	}
+
+	@Override
+	public List<ProductDto> findAll(Pageable pageable, PageCursor cursor) {
+		
+		return productQueryRepositoryAdapter.findAll(pageable, cursor);
+	}
+
+	@Override
+	public Slice<ProductDto> search(String text, Pageable pageable) {
+
+		return productQueryRepositoryAdapter.search(text, pageable);
 	}
 
 	@Override
 	public Optional<ProductDto> findById(Long id) {
 
-		return productRepositoryAdapter.findById(id)
-				.map(productMapper::fromDomainToDto)
+		return productQueryRepositoryAdapter.findById(id)
 		        .map(item -> {
 		            logger.info(GlobalConstants.MSG_PATTERN_INFO, GlobalConstants.PROD_CAT, item);
 		            return item;
@@ -59,6 +81,17 @@ public class ProductServiceAdapter implements GenericServicePort<ProductDto> {
 	}
 
 	@Override
+	public Optional<ProductStatsDto> findStats(Long productId) {
+
+		return statsRepositoryAdapter.findProductStats(productId)
+		        .map(item -> {
+		            logger.info(GlobalConstants.MSG_PATTERN_INFO, GlobalConstants.PROD_STATS, item);
+		            return item;
+		        });
+	}
+
+	@Override
+	@Transactional("transactionManager")
 	public Optional<ProductDto> save(ProductDto dto) {
 
 		return  Optional.of(dto)
@@ -76,6 +109,7 @@ public class ProductServiceAdapter implements GenericServicePort<ProductDto> {
 	}
 
 	@Override
+	@Transactional("transactionManager")
 	public Optional<ProductDto> update(ProductDto dto) {
 		
 		return  Optional.of(dto)
@@ -93,6 +127,7 @@ public class ProductServiceAdapter implements GenericServicePort<ProductDto> {
 	}
 
 	@Override
+	@Transactional("transactionManager")
 	public boolean deleteById(Long id) {
 
 		return Optional.of(productRepositoryAdapter.deleteById(id))
@@ -3,38 +3,52 @@ package dev.ime.application.service;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import dev.ime.application.dto.ReviewDto;
+import dev.ime.application.dto.ReviewStatsDto;
 import dev.ime.application.exception.ResourceNotFoundException;
 import dev.ime.common.constants.GlobalConstants;
 import dev.ime.common.mapper.EventMapper;
 import dev.ime.common.mapper.ReviewMapper;
+import dev.ime.domain.model.BulkOutcome;
+import dev.ime.domain.model.Event;
+import dev.ime.domain.model.PageCursor;
 import dev.ime.domain.model.Review;
 import dev.ime.domain.port.inbound.AuthorizationServicePort;
-import dev.ime.domain.port.inbound.GenericServicePort;
-import dev.ime.domain.port.outbound.GenericRepositoryPort;
+import dev.ime.domain.port.inbound.ReviewServicePort;
 import dev.ime.domain.port.outbound.PublisherPort;
+import dev.ime.domain.port.outbound.ReviewRepositoryPort;
+import dev.ime.domain.port.outbound.SearchQueryRepositoryPort;
+import dev.ime.domain.port.outbound.StatsRepositoryPort;
 
 @Service
-public class ReviewServiceAdapter implements GenericServicePort<ReviewDto> {
+public class ReviewServiceAdapter implements ReviewServicePort {
 
-	private final GenericRepositoryPort<Review> reviewRepositoryAdapter;
+	private final ReviewRepositoryPort reviewRepositoryAdapter;
+	private final SearchQueryRepositoryPort<ReviewDto> reviewQueryRepositoryAdapter;
+	private final StatsRepositoryPort statsRepositoryAdapter;
 	private final ReviewMapper reviewMapper;
 	private final EventMapper eventMapper;
 	private final AuthorizationServicePort authorizationServiceAdapter;
 	private final PublisherPort publisherAdapter;
 	private static final Logger logger = LoggerFactory.getLogger(ReviewServiceAdapter.class);
 
-	public ReviewServiceAdapter(GenericRepositoryPort<Review> reviewRepositoryAdapter, ReviewMapper reviewMapper,
-			EventMapper eventMapper, AuthorizationServicePort authorizationServiceAdapter,
+	public ReviewServiceAdapter(ReviewRepositoryPort reviewRepositoryAdapter,
+			SearchQueryRepositoryPort<ReviewDto> reviewQueryRepositoryAdapter, StatsRepositoryPort statsRepositoryAdapter,
+			ReviewMapper reviewMapper, EventMapper eventMapper, AuthorizationServicePort authorizationServiceAdapter,
 			PublisherPort publisherAdapter) {
 		super();
 		this.reviewRepositoryAdapter = reviewRepositoryAdapter;
+		this.reviewQueryRepositoryAdapter = reviewQueryRepositoryAdapter;
+		this.statsRepositoryAdapter = statsRepositoryAdapter;
 		this.reviewMapper = reviewMapper;
 		this.eventMapper = eventMapper;
 		this.authorizationServiceAdapter = authorizationServiceAdapter;
@@ -44,20 +58,37 @@ public class ReviewServiceAdapter implements GenericServicePort<ReviewDto> {
 	@Override
 	public List<ReviewDto> findAll() {
 		
-		return reviewMapper.fromListDomainToListDto(reviewRepositoryAdapter.findAll());
+		return reviewQueryRepositoryAdapter.findAll();
 	}
 
 	@Override
 	public List<ReviewDto> findAll(Pageable pageable) {
 		
-		return reviewMapper.fromListDomainToListDto(reviewRepositoryAdapter.findAll(pageable));
+		return reviewQueryRepositoryAdapter.findAll(pageable);
+	}
+
+	@Override
+	public List<ReviewDto> findAll(Pageable pageable, PageCursor cursor) {
+		
+		return reviewQueryRepositoryAdapter.findAll(pageable, cursor);
+	}
+
+	@Override
+	public Slice<ReviewDto> search(String text, Pageable pageable) {
+
+		return reviewQueryRepositoryAdapter.search(text, pageable);
+	}
+
+	@Override
+	public void streamAll(Consumer<ReviewDto> action) {
+		
+		reviewRepositoryAdapter.streamAll(dom -> action.accept(reviewMapper.fromDomainToDto(dom)));
 	}
 
 	@Override
 	public Optional<ReviewDto> findById(Long id) {
 
-		return reviewRepositoryAdapter.findById(id)
-				.map(reviewMapper::fromDomainToDto)
+		return reviewQueryRepositoryAdapter.findById(id)
 		        .map(item -> {
 		            logger.info(GlobalConstants.MSG_PATTERN_INFO, GlobalConstants.REV_CAT, item);
 		            return item;
@@ -65,6 +96,17 @@ public class ReviewServiceAdapter implements GenericServicePort<ReviewDto> {
 	}
 
 	@Override
+	public Optional<ReviewStatsDto> findStats(Long reviewId) {
+
+		return statsRepositoryAdapter.findReviewStats(reviewId)
+		        .map(item -> {
+		            logger.info(GlobalConstants.MSG_PATTERN_INFO, GlobalConstants.REV_STATS, item);
+		            return item;
+		        });
+	}
+
+	@Override
+	@Transactional("transactionManager")
 	public Optional<ReviewDto> save(ReviewDto dto) {
 		
 		return  Optional.of(dto)
@@ -85,7 +127,42 @@ public class ReviewServiceAdapter implements GenericServicePort<ReviewDto> {
 		        });
 	}
 
+	/**
+	 * the token is read once for the whole chunk, and the events of the stored items commit with them
+	 */
+	@Override
+	@Transactional("transactionManager")
+	public List<BulkOutcome<ReviewDto>> saveAll(List<ReviewDto> dtos) {
+
+		String email = authorizationServiceAdapter.getJwtTokenEmail();
+		List<Review> doms = dtos.stream()
+				.map(reviewMapper::fromDtoToDomain)
+				.map(dom -> {
+					dom.setEmail(email);
+					return dom;
+				})
+				.toList();
+
+		List<BulkOutcome<ReviewDto>> outcomes = reviewRepositoryAdapter.saveAll(doms).stream()
+				.map(outcome -> outcome.isCreated()
+						? BulkOutcome.created(reviewMapper.fromDomainToDto(outcome.item()))
+						: BulkOutcome.<ReviewDto>rejected(outcome.error()))
+				.toList();
+
+		List<Event> events = outcomes.stream()
+				.filter(BulkOutcome::isCreated)
+				.map(outcome -> eventMapper.createEvent(GlobalConstants.REV_CAT, GlobalConstants.REV_CREATED, outcome.item()))
+				.toList();
+		if (!events.isEmpty()) {
+			publisherAdapter.publishEvents(events);
+		}
+		logger.info(GlobalConstants.MSG_PATTERN_INFO, GlobalConstants.REV_CREATED, events.size() + "/" + dtos.size());
+
+		return outcomes;
+	}
+
 	@Override
+	@Transactional("transactionManager")
 	public Optional<ReviewDto> update(ReviewDto dto) {
 		
 		String mailDb = getOwnerEmail(dto.reviewId());
@@ -114,6 +191,7 @@ public class ReviewServiceAdapter implements GenericServicePort<ReviewDto> {
 	}
 
 	@Override
+	@Transactional("transactionManager")
 	public boolean deleteById(Long id) {
 
 		return Optional.of(id)
@@ -3,34 +3,39 @@ package dev.ime.application.service;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import dev.ime.application.dto.VoteDto;
 import dev.ime.application.exception.ResourceNotFoundException;
 import dev.ime.common.constants.GlobalConstants;
 import dev.ime.common.mapper.EventMapper;
 import dev.ime.common.mapper.VoteMapper;
+import dev.ime.domain.model.BulkOutcome;
+import dev.ime.domain.model.Event;
+import dev.ime.domain.model.PageCursor;
 import dev.ime.domain.model.Vote;
 import dev.ime.domain.port.inbound.AuthorizationServicePort;
-import dev.ime.domain.port.inbound.GenericServicePort;
-import dev.ime.domain.port.outbound.GenericRepositoryPort;
+import dev.ime.domain.port.inbound.VoteServicePort;
 import dev.ime.domain.port.outbound.PublisherPort;
+import dev.ime.domain.port.outbound.VoteRepositoryPort;
 
 @Service
-public class VoteServiceAdapter implements GenericServicePort<VoteDto> {
+public class VoteServiceAdapter implements VoteServicePort {
 
-	private final GenericRepositoryPort<Vote> voteRepositoryAdapter;
+	private final VoteRepositoryPort voteRepositoryAdapter;
 	private final VoteMapper voteMapper;
 	private final EventMapper eventMapper;
 	private final AuthorizationServicePort authorizationServiceAdapter;
 	private final PublisherPort publisherAdapter;
 	private static final Logger logger = LoggerFactory.getLogger(VoteServiceAdapter.class);
 
-	public VoteServiceAdapter(GenericRepositoryPort<Vote> voteRepositoryAdapter, VoteMapper voteMapper,
+	public VoteServiceAdapter(VoteRepositoryPort voteRepositoryAdapter, VoteMapper voteMapper,
 			EventMapper eventMapper, AuthorizationServicePort authorizationServiceAdapter,
 			PublisherPort publisherAdapter) {
 		super();
@@ -53,6 +58,18 @@ public class VoteServiceAdapter implements GenericServicePort<VoteDto> {
 		return voteMapper.fromListDomainToListDto(voteRepositoryAdapter.findAll(pageable));
 	}
 
+	@Override
+	public List<VoteDto> findAll(Pageable pageable, PageCursor cursor) {
+
+		return voteMapper.fromListDomainToListDto(voteRepositoryAdapter.findAll(pageable, cursor));
+	}
+
+	@Override
+	public void streamAll(Consumer<VoteDto> action) {
+		
+		voteRepositoryAdapter.streamAll(dom -> action.accept(voteMapper.fromDomainToDto(dom)));
+	}
+
 	@Override
 	public Optional<VoteDto> findById(Long id) {
 
@@ -65,6 +82,7 @@ public class VoteServiceAdapter implements GenericServicePort<VoteDto> {
 	}
 
 	@Override
+	@Transactional("transactionManager")
 	public Optional<VoteDto> save(VoteDto dto) {
 			
 		return  Optional.of(dto)
@@ -85,7 +103,42 @@ public class VoteServiceAdapter implements GenericServicePort<VoteDto> {
 		        });
 	}
 
+	/**
+	 * the token is read once for the whole chunk, and the events of the stored items commit with them
+	 */
+	@Override
+	@Transactional("transactionManager")
+	public List<BulkOutcome<VoteDto>> saveAll(List<VoteDto> dtos) {
+
+		String email = authorizationServiceAdapter.getJwtTokenEmail();
+		List<Vote> doms = dtos.stream()
+				.map(voteMapper::fromDtoToDomain)
+				.map(dom -> {
+					dom.setEmail(email);
+					return dom;
+				})
+				.toList();
+
+		List<BulkOutcome<VoteDto>> outcomes = voteRepositoryAdapter.saveAll(doms).stream()
+				.map(outcome -> outcome.isCreated()
+						? BulkOutcome.created(voteMapper.fromDomainToDto(outcome.item()))
+						: BulkOutcome.<VoteDto>rejected(outcome.error()))
+				.toList();
+
+		List<Event> events = outcomes.stream()
+				.filter(BulkOutcome::isCreated)
+				.map(outcome -> eventMapper.createEvent(GlobalConstants.VOT_CAT, GlobalConstants.VOT_CREATED, outcome.item()))
+				.toList();
+		if (!events.isEmpty()) {
+			publisherAdapter.publishEvents(events);
+		}
+		logger.info(GlobalConstants.MSG_PATTERN_INFO, GlobalConstants.VOT_CREATED, events.size() + "/" + dtos.size());
+
+		return outcomes;
+	}
+
 	@Override
+	@Transactional("transactionManager")
 	public Optional<VoteDto> update(VoteDto dto) {
 
 		String mailDb = getOwnerEmail(dto.voteId());
@@ -114,6 +167,7 @@ public class VoteServiceAdapter implements GenericServicePort<VoteDto> {
 	}
 
 	@Override
+	@Transactional("transactionManager")
 	public boolean deleteById(Long id) {
 		
 		return Optional.of(id)
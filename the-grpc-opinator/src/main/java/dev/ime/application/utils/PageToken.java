@@ -0,0 +1,109 @@
+package dev.ime.application.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import dev.ime.application.dto.PaginationDto;
+import dev.ime.application.exception.ValidationException;
+import dev.ime.common.constants.GlobalConstants;
+import dev.ime.domain.model.PageCursor;
+
+/**
+ * opaque keyset pagination token, carries the sorting and the last row of the previous page
+ */
+public record PageToken(String sortBy, String sortDir, Object sortValue, Long lastId) {
+
+	private static final String SEPARATOR = ";";
+	private static final int PARTS = 5;
+	private static final String TYPE_NULL = "N";
+	private static final String TYPE_LONG = "L";
+	private static final String TYPE_INTEGER = "I";
+	private static final String TYPE_BOOLEAN = "B";
+	private static final String TYPE_STRING = "S";
+
+	public String encode() {
+
+		String raw = String.join(SEPARATOR, sortBy, sortDir, String.valueOf(lastId), typeOf(sortValue),
+				sortValue == null ? "" : sortValue.toString());
+
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	public PaginationDto applyTo(PaginationDto paginationDto) {
+
+		return new PaginationDto(paginationDto.page(), paginationDto.size(), sortBy, sortDir);
+	}
+
+	public PageCursor toCursor() {
+
+		return new PageCursor(sortValue, lastId);
+	}
+
+	public static Optional<PageToken> decode(String token, Set<String> sortableAttrs) {
+
+		if (token == null || token.isBlank()) {
+			return Optional.empty();
+		}
+
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			String[] parts = raw.split(SEPARATOR, PARTS);
+			if (parts.length != PARTS || !sortableAttrs.contains(parts[0])
+					|| !(parts[1].equals(GlobalConstants.PS_A) || parts[1].equals(GlobalConstants.PS_D))) {
+				throw new IllegalArgumentException(token);
+			}
+
+			return Optional.of(new PageToken(parts[0], parts[1], parseValue(parts[3], parts[4]), Long.valueOf(parts[2])));
+		} catch (IllegalArgumentException e) {
+			throw new ValidationException(Map.of(GlobalConstants.PS_TOKEN, token));
+		}
+	}
+
+	/**
+	 * token pointing right after the last element of a full page, empty string once there is nothing left
+	 */
+	public static <T> String next(List<T> page, PaginationDto paginationDto, Function<T, Object> sortValueExtractor,
+			Function<T, Long> idExtractor) {
+
+		if (page.isEmpty() || page.size() < paginationDto.size()) {
+			return "";
+		}
+
+		T last = page.get(page.size() - 1);
+
+		return new PageToken(paginationDto.sortBy(), paginationDto.sortDir(), sortValueExtractor.apply(last),
+				idExtractor.apply(last)).encode();
+	}
+
+	private static String typeOf(Object value) {
+
+		if (value == null) {
+			return TYPE_NULL;
+		}
+
+		return switch (value) {
+		case Long l -> TYPE_LONG;
+		case Integer i -> TYPE_INTEGER;
+		case Boolean b -> TYPE_BOOLEAN;
+		default -> TYPE_STRING;
+		};
+	}
+
+	private static Object parseValue(String type, String value) {
+
+		return switch (type) {
+		case TYPE_NULL -> null;
+		case TYPE_LONG -> Long.valueOf(value);
+		case TYPE_INTEGER -> Integer.valueOf(value);
+		case TYPE_BOOLEAN -> Boolean.valueOf(value);
+		case TYPE_STRING -> value;
+		default -> throw new IllegalArgumentException(type);
+		};
+	}
+
+}
@@ -0,0 +1,82 @@
+package dev.ime.common.config;
+
+import java.time.Duration;
+import java.util.OptionalLong;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+import dev.ime.common.constants.GlobalConstants;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+
+@Configuration
+public class CacheConfig {
+
+	/**
+	 * caffeine backed jcache manager holding every second-level cache region, all of them bounded in size,
+	 * entity and query regions expire after write, the statistics of every region are bound to micrometer as cache.*
+	 * tagged with the region name
+	 * @param meterRegistry
+	 * @param entityMaxEntries
+	 * @param entityTtl
+	 * @param queryMaxEntries
+	 * @param queryTtl
+	 * @return CacheManager
+	 */
+	@Bean
+	CacheManager hibernateCacheManager(MeterRegistry meterRegistry,
+			@Value("${opinator.cache.entity.max-entries:10000}") long entityMaxEntries,
+			@Value("${opinator.cache.entity.ttl:10m}") Duration entityTtl,
+			@Value("${opinator.cache.query.max-entries:1000}") long queryMaxEntries,
+			@Value("${opinator.cache.query.ttl:5m}") Duration queryTtl) {
+
+		CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+		createRegion(cacheManager, GlobalConstants.CACHE_CAT, entityMaxEntries, entityTtl);
+		createRegion(cacheManager, GlobalConstants.CACHE_PROD, entityMaxEntries, entityTtl);
+		createRegion(cacheManager, GlobalConstants.CACHE_QUERY_CAT, queryMaxEntries, queryTtl);
+		createRegion(cacheManager, GlobalConstants.CACHE_QUERY_PROD, queryMaxEntries, queryTtl);
+		createRegion(cacheManager, RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, queryMaxEntries, queryTtl);
+		// update timestamps decide whether a cached query is stale, they must outlive every query region
+		createRegion(cacheManager, RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, entityMaxEntries, null);
+		cacheManager.getCacheNames().forEach(region -> JCacheMetrics.monitor(meterRegistry, cacheManager.getCache(region)));
+
+		return cacheManager;
+	}
+
+	private void createRegion(CacheManager cacheManager, String region, long maxEntries, Duration ttl) {
+
+		if (cacheManager.getCache(region) != null) {
+			return;
+		}
+
+		CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+		configuration.setMaximumSize(OptionalLong.of(maxEntries));
+		if (ttl != null) {
+			configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+		}
+		configuration.setStatisticsEnabled(true);
+		cacheManager.createCache(region, configuration);
+	}
+
+	/**
+	 * hands the prebuilt cache manager to the hibernate jcache region factory
+	 * @param hibernateCacheManager
+	 * @return HibernatePropertiesCustomizer
+	 */
+	@Bean
+	HibernatePropertiesCustomizer hibernateCacheCustomizer(CacheManager hibernateCacheManager) {
+		return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+	}
+
+}
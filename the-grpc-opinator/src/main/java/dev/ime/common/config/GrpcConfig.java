@@ -6,6 +6,7 @@ import java.util.List;
 import org.springframework.boot.autoconfigure.security.oauth2.resource.OAuth2ResourceServerProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 import org.springframework.security.access.AccessDecisionManager;
 import org.springframework.security.access.AccessDecisionVoter;
 import org.springframework.security.access.vote.UnanimousBased;
@@ -17,6 +18,7 @@ import org.springframework.security.oauth2.jwt.JwtDecoders;
 import org.springframework.security.oauth2.server.resource.authentication.BearerTokenAuthenticationToken;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationProvider;
 
+import dev.ime.common.constants.GlobalConstants;
 import dev.proto.ReviewGrpcServiceGrpc;
 import dev.proto.VoteGrpcServiceGrpc;
 import io.grpc.ServerInterceptor;
@@ -30,6 +32,7 @@ import net.devh.boot.grpc.server.security.interceptors.DefaultAuthenticatingServ
 import net.devh.boot.grpc.server.serverfactory.GrpcServerConfigurer;
 
 @Configuration
+@Profile("!" + GlobalConstants.PROFILE_REPLAY)
 public class GrpcConfig {
 
 	/**
@@ -104,9 +107,11 @@ public class GrpcConfig {
 	GrpcSecurityMetadataSource grpcSecurityMetadataSource() {
 	    final ManualGrpcSecurityMetadataSource source = new ManualGrpcSecurityMetadataSource();
 	    source.set(ReviewGrpcServiceGrpc.getCreateReviewMethod(), AccessPredicate.authenticated());
+	    source.set(ReviewGrpcServiceGrpc.getCreateReviewsMethod(), AccessPredicate.authenticated());
 	    source.set(ReviewGrpcServiceGrpc.getUpdateReviewMethod(), AccessPredicate.authenticated());
 	    source.set(ReviewGrpcServiceGrpc.getDeleteReviewMethod(), AccessPredicate.authenticated());
 	    source.set(VoteGrpcServiceGrpc.getCreateVoteMethod(), AccessPredicate.authenticated());
+	    source.set(VoteGrpcServiceGrpc.getCreateVotesMethod(), AccessPredicate.authenticated());
 	    source.set(VoteGrpcServiceGrpc.getUpdateVoteMethod(), AccessPredicate.authenticated());
 	    source.set(VoteGrpcServiceGrpc.getDeleteVoteMethod(), AccessPredicate.authenticated());
 	    source.setDefault(AccessPredicate.permitAll());
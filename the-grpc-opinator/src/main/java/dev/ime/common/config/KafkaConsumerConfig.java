@@ -0,0 +1,47 @@
+package dev.ime.common.config;
+
+import java.util.Properties;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+
+import dev.ime.common.constants.GlobalConstants;
+
+@Configuration
+public class KafkaConsumerConfig {
+
+	/**
+	 * batch listeners for projections, built on the boot defaults. offsets are committed only once the
+	 * listener returned for the whole poll, a thrown exception has the batch delivered again
+	 * @param configurer
+	 * @param consumerFactory
+	 * @param maxPollRecords
+	 * @return ConcurrentKafkaListenerContainerFactory
+	 */
+	@Bean(GlobalConstants.BATCH_LISTENER_FACTORY)
+	ConcurrentKafkaListenerContainerFactory<Object, Object> batchListenerFactory(ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+			ConsumerFactory<Object, Object> consumerFactory,
+			@Value("${opinator.consumer.max-poll-records:500}") int maxPollRecords) {
+
+		ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+		configurer.configure(factory, consumerFactory);
+		factory.setBatchListener(true);
+
+		ContainerProperties containerProperties = factory.getContainerProperties();
+		containerProperties.setAckMode(ContainerProperties.AckMode.BATCH);
+		containerProperties.setMicrometerEnabled(true);
+		Properties consumerProperties = new Properties();
+		consumerProperties.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, String.valueOf(maxPollRecords));
+		consumerProperties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+		containerProperties.setKafkaConsumerProperties(consumerProperties);
+
+		return factory;
+	}
+
+}
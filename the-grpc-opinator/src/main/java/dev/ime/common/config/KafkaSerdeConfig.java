@@ -0,0 +1,94 @@
+package dev.ime.common.config;
+
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.DefaultKafkaConsumerFactoryCustomizer;
+import org.springframework.boot.autoconfigure.kafka.DefaultKafkaProducerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.support.serializer.DelegatingByTopicDeserializer;
+import org.springframework.kafka.support.serializer.DelegatingByTopicSerializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import dev.ime.common.mapper.EventProtoMapper;
+import dev.ime.infrastructure.adapter.EventProtoDeserializer;
+import dev.ime.infrastructure.adapter.EventProtoSerializer;
+
+@Configuration
+public class KafkaSerdeConfig {
+
+	/**
+	 * events on the listed topics are written as protobuf envelopes, every other topic keeps json
+	 * @param eventProtoMapper
+	 * @param protobufTopics
+	 * @return DefaultKafkaProducerFactoryCustomizer
+	 */
+	@Bean
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	DefaultKafkaProducerFactoryCustomizer eventSerializerCustomizer(EventProtoMapper eventProtoMapper,
+			@Value("${opinator.events.protobuf-topics:}") List<String> protobufTopics) {
+
+		return producerFactory -> ((DefaultKafkaProducerFactory) producerFactory)
+				.setValueSerializerSupplier(() -> createSerializer(eventProtoMapper, protobufTopics,
+						producerFactory.getConfigurationProperties()));
+	}
+
+	/**
+	 * the reading side of eventSerializerCustomizer, both must list the same topics
+	 * @param eventProtoMapper
+	 * @param protobufTopics
+	 * @return DefaultKafkaConsumerFactoryCustomizer
+	 */
+	@Bean
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	DefaultKafkaConsumerFactoryCustomizer eventDeserializerCustomizer(EventProtoMapper eventProtoMapper,
+			@Value("${opinator.events.protobuf-topics:}") List<String> protobufTopics) {
+
+		return consumerFactory -> ((DefaultKafkaConsumerFactory) consumerFactory)
+				.setValueDeserializerSupplier(() -> createDeserializer(eventProtoMapper, protobufTopics,
+						consumerFactory.getConfigurationProperties()));
+	}
+
+	/**
+	 * the delegating serializer never configures its default delegate, so the json one gets the factory configs here
+	 */
+	static Serializer<Object> createSerializer(EventProtoMapper eventProtoMapper, List<String> protobufTopics,
+			Map<String, Object> configs) {
+
+		Serializer<?> protobuf = new EventProtoSerializer(eventProtoMapper);
+		Map<Pattern, Serializer<?>> delegates = protobufTopics.stream()
+				.collect(Collectors.toMap(KafkaSerdeConfig::toPattern, topic -> protobuf));
+
+		JsonSerializer<Object> json = new JsonSerializer<>();
+		json.configure(configs, false);
+
+		return new DelegatingByTopicSerializer(delegates, json);
+	}
+
+	static Deserializer<Object> createDeserializer(EventProtoMapper eventProtoMapper, List<String> protobufTopics,
+			Map<String, Object> configs) {
+
+		Deserializer<?> protobuf = new EventProtoDeserializer(eventProtoMapper);
+		Map<Pattern, Deserializer<?>> delegates = protobufTopics.stream()
+				.collect(Collectors.toMap(KafkaSerdeConfig::toPattern, topic -> protobuf));
+
+		JsonDeserializer<Object> json = new JsonDeserializer<>();
+		json.configure(configs, false);
+
+		return new DelegatingByTopicDeserializer(delegates, json);
+	}
+
+	private static Pattern toPattern(String topic) {
+		return Pattern.compile(Pattern.quote(topic.strip()));
+	}
+
+}
@@ -0,0 +1,17 @@
+package dev.ime.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import dev.ime.common.constants.GlobalConstants;
+
+/**
+ * outbox relay and spool drainer, a replay runs without them
+ */
+@Configuration
+@EnableScheduling
+@Profile("!" + GlobalConstants.PROFILE_REPLAY)
+public class SchedulingConfig {
+
+}
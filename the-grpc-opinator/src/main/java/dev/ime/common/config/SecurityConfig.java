@@ -2,14 +2,18 @@ package dev.ime.common.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.web.SecurityFilterChain;
 
+import dev.ime.common.constants.GlobalConstants;
+
 @Configuration
 @EnableWebSecurity
+@Profile("!" + GlobalConstants.PROFILE_REPLAY)
 public class SecurityConfig {
 
 	@Bean
@@ -17,6 +21,7 @@ public class SecurityConfig {
 
 		return http.authorizeHttpRequests(auth -> {
 			auth.requestMatchers("/api/**").permitAll();
+			auth.requestMatchers("/actuator/health", "/actuator/prometheus").permitAll();
 			auth.anyRequest().authenticated();
 		}).csrf(AbstractHttpConfigurer::disable)
 				.oauth2ResourceServer(resourceServer -> resourceServer.jwt(Customizer.withDefaults())).build();
@@ -8,10 +8,17 @@ public class GlobalConstants {
 
 	// Values
 	public static final Long EXPIRATION_TIME = 3600L;
+	public static final int STREAM_FETCH_SIZE = 500;
+	public static final long STREAM_READY_WAIT_MS = 100L;
+	public static final int BULK_CHUNK_SIZE = 200;
+	public static final int SEARCH_MAX_SIZE = 50;
+	public static final int SEARCH_MAX_RESULTS = 1000;
+	public static final int ID_ALLOCATION_SIZE = 50;
 
 	// Patterns
 	public static final String PATTERN_NAME_FULL = "^[a-zA-Z0-9ñÑáéíóúÁÉÍÓÚ][a-zA-Z0-9ñÑáéíóúÁÉÍÓÚ\\s\\-\\.&,:]{1,49}$";
 	public static final String PATTERN_DESC_FULL = "^[a-zA-Z0-9ñÑáéíóúÁÉÍÓÚ][a-zA-Z0-9ñÑáéíóúÁÉÍÓÚ\\s\\-\\.&,:]{1,127}$";
+	public static final String PATTERN_SEARCH = "^(?=.*\\S)[^\\p{Cntrl}]{1,100}$";
 	public static final String PATTERN_EMAIL = "^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,6}$";
 
 	// Messages
@@ -27,6 +34,22 @@ public class GlobalConstants {
 	public static final String MSG_PUBLISH_OK = "Publish Event Succesfully";	
 	public static final String MSG_PUBLISH_FAIL = "Publish Event Failed";		
 	public static final String MSG_TESTGRPC_NOTINTIME = "The call did not terminate in time";		
+	public static final String MSG_STREAM_CANCELLED = "Stream cancelled by client";
+	public static final String MSG_CACHE_EVICT = "Response cache evicted";
+	public static final String MSG_CACHE_SKIP = "Event without id, nothing to evict";
+	public static final String MSG_OUTBOX_RELAYED = "Outbox events relayed";
+	public static final String MSG_OUTBOX_FAIL = "Outbox relay failed, retrying on next run";
+	public static final String MSG_OUTBOX_UNREADABLE = "Unreadable outbox payload dropped";
+	public static final String MSG_GROUP_COMMIT_FAIL = "Group commit failed";
+	public static final String MSG_GROUP_COMMIT_FULL = "Group commit queue full";
+	public static final String MSG_SPOOLED = "Kafka unavailable, events spooled";
+	public static final String MSG_SPOOL_DRAINED = "Spooled events drained";
+	public static final String MSG_SPOOL_DRAIN_FAIL = "Spool drain failed, retrying on next run";
+	public static final String MSG_SPOOL_UNREADABLE = "Unreadable spool record dropped";
+	public static final String MSG_SNAPSHOT_READ = "Snapshot read";
+	public static final String MSG_REPLAY_PARTITION = "Partition replayed";
+	public static final String MSG_REPLAY_DONE = "Read models rebuilt from partitions";
+	public static final String MSG_REPLAY_DRIFT = "Rows written since the replay read its partitions, stop the writers and replay again";
 
 	// Models
 	public static final String USER_CAT = "User";
@@ -64,11 +87,19 @@ public class GlobalConstants {
 	public static final String REV_TXT = "reviewText";
 	public static final String REV_TXT_DB = "review_text";
 	public static final String REV_RAT = "rating";
+	public static final String REV_UQ_PROD_EMAIL_DB = "uq_reviews_product_email";
+	public static final String REV_SEQ_DB = "reviews_review_id_seq";
 	public static final String VOT_CAT = "Vote";
 	public static final String VOT_CAT_DB = "votes";
 	public static final String VOT_ID = "voteId";
 	public static final String VOT_ID_DB = "vote_id";
 	public static final String VOT_US = "useful";
+	public static final String VOT_UQ_REV_EMAIL_DB = "uq_votes_review_email";
+	public static final String VOT_SEQ_DB = "votes_vote_id_seq";
+	public static final String PROD_STATS = "ProductStats";
+	public static final String REV_STATS = "ReviewStats";
+	public static final String OUTBOX_DB = "outbox_events";
+	public static final String OUTBOX_SEQ_DB = "outbox_events_outbox_id_seq";
 	
 	// Orders
 	public static final String CREATE_USER = "create.user";
@@ -83,12 +114,20 @@ public class GlobalConstants {
 	public static final String CREATE_PROD = "create.product";
 	public static final String UPDATE_PROD = "update.product";
 	public static final String DELETE_PROD = "delete.product";
+	public static final String STATS_PROD = "stats.product";
+	public static final String SEARCH_PROD = "search.product";
 	public static final String CREATE_REV = "create.review";
 	public static final String UPDATE_REV = "update.review";
 	public static final String DELETE_REV = "delete.review";
+	public static final String STREAM_REV = "stream.review";
+	public static final String STATS_REV = "stats.review";
+	public static final String BULK_REV = "bulk.review";
+	public static final String SEARCH_REV = "search.review";
 	public static final String CREATE_VOT = "create.vote";
 	public static final String UPDATE_VOT = "update.vote";
 	public static final String DELETE_VOT = "delete.vote";
+	public static final String STREAM_VOT = "stream.vote";
+	public static final String BULK_VOT = "bulk.vote";
 	
 	// Topics
 	public static final String USER_CREATED = "user.created";
@@ -109,6 +148,13 @@ public class GlobalConstants {
 	public static final String VOT_CREATED = "vote.created";
 	public static final String VOT_UPDATED = "vote.updated";
 	public static final String VOT_DELETED = "vote.deleted";
+	public static final String USER_TOPIC = "user.events";
+	public static final String USERAPP_TOPIC = "userapp.events";
+	public static final String CAT_TOPIC = "category.events";
+	public static final String PROD_TOPIC = "product.events";
+	public static final String REV_TOPIC = "review.events";
+	public static final String VOT_TOPIC = "vote.events";
+	public static final String HEADER_EVENT_TYPE = "eventType";
 
 	// Exceptions
 	public static final String EX_BASIC = "BasicException";
@@ -149,6 +195,35 @@ public class GlobalConstants {
 	public static final String PS_DIR = "sortDir";
 	public static final String PS_A = "ASC";
 	public static final String PS_D = "DESC";
+	public static final String PS_TOKEN = "pageToken";
+	public static final String PS_QUERY = "query";
+	
+	// Second-level cache regions
+	public static final String CACHE_CAT = "categories";
+	public static final String CACHE_PROD = "products";
+	public static final String CACHE_QUERY_CAT = "query.categories";
+	public static final String CACHE_QUERY_PROD = "query.products";
+	public static final String CACHE_RESPONSE_GROUP = "response-cache";
+	public static final String SNAPSHOT_CLIENT = "snapshot-reader";
+	public static final String REPLAY_CLIENT = "event-replay";
+	public static final String BATCH_LISTENER_FACTORY = "batchListenerFactory";
+	public static final String PROFILE_REPLAY = "replay";
+
+	// Metrics
+	public static final String METRIC_PUBLISH_BATCH = "publisher.batch.size";
+	public static final String METRIC_PUBLISH_COMMIT = "publisher.commit.latency";
+	public static final String METRIC_PUBLISH_PENDING = "publisher.pending";
+	public static final String METRIC_SPOOL_DEPTH = "publisher.spool.depth";
+	public static final String METRIC_SPOOL_AGE = "publisher.spool.age";
+	public static final String METRIC_SEND_LATENCY = "publisher.send.latency";
+	public static final String METRIC_SEND_FAILURES = "publisher.send.failures";
+	public static final String METRIC_SEND_RETRIES = "publisher.send.retries";
+	public static final String METRIC_IN_FLIGHT = "publisher.in.flight";
+	public static final String METRIC_CONSUMER_BATCH = "consumer.batch.duration";
+	public static final String METRIC_CONSUMER_RECORDS = "consumer.records";
+	public static final String METRIC_CONSUMER_LAG = "consumer.lag";
+	public static final String TAG_LISTENER = "listener";
+	public static final String TAG_TOPIC = "topic";
 	
 	// Others
 	public static final String JWT_USER = "sub";
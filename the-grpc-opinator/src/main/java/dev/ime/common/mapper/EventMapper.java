@@ -1,32 +1,50 @@
 package dev.ime.common.mapper;
 
-import java.util.Map;
-
 import org.springframework.stereotype.Component;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-
+import dev.ime.application.dto.CategoryDto;
+import dev.ime.application.dto.ProductDto;
+import dev.ime.application.dto.ReviewDto;
+import dev.ime.application.dto.VoteDto;
+import dev.ime.common.constants.GlobalConstants;
 import dev.ime.domain.model.Event;
-import lombok.RequiredArgsConstructor;
+import dev.ime.domain.model.EventData;
 
+/**
+ * the dto records are the typed payloads, their fields go straight into the event under the keys jackson used to write
+ */
 @Component
-@RequiredArgsConstructor
 public class EventMapper {
 
-	private final ObjectMapper objectMapper;
-	
-	public <T> Event createEvent(String eventCategory, String eventType, T dto) {		
-		
-		return new Event(
-				eventCategory,
-				eventType,
-				createEventData(dto)
-				);		
+	private static final String[] CATEGORY_KEYS = { GlobalConstants.CAT_ID, GlobalConstants.CAT_NAME };
+	private static final String[] PRODUCT_KEYS = { GlobalConstants.PROD_ID, GlobalConstants.PROD_NAME,
+			GlobalConstants.PROD_DESC, GlobalConstants.CAT_ID };
+	private static final String[] REVIEW_KEYS = { GlobalConstants.REV_ID, GlobalConstants.USER_EMAIL,
+			GlobalConstants.PROD_ID, GlobalConstants.REV_TXT, GlobalConstants.REV_RAT };
+	private static final String[] VOTE_KEYS = { GlobalConstants.VOT_ID, GlobalConstants.USER_EMAIL,
+			GlobalConstants.REV_ID, GlobalConstants.VOT_US };
+
+	public Event createEvent(String eventCategory, String eventType, CategoryDto dto) {
+
+		return new Event(eventCategory, eventType, EventData.of(CATEGORY_KEYS, dto.categoryId(), dto.categoryName()));
+	}
+
+	public Event createEvent(String eventCategory, String eventType, ProductDto dto) {
+
+		return new Event(eventCategory, eventType, EventData.of(PRODUCT_KEYS, dto.productId(), dto.productName(),
+				dto.productDescription(), dto.categoryId()));
+	}
+
+	public Event createEvent(String eventCategory, String eventType, ReviewDto dto) {
+
+		return new Event(eventCategory, eventType, EventData.of(REVIEW_KEYS, dto.reviewId(), dto.email(),
+				dto.productId(), dto.reviewText(), dto.rating()));
 	}
-	
-	private <T> Map<String, Object> createEventData(T dto) {
-	    return objectMapper.convertValue(dto, new TypeReference<Map<String, Object>>() {});
+
+	public Event createEvent(String eventCategory, String eventType, VoteDto dto) {
+
+		return new Event(eventCategory, eventType, EventData.of(VOTE_KEYS, dto.voteId(), dto.email(),
+				dto.reviewId(), dto.useful()));
 	}
 
 }
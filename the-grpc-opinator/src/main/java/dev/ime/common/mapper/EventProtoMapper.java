@@ -0,0 +1,131 @@
+package dev.ime.common.mapper;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+import com.google.protobuf.BoolValue;
+import com.google.protobuf.Timestamp;
+
+import dev.ime.common.constants.GlobalConstants;
+import dev.ime.domain.model.Event;
+import dev.proto.CategoryProto;
+import dev.proto.EventProto;
+import dev.proto.ProductProto;
+import dev.proto.ReviewProto;
+import dev.proto.VoteProto;
+
+/**
+ * event data keys are the dto field names, which are also the field names of the payload messages
+ */
+@Component
+public class EventProtoMapper {
+
+	public EventProto fromEventToProto(Event event) {
+
+		EventProto.Builder builder = EventProto.newBuilder()
+				.setEventId(event.getEventId().toString())
+				.setEventCategory(event.getEventCategory())
+				.setEventType(event.getEventType())
+				.setEventTimestamp(Timestamp.newBuilder()
+						.setSeconds(event.getEventTimestamp().getEpochSecond())
+						.setNanos(event.getEventTimestamp().getNano()));
+		Map<String, Object> data = event.getEventData();
+
+		switch (event.getEventCategory()) {
+			case GlobalConstants.CAT_CAT -> builder.setCategory(CategoryProto.newBuilder()
+					.setCategoryId(longOf(data, GlobalConstants.CAT_ID))
+					.setCategoryName(stringOf(data, GlobalConstants.CAT_NAME)));
+			case GlobalConstants.PROD_CAT -> builder.setProduct(ProductProto.newBuilder()
+					.setProductId(longOf(data, GlobalConstants.PROD_ID))
+					.setProductName(stringOf(data, GlobalConstants.PROD_NAME))
+					.setProductDescription(stringOf(data, GlobalConstants.PROD_DESC))
+					.setCategoryId(longOf(data, GlobalConstants.CAT_ID)));
+			case GlobalConstants.REV_CAT -> builder.setReview(ReviewProto.newBuilder()
+					.setReviewId(longOf(data, GlobalConstants.REV_ID))
+					.setEmail(stringOf(data, GlobalConstants.USER_EMAIL))
+					.setProductId(longOf(data, GlobalConstants.PROD_ID))
+					.setReviewText(stringOf(data, GlobalConstants.REV_TXT))
+					.setRating((int) longOf(data, GlobalConstants.REV_RAT)));
+			case GlobalConstants.VOT_CAT -> builder.setVote(createVoteProto(data));
+			default -> throw new IllegalArgumentException(GlobalConstants.MSG_UNSUP_REQ + ": " + event.getEventCategory());
+		}
+
+		return builder.build();
+	}
+
+	public Event fromProtoToEvent(EventProto proto) {
+
+		return new Event(
+				UUID.fromString(proto.getEventId()),
+				proto.getEventCategory(),
+				proto.getEventType(),
+				Instant.ofEpochSecond(proto.getEventTimestamp().getSeconds(), proto.getEventTimestamp().getNanos()),
+				createEventData(proto)
+				);
+	}
+
+	private VoteProto createVoteProto(Map<String, Object> data) {
+
+		VoteProto.Builder builder = VoteProto.newBuilder()
+				.setVoteId(longOf(data, GlobalConstants.VOT_ID))
+				.setEmail(stringOf(data, GlobalConstants.USER_EMAIL))
+				.setReviewId(longOf(data, GlobalConstants.REV_ID));
+		if (data.get(GlobalConstants.VOT_US) instanceof Boolean useful) {
+			builder.setUseful(BoolValue.of(useful));
+		}
+
+		return builder.build();
+	}
+
+	private Map<String, Object> createEventData(EventProto proto) {
+
+		Map<String, Object> data = new HashMap<>();
+
+		switch (proto.getPayloadCase()) {
+			case CATEGORY -> {
+				data.put(GlobalConstants.CAT_ID, proto.getCategory().getCategoryId());
+				data.put(GlobalConstants.CAT_NAME, proto.getCategory().getCategoryName());
+			}
+			case PRODUCT -> {
+				data.put(GlobalConstants.PROD_ID, proto.getProduct().getProductId());
+				data.put(GlobalConstants.PROD_NAME, proto.getProduct().getProductName());
+				data.put(GlobalConstants.PROD_DESC, proto.getProduct().getProductDescription());
+				data.put(GlobalConstants.CAT_ID, proto.getProduct().getCategoryId());
+			}
+			case REVIEW -> {
+				data.put(GlobalConstants.REV_ID, proto.getReview().getReviewId());
+				data.put(GlobalConstants.USER_EMAIL, proto.getReview().getEmail());
+				data.put(GlobalConstants.PROD_ID, proto.getReview().getProductId());
+				data.put(GlobalConstants.REV_TXT, proto.getReview().getReviewText());
+				data.put(GlobalConstants.REV_RAT, proto.getReview().getRating());
+			}
+			case VOTE -> {
+				data.put(GlobalConstants.VOT_ID, proto.getVote().getVoteId());
+				data.put(GlobalConstants.USER_EMAIL, proto.getVote().getEmail());
+				data.put(GlobalConstants.REV_ID, proto.getVote().getReviewId());
+				if (proto.getVote().hasUseful()) {
+					data.put(GlobalConstants.VOT_US, proto.getVote().getUseful().getValue());
+				}
+			}
+			case PAYLOAD_NOT_SET -> { }
+		}
+
+		return data;
+	}
+
+	private long longOf(Map<String, Object> data, String key) {
+
+		return data.get(key) instanceof Number number ? number.longValue() : 0L;
+	}
+
+	private String stringOf(Map<String, Object> data, String key) {
+
+		return Objects.toString(data.get(key), "");
+	}
+
+}
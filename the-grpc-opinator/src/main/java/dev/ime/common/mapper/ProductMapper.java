@@ -9,6 +9,7 @@ import java.util.stream.Collectors;
 import org.springframework.stereotype.Component;
 
 import dev.ime.application.dto.ProductDto;
+import dev.ime.application.dto.ProductStatsDto;
 import dev.ime.domain.model.Category;
 import dev.ime.domain.model.Product;
 import dev.ime.domain.model.Review;
@@ -17,6 +18,7 @@ import dev.ime.infrastructure.entity.ProductJpaEntity;
 import dev.ime.infrastructure.entity.ReviewJpaEntity;
 import dev.proto.CreateProductRequest;
 import dev.proto.ProductProto;
+import dev.proto.ProductStatsProto;
 import dev.proto.UpdateProductRequest;
 
 @Component
@@ -173,5 +175,15 @@ public class ProductMapper {
 				.map(this::fromDtoToProto)
 				.toList();	
 	}
-	
+
+	public ProductStatsProto fromStatsDtoToProto(ProductStatsDto dto) {
+		
+		return ProductStatsProto.newBuilder()
+				.setProductId(dto.productId())
+				.setReviewCount(dto.reviewCount())
+				.setAverageRating(dto.averageRating())
+				.putAllRatingHistogram(dto.ratingHistogram())
+				.build();
+	}
+
 }
@@ -9,6 +9,8 @@ import java.util.stream.Collectors;
 import org.springframework.stereotype.Component;
 
 import dev.ime.application.dto.ReviewDto;
+import dev.ime.application.dto.ReviewStatsDto;
+import dev.ime.common.constants.GlobalConstants;
 import dev.ime.domain.model.Category;
 import dev.ime.domain.model.Product;
 import dev.ime.domain.model.Review;
@@ -18,7 +20,9 @@ import dev.ime.infrastructure.entity.ReviewJpaEntity;
 import dev.ime.infrastructure.entity.VoteJpaEntity;
 import dev.proto.CreateReviewRequest;
 import dev.proto.ReviewProto;
+import dev.proto.ReviewStatsProto;
 import dev.proto.UpdateReviewRequest;
+import jakarta.persistence.Tuple;
 
 @Component
 public class ReviewMapper {
@@ -49,6 +53,21 @@ public class ReviewMapper {
 				new HashSet<>());
 	}
 
+	/**
+	 * bulk insert variant, the product's reviews are not touched so they never get loaded
+	 */
+	public ReviewJpaEntity fromDomainToNewJpa(Review dom, ProductJpaEntity productJpaEntity) {
+
+		return new ReviewJpaEntity(
+				null,
+				dom.getEmail(),
+				productJpaEntity,
+				dom.getReviewText(),
+				dom.getRating(),
+				new HashSet<>()
+				);
+	}
+
 	public ReviewJpaEntity fromDomainToJpa(Review dom, ProductJpaEntity productJpaEntity) {
 		
 		ReviewJpaEntity reviewJpaEntity = new ReviewJpaEntity(
@@ -82,6 +101,21 @@ public class ReviewMapper {
 		return review;
 	}
 
+	public Review fromTupleToDomain(Tuple tuple) {
+		
+		Product product = new Product();
+		product.setProductId(tuple.get(GlobalConstants.PROD_ID, Long.class));
+		
+		return new Review(
+				tuple.get(GlobalConstants.REV_ID, Long.class),
+				tuple.get(GlobalConstants.USER_EMAIL, String.class),
+				product,
+				tuple.get(GlobalConstants.REV_TXT, String.class),
+				tuple.get(GlobalConstants.REV_RAT, Integer.class),
+				new HashSet<>()
+				);
+	}
+
 	public Product fromProductJpaToProductDomain(ProductJpaEntity entity) {		
 		
 		Category category = new Category();
@@ -165,5 +199,14 @@ public class ReviewMapper {
 		return listDto.stream().map(this::fromDtoToProto).toList();
 
 	}
-	
+
+	public ReviewStatsProto fromStatsDtoToProto(ReviewStatsDto dto) {
+		
+		return ReviewStatsProto.newBuilder()
+				.setReviewId(dto.reviewId())
+				.setUsefulCount(dto.usefulCount())
+				.setNotUsefulCount(dto.notUsefulCount())
+				.build();
+	}
+
 }
@@ -9,6 +9,7 @@ import org.springframework.stereotype.Component;
 import com.google.protobuf.BoolValue;
 
 import dev.ime.application.dto.VoteDto;
+import dev.ime.common.constants.GlobalConstants;
 import dev.ime.domain.model.Product;
 import dev.ime.domain.model.Review;
 import dev.ime.domain.model.Vote;
@@ -17,6 +18,7 @@ import dev.ime.infrastructure.entity.VoteJpaEntity;
 import dev.proto.CreateVoteRequest;
 import dev.proto.UpdateVoteRequest;
 import dev.proto.VoteProto;
+import jakarta.persistence.Tuple;
 
 @Component
 public class VoteMapper {
@@ -53,6 +55,19 @@ public class VoteMapper {
 				);		
 	}
 	
+	/**
+	 * bulk insert variant, the review's votes are not touched so they never get loaded
+	 */
+	public VoteJpaEntity fromDomainToNewJpa(Vote dom, ReviewJpaEntity reviewJpaEntity) {
+
+		return new VoteJpaEntity(
+				null,
+				dom.getEmail(),
+				reviewJpaEntity,
+				dom.isUseful()
+				);
+	}
+
 	public VoteJpaEntity fromDomainToJpa(Vote dom, ReviewJpaEntity reviewJpaEntity) {
 		
 		VoteJpaEntity voteJpaEntity = new VoteJpaEntity(
@@ -80,6 +95,19 @@ public class VoteMapper {
 		return vote;
 	}
 
+	public Vote fromTupleToDomain(Tuple tuple) {
+		
+		Review review = new Review();
+		review.setReviewId(tuple.get(GlobalConstants.REV_ID, Long.class));
+		
+		return new Vote(
+				tuple.get(GlobalConstants.VOT_ID, Long.class),
+				tuple.get(GlobalConstants.USER_EMAIL, String.class),
+				review,
+				tuple.get(GlobalConstants.VOT_US, Boolean.class)
+				);
+	}
+
 	private Review fromReviewJpaToReviewDom(VoteJpaEntity entity) {
 		
 		ReviewJpaEntity reviewJpaEntity = entity.getReview();
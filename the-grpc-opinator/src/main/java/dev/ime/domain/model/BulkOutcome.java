@@ -0,0 +1,21 @@
+package dev.ime.domain.model;
+
+/**
+ * result of one item of a bulk operation, either the stored item or the reason it was rejected
+ * @param <T> item type
+ */
+public record BulkOutcome<T>(T item, String error) {
+
+	public static <T> BulkOutcome<T> created(T item) {
+		return new BulkOutcome<>(item, null);
+	}
+
+	public static <T> BulkOutcome<T> rejected(String error) {
+		return new BulkOutcome<>(null, error);
+	}
+
+	public boolean isCreated() {
+		return error == null;
+	}
+
+}
@@ -5,10 +5,13 @@ import java.util.Optional;
 
 import org.springframework.data.domain.Pageable;
 
+import dev.ime.domain.model.PageCursor;
+
 public interface GenericServicePort<U> {
 
 	List<U>findAll();
 	List<U>findAll(Pageable pageable);
+	List<U>findAll(Pageable pageable, PageCursor cursor);
 	Optional<U>findById(Long id);
 	Optional<U>save(U dto);
 	Optional<U>update(U dto);
@@ -0,0 +1,16 @@
+package dev.ime.domain.port.inbound;
+
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import dev.ime.application.dto.ProductDto;
+import dev.ime.application.dto.ProductStatsDto;
+
+public interface ProductServicePort extends GenericServicePort<ProductDto> {
+
+	Slice<ProductDto> search(String text, Pageable pageable);
+	Optional<ProductStatsDto> findStats(Long productId);
+	
+}
@@ -0,0 +1,21 @@
+package dev.ime.domain.port.inbound;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import dev.ime.application.dto.ReviewDto;
+import dev.ime.application.dto.ReviewStatsDto;
+import dev.ime.domain.model.BulkOutcome;
+
+public interface ReviewServicePort extends GenericServicePort<ReviewDto> {
+
+	void streamAll(Consumer<ReviewDto> action);
+	Slice<ReviewDto> search(String text, Pageable pageable);
+	List<BulkOutcome<ReviewDto>> saveAll(List<ReviewDto> dtos);
+	Optional<ReviewStatsDto> findStats(Long reviewId);
+	
+}
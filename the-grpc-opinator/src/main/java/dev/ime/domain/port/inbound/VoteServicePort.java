@@ -0,0 +1,14 @@
+package dev.ime.domain.port.inbound;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import dev.ime.application.dto.VoteDto;
+import dev.ime.domain.model.BulkOutcome;
+
+public interface VoteServicePort extends GenericServicePort<VoteDto> {
+
+	void streamAll(Consumer<VoteDto> action);
+	List<BulkOutcome<VoteDto>> saveAll(List<VoteDto> dtos);
+	
+}
@@ -5,10 +5,13 @@ import java.util.Optional;
 
 import org.springframework.data.domain.Pageable;
 
+import dev.ime.domain.model.PageCursor;
+
 public interface GenericRepositoryPort<T> {
 
 	List<T>findAll();
 	List<T>findAll(Pageable pageable);
+	List<T>findAll(Pageable pageable, PageCursor cursor);
 	Optional<T>findById(Long id);
 	Optional<T>save(T dom);
 	Optional<T>update(T dom);
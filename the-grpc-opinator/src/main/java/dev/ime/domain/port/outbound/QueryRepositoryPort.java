@@ -0,0 +1,21 @@
+package dev.ime.domain.port.outbound;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+
+import dev.ime.domain.model.PageCursor;
+
+/**
+ * read side, projects straight into the response record without loading aggregates
+ * @param <U> projected record
+ */
+public interface QueryRepositoryPort<U> {
+
+	List<U>findAll();
+	List<U>findAll(Pageable pageable);
+	List<U>findAll(Pageable pageable, PageCursor cursor);
+	Optional<U>findById(Long id);
+	
+}
@@ -0,0 +1,17 @@
+package dev.ime.domain.port.outbound;
+
+import java.util.List;
+import java.util.OptionalLong;
+
+import dev.ime.domain.model.Event;
+
+/**
+ * staging rows and per partition checkpoints of an event replay, the read models are rebuilt from them at the end
+ */
+public interface ReplayRepositoryPort {
+
+	OptionalLong findCheckpoint(String topic, int partition);
+	void saveBatch(String topic, int partition, long nextOffset, List<Event> events);
+	void rebuildReadModels();
+
+}
@@ -0,0 +1,13 @@
+package dev.ime.domain.port.outbound;
+
+import java.util.function.Supplier;
+
+/**
+ * node local cache of serialized responses, kept coherent across nodes by evicting on the published events
+ */
+public interface ResponseCachePort {
+
+	byte[] getOrLoad(String category, Long id, Supplier<byte[]> loader);
+	void evict(String category, Long id);
+	
+}
@@ -1,5 +1,14 @@
 package dev.ime.domain.port.outbound;
 
-public interface ReviewRepositoryPort {
+import java.util.List;
+import java.util.function.Consumer;
 
+import dev.ime.domain.model.BulkOutcome;
+import dev.ime.domain.model.Review;
+
+public interface ReviewRepositoryPort extends GenericRepositoryPort<Review> {
+
+	void streamAll(Consumer<Review> action);
+	List<BulkOutcome<Review>> saveAll(List<Review> doms);
+	
 }
@@ -0,0 +1,14 @@
+package dev.ime.domain.port.outbound;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+/**
+ * read side with full text search, results come best match first and the slice tells whether more follow
+ * @param <U> projected record
+ */
+public interface SearchQueryRepositoryPort<U> extends QueryRepositoryPort<U> {
+
+	Slice<U>search(String text, Pageable pageable);
+	
+}
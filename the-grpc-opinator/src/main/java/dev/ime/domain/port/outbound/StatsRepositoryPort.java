@@ -0,0 +1,22 @@
+package dev.ime.domain.port.outbound;
+
+import java.util.Optional;
+
+import dev.ime.application.dto.ProductStatsDto;
+import dev.ime.application.dto.ReviewStatsDto;
+
+/**
+ * counters kept next to reviews and votes, written in the same transaction as the row they count
+ */
+public interface StatsRepositoryPort {
+
+	Optional<ProductStatsDto> findProductStats(Long productId);
+	Optional<ReviewStatsDto> findReviewStats(Long reviewId);
+	void addRating(Long productId, int rating);
+	void addRating(Long productId, int rating, long count);
+	void removeRating(Long productId, int rating);
+	void addVote(Long reviewId, boolean useful);
+	void addVote(Long reviewId, boolean useful, long count);
+	void removeVote(Long reviewId, boolean useful);
+	
+}
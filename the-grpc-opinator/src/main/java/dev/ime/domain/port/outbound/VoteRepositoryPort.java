@@ -0,0 +1,14 @@
+package dev.ime.domain.port.outbound;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import dev.ime.domain.model.BulkOutcome;
+import dev.ime.domain.model.Vote;
+
+public interface VoteRepositoryPort extends GenericRepositoryPort<Vote> {
+
+	void streamAll(Consumer<Vote> action);
+	List<BulkOutcome<Vote>> saveAll(List<Vote> doms);
+	
+}
@@ -0,0 +1,132 @@
+package dev.ime.infrastructure.adapter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import dev.ime.application.dto.CategoryDto;
+import dev.ime.application.exception.ResourceNotFoundException;
+import dev.ime.common.constants.GlobalConstants;
+import dev.ime.domain.model.PageCursor;
+import dev.ime.domain.port.outbound.QueryRepositoryPort;
+import dev.ime.infrastructure.entity.CategoryJpaEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.NoResultException;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CompoundSelection;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Root;
+
+@Repository
+public class CategoryQueryRepositoryAdapter implements QueryRepositoryPort<CategoryDto> {
+
+	private static final String SELECT_DTO = "SELECT new dev.ime.application.dto.CategoryDto(c.categoryId, c.categoryName) FROM CategoryJpaEntity c";
+
+	@PersistenceContext
+	private final EntityManager entityManager;
+
+	public CategoryQueryRepositoryAdapter(EntityManager entityManager) {
+		super();
+		this.entityManager = entityManager;
+	}
+
+	@Override
+	@Transactional(value = "transactionManager", readOnly = true)
+	public List<CategoryDto> findAll() {
+
+		TypedQuery<CategoryDto> query = entityManager.createQuery(SELECT_DTO, CategoryDto.class);
+		cacheInRegion(query);
+
+		return query.getResultList();
+	}
+
+	@Override
+	@Transactional(value = "transactionManager", readOnly = true)
+	public List<CategoryDto> findAll(Pageable pageable) {
+
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+	    CriteriaQuery<CategoryDto> cq = cb.createQuery(CategoryDto.class);
+	    Root<CategoryJpaEntity> root = cq.from(CategoryJpaEntity.class);
+	    cq.select(buildSelection(cb, root));
+	    cq.orderBy(buildSortOrder(pageable.getSort(), cb, root));
+	    
+        TypedQuery<CategoryDto> query = entityManager.createQuery(cq);
+        cacheInRegion(query);
+        query.setFirstResult(pageable.getPageNumber() * pageable.getPageSize()); 
+        query.setMaxResults(pageable.getPageSize());
+        
+        return query.getResultList();
+	}
+
+	@Override
+	@Transactional(value = "transactionManager", readOnly = true)
+	public List<CategoryDto> findAll(Pageable pageable, PageCursor cursor) {
+
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+	    CriteriaQuery<CategoryDto> cq = cb.createQuery(CategoryDto.class);
+	    Root<CategoryJpaEntity> root = cq.from(CategoryJpaEntity.class);
+	    cq.select(buildSelection(cb, root));
+	    cq.where(KeysetPredicates.after(cb, root, pageable.getSort(), GlobalConstants.CAT_ID, cursor));
+	    cq.orderBy(buildSortOrder(pageable.getSort(), cb, root));
+	    
+        TypedQuery<CategoryDto> query = entityManager.createQuery(cq);
+        cacheInRegion(query);
+        query.setMaxResults(pageable.getPageSize());
+        
+        return query.getResultList();
+	}
+
+	/**
+	 * results go to the query cache, hibernate drops them as soon as the underlying tables are written
+	 */
+	private void cacheInRegion(TypedQuery<CategoryDto> query) {
+
+		query.setHint(HibernateHints.HINT_CACHEABLE, true);
+		query.setHint(HibernateHints.HINT_CACHE_REGION, GlobalConstants.CACHE_QUERY_CAT);
+	}
+
+	private CompoundSelection<CategoryDto> buildSelection(CriteriaBuilder cb, Root<CategoryJpaEntity> root) {
+
+		return cb.construct(CategoryDto.class,
+				root.get(GlobalConstants.CAT_ID),
+				root.get(GlobalConstants.CAT_NAME));
+	}
+
+	private List<Order> buildSortOrder(Sort sort, CriteriaBuilder criteriaBuilder, Root<CategoryJpaEntity> root) {
+	
+		return sort.stream()
+		.map( order ->{
+			if (order.isAscending()) {
+				return criteriaBuilder.asc(root.get(order.getProperty()));
+			} else {
+				return criteriaBuilder.desc(root.get(order.getProperty()));
+			}
+		})
+		.toList();		
+	}
+
+	@Override
+	@Transactional(value = "transactionManager", readOnly = true)
+	public Optional<CategoryDto> findById(Long id) {
+
+		TypedQuery<CategoryDto> query = entityManager.createQuery(SELECT_DTO + " WHERE c.categoryId = ?1", CategoryDto.class);
+		query.setParameter(1, id);
+		cacheInRegion(query);
+
+		try {
+			return Optional.of(query.getSingleResult());
+		} catch (NoResultException e) {
+			throw new ResourceNotFoundException(Map.of(GlobalConstants.CAT_ID, String.valueOf(id)));
+		}
+	}
+
+}
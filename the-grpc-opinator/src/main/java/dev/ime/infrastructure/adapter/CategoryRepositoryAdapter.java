@@ -15,6 +15,7 @@ import dev.ime.application.exception.UniqueValueException;
 import dev.ime.common.constants.GlobalConstants;
 import dev.ime.common.mapper.CategoryMapper;
 import dev.ime.domain.model.Category;
+import dev.ime.domain.model.PageCursor;
 import dev.ime.domain.port.outbound.GenericRepositoryPort;
 import dev.ime.infrastructure.entity.CategoryJpaEntity;
 import jakarta.persistence.EntityManager;
@@ -23,7 +24,6 @@ import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
-import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Order;
 import jakarta.persistence.criteria.Root;
 
@@ -55,13 +55,11 @@ public class CategoryRepositoryAdapter implements GenericRepositoryPort<Category
 	@Transactional(value = "transactionManager", readOnly = true)
 	public List<Category> findAll(Pageable pageable) {
 
+		// no fetch join, LIMIT stays in sql and the products of the page come in batches of default_batch_fetch_size
 		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
 	    CriteriaQuery<CategoryJpaEntity> cq = cb.createQuery(CategoryJpaEntity.class);
-	    Root<CategoryJpaEntity> root = cq.from(CategoryJpaEntity.class);	  
-	    root.fetch("products", JoinType.LEFT);
-
-        List<Order> orders = buildSortOrder(pageable.getSort(), cb, root);
-	    cq.orderBy(orders);
+	    Root<CategoryJpaEntity> root = cq.from(CategoryJpaEntity.class);
+	    cq.orderBy(buildSortOrder(pageable.getSort(), cb, root));
 	    
         TypedQuery<CategoryJpaEntity> query = entityManager.createQuery(cq);
         query.setFirstResult(pageable.getPageNumber() * pageable.getPageSize()); 
@@ -70,6 +68,23 @@ public class CategoryRepositoryAdapter implements GenericRepositoryPort<Category
         return categoryMapper.fromListJpaToListDomain(query.getResultList());
 	}
 
+	@Override
+	@Transactional(value = "transactionManager", readOnly = true)
+	public List<Category> findAll(Pageable pageable, PageCursor cursor) {
+
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+	    CriteriaQuery<CategoryJpaEntity> cq = cb.createQuery(CategoryJpaEntity.class);
+	    Root<CategoryJpaEntity> root = cq.from(CategoryJpaEntity.class);
+	    
+	    cq.where(KeysetPredicates.after(cb, root, pageable.getSort(), GlobalConstants.CAT_ID, cursor));
+	    cq.orderBy(buildSortOrder(pageable.getSort(), cb, root));
+	    
+        TypedQuery<CategoryJpaEntity> query = entityManager.createQuery(cq);
+        query.setMaxResults(pageable.getPageSize());
+        
+        return categoryMapper.fromListJpaToListDomain(query.getResultList());
+	}
+
 	private List<Order> buildSortOrder(Sort sort, CriteriaBuilder criteriaBuilder, Root<CategoryJpaEntity> root) {
 	
 		return sort.stream()
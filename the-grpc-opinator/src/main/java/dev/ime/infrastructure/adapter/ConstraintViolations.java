@@ -0,0 +1,28 @@
+package dev.ime.infrastructure.adapter;
+
+import java.util.Locale;
+
+import org.hibernate.exception.ConstraintViolationException;
+
+/**
+ * postgres names the violated index as is, other drivers wrap it with schema and column details,
+ * so the name is looked for anywhere in the reported one
+ */
+final class ConstraintViolations {
+
+	private ConstraintViolations() {
+		super();
+	}
+
+	static boolean isViolationOf(Throwable ex, String constraintName) {
+
+		for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+			if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null
+					&& violation.getConstraintName().toLowerCase(Locale.ROOT).contains(constraintName)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+}
@@ -0,0 +1,35 @@
+package dev.ime.infrastructure.adapter;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+
+import dev.ime.common.mapper.EventProtoMapper;
+import dev.ime.domain.model.Event;
+import dev.proto.EventProto;
+
+public class EventProtoDeserializer implements Deserializer<Event> {
+
+	private final EventProtoMapper eventProtoMapper;
+
+	public EventProtoDeserializer(EventProtoMapper eventProtoMapper) {
+		super();
+		this.eventProtoMapper = eventProtoMapper;
+	}
+
+	@Override
+	public Event deserialize(String topic, byte[] data) {
+
+		if (data == null) {
+			return null;
+		}
+
+		try {
+			return eventProtoMapper.fromProtoToEvent(EventProto.parseFrom(data));
+		} catch (InvalidProtocolBufferException e) {
+			throw new SerializationException(e.getMessage(), e);
+		}
+	}
+
+}
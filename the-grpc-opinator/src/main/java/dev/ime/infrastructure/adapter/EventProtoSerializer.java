@@ -0,0 +1,26 @@
+package dev.ime.infrastructure.adapter;
+
+import org.apache.kafka.common.serialization.Serializer;
+
+import dev.ime.common.mapper.EventProtoMapper;
+import dev.ime.domain.model.Event;
+
+/**
+ * writes an event as an EventProto envelope, no type headers are needed to read it back
+ */
+public class EventProtoSerializer implements Serializer<Event> {
+
+	private final EventProtoMapper eventProtoMapper;
+
+	public EventProtoSerializer(EventProtoMapper eventProtoMapper) {
+		super();
+		this.eventProtoMapper = eventProtoMapper;
+	}
+
+	@Override
+	public byte[] serialize(String topic, Event event) {
+
+		return event == null ? null : eventProtoMapper.fromEventToProto(event).toByteArray();
+	}
+
+}
@@ -0,0 +1,116 @@
+package dev.ime.infrastructure.adapter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.stereotype.Component;
+
+import dev.ime.common.constants.GlobalConstants;
+import dev.ime.domain.model.Event;
+import dev.ime.domain.port.outbound.ReplayRepositoryPort;
+
+/**
+ * replays the event topics into the read models, one worker per partition reading it in order up to the
+ * end offset seen at start. every polled batch is staged together with the offset to resume from, so a
+ * crashed replay carries on where its partitions stopped
+ */
+@Component
+public class EventReplayAdapter {
+
+	// the counters are derived from reviews and votes, categories and products are read live by the rebuild
+	private static final List<String> REPLAY_TOPICS = List.of(GlobalConstants.REV_TOPIC, GlobalConstants.VOT_TOPIC);
+
+	private final ConsumerFactory<String, Object> consumerFactory;
+	private final ReplayRepositoryPort replayRepositoryAdapter;
+	private final Duration pollTimeout;
+	private final int batchSize;
+	private static final Logger logger = LoggerFactory.getLogger(EventReplayAdapter.class);
+
+	public EventReplayAdapter(ConsumerFactory<String, Object> consumerFactory, ReplayRepositoryPort replayRepositoryAdapter,
+			@Value("${opinator.replay.poll-timeout:1s}") Duration pollTimeout,
+			@Value("${opinator.replay.batch-size:5000}") int batchSize) {
+		super();
+		this.consumerFactory = consumerFactory;
+		this.replayRepositoryAdapter = replayRepositoryAdapter;
+		this.pollTimeout = pollTimeout;
+		this.batchSize = batchSize;
+	}
+
+	public void replay() {
+
+		List<TopicPartition> partitions = REPLAY_TOPICS.stream()
+				.flatMap(topic -> findPartitions(topic).stream())
+				.toList();
+
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			List<CompletableFuture<Void>> futures = partitions.stream()
+					.map(partition -> CompletableFuture.runAsync(() -> replayPartition(partition), executor))
+					.toList();
+			CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+		}
+
+		replayRepositoryAdapter.rebuildReadModels();
+		logger.info(GlobalConstants.MSG_PATTERN_INFO, GlobalConstants.MSG_REPLAY_DONE, partitions.size());
+	}
+
+	private List<TopicPartition> findPartitions(String topic) {
+
+		try (Consumer<String, Object> consumer = consumerFactory.createConsumer(null, GlobalConstants.REPLAY_CLIENT, "-" + topic)) {
+			return consumer.partitionsFor(topic).stream()
+					.map(info -> new TopicPartition(topic, info.partition()))
+					.toList();
+		}
+	}
+
+	private void replayPartition(TopicPartition partition) {
+
+		Properties properties = new Properties();
+		properties.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, String.valueOf(batchSize));
+
+		try (Consumer<String, Object> consumer = consumerFactory.createConsumer(null, GlobalConstants.REPLAY_CLIENT, "-" + partition, properties)) {
+			List<TopicPartition> assignment = List.of(partition);
+			consumer.assign(assignment);
+			OptionalLong checkpoint = replayRepositoryAdapter.findCheckpoint(partition.topic(), partition.partition());
+			if (checkpoint.isPresent()) {
+				consumer.seek(partition, checkpoint.getAsLong());
+			} else {
+				consumer.seekToBeginning(assignment);
+			}
+			// under read_committed this is the last stable offset, the rebuild refuses to run over later writes
+			long endOffset = consumer.endOffsets(assignment).get(partition);
+
+			long replayed = 0;
+			long position = consumer.position(partition);
+			while (position < endOffset) {
+				List<Event> events = new ArrayList<>();
+				for (ConsumerRecord<String, Object> consumerRecord : consumer.poll(pollTimeout)) {
+					if (consumerRecord.value() instanceof Event event) {
+						events.add(event);
+					}
+				}
+				long nextPosition = consumer.position(partition);
+				if (nextPosition > position) {
+					replayRepositoryAdapter.saveBatch(partition.topic(), partition.partition(), nextPosition, events);
+					replayed += events.size();
+					position = nextPosition;
+				}
+			}
+			logger.info(GlobalConstants.MSG_PATTERN_INFO, GlobalConstants.MSG_REPLAY_PARTITION, partition + ":" + replayed);
+		}
+	}
+
+}
@@ -0,0 +1,36 @@
+package dev.ime.infrastructure.adapter;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import dev.ime.common.constants.GlobalConstants;
+
+/**
+ * started with --spring.profiles.active=replay the service rebuilds its read models and exits, the profile
+ * leaves web, grpc, eureka, listeners and schedulers off so nothing else runs next to the replay
+ */
+@Component
+@Profile(GlobalConstants.PROFILE_REPLAY)
+public class EventReplayRunner implements ApplicationRunner {
+
+	private final EventReplayAdapter eventReplayAdapter;
+	private final ApplicationContext applicationContext;
+
+	public EventReplayRunner(EventReplayAdapter eventReplayAdapter, ApplicationContext applicationContext) {
+		super();
+		this.eventReplayAdapter = eventReplayAdapter;
+		this.applicationContext = applicationContext;
+	}
+
+	@Override
+	public void run(ApplicationArguments args) {
+
+		eventReplayAdapter.replay();
+		System.exit(SpringApplication.exit(applicationContext));
+	}
+
+}
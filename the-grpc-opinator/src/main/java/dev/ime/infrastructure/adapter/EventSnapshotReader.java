@@ -0,0 +1,106 @@
+package dev.ime.infrastructure.adapter;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.stereotype.Component;
+
+import dev.ime.common.constants.GlobalConstants;
+import dev.ime.domain.model.Event;
+
+/**
+ * rebuilds the latest event of every aggregate from its compacted topic. partitions are read in parallel,
+ * each one in order by its own consumer, and since a key never spans partitions the partial snapshots
+ * merge without any reordering
+ */
+@Component
+public class EventSnapshotReader {
+
+	private final ConsumerFactory<String, Object> consumerFactory;
+	private final Duration pollTimeout;
+	private static final Logger logger = LoggerFactory.getLogger(EventSnapshotReader.class);
+
+	public EventSnapshotReader(ConsumerFactory<String, Object> consumerFactory,
+			@Value("${opinator.events.snapshot.poll-timeout:1s}") Duration pollTimeout) {
+		super();
+		this.consumerFactory = consumerFactory;
+		this.pollTimeout = pollTimeout;
+	}
+
+	/**
+	 * @param topic
+	 * @return latest event by aggregate key, deleted aggregates left out
+	 */
+	public Map<String, Event> read(String topic) {
+
+		List<TopicPartition> partitions = findPartitions(topic);
+
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			List<CompletableFuture<Map<String, Event>>> futures = partitions.stream()
+					.map(partition -> CompletableFuture.supplyAsync(() -> readPartition(partition), executor))
+					.toList();
+
+			Map<String, Event> snapshot = new HashMap<>();
+			futures.stream().map(CompletableFuture::join).forEach(snapshot::putAll);
+			logger.info(GlobalConstants.MSG_PATTERN_INFO, GlobalConstants.MSG_SNAPSHOT_READ, topic + ":" + snapshot.size());
+
+			return snapshot;
+		}
+	}
+
+	private List<TopicPartition> findPartitions(String topic) {
+
+		try (Consumer<String, Object> consumer = consumerFactory.createConsumer(null, GlobalConstants.SNAPSHOT_CLIENT, "-" + topic)) {
+			return consumer.partitionsFor(topic).stream()
+					.map(info -> new TopicPartition(topic, info.partition()))
+					.toList();
+		}
+	}
+
+	private Map<String, Event> readPartition(TopicPartition partition) {
+
+		try (Consumer<String, Object> consumer = consumerFactory.createConsumer(null, GlobalConstants.SNAPSHOT_CLIENT, "-" + partition)) {
+			List<TopicPartition> assignment = List.of(partition);
+			consumer.assign(assignment);
+			consumer.seekToBeginning(assignment);
+			// under read_committed this is the last stable offset, open transactions are not waited for
+			long endOffset = consumer.endOffsets(assignment).get(partition);
+
+			Map<String, Event> state = new HashMap<>();
+			while (consumer.position(partition) < endOffset) {
+				consumer.poll(pollTimeout).forEach(consumerRecord -> apply(state, consumerRecord));
+			}
+
+			return state;
+		}
+	}
+
+	private void apply(Map<String, Event> state, ConsumerRecord<String, Object> consumerRecord) {
+
+		if (consumerRecord.key() == null) {
+			return;
+		}
+
+		// a tombstone ends the aggregate as well, compaction may already have dropped the deleted event before it
+		if (consumerRecord.value() == null) {
+			state.remove(consumerRecord.key());
+		} else if (consumerRecord.value() instanceof Event event && EventTopology.isDeletion(event)) {
+			state.remove(consumerRecord.key());
+		} else if (consumerRecord.value() instanceof Event event) {
+			state.put(consumerRecord.key(), event);
+		}
+	}
+
+}
@@ -0,0 +1,341 @@
+package dev.ime.infrastructure.adapter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import dev.ime.common.constants.GlobalConstants;
+import dev.ime.domain.model.Event;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * append-only spool of the events kafka could not take, on memory-mapped segment files.
+ * a segment starts with the offset the drainer has reached, then records of
+ * [int length][long appended at millis][json event]. the length is written last, so a zero length
+ * marks the end and a record is never read half written. appends only reach the page cache,
+ * they survive the process but not the host. a drained segment is deleted
+ */
+@Component
+public class EventSpool {
+
+	private static final String SEGMENT_PREFIX = "spool-";
+	private static final String SEGMENT_SUFFIX = ".log";
+	private static final String LOCK_FILE = "spool.lock";
+	private static final int SEGMENT_HEADER_BYTES = Long.BYTES;
+	private static final int RECORD_HEADER_BYTES = Integer.BYTES + Long.BYTES;
+
+	private final ObjectMapper objectMapper;
+	private final Path dir;
+	private final int segmentBytes;
+	private final Deque<Segment> segments = new ArrayDeque<>();
+	private final ReentrantLock lock = new ReentrantLock();
+	private final AtomicLong depth = new AtomicLong();
+	private long nextSegmentId;
+	private FileChannel lockChannel;
+	private FileLock fileLock;
+	private static final Logger logger = LoggerFactory.getLogger(EventSpool.class);
+
+	public EventSpool(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+			@Value("${opinator.spool.dir:spool/${spring.application.name}}") Path dir,
+			@Value("${opinator.spool.segment-bytes:67108864}") int segmentBytes) {
+		super();
+		this.objectMapper = objectMapper;
+		this.dir = dir;
+		this.segmentBytes = segmentBytes;
+		Gauge.builder(GlobalConstants.METRIC_SPOOL_DEPTH, depth, AtomicLong::get).register(meterRegistry);
+		Gauge.builder(GlobalConstants.METRIC_SPOOL_AGE, this, spool -> spool.age().toMillis() / 1000.0)
+		.baseUnit("seconds")
+		.register(meterRegistry);
+	}
+
+	/**
+	 * picks up what an earlier run left behind, the lock file keeps a second process off the same directory
+	 */
+	@PostConstruct
+	public void open() {
+
+		try {
+			Files.createDirectories(dir);
+			lockChannel = FileChannel.open(dir.resolve(LOCK_FILE), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+			fileLock = lockChannel.tryLock();
+			if (fileLock == null) {
+				throw new IllegalStateException("Spool directory in use by another process: " + dir);
+			}
+			for (Path path : listSegments()) {
+				recover(path);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@PreDestroy
+	public void close() throws IOException {
+
+		lock.lock();
+		try {
+			segments.forEach(segment -> segment.buffer.force());
+			segments.clear();
+			fileLock.release();
+			lockChannel.close();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public boolean hasPending() {
+		return depth.get() > 0;
+	}
+
+	public long depth() {
+		return depth.get();
+	}
+
+	/**
+	 * how long the oldest pending event has waited, zero when nothing is pending
+	 */
+	public Duration age() {
+
+		lock.lock();
+		try {
+			for (Segment segment : segments) {
+				int position = segment.readPosition();
+				if (position < segment.writePosition) {
+					return Duration.ofMillis(Math.max(0L, System.currentTimeMillis() - segment.buffer.getLong(position + Integer.BYTES)));
+				}
+			}
+			return Duration.ZERO;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public void append(List<Event> events) {
+
+		List<byte[]> payloads = events.stream().map(this::fromEventToBytes).toList();
+		long appendedAt = System.currentTimeMillis();
+
+		lock.lock();
+		try {
+			for (byte[] payload : payloads) {
+				Segment segment = segments.peekLast();
+				if (segment == null || !segment.fits(payload.length)) {
+					segment = roll(payload.length);
+				}
+				segment.write(appendedAt, payload);
+				depth.incrementAndGet();
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * hands the oldest events to the publisher in append order and moves past them only once it returned,
+	 * a publisher that throws leaves them for the next call. meant for a single drainer
+	 * @param maxEvents
+	 * @param publisher
+	 * @return how many records were moved past, unreadable ones included
+	 */
+	public int drain(int maxEvents, Consumer<List<Event>> publisher) {
+
+		List<byte[]> payloads = read(maxEvents);
+		if (payloads.isEmpty()) {
+			return 0;
+		}
+
+		List<Event> events = new ArrayList<>(payloads.size());
+		for (byte[] payload : payloads) {
+			try {
+				events.add(objectMapper.readValue(payload, Event.class));
+			} catch (IOException e) {
+				// an unreadable record would block the spool forever, it is logged and dropped instead
+				logger.error(GlobalConstants.MSG_PATTERN_SEVERE, GlobalConstants.MSG_SPOOL_UNREADABLE, e.getMessage());
+			}
+		}
+		if (!events.isEmpty()) {
+			publisher.accept(events);
+		}
+		advance(payloads.size());
+
+		return payloads.size();
+	}
+
+	private List<byte[]> read(int maxEvents) {
+
+		List<byte[]> payloads = new ArrayList<>();
+		lock.lock();
+		try {
+			for (Segment segment : segments) {
+				int position = segment.readPosition();
+				while (payloads.size() < maxEvents && position < segment.writePosition) {
+					byte[] payload = new byte[segment.buffer.getInt(position)];
+					segment.buffer.get(position + RECORD_HEADER_BYTES, payload);
+					payloads.add(payload);
+					position += RECORD_HEADER_BYTES + payload.length;
+				}
+				if (payloads.size() == maxEvents) {
+					break;
+				}
+			}
+		} finally {
+			lock.unlock();
+		}
+		return payloads;
+	}
+
+	private void advance(int records) {
+
+		lock.lock();
+		try {
+			int remaining = records;
+			while (remaining > 0) {
+				Segment segment = segments.peekFirst();
+				int position = segment.readPosition();
+				while (remaining > 0 && position < segment.writePosition) {
+					position += RECORD_HEADER_BYTES + segment.buffer.getInt(position);
+					remaining--;
+					depth.decrementAndGet();
+				}
+				segment.readPosition(position);
+				if (position == segment.writePosition && segments.size() > 1) {
+					segments.removeFirst();
+					Files.deleteIfExists(segment.path);
+				}
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private Segment roll(int payloadBytes) {
+
+		long id = nextSegmentId++;
+		Path path = dir.resolve(SEGMENT_PREFIX + String.format("%020d", id) + SEGMENT_SUFFIX);
+		int size = Math.max(segmentBytes, SEGMENT_HEADER_BYTES + RECORD_HEADER_BYTES + payloadBytes);
+
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			Segment segment = new Segment(path, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+			segment.readPosition(SEGMENT_HEADER_BYTES);
+			segment.writePosition = SEGMENT_HEADER_BYTES;
+			segments.addLast(segment);
+			return segment;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private void recover(Path path) throws IOException {
+
+		String name = path.getFileName().toString();
+		nextSegmentId = Math.max(nextSegmentId, Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())) + 1);
+
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			// a crash between creating a segment and writing its header leaves nothing worth keeping
+			if (channel.size() < SEGMENT_HEADER_BYTES + RECORD_HEADER_BYTES) {
+				Files.delete(path);
+				return;
+			}
+			Segment segment = new Segment(path, channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size()));
+			int readPosition = Math.max(SEGMENT_HEADER_BYTES, segment.readPosition());
+			segment.readPosition(readPosition);
+			int position = SEGMENT_HEADER_BYTES;
+			int length;
+			while (position + RECORD_HEADER_BYTES <= segment.buffer.capacity() && (length = segment.buffer.getInt(position)) > 0) {
+				if (position >= readPosition) {
+					depth.incrementAndGet();
+				}
+				position += RECORD_HEADER_BYTES + length;
+			}
+			segment.writePosition = position;
+			segments.addLast(segment);
+		}
+
+		// only the newest segment may stay once drained, it is still taking appends
+		while (segments.size() > 1 && segments.peekFirst().readPosition() == segments.peekFirst().writePosition) {
+			Files.deleteIfExists(segments.removeFirst().path);
+		}
+	}
+
+	private List<Path> listSegments() throws IOException {
+
+		try (Stream<Path> paths = Files.list(dir)) {
+			return paths.filter(path -> {
+				String name = path.getFileName().toString();
+				return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+			})
+			.sorted()
+			.toList();
+		}
+	}
+
+	private byte[] fromEventToBytes(Event event) {
+
+		try {
+			return objectMapper.writeValueAsBytes(event);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static final class Segment {
+
+		private final Path path;
+		private final MappedByteBuffer buffer;
+		private int writePosition;
+
+		private Segment(Path path, MappedByteBuffer buffer) {
+			super();
+			this.path = path;
+			this.buffer = buffer;
+		}
+
+		private int readPosition() {
+			return (int) buffer.getLong(0);
+		}
+
+		private void readPosition(int position) {
+			buffer.putLong(0, position);
+		}
+
+		private boolean fits(int payloadBytes) {
+			return (long) writePosition + RECORD_HEADER_BYTES + payloadBytes <= buffer.capacity();
+		}
+
+		private void write(long appendedAt, byte[] payload) {
+
+			buffer.putLong(writePosition + Integer.BYTES, appendedAt);
+			buffer.put(writePosition + RECORD_HEADER_BYTES, payload);
+			buffer.putInt(writePosition, payload.length);
+			writePosition += RECORD_HEADER_BYTES + payload.length;
+		}
+
+	}
+
+}
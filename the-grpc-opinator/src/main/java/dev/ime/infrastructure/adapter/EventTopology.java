@@ -0,0 +1,56 @@
+package dev.ime.infrastructure.adapter;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import dev.ime.common.constants.GlobalConstants;
+import dev.ime.domain.model.Event;
+
+/**
+ * one compacted topic per aggregate, keyed by the aggregate id. the key pins every event of an entity
+ * to one partition, so its events stay in order and compaction keeps its latest state
+ */
+final class EventTopology {
+
+	private record Route(String topic, String keyField) {}
+
+	private static final Map<String, Route> ROUTES = Map.of(
+			GlobalConstants.USER_CAT, new Route(GlobalConstants.USER_TOPIC, GlobalConstants.USER_EMAIL),
+			GlobalConstants.USERAPP_CAT, new Route(GlobalConstants.USERAPP_TOPIC, GlobalConstants.USERAPP_EMAIL),
+			GlobalConstants.CAT_CAT, new Route(GlobalConstants.CAT_TOPIC, GlobalConstants.CAT_ID),
+			GlobalConstants.PROD_CAT, new Route(GlobalConstants.PROD_TOPIC, GlobalConstants.PROD_ID),
+			GlobalConstants.REV_CAT, new Route(GlobalConstants.REV_TOPIC, GlobalConstants.REV_ID),
+			GlobalConstants.VOT_CAT, new Route(GlobalConstants.VOT_TOPIC, GlobalConstants.VOT_ID));
+
+	private static final Set<String> DELETIONS = Set.of(GlobalConstants.USER_DELETED, GlobalConstants.USERAPP_DELETED,
+			GlobalConstants.CAT_DELETED, GlobalConstants.PROD_DELETED, GlobalConstants.REV_DELETED, GlobalConstants.VOT_DELETED);
+
+	private EventTopology() {
+		super();
+	}
+
+	static String topic(Event event) {
+
+		return route(event).topic();
+	}
+
+	static String key(Event event) {
+
+		return Optional.ofNullable(event.getEventData().get(route(event).keyField()))
+				.map(String::valueOf)
+				.orElse(null);
+	}
+
+	static boolean isDeletion(Event event) {
+
+		return DELETIONS.contains(event.getEventType());
+	}
+
+	private static Route route(Event event) {
+
+		return Optional.ofNullable(ROUTES.get(event.getEventCategory()))
+				.orElseThrow(() -> new IllegalArgumentException(GlobalConstants.MSG_UNSUP_REQ + ": " + event.getEventCategory()));
+	}
+
+}
@@ -0,0 +1,247 @@
+package dev.ime.infrastructure.adapter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import dev.ime.common.constants.GlobalConstants;
+import dev.ime.domain.model.Event;
+import dev.ime.domain.port.outbound.PublisherPort;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * events of concurrent callers share one kafka transaction. a batch is committed once it holds
+ * max-batch-size events or its oldest event waited linger-ms, and every caller is told how its own event went.
+ * events published inside a database transaction are only submitted once it committed, a rollback publishes
+ * nothing and the connection is not held through the linger
+ */
+@Primary
+@Service
+@ConditionalOnProperty(name = "opinator.publisher.mode", havingValue = "group-commit")
+public class GroupCommitPublisherAdapter implements PublisherPort {
+
+	private final KafkaPublisherAdapter kafkaPublisherAdapter;
+	private final int maxBatchSize;
+	private final long lingerNanos;
+	private final int maxPending;
+	private final Queue<PendingEvent> queue = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger pending = new AtomicInteger();
+	// submit holds it shared and stop exclusively, no event is queued once the flusher may have seen the end
+	private final ReadWriteLock gate = new ReentrantReadWriteLock();
+	private final DistributionSummary batchSizeSummary;
+	private final Timer commitTimer;
+	private volatile boolean running;
+	private volatile Thread flusher;
+	private static final Logger logger = LoggerFactory.getLogger(GroupCommitPublisherAdapter.class);
+
+	private record PendingEvent(Event event, CompletableFuture<Void> future) {}
+
+	public GroupCommitPublisherAdapter(KafkaPublisherAdapter kafkaPublisherAdapter, MeterRegistry meterRegistry,
+			@Value("${opinator.publisher.group-commit.max-batch-size:100}") int maxBatchSize,
+			@Value("${opinator.publisher.group-commit.linger-ms:5}") long lingerMs,
+			@Value("${opinator.publisher.group-commit.max-pending:10000}") int maxPending) {
+		super();
+		this.kafkaPublisherAdapter = kafkaPublisherAdapter;
+		this.maxBatchSize = maxBatchSize;
+		this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(lingerMs);
+		this.maxPending = maxPending;
+		this.batchSizeSummary = DistributionSummary.builder(GlobalConstants.METRIC_PUBLISH_BATCH).register(meterRegistry);
+		this.commitTimer = Timer.builder(GlobalConstants.METRIC_PUBLISH_COMMIT).register(meterRegistry);
+		Gauge.builder(GlobalConstants.METRIC_PUBLISH_PENDING, pending, AtomicInteger::get).register(meterRegistry);
+	}
+
+	@PostConstruct
+	public void start() {
+
+		running = true;
+		flusher = Thread.ofVirtual().name("group-commit-publisher").start(this::flushLoop);
+	}
+
+	/**
+	 * whatever is queued is still committed before the flusher ends
+	 */
+	@PreDestroy
+	public void stop() throws InterruptedException {
+
+		gate.writeLock().lock();
+		try {
+			running = false;
+		} finally {
+			gate.writeLock().unlock();
+		}
+		LockSupport.unpark(flusher);
+		flusher.join();
+
+		// only left behind if the flusher died, their callers must not wait forever
+		PendingEvent item;
+		while ((item = queue.poll()) != null) {
+			pending.decrementAndGet();
+			item.future().completeExceptionally(new RejectedExecutionException(GlobalConstants.MSG_GROUP_COMMIT_FAIL));
+		}
+	}
+
+	@Override
+	public void publishEvent(Event event) {
+
+		publishEvents(List.of(event));
+	}
+
+	/**
+	 * inside a transaction the events wait for its commit and the caller does not wait for kafka, outside one
+	 * the caller waits for the batches holding its events
+	 */
+	@Override
+	public void publishEvents(List<Event> events) {
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					submitCommitted(events);
+				}
+			});
+			return;
+		}
+
+		await(CompletableFuture.allOf(events.stream().map(this::submit).toArray(CompletableFuture[]::new)));
+	}
+
+	/**
+	 * the future completes once the kafka transaction holding the event committed, it fails when the event was
+	 * rejected or went to the spool instead
+	 */
+	public CompletableFuture<Void> submit(Event event) {
+
+		CompletableFuture<Void> future = enqueue(event);
+		return future != null ? future : reject(event);
+	}
+
+	/**
+	 * @return the event's future, null when the adapter is stopped or the queue is full
+	 */
+	private CompletableFuture<Void> enqueue(Event event) {
+
+		gate.readLock().lock();
+		try {
+			if (!running) {
+				return null;
+			}
+			if (pending.incrementAndGet() > maxPending) {
+				pending.decrementAndGet();
+				return null;
+			}
+
+			CompletableFuture<Void> future = new CompletableFuture<>();
+			queue.offer(new PendingEvent(event, future));
+			if (pending.get() >= maxBatchSize) {
+				LockSupport.unpark(flusher);
+			}
+
+			return future;
+		} finally {
+			gate.readLock().unlock();
+		}
+	}
+
+	/**
+	 * the change is committed already, so events the queue rejects are published right away instead of being
+	 * lost, kafka or the spool takes them
+	 */
+	private void submitCommitted(List<Event> events) {
+
+		List<Event> rejected = events.stream()
+				.filter(event -> enqueue(event) == null)
+				.toList();
+		if (!rejected.isEmpty()) {
+			logger.error(GlobalConstants.MSG_PATTERN_SEVERE, GlobalConstants.MSG_GROUP_COMMIT_FULL, rejected.size());
+			kafkaPublisherAdapter.publishEvents(rejected);
+		}
+	}
+
+	private CompletableFuture<Void> reject(Event event) {
+
+		logger.error(GlobalConstants.MSG_PATTERN_SEVERE, GlobalConstants.MSG_GROUP_COMMIT_FULL, event);
+		return CompletableFuture.failedFuture(new RejectedExecutionException(GlobalConstants.MSG_GROUP_COMMIT_FULL));
+	}
+
+	private void await(CompletableFuture<Void> future) {
+
+		try {
+			future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	private void flushLoop() {
+
+		while (running || !queue.isEmpty()) {
+			if (running && pending.get() < maxBatchSize) {
+				LockSupport.parkNanos(this, lingerNanos);
+			}
+			flush();
+		}
+	}
+
+	private void flush() {
+
+		List<PendingEvent> batch = new ArrayList<>(maxBatchSize);
+		PendingEvent item;
+		while (batch.size() < maxBatchSize && (item = queue.poll()) != null) {
+			batch.add(item);
+		}
+		if (batch.isEmpty()) {
+			return;
+		}
+		pending.addAndGet(-batch.size());
+
+		long start = System.nanoTime();
+		RuntimeException failure = null;
+		try {
+			if (!kafkaPublisherAdapter.publishOrSpool(batch.stream().map(PendingEvent::event).toList())) {
+				failure = new IllegalStateException(GlobalConstants.MSG_SPOOLED);
+			}
+		} catch (RuntimeException e) {
+			logger.error(GlobalConstants.MSG_PATTERN_SEVERE, GlobalConstants.MSG_GROUP_COMMIT_FAIL, e.getMessage());
+			failure = e;
+		}
+		// recorded before the callers are released, so a batch they waited for is already in the metrics
+		commitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		batchSizeSummary.record(batch.size());
+
+		for (PendingEvent pendingEvent : batch) {
+			if (failure == null) {
+				pendingEvent.future().complete(null);
+			} else {
+				pendingEvent.future().completeExceptionally(failure);
+			}
+		}
+	}
+
+}
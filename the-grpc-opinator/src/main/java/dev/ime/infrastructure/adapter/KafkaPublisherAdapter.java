@@ -1,55 +1,216 @@
 package dev.ime.infrastructure.adapter;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.kafka.core.KafkaOperations;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import dev.ime.common.constants.GlobalConstants;
 import dev.ime.domain.model.Event;
 import dev.ime.domain.port.outbound.PublisherPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 
+/**
+ * in the modes without an outbox, events kafka does not take go to the spool instead of being lost. while the
+ * spool holds anything, new events are appended behind it without trying kafka, so callers do not wait on
+ * max.block.ms and the drainer replays everything in the order it was published. the outbox relay never
+ * spools, its rows are already durable and a failure has to leave them in place.
+ * send latency runs from handing a record to the producer until the broker acked it, the producer's own
+ * buffer and retry metrics are bound by boot as kafka.producer.*. a record counts as failed once, whether its
+ * ack or the commit of its transaction failed first
+ */
 @Service
 public class KafkaPublisherAdapter implements PublisherPort {
 
 	private final KafkaTemplate<String, Object> kafkaTemplate;
+	private final EventSpool eventSpool;
+	private final MeterRegistry meterRegistry;
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private final Counter retryCounter;
+	private final Map<String, Timer> latencyTimers = new ConcurrentHashMap<>();
+	private final Map<String, Counter> failureCounters = new ConcurrentHashMap<>();
 	private static final Logger logger = LoggerFactory.getLogger(KafkaPublisherAdapter.class);
 
-	public KafkaPublisherAdapter(KafkaTemplate<String, Object> kafkaTemplate) {
+	public KafkaPublisherAdapter(KafkaTemplate<String, Object> kafkaTemplate, EventSpool eventSpool, MeterRegistry meterRegistry) {
 		super();
 		this.kafkaTemplate = kafkaTemplate;
+		this.eventSpool = eventSpool;
+		this.meterRegistry = meterRegistry;
+		this.retryCounter = Counter.builder(GlobalConstants.METRIC_SEND_RETRIES).register(meterRegistry);
+		Gauge.builder(GlobalConstants.METRIC_IN_FLIGHT, inFlight, AtomicInteger::get).register(meterRegistry);
 	}
 
 	@Override
-	@Transactional("kafkaTransactionManager")
 	public void publishEvent(Event event) {
 
-		logger.info(GlobalConstants.MSG_PATTERN_INFO, GlobalConstants.MSG_PUBLISH_EVENT, event);
+		publishEvents(List.of(event));
+	}
+
+	/**
+	 * all events share one kafka transaction, a bulk chunk commits or aborts its events together
+	 */
+	@Override
+	public void publishEvents(List<Event> events) {
+
+		publishOrSpool(events);
+	}
+
+	/**
+	 * the group commit's way in
+	 * @param events
+	 * @return true once kafka committed the events, false when they went to the spool instead
+	 */
+	boolean publishOrSpool(List<Event> events) {
+
+		List<ProducerRecord<String, Object>> producerRecords = createProducerRecords(events);
+		if (eventSpool.hasPending()) {
+			eventSpool.append(events);
+			return false;
+		}
+
+		try {
+			send(producerRecords);
+			return true;
+		} catch (org.apache.kafka.common.KafkaException | org.springframework.kafka.KafkaException e) {
+			logger.error(GlobalConstants.MSG_PATTERN_SEVERE, GlobalConstants.MSG_SPOOLED, e.getMessage());
+			eventSpool.append(events);
+			return false;
+		}
+	}
+
+	/**
+	 * the outbox relay's way in, a failure is thrown back so the relay keeps the rows
+	 */
+	void publishRelayed(List<Event> events) {
+
+		send(createProducerRecords(events));
+	}
+
+	/**
+	 * the drainer's way in, a failure is thrown back so the spool keeps the events
+	 */
+	void publishSpooled(List<Event> events) {
+
+		retryCounter.increment(events.size());
+		send(createProducerRecords(events));
+	}
+
+	private void send(List<ProducerRecord<String, Object>> producerRecords) {
+
+		Set<ProducerRecord<String, Object>> failed = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+		try {
+			kafkaTemplate.executeInTransaction(operations -> {
+				producerRecords.forEach(producerRecord -> send(operations, producerRecord, failed));
+				return null;
+			});
+		} catch (RuntimeException e) {
+			// an aborted or failed commit loses every record of the transaction
+			producerRecords.forEach(producerRecord -> countFailure(producerRecord, failed));
+			throw e;
+		}
+	}
+
+	private void send(KafkaOperations<String, Object> operations, ProducerRecord<String, Object> producerRecord,
+			Set<ProducerRecord<String, Object>> failed) {
 
-		CompletableFuture<SendResult<String, Object>> completableFuture = kafkaTemplate
-				.send(new ProducerRecord<>(event.getEventType(), event));
-		completableFuture.whenComplete((result, ex) -> {
+		logger.info(GlobalConstants.MSG_PATTERN_INFO, GlobalConstants.MSG_PUBLISH_EVENT, producerRecord.value());
+		long start = System.nanoTime();
+		inFlight.incrementAndGet();
+
+		CompletableFuture<SendResult<String, Object>> future;
+		try {
+			future = operations.send(producerRecord);
+		} catch (RuntimeException e) {
+			inFlight.decrementAndGet();
+			countFailure(producerRecord, failed);
+			throw e;
+		}
+
+		future.whenComplete((result, ex) -> {
+			inFlight.decrementAndGet();
 			if (ex == null) {
+				latencyTimers.computeIfAbsent(producerRecord.topic(), this::registerLatencyTimer)
+				.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
 				handleSuccess(result);
 			} else {
-				handleFailure(result, ex);
+				countFailure(producerRecord, failed);
+				handleFailure(producerRecord, ex);
 			}
 		});
 	}
 
+	/**
+	 * a deletion is followed by a tombstone on its key, so compaction drops the aggregate from the topic
+	 * once delete.retention.ms has passed instead of keeping its deleted event forever
+	 */
+	private List<ProducerRecord<String, Object>> createProducerRecords(List<Event> events) {
+
+		List<ProducerRecord<String, Object>> producerRecords = new ArrayList<>(events.size());
+		for (Event event : events) {
+			ProducerRecord<String, Object> producerRecord = createProducerRecord(event);
+			producerRecords.add(producerRecord);
+			if (EventTopology.isDeletion(event) && producerRecord.key() != null) {
+				producerRecords.add(new ProducerRecord<>(producerRecord.topic(), producerRecord.key(), null));
+			}
+		}
+		return producerRecords;
+	}
+
+	private ProducerRecord<String, Object> createProducerRecord(Event event) {
+
+		ProducerRecord<String, Object> producerRecord = new ProducerRecord<>(EventTopology.topic(event), EventTopology.key(event), event);
+		producerRecord.headers().add(GlobalConstants.HEADER_EVENT_TYPE, event.getEventType().getBytes(StandardCharsets.UTF_8));
+		return producerRecord;
+	}
+
+	private void countFailure(ProducerRecord<String, Object> producerRecord, Set<ProducerRecord<String, Object>> failed) {
+
+		if (failed.add(producerRecord)) {
+			failureCounters.computeIfAbsent(producerRecord.topic(), this::registerFailureCounter).increment();
+		}
+	}
+
+	private Timer registerLatencyTimer(String topic) {
+
+		return Timer.builder(GlobalConstants.METRIC_SEND_LATENCY)
+				.tag(GlobalConstants.TAG_TOPIC, topic)
+				.publishPercentileHistogram()
+				.register(meterRegistry);
+	}
+
+	private Counter registerFailureCounter(String topic) {
+
+		return Counter.builder(GlobalConstants.METRIC_SEND_FAILURES)
+				.tag(GlobalConstants.TAG_TOPIC, topic)
+				.register(meterRegistry);
+	}
+
 	private void handleSuccess(SendResult<String, Object> result) {
 		logger.info(GlobalConstants.MSG_PATTERN_INFO, GlobalConstants.MSG_PUBLISH_OK,
 				result.getProducerRecord().value());
 	}
 
-	private void handleFailure(SendResult<String, Object> result, Throwable ex) {
-		logger.info(GlobalConstants.MSG_PATTERN_INFO, GlobalConstants.MSG_PUBLISH_FAIL,
-				" [" + result.getProducerRecord().value() + "]:[" + ex.getMessage()+ "]");
+	private void handleFailure(ProducerRecord<String, Object> producerRecord, Throwable ex) {
+		logger.error(GlobalConstants.MSG_PATTERN_SEVERE, GlobalConstants.MSG_PUBLISH_FAIL,
+				" [" + producerRecord.value() + "]:[" + ex.getMessage()+ "]");
 	}
 
 }
@@ -0,0 +1,47 @@
+package dev.ime.infrastructure.adapter;
+
+import org.springframework.data.domain.Sort;
+
+import dev.ime.domain.model.PageCursor;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * seek predicate on (sortBy, id), rows after the cursor in the order given by the first sort order
+ */
+final class KeysetPredicates {
+
+	private KeysetPredicates() {
+		super();
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	static <T> Predicate after(CriteriaBuilder cb, Root<T> root, Sort sort, String idAttr, PageCursor cursor) {
+
+		Sort.Order order = sort.stream().findFirst().orElse(Sort.Order.asc(idAttr));
+		boolean asc = order.isAscending();
+		Expression<Long> idPath = root.get(idAttr);
+		Predicate idAfter = asc ? cb.greaterThan(idPath, cursor.lastId()) : cb.lessThan(idPath, cursor.lastId());
+
+		if (order.getProperty().equals(idAttr)) {
+			return idAfter;
+		}
+
+		Expression<Comparable> sortPath = root.get(order.getProperty());
+		Comparable value = (Comparable) cursor.sortValue();
+
+		// PostgreSQL puts nulls last in ascending order and first in descending order
+		if (value == null) {
+			Predicate sameNull = cb.and(cb.isNull(sortPath), idAfter);
+			return asc ? sameNull : cb.or(cb.isNotNull(sortPath), sameNull);
+		}
+
+		Predicate valueAfter = asc ? cb.greaterThan(sortPath, value) : cb.lessThan(sortPath, value);
+		Predicate seek = cb.or(valueAfter, cb.and(cb.equal(sortPath, value), idAfter));
+
+		return asc ? cb.or(seek, cb.isNull(sortPath)) : seek;
+	}
+
+}
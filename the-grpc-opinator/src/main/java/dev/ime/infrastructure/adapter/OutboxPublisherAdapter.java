@@ -0,0 +1,68 @@
+package dev.ime.infrastructure.adapter;
+
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import dev.ime.domain.model.Event;
+import dev.ime.domain.port.outbound.PublisherPort;
+import dev.ime.infrastructure.entity.OutboxEventJpaEntity;
+import jakarta.persistence.EntityManager;
+
+/**
+ * events are stored in the caller's transaction, they exist if and only if the change that produced them
+ * was committed. the relay ships them to kafka afterwards.
+ * the caller's changes are flushed first, so the aggregate's rows are locked before the event gets its
+ * relay position. a later change of the same aggregate waits on those locks and always gets a higher one
+ */
+@Primary
+@Repository
+@ConditionalOnProperty(name = "opinator.publisher.mode", havingValue = "outbox", matchIfMissing = true)
+public class OutboxPublisherAdapter implements PublisherPort {
+
+	private final EntityManager entityManager;
+	private final ObjectMapper objectMapper;
+
+	public OutboxPublisherAdapter(EntityManager entityManager, ObjectMapper objectMapper) {
+		super();
+		this.entityManager = entityManager;
+		this.objectMapper = objectMapper;
+	}
+
+	@Override
+	@Transactional(value = "transactionManager", propagation = Propagation.MANDATORY)
+	public void publishEvent(Event event) {
+
+		entityManager.flush();
+		entityManager.persist(createOutboxEvent(event));
+	}
+
+	@Override
+	@Transactional(value = "transactionManager", propagation = Propagation.MANDATORY)
+	public void publishEvents(List<Event> events) {
+
+		entityManager.flush();
+		events.stream().map(this::createOutboxEvent).forEach(entityManager::persist);
+	}
+
+	private OutboxEventJpaEntity createOutboxEvent(Event event) {
+
+		try {
+			return OutboxEventJpaEntity.builder()
+					.eventType(event.getEventType())
+					.payload(objectMapper.writeValueAsString(event))
+					.createdAt(event.getEventTimestamp())
+					.build();
+		} catch (JsonProcessingException e) {
+			throw new IllegalArgumentException(e.getMessage(), e);
+		}
+	}
+
+}
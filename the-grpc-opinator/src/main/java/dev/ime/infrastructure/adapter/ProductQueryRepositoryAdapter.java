@@ -0,0 +1,163 @@
+package dev.ime.infrastructure.adapter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import dev.ime.application.dto.ProductDto;
+import dev.ime.application.exception.ResourceNotFoundException;
+import dev.ime.common.constants.GlobalConstants;
+import dev.ime.domain.model.PageCursor;
+import dev.ime.domain.port.outbound.SearchQueryRepositoryPort;
+import dev.ime.infrastructure.entity.ProductJpaEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.NoResultException;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CompoundSelection;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Root;
+
+@Repository
+public class ProductQueryRepositoryAdapter implements SearchQueryRepositoryPort<ProductDto> {
+
+	private static final String SELECT_DTO = "SELECT new dev.ime.application.dto.ProductDto(p.productId, p.productName, p.productDescription, p.category.categoryId) FROM ProductJpaEntity p";
+	private static final String SEARCH_SQL = "SELECT p.product_id, p.product_name, p.product_description, p.category_id FROM (SELECT * FROM products WHERE product_search @@ websearch_to_tsquery('english', ?1) ORDER BY product_id DESC LIMIT " + GlobalConstants.SEARCH_MAX_RESULTS + ") p, websearch_to_tsquery('english', ?1) q ORDER BY ts_rank(p.product_search, q) DESC, p.product_id";
+
+	@PersistenceContext
+	private final EntityManager entityManager;
+
+	public ProductQueryRepositoryAdapter(EntityManager entityManager) {
+		super();
+		this.entityManager = entityManager;
+	}
+
+	@Override
+	@Transactional(value = "transactionManager", readOnly = true)
+	public List<ProductDto> findAll() {
+
+		TypedQuery<ProductDto> query = entityManager.createQuery(SELECT_DTO, ProductDto.class);
+		cacheInRegion(query);
+
+		return query.getResultList();
+	}
+
+	@Override
+	@Transactional(value = "transactionManager", readOnly = true)
+	public List<ProductDto> findAll(Pageable pageable) {
+
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+	    CriteriaQuery<ProductDto> cq = cb.createQuery(ProductDto.class);
+	    Root<ProductJpaEntity> root = cq.from(ProductJpaEntity.class);
+	    cq.select(buildSelection(cb, root));
+	    cq.orderBy(buildSortOrder(pageable.getSort(), cb, root));
+	    
+        TypedQuery<ProductDto> query = entityManager.createQuery(cq);
+        cacheInRegion(query);
+        query.setFirstResult(pageable.getPageNumber() * pageable.getPageSize()); 
+        query.setMaxResults(pageable.getPageSize());
+        
+        return query.getResultList();
+	}
+
+	@Override
+	@Transactional(value = "transactionManager", readOnly = true)
+	public List<ProductDto> findAll(Pageable pageable, PageCursor cursor) {
+
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+	    CriteriaQuery<ProductDto> cq = cb.createQuery(ProductDto.class);
+	    Root<ProductJpaEntity> root = cq.from(ProductJpaEntity.class);
+	    cq.select(buildSelection(cb, root));
+	    cq.where(KeysetPredicates.after(cb, root, pageable.getSort(), GlobalConstants.PROD_ID, cursor));
+	    cq.orderBy(buildSortOrder(pageable.getSort(), cb, root));
+	    
+        TypedQuery<ProductDto> query = entityManager.createQuery(cq);
+        cacheInRegion(query);
+        query.setMaxResults(pageable.getPageSize());
+        
+        return query.getResultList();
+	}
+
+	/**
+	 * matched over the generated tsvector column through its gin index, only the latest SEARCH_MAX_RESULTS matches are ranked,
+	 * searches are too varied to be worth the query cache
+	 */
+	@Override
+	@Transactional(value = "transactionManager", readOnly = true)
+	public Slice<ProductDto> search(String text, Pageable pageable) {
+
+		Query query = entityManager.createNativeQuery(SEARCH_SQL);
+		query.setParameter(1, text);
+		query.setFirstResult(Math.toIntExact(pageable.getOffset()));
+		query.setMaxResults(pageable.getPageSize() + 1);
+
+		@SuppressWarnings("unchecked")
+		List<Object[]> rows = query.getResultList();
+		List<ProductDto> dtos = rows.stream().limit(pageable.getPageSize()).map(this::fromRowToDto).toList();
+
+		return new SliceImpl<>(dtos, pageable, rows.size() > pageable.getPageSize());
+	}
+
+	private ProductDto fromRowToDto(Object[] row) {
+
+		return new ProductDto(((Number) row[0]).longValue(), (String) row[1], (String) row[2], ((Number) row[3]).longValue());
+	}
+
+	/**
+	 * results go to the query cache, hibernate drops them as soon as the underlying tables are written
+	 */
+	private void cacheInRegion(TypedQuery<ProductDto> query) {
+
+		query.setHint(HibernateHints.HINT_CACHEABLE, true);
+		query.setHint(HibernateHints.HINT_CACHE_REGION, GlobalConstants.CACHE_QUERY_PROD);
+	}
+
+	private CompoundSelection<ProductDto> buildSelection(CriteriaBuilder cb, Root<ProductJpaEntity> root) {
+
+		return cb.construct(ProductDto.class,
+				root.get(GlobalConstants.PROD_ID),
+				root.get(GlobalConstants.PROD_NAME),
+				root.get(GlobalConstants.PROD_DESC),
+				root.get("category").get(GlobalConstants.CAT_ID));
+	}
+
+	private List<Order> buildSortOrder(Sort sort, CriteriaBuilder criteriaBuilder, Root<ProductJpaEntity> root) {
+	
+		return sort.stream()
+		.map( order ->{
+			if (order.isAscending()) {
+				return criteriaBuilder.asc(root.get(order.getProperty()));
+			} else {
+				return criteriaBuilder.desc(root.get(order.getProperty()));
+			}
+		})
+		.toList();		
+	}
+
+	@Override
+	@Transactional(value = "transactionManager", readOnly = true)
+	public Optional<ProductDto> findById(Long id) {
+
+		TypedQuery<ProductDto> query = entityManager.createQuery(SELECT_DTO + " WHERE p.productId = ?1", ProductDto.class);
+		query.setParameter(1, id);
+		cacheInRegion(query);
+
+		try {
+			return Optional.of(query.getSingleResult());
+		} catch (NoResultException e) {
+			throw new ResourceNotFoundException(Map.of(GlobalConstants.PROD_ID, String.valueOf(id)));
+		}
+	}
+
+}
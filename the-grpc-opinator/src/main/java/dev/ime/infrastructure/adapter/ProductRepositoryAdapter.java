@@ -14,6 +14,7 @@ import dev.ime.application.exception.ResourceNotFoundException;
 import dev.ime.application.exception.UniqueValueException;
 import dev.ime.common.constants.GlobalConstants;
 import dev.ime.common.mapper.ProductMapper;
+import dev.ime.domain.model.PageCursor;
 import dev.ime.domain.model.Product;
 import dev.ime.domain.port.outbound.GenericRepositoryPort;
 import dev.ime.infrastructure.entity.CategoryJpaEntity;
@@ -24,7 +25,6 @@ import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
-import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Order;
 import jakarta.persistence.criteria.Root;
 
@@ -55,13 +55,11 @@ public class ProductRepositoryAdapter implements GenericRepositoryPort<Product>
 	@Transactional(value = "transactionManager", readOnly = true)
 	public List<Product> findAll(Pageable pageable) {
 
+		// no fetch join, LIMIT stays in sql and the reviews of the page come in batches of default_batch_fetch_size
 		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
 	    CriteriaQuery<ProductJpaEntity> cq = cb.createQuery(ProductJpaEntity.class);
-	    Root<ProductJpaEntity> root = cq.from(ProductJpaEntity.class);		  
-	    root.fetch("reviews", JoinType.LEFT);  
-	    
-        List<Order> orders = buildSortOrder(pageable.getSort(), cb, root);
-	    cq.orderBy(orders);
+	    Root<ProductJpaEntity> root = cq.from(ProductJpaEntity.class);
+	    cq.orderBy(buildSortOrder(pageable.getSort(), cb, root));
 	    
         TypedQuery<ProductJpaEntity> query = entityManager.createQuery(cq);
         query.setFirstResult(pageable.getPageNumber() * pageable.getPageSize()); 
@@ -70,6 +68,23 @@ public class ProductRepositoryAdapter implements GenericRepositoryPort<Product>
         return productMapper.fromListJpaToListDomain(query.getResultList());
 	}
 
+	@Override
+	@Transactional(value = "transactionManager", readOnly = true)
+	public List<Product> findAll(Pageable pageable, PageCursor cursor) {
+
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+	    CriteriaQuery<ProductJpaEntity> cq = cb.createQuery(ProductJpaEntity.class);
+	    Root<ProductJpaEntity> root = cq.from(ProductJpaEntity.class);
+	    
+	    cq.where(KeysetPredicates.after(cb, root, pageable.getSort(), GlobalConstants.PROD_ID, cursor));
+	    cq.orderBy(buildSortOrder(pageable.getSort(), cb, root));
+	    
+        TypedQuery<ProductJpaEntity> query = entityManager.createQuery(cq);
+        query.setMaxResults(pageable.getPageSize());
+        
+        return productMapper.fromListJpaToListDomain(query.getResultList());
+	}
+
 	private List<Order> buildSortOrder(Sort sort, CriteriaBuilder criteriaBuilder, Root<ProductJpaEntity> root) {
 	
 		return sort.stream()
@@ -82,7 +97,7 @@ public class ProductRepositoryAdapter implements GenericRepositoryPort<Product>
 		})
 		.toList();		
 	}
-	
+
 	@Override
 	@Transactional(value = "transactionManager", readOnly = true)
 	public Optional<Product> findById(Long id) {
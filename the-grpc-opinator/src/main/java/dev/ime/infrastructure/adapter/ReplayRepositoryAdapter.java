@@ -0,0 +1,189 @@
+package dev.ime.infrastructure.adapter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+
+import org.hibernate.query.NativeQuery;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import dev.ime.common.constants.GlobalConstants;
+import dev.ime.domain.model.Event;
+import dev.ime.domain.port.outbound.ReplayRepositoryPort;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+
+/**
+ * a replayed batch lands as the latest state of each review and vote, upserted with one statement per
+ * table from unnested arrays, together with the offset the partition resumes from
+ */
+@Repository
+public class ReplayRepositoryAdapter implements ReplayRepositoryPort {
+
+	private static final String PROD_STATS_TABLE = "product_rating_stats";
+	private static final String REV_STATS_TABLE = "review_vote_stats";
+	private static final String REPLAY_REV_TABLE = "replay_reviews";
+	private static final String REPLAY_VOT_TABLE = "replay_votes";
+	private static final String CHECKPOINT_TABLE = "replay_checkpoints";
+	// staged rows the live tables disagree with, in either direction. rows of deleted parents are not counted anyway
+	private static final String DRIFT_SQL = "SELECT (SELECT count(*) FROM (SELECT r.review_id, r.product_id, r.rating FROM replay_reviews r JOIN products p ON p.product_id = r.product_id EXCEPT SELECT review_id, product_id, rating FROM reviews) a)"
+			+ " + (SELECT count(*) FROM (SELECT review_id, product_id, rating FROM reviews EXCEPT SELECT review_id, product_id, rating FROM replay_reviews) b)"
+			+ " + (SELECT count(*) FROM (SELECT v.vote_id, v.review_id, v.useful FROM replay_votes v JOIN reviews r ON r.review_id = v.review_id EXCEPT SELECT vote_id, review_id, useful FROM votes) c)"
+			+ " + (SELECT count(*) FROM (SELECT vote_id, review_id, useful FROM votes EXCEPT SELECT vote_id, review_id, useful FROM replay_votes) d)";
+
+	private final EntityManager entityManager;
+
+	public ReplayRepositoryAdapter(EntityManager entityManager) {
+		super();
+		this.entityManager = entityManager;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	@Transactional(value = "transactionManager", readOnly = true)
+	public OptionalLong findCheckpoint(String topic, int partition) {
+
+		String queryString = "SELECT next_offset FROM replay_checkpoints WHERE topic = ?1 AND partition_id = ?2";
+		List<Number> rows = entityManager.createNativeQuery(queryString, Long.class)
+				.setParameter(1, topic)
+				.setParameter(2, partition)
+				.getResultList();
+
+		return rows.isEmpty() ? OptionalLong.empty() : OptionalLong.of(rows.get(0).longValue());
+	}
+
+	@Override
+	@Transactional("transactionManager")
+	public void saveBatch(String topic, int partition, long nextOffset, List<Event> events) {
+
+		Map<Long, Event> reviews = latestById(events, GlobalConstants.REV_CAT, GlobalConstants.REV_ID);
+		Map<Long, Event> votes = latestById(events, GlobalConstants.VOT_CAT, GlobalConstants.VOT_ID);
+		saveReviews(reviews);
+		saveVotes(votes);
+
+		String queryString = "INSERT INTO replay_checkpoints (topic, partition_id, next_offset) VALUES (?1, ?2, ?3) ON CONFLICT (topic, partition_id) DO UPDATE SET next_offset = EXCLUDED.next_offset";
+		createUpdate(queryString, CHECKPOINT_TABLE)
+		.setParameter(1, topic)
+		.setParameter(2, partition)
+		.setParameter(3, nextOffset)
+		.executeUpdate();
+	}
+
+	/**
+	 * counters are recounted from the staged rows that still match a live product or review, then the
+	 * staging is cleared in the same transaction so a crash either redoes this step or finds nothing left.
+	 * writers are held off by the share lock while the staging is checked against the live tables, a write the
+	 * replay did not see fails the rebuild instead of vanishing from the counters. staging and checkpoints stay,
+	 * so the next run only catches up on the partitions and checks again
+	 */
+	@Override
+	@Transactional("transactionManager")
+	public void rebuildReadModels() {
+
+		createUpdate("LOCK TABLE reviews, votes IN SHARE MODE", GlobalConstants.REV_CAT_DB, GlobalConstants.VOT_CAT_DB).executeUpdate();
+		long drift = ((Number) entityManager.createNativeQuery(DRIFT_SQL).getSingleResult()).longValue();
+		if (drift > 0) {
+			throw new IllegalStateException(GlobalConstants.MSG_REPLAY_DRIFT + ": " + drift);
+		}
+
+		createUpdate("DELETE FROM product_rating_stats", PROD_STATS_TABLE).executeUpdate();
+		createUpdate("INSERT INTO product_rating_stats (product_id, rating, review_count) SELECT r.product_id, r.rating, count(*) FROM replay_reviews r JOIN products p ON p.product_id = r.product_id GROUP BY r.product_id, r.rating", PROD_STATS_TABLE)
+		.executeUpdate();
+		createUpdate("DELETE FROM review_vote_stats", REV_STATS_TABLE).executeUpdate();
+		createUpdate("INSERT INTO review_vote_stats (review_id, useful, vote_count) SELECT v.review_id, v.useful, count(*) FROM replay_votes v JOIN reviews r ON r.review_id = v.review_id GROUP BY v.review_id, v.useful", REV_STATS_TABLE)
+		.executeUpdate();
+		createUpdate("TRUNCATE replay_reviews, replay_votes, replay_checkpoints", REPLAY_REV_TABLE, REPLAY_VOT_TABLE, CHECKPOINT_TABLE)
+		.executeUpdate();
+	}
+
+	private Map<Long, Event> latestById(List<Event> events, String category, String idField) {
+
+		Map<Long, Event> latest = new LinkedHashMap<>();
+		for (Event event : events) {
+			if (category.equals(event.getEventCategory()) && event.getEventData().get(idField) instanceof Number id) {
+				latest.put(id.longValue(), event);
+			}
+		}
+		return latest;
+	}
+
+	private void saveReviews(Map<Long, Event> reviews) {
+
+		List<Long> deleted = new ArrayList<>();
+		List<Long> reviewIds = new ArrayList<>();
+		List<Long> productIds = new ArrayList<>();
+		List<Integer> ratings = new ArrayList<>();
+		reviews.forEach((reviewId, event) -> {
+			if (EventTopology.isDeletion(event)) {
+				deleted.add(reviewId);
+			} else {
+				reviewIds.add(reviewId);
+				productIds.add(((Number) event.getEventData().get(GlobalConstants.PROD_ID)).longValue());
+				ratings.add(((Number) event.getEventData().get(GlobalConstants.REV_RAT)).intValue());
+			}
+		});
+
+		if (!reviewIds.isEmpty()) {
+			String queryString = "INSERT INTO replay_reviews (review_id, product_id, rating) SELECT * FROM unnest(?1, ?2, ?3) ON CONFLICT (review_id) DO UPDATE SET product_id = EXCLUDED.product_id, rating = EXCLUDED.rating";
+			createUpdate(queryString, REPLAY_REV_TABLE)
+			.setParameter(1, reviewIds.toArray(Long[]::new))
+			.setParameter(2, productIds.toArray(Long[]::new))
+			.setParameter(3, ratings.toArray(Integer[]::new))
+			.executeUpdate();
+		}
+		if (!deleted.isEmpty()) {
+			createUpdate("DELETE FROM replay_reviews WHERE review_id = ANY(?1)", REPLAY_REV_TABLE)
+			.setParameter(1, deleted.toArray(Long[]::new))
+			.executeUpdate();
+		}
+	}
+
+	private void saveVotes(Map<Long, Event> votes) {
+
+		List<Long> deleted = new ArrayList<>();
+		List<Long> voteIds = new ArrayList<>();
+		List<Long> reviewIds = new ArrayList<>();
+		List<Boolean> useful = new ArrayList<>();
+		votes.forEach((voteId, event) -> {
+			if (EventTopology.isDeletion(event)) {
+				deleted.add(voteId);
+			} else {
+				voteIds.add(voteId);
+				reviewIds.add(((Number) event.getEventData().get(GlobalConstants.REV_ID)).longValue());
+				useful.add((Boolean) event.getEventData().get(GlobalConstants.VOT_US));
+			}
+		});
+
+		if (!voteIds.isEmpty()) {
+			String queryString = "INSERT INTO replay_votes (vote_id, review_id, useful) SELECT * FROM unnest(?1, ?2, ?3) ON CONFLICT (vote_id) DO UPDATE SET review_id = EXCLUDED.review_id, useful = EXCLUDED.useful";
+			createUpdate(queryString, REPLAY_VOT_TABLE)
+			.setParameter(1, voteIds.toArray(Long[]::new))
+			.setParameter(2, reviewIds.toArray(Long[]::new))
+			.setParameter(3, useful.toArray(Boolean[]::new))
+			.executeUpdate();
+		}
+		if (!deleted.isEmpty()) {
+			createUpdate("DELETE FROM replay_votes WHERE vote_id = ANY(?1)", REPLAY_VOT_TABLE)
+			.setParameter(1, deleted.toArray(Long[]::new))
+			.executeUpdate();
+		}
+	}
+
+	/**
+	 * naming the touched tables keeps hibernate from dropping every cached query on each native write
+	 */
+	private Query createUpdate(String queryString, String... tables) {
+
+		Query query = entityManager.createNativeQuery(queryString);
+		NativeQuery<?> nativeQuery = query.unwrap(NativeQuery.class);
+		for (String table : tables) {
+			nativeQuery.addSynchronizedQuerySpace(table);
+		}
+
+		return query;
+	}
+
+}
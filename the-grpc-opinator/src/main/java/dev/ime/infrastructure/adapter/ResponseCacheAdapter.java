@@ -0,0 +1,62 @@
+package dev.ime.infrastructure.adapter;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import dev.ime.domain.port.outbound.ResponseCachePort;
+
+/**
+ * serialized responses bounded by their total size in bytes, the ttl only backs up a lost eviction event
+ */
+@Component
+public class ResponseCacheAdapter implements ResponseCachePort {
+
+	private final Cache<String, byte[]> cache;
+	private final AtomicLong evictions = new AtomicLong();
+
+	public ResponseCacheAdapter(@Value("${opinator.cache.response.max-bytes:16777216}") long maxBytes,
+			@Value("${opinator.cache.response.ttl:10m}") Duration ttl) {
+		super();
+		this.cache = Caffeine.newBuilder()
+				.maximumWeight(maxBytes)
+				.weigher((String key, byte[] payload) -> payload.length)
+				.expireAfterWrite(ttl)
+				.build();
+	}
+
+	@Override
+	public byte[] getOrLoad(String category, Long id, Supplier<byte[]> loader) {
+
+		String key = createKey(category, id);
+		byte[] payload = cache.getIfPresent(key);
+		if (payload != null) {
+			return payload;
+		}
+
+		// a row read before an eviction may be stale, such a load is served but never stored
+		long evictionsBeforeLoad = evictions.get();
+		byte[] loaded = loader.get();
+		cache.asMap().compute(key, (k, current) -> evictions.get() == evictionsBeforeLoad ? loaded : current);
+
+		return loaded;
+	}
+
+	@Override
+	public void evict(String category, Long id) {
+
+		evictions.incrementAndGet();
+		cache.invalidate(createKey(category, id));
+	}
+
+	private String createKey(String category, Long id) {
+		return category + ":" + id;
+	}
+
+}
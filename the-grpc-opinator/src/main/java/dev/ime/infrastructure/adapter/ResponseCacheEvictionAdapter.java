@@ -0,0 +1,67 @@
+package dev.ime.infrastructure.adapter;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import dev.ime.common.constants.GlobalConstants;
+import dev.ime.domain.model.Event;
+import dev.ime.domain.port.outbound.ResponseCachePort;
+
+/**
+ * every node joins its own consumer group so all of them see every write, whichever node made it.
+ * a new node starts with an empty cache, so it only needs the events published from then on
+ */
+@Component
+public class ResponseCacheEvictionAdapter {
+
+	private final ResponseCachePort responseCacheAdapter;
+	private final ParallelBatchProcessor parallelBatchProcessor;
+	private static final Logger logger = LoggerFactory.getLogger(ResponseCacheEvictionAdapter.class);
+
+	public ResponseCacheEvictionAdapter(ResponseCachePort responseCacheAdapter, ParallelBatchProcessor parallelBatchProcessor) {
+		super();
+		this.responseCacheAdapter = responseCacheAdapter;
+		this.parallelBatchProcessor = parallelBatchProcessor;
+	}
+
+	@KafkaListener(topics = { GlobalConstants.PROD_TOPIC, GlobalConstants.REV_TOPIC },
+			groupId = GlobalConstants.CACHE_RESPONSE_GROUP + "-${random.uuid}",
+			properties = "auto.offset.reset=latest",
+			containerFactory = GlobalConstants.BATCH_LISTENER_FACTORY)
+	public void onEvents(List<ConsumerRecord<String, Event>> records, Consumer<?, ?> consumer) {
+
+		parallelBatchProcessor.process(GlobalConstants.CACHE_RESPONSE_GROUP, records, consumer, this::onEvent);
+	}
+
+	public void onEvent(Event event) {
+
+		switch (event.getEventType()) {
+			case GlobalConstants.PROD_UPDATED, GlobalConstants.PROD_DELETED ->
+				evict(GlobalConstants.PROD_CAT, GlobalConstants.PROD_ID, event);
+			case GlobalConstants.REV_UPDATED, GlobalConstants.REV_DELETED ->
+				evict(GlobalConstants.REV_CAT, GlobalConstants.REV_ID, event);
+			// a created entity was never cached
+			case GlobalConstants.PROD_CREATED, GlobalConstants.REV_CREATED -> { }
+			default -> logger.info(GlobalConstants.MSG_PATTERN_INFO, GlobalConstants.MSG_UNSUP_REQ, event.getEventType());
+		}
+	}
+
+	private void evict(String category, String idField, Event event) {
+
+		Optional.ofNullable(event.getEventData().get(idField))
+		.filter(Number.class::isInstance)
+		.map(id -> ((Number) id).longValue())
+		.ifPresentOrElse(id -> {
+			responseCacheAdapter.evict(category, id);
+			logger.info(GlobalConstants.MSG_PATTERN_INFO, GlobalConstants.MSG_CACHE_EVICT, category + ":" + id);
+		}, () -> logger.info(GlobalConstants.MSG_PATTERN_INFO, GlobalConstants.MSG_CACHE_SKIP, event));
+	}
+
+}
@@ -0,0 +1,148 @@
+package dev.ime.infrastructure.adapter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import dev.ime.application.dto.ReviewDto;
+import dev.ime.application.exception.ResourceNotFoundException;
+import dev.ime.common.constants.GlobalConstants;
+import dev.ime.domain.model.PageCursor;
+import dev.ime.domain.port.outbound.SearchQueryRepositoryPort;
+import dev.ime.infrastructure.entity.ReviewJpaEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.NoResultException;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CompoundSelection;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Root;
+
+@Repository
+public class ReviewQueryRepositoryAdapter implements SearchQueryRepositoryPort<ReviewDto> {
+
+	private static final String SELECT_DTO = "SELECT new dev.ime.application.dto.ReviewDto(r.reviewId, r.email, r.product.productId, r.reviewText, r.rating) FROM ReviewJpaEntity r";
+	private static final String SEARCH_SQL = "SELECT r.review_id, r.email, r.product_id, r.review_text, r.rating FROM (SELECT * FROM reviews WHERE review_search @@ websearch_to_tsquery('english', ?1) ORDER BY review_id DESC LIMIT " + GlobalConstants.SEARCH_MAX_RESULTS + ") r, websearch_to_tsquery('english', ?1) q ORDER BY ts_rank(r.review_search, q) DESC, r.review_id";
+
+	@PersistenceContext
+	private final EntityManager entityManager;
+
+	public ReviewQueryRepositoryAdapter(EntityManager entityManager) {
+		super();
+		this.entityManager = entityManager;
+	}
+
+	@Override
+	@Transactional(value = "transactionManager", readOnly = true)
+	public List<ReviewDto> findAll() {
+
+		return entityManager.createQuery(SELECT_DTO, ReviewDto.class).getResultList();
+	}
+
+	@Override
+	@Transactional(value = "transactionManager", readOnly = true)
+	public List<ReviewDto> findAll(Pageable pageable) {
+
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+	    CriteriaQuery<ReviewDto> cq = cb.createQuery(ReviewDto.class);
+	    Root<ReviewJpaEntity> root = cq.from(ReviewJpaEntity.class);
+	    cq.select(buildSelection(cb, root));
+	    cq.orderBy(buildSortOrder(pageable.getSort(), cb, root));
+	    
+        TypedQuery<ReviewDto> query = entityManager.createQuery(cq);
+        query.setFirstResult(pageable.getPageNumber() * pageable.getPageSize()); 
+        query.setMaxResults(pageable.getPageSize());
+        
+        return query.getResultList();
+	}
+
+	@Override
+	@Transactional(value = "transactionManager", readOnly = true)
+	public List<ReviewDto> findAll(Pageable pageable, PageCursor cursor) {
+
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+	    CriteriaQuery<ReviewDto> cq = cb.createQuery(ReviewDto.class);
+	    Root<ReviewJpaEntity> root = cq.from(ReviewJpaEntity.class);
+	    cq.select(buildSelection(cb, root));
+	    cq.where(KeysetPredicates.after(cb, root, pageable.getSort(), GlobalConstants.REV_ID, cursor));
+	    cq.orderBy(buildSortOrder(pageable.getSort(), cb, root));
+	    
+        TypedQuery<ReviewDto> query = entityManager.createQuery(cq);
+        query.setMaxResults(pageable.getPageSize());
+        
+        return query.getResultList();
+	}
+
+	/**
+	 * matched over the generated tsvector column through its gin index, only the latest SEARCH_MAX_RESULTS matches are ranked,
+	 * the extra row tells whether another page follows
+	 */
+	@Override
+	@Transactional(value = "transactionManager", readOnly = true)
+	public Slice<ReviewDto> search(String text, Pageable pageable) {
+
+		Query query = entityManager.createNativeQuery(SEARCH_SQL);
+		query.setParameter(1, text);
+		query.setFirstResult(Math.toIntExact(pageable.getOffset()));
+		query.setMaxResults(pageable.getPageSize() + 1);
+
+		@SuppressWarnings("unchecked")
+		List<Object[]> rows = query.getResultList();
+		List<ReviewDto> dtos = rows.stream().limit(pageable.getPageSize()).map(this::fromRowToDto).toList();
+
+		return new SliceImpl<>(dtos, pageable, rows.size() > pageable.getPageSize());
+	}
+
+	private ReviewDto fromRowToDto(Object[] row) {
+
+		return new ReviewDto(((Number) row[0]).longValue(), (String) row[1], ((Number) row[2]).longValue(), (String) row[3], ((Number) row[4]).intValue());
+	}
+
+	private CompoundSelection<ReviewDto> buildSelection(CriteriaBuilder cb, Root<ReviewJpaEntity> root) {
+
+		return cb.construct(ReviewDto.class,
+				root.get(GlobalConstants.REV_ID),
+				root.get(GlobalConstants.USER_EMAIL),
+				root.get("product").get(GlobalConstants.PROD_ID),
+				root.get(GlobalConstants.REV_TXT),
+				root.get(GlobalConstants.REV_RAT));
+	}
+
+	private List<Order> buildSortOrder(Sort sort, CriteriaBuilder criteriaBuilder, Root<ReviewJpaEntity> root) {
+	
+		return sort.stream()
+		.map( order ->{
+			if (order.isAscending()) {
+				return criteriaBuilder.asc(root.get(order.getProperty()));
+			} else {
+				return criteriaBuilder.desc(root.get(order.getProperty()));
+			}
+		})
+		.toList();		
+	}
+
+	@Override
+	@Transactional(value = "transactionManager", readOnly = true)
+	public Optional<ReviewDto> findById(Long id) {
+
+		TypedQuery<ReviewDto> query = entityManager.createQuery(SELECT_DTO + " WHERE r.reviewId = ?1", ReviewDto.class);
+		query.setParameter(1, id);
+
+		try {
+			return Optional.of(query.getSingleResult());
+		} catch (NoResultException e) {
+			throw new ResourceNotFoundException(Map.of(GlobalConstants.REV_ID, String.valueOf(id)));
+		}
+	}
+
+}
@@ -1,10 +1,18 @@
 package dev.ime.infrastructure.adapter;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
@@ -15,31 +23,41 @@ import dev.ime.application.exception.OnlyOneReviewPerUserInProductException;
 import dev.ime.application.exception.ResourceNotFoundException;
 import dev.ime.common.constants.GlobalConstants;
 import dev.ime.common.mapper.ReviewMapper;
+import dev.ime.domain.model.BulkOutcome;
+import dev.ime.domain.model.PageCursor;
 import dev.ime.domain.model.Review;
-import dev.ime.domain.port.outbound.GenericRepositoryPort;
+import dev.ime.domain.port.outbound.ReviewRepositoryPort;
+import dev.ime.domain.port.outbound.StatsRepositoryPort;
 import dev.ime.infrastructure.entity.ProductJpaEntity;
 import dev.ime.infrastructure.entity.ReviewJpaEntity;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.NoResultException;
 import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceException;
+import jakarta.persistence.Tuple;
 import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
-import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Order;
 import jakarta.persistence.criteria.Root;
 
 @Repository
-public class ReviewRepositoryAdapter implements GenericRepositoryPort<Review> {
+public class ReviewRepositoryAdapter implements ReviewRepositoryPort {
+
+	static final String PARAM_PROD_IDS = "productIds";
+	static final String PARAM_EMAILS = "emails";
 
 	@PersistenceContext
 	private final EntityManager entityManager;
 	private final ReviewMapper reviewMapper;	
+	private final StatsRepositoryPort statsRepositoryAdapter;
 	
-	public ReviewRepositoryAdapter(EntityManager entityManager, ReviewMapper reviewMapper) {
+	public ReviewRepositoryAdapter(EntityManager entityManager, ReviewMapper reviewMapper,
+			StatsRepositoryPort statsRepositoryAdapter) {
 		super();
 		this.entityManager = entityManager;
 		this.reviewMapper = reviewMapper;
+		this.statsRepositoryAdapter = statsRepositoryAdapter;
 	}
 
 	@Override
@@ -56,13 +74,11 @@ public class ReviewRepositoryAdapter implements GenericRepositoryPort<Review> {
 	@Transactional(value = "transactionManager", readOnly = true)
 	public List<Review> findAll(Pageable pageable) {
 
+		// no fetch join, LIMIT stays in sql and the votes of the page come in batches of default_batch_fetch_size
 		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
 	    CriteriaQuery<ReviewJpaEntity> cq = cb.createQuery(ReviewJpaEntity.class);
-	    Root<ReviewJpaEntity> root = cq.from(ReviewJpaEntity.class);	  
-	    root.fetch("votes", JoinType.LEFT);	  
-	    
-        List<Order> orders = buildSortOrder(pageable.getSort(), cb, root);
-	    cq.orderBy(orders);
+	    Root<ReviewJpaEntity> root = cq.from(ReviewJpaEntity.class);
+	    cq.orderBy(buildSortOrder(pageable.getSort(), cb, root));
 	    
         TypedQuery<ReviewJpaEntity> query = entityManager.createQuery(cq);
         query.setFirstResult(pageable.getPageNumber() * pageable.getPageSize()); 
@@ -71,6 +87,23 @@ public class ReviewRepositoryAdapter implements GenericRepositoryPort<Review> {
         return reviewMapper.fromListJpaToListDomain(query.getResultList());
 	}
 
+	@Override
+	@Transactional(value = "transactionManager", readOnly = true)
+	public List<Review> findAll(Pageable pageable, PageCursor cursor) {
+
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+	    CriteriaQuery<ReviewJpaEntity> cq = cb.createQuery(ReviewJpaEntity.class);
+	    Root<ReviewJpaEntity> root = cq.from(ReviewJpaEntity.class);
+	    
+	    cq.where(KeysetPredicates.after(cb, root, pageable.getSort(), GlobalConstants.REV_ID, cursor));
+	    cq.orderBy(buildSortOrder(pageable.getSort(), cb, root));
+	    
+        TypedQuery<ReviewJpaEntity> query = entityManager.createQuery(cq);
+        query.setMaxResults(pageable.getPageSize());
+        
+        return reviewMapper.fromListJpaToListDomain(query.getResultList());
+	}
+
 	private List<Order> buildSortOrder(Sort sort, CriteriaBuilder criteriaBuilder, Root<ReviewJpaEntity> root) {
 	
 		return sort.stream()
@@ -83,7 +116,22 @@ public class ReviewRepositoryAdapter implements GenericRepositoryPort<Review> {
 		})
 		.toList();		
 	}
-	
+
+	@Override
+	@Transactional(value = "transactionManager", readOnly = true)
+	public void streamAll(Consumer<Review> action) {
+
+		String queryString = "SELECT r.reviewId AS reviewId, r.email AS email, r.product.productId AS productId, r.reviewText AS reviewText, r.rating AS rating FROM ReviewJpaEntity r ORDER BY r.reviewId";
+		TypedQuery<Tuple> query = entityManager.createQuery(queryString, Tuple.class);
+		query.setHint(HibernateHints.HINT_FETCH_SIZE, GlobalConstants.STREAM_FETCH_SIZE);
+		query.setHint(HibernateHints.HINT_READ_ONLY, true);
+
+		try (Stream<Tuple> stream = query.getResultStream()) {
+			stream.map(reviewMapper::fromTupleToDomain)
+			.forEach(action);
+		}
+	}
+
 	@Override
 	@Transactional(value = "transactionManager", readOnly = true)
 	public Optional<Review> findById(Long id) {
@@ -118,25 +166,120 @@ public class ReviewRepositoryAdapter implements GenericRepositoryPort<Review> {
 		
 		ProductJpaEntity productJpaEntity = findProdById(dom.getProduct().getProductId());
 		validateOnlyOneReviewRestricction(dom, productJpaEntity);
-		ReviewJpaEntity entity = reviewMapper.fromDomainToJpa(dom, productJpaEntity);
-		entityManager.persist(entity);
+		// not added to the product's reviews, that would load every one of them
+		ReviewJpaEntity entity = reviewMapper.fromDomainToNewJpa(dom, productJpaEntity);
+		persistReview(dom, entity);
+		statsRepositoryAdapter.addRating(productJpaEntity.getProductId(), entity.getRating());
 		
 		return Optional.ofNullable(entity).map(reviewMapper::fromJpaToDomain);
 	}
 
+	/**
+	 * one query for the products and one for the reviews already written by the chunk's users,
+	 * the rows are then inserted with jdbc batching and the rating counters bumped once per (product, rating)
+	 */
+	@Override
+	@Transactional("transactionManager")
+	public List<BulkOutcome<Review>> saveAll(List<Review> doms) {
+
+		if (doms.isEmpty()) {
+			return List.of();
+		}
+
+		Set<Long> productIds = doms.stream().map(dom -> dom.getProduct().getProductId()).collect(Collectors.toSet());
+		Set<String> emails = doms.stream().map(Review::getEmail).collect(Collectors.toSet());
+		Map<Long, ProductJpaEntity> products = findProductsById(productIds);
+		Set<String> reviewed = findReviewedKeys(products.keySet(), emails);
+		Map<Long, Map<Integer, Long>> ratings = new HashMap<>();
+		List<BulkOutcome<Review>> outcomes = new ArrayList<>(doms.size());
+
+		for (Review dom : doms) {
+			ProductJpaEntity productJpaEntity = products.get(dom.getProduct().getProductId());
+			if (productJpaEntity == null) {
+				outcomes.add(BulkOutcome.rejected(GlobalConstants.EX_RESOURCENOTFOUND));
+			// the set also holds the rows accepted earlier in this chunk
+			} else if (!reviewed.add(createReviewKey(productJpaEntity.getProductId(), dom.getEmail()))) {
+				outcomes.add(BulkOutcome.rejected(GlobalConstants.EX_ONLYONEREV));
+			} else {
+				ReviewJpaEntity entity = reviewMapper.fromDomainToNewJpa(dom, productJpaEntity);
+				entityManager.persist(entity);
+				ratings.computeIfAbsent(productJpaEntity.getProductId(), id -> new HashMap<>())
+				.merge(entity.getRating(), 1L, Long::sum);
+				outcomes.add(BulkOutcome.created(reviewMapper.fromJpaToDomain(entity)));
+			}
+		}
+
+		entityManager.flush();
+		ratings.forEach((productId, counts) -> counts.forEach((rating, count) -> statsRepositoryAdapter.addRating(productId, rating, count)));
+
+		return outcomes;
+	}
+
+	private Map<Long, ProductJpaEntity> findProductsById(Set<Long> productIds) {
+
+		String queryString = "SELECT p FROM ProductJpaEntity p WHERE p.productId IN :" + PARAM_PROD_IDS;
+		TypedQuery<ProductJpaEntity> query = entityManager.createQuery(queryString, ProductJpaEntity.class);
+		query.setParameter(PARAM_PROD_IDS, productIds);
+
+		return query.getResultList().stream()
+				.collect(Collectors.toMap(ProductJpaEntity::getProductId, Function.identity()));
+	}
+
+	private Set<String> findReviewedKeys(Set<Long> productIds, Set<String> emails) {
+
+		if (productIds.isEmpty()) {
+			return new HashSet<>();
+		}
+
+		String queryString = "SELECT r.product.productId AS productId, r.email AS email FROM ReviewJpaEntity r WHERE r.product.productId IN :" + PARAM_PROD_IDS + " AND r.email IN :" + PARAM_EMAILS;
+		TypedQuery<Tuple> query = entityManager.createQuery(queryString, Tuple.class);
+		query.setParameter(PARAM_PROD_IDS, productIds);
+		query.setParameter(PARAM_EMAILS, emails);
+
+		return query.getResultList().stream()
+				.map(tuple -> createReviewKey(tuple.get(GlobalConstants.PROD_ID, Long.class), tuple.get(GlobalConstants.USER_EMAIL, String.class)))
+				.collect(Collectors.toCollection(HashSet::new));
+	}
+
+	private String createReviewKey(Long productId, String email) {
+		return productId + ":" + email;
+	}
+
 	private void validateOnlyOneReviewRestricction(Review dom, ProductJpaEntity productJpaEntity) {
-		Set<ReviewJpaEntity> revList = productJpaEntity.getReviews();
-		
-		boolean result = revList.stream()
-		.anyMatch( r -> dom.getEmail().equals(r.getEmail()));
+
+		// answered from the (product_id, email) unique index, the product's reviews stay unloaded
+		String queryString = "SELECT COUNT(r) FROM ReviewJpaEntity r WHERE r.product.productId = ?1 AND r.email = ?2";
+		TypedQuery<Long> query = entityManager.createQuery(queryString, Long.class);
+		query.setParameter(1, productJpaEntity.getProductId());
+		query.setParameter(2, dom.getEmail());
 		
-		if (result) {
-			throw new OnlyOneReviewPerUserInProductException(Map.of(
-					GlobalConstants.PROD_ID, String.valueOf(dom.getProduct().getProductId()),
-					GlobalConstants.USER_EMAIL, dom.getEmail()
-					));
+		if (query.getSingleResult() > 0) {
+			throw createOnlyOneReviewException(dom);
 		}
 	}
+
+	private void persistReview(Review dom, ReviewJpaEntity entity) {
+
+		try {
+			// the pooled sequence leaves the insert for the next flush, it has to run inside the try
+			entityManager.persist(entity);
+			entityManager.flush();
+		} catch (PersistenceException e) {
+			// a concurrent create slipped in between the check and the insert
+			if (ConstraintViolations.isViolationOf(e, GlobalConstants.REV_UQ_PROD_EMAIL_DB)) {
+				throw createOnlyOneReviewException(dom);
+			}
+			throw e;
+		}
+	}
+
+	private OnlyOneReviewPerUserInProductException createOnlyOneReviewException(Review dom) {
+
+		return new OnlyOneReviewPerUserInProductException(Map.of(
+				GlobalConstants.PROD_ID, String.valueOf(dom.getProduct().getProductId()),
+				GlobalConstants.USER_EMAIL, dom.getEmail()
+				));
+	}
 	
 	private ProductJpaEntity findProdById(Long id) {
 		return findProdByIdCommand(id)
@@ -158,15 +301,27 @@ public class ReviewRepositoryAdapter implements GenericRepositoryPort<Review> {
 	public Optional<Review> update(Review dom) {
 
 		Optional<ReviewJpaEntity> optRev = findByIdCommand(dom.getReviewId());
-		optRev.orElseThrow(() -> new ResourceNotFoundException(
+		int previousRating = optRev.map(ReviewJpaEntity::getRating)
+				.orElseThrow(() -> new ResourceNotFoundException(
 				Map.of(GlobalConstants.REV_ID, String.valueOf(dom.getReviewId()))));
 
 		return optRev.map(r -> updateAttrs(dom, r))
 				.map(entityManager::merge)
+				.map(r -> moveRating(r, previousRating))
 				.map(reviewMapper::fromJpaToDomain);
 		
 	}
 
+	private ReviewJpaEntity moveRating(ReviewJpaEntity entity, int previousRating) {
+
+		if (entity.getRating() != previousRating) {
+			statsRepositoryAdapter.removeRating(entity.getProduct().getProductId(), previousRating);
+			statsRepositoryAdapter.addRating(entity.getProduct().getProductId(), entity.getRating());
+		}
+
+		return entity;
+	}
+
 	private ReviewJpaEntity updateAttrs(Review dom, ReviewJpaEntity entity) {
 
 		entity.setReviewText(dom.getReviewText());
@@ -195,6 +350,7 @@ public class ReviewRepositoryAdapter implements GenericRepositoryPort<Review> {
 
 	private boolean deleteByIdCommand(ReviewJpaEntity entity) {
 
+		statsRepositoryAdapter.removeRating(entity.getProduct().getProductId(), entity.getRating());
 		entityManager.remove(entity);
 
 		return findByIdCommand(entity.getReviewId()).isEmpty();
@@ -0,0 +1,186 @@
+package dev.ime.infrastructure.adapter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import org.hibernate.query.NativeQuery;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import dev.ime.application.dto.ProductStatsDto;
+import dev.ime.application.dto.ReviewStatsDto;
+import dev.ime.application.exception.ResourceNotFoundException;
+import dev.ime.common.constants.GlobalConstants;
+import dev.ime.domain.port.outbound.StatsRepositoryPort;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+/**
+ * one counter row per (product, rating) and per (review, useful), bumped with a single upsert so
+ * concurrent writers never read-modify-write the same value
+ */
+@Repository
+public class StatsRepositoryAdapter implements StatsRepositoryPort {
+
+	private static final int MIN_STAR = 1;
+	private static final int MAX_STAR = 5;
+	private static final String PROD_STATS_TABLE = "product_rating_stats";
+	private static final String REV_STATS_TABLE = "review_vote_stats";
+
+	@PersistenceContext
+	private final EntityManager entityManager;
+
+	public StatsRepositoryAdapter(EntityManager entityManager) {
+		super();
+		this.entityManager = entityManager;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	@Transactional(value = "transactionManager", readOnly = true)
+	public Optional<ProductStatsDto> findProductStats(Long productId) {
+
+		String queryString = "SELECT p.product_id, s.rating, s.review_count FROM products p LEFT JOIN product_rating_stats s ON s.product_id = p.product_id WHERE p.product_id = ?1";
+		List<Object[]> rows = entityManager.createNativeQuery(queryString, Object[].class)
+				.setParameter(1, productId)
+				.getResultList();
+
+		if (rows.isEmpty()) {
+			throw new ResourceNotFoundException(Map.of(GlobalConstants.PROD_ID, String.valueOf(productId)));
+		}
+
+		return Optional.of(toProductStats(productId, rows));
+	}
+
+	private ProductStatsDto toProductStats(Long productId, List<Object[]> rows) {
+
+		Map<Integer, Long> histogram = new TreeMap<>();
+		for (int star = MIN_STAR; star <= MAX_STAR; star++) {
+			histogram.put(star, 0L);
+		}
+
+		long reviewCount = 0;
+		long ratingSum = 0;
+		for (Object[] row : rows) {
+			if (row[1] == null) {
+				continue;
+			}
+			int rating = ((Number) row[1]).intValue();
+			long count = ((Number) row[2]).longValue();
+			histogram.merge(rating, count, Long::sum);
+			reviewCount += count;
+			ratingSum += rating * count;
+		}
+
+		double averageRating = reviewCount == 0 ? 0 : (double) ratingSum / reviewCount;
+
+		return new ProductStatsDto(productId, reviewCount, averageRating, histogram);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	@Transactional(value = "transactionManager", readOnly = true)
+	public Optional<ReviewStatsDto> findReviewStats(Long reviewId) {
+
+		String queryString = "SELECT r.review_id, s.useful, s.vote_count FROM reviews r LEFT JOIN review_vote_stats s ON s.review_id = r.review_id WHERE r.review_id = ?1";
+		List<Object[]> rows = entityManager.createNativeQuery(queryString, Object[].class)
+				.setParameter(1, reviewId)
+				.getResultList();
+
+		if (rows.isEmpty()) {
+			throw new ResourceNotFoundException(Map.of(GlobalConstants.REV_ID, String.valueOf(reviewId)));
+		}
+
+		long usefulCount = 0;
+		long notUsefulCount = 0;
+		for (Object[] row : rows) {
+			if (row[1] == null) {
+				continue;
+			}
+			long count = ((Number) row[2]).longValue();
+			if (Boolean.TRUE.equals(row[1])) {
+				usefulCount += count;
+			} else {
+				notUsefulCount += count;
+			}
+		}
+
+		return Optional.of(new ReviewStatsDto(reviewId, usefulCount, notUsefulCount));
+	}
+
+	@Override
+	@Transactional("transactionManager")
+	public void addRating(Long productId, int rating) {
+
+		addRating(productId, rating, 1L);
+	}
+
+	@Override
+	@Transactional("transactionManager")
+	public void addRating(Long productId, int rating, long count) {
+
+		String queryString = "INSERT INTO product_rating_stats (product_id, rating, review_count) VALUES (?1, ?2, ?3) ON CONFLICT (product_id, rating) DO UPDATE SET review_count = product_rating_stats.review_count + ?3";
+		createCounterUpdate(queryString, PROD_STATS_TABLE)
+		.setParameter(1, productId)
+		.setParameter(2, rating)
+		.setParameter(3, count)
+		.executeUpdate();
+	}
+
+	@Override
+	@Transactional("transactionManager")
+	public void removeRating(Long productId, int rating) {
+
+		String queryString = "UPDATE product_rating_stats SET review_count = review_count - 1 WHERE product_id = ?1 AND rating = ?2 AND review_count > 0";
+		createCounterUpdate(queryString, PROD_STATS_TABLE)
+		.setParameter(1, productId)
+		.setParameter(2, rating)
+		.executeUpdate();
+	}
+
+	@Override
+	@Transactional("transactionManager")
+	public void addVote(Long reviewId, boolean useful) {
+
+		addVote(reviewId, useful, 1L);
+	}
+
+	@Override
+	@Transactional("transactionManager")
+	public void addVote(Long reviewId, boolean useful, long count) {
+
+		String queryString = "INSERT INTO review_vote_stats (review_id, useful, vote_count) VALUES (?1, ?2, ?3) ON CONFLICT (review_id, useful) DO UPDATE SET vote_count = review_vote_stats.vote_count + ?3";
+		createCounterUpdate(queryString, REV_STATS_TABLE)
+		.setParameter(1, reviewId)
+		.setParameter(2, useful)
+		.setParameter(3, count)
+		.executeUpdate();
+	}
+
+	@Override
+	@Transactional("transactionManager")
+	public void removeVote(Long reviewId, boolean useful) {
+
+		String queryString = "UPDATE review_vote_stats SET vote_count = vote_count - 1 WHERE review_id = ?1 AND useful = ?2 AND vote_count > 0";
+		createCounterUpdate(queryString, REV_STATS_TABLE)
+		.setParameter(1, reviewId)
+		.setParameter(2, useful)
+		.executeUpdate();
+	}
+
+	/**
+	 * native dml invalidates every cached query unless hibernate is told which table it touches,
+	 * naming the counter table keeps the cached category and product queries alive
+	 */
+	private Query createCounterUpdate(String queryString, String table) {
+
+		Query query = entityManager.createNativeQuery(queryString);
+		query.unwrap(NativeQuery.class).addSynchronizedQuerySpace(table);
+
+		return query;
+	}
+
+}
@@ -1,10 +1,18 @@
 package dev.ime.infrastructure.adapter;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
@@ -14,13 +22,18 @@ import dev.ime.application.exception.OnlyOneVotePerUserInReviewException;
 import dev.ime.application.exception.ResourceNotFoundException;
 import dev.ime.common.constants.GlobalConstants;
 import dev.ime.common.mapper.VoteMapper;
+import dev.ime.domain.model.BulkOutcome;
+import dev.ime.domain.model.PageCursor;
 import dev.ime.domain.model.Vote;
-import dev.ime.domain.port.outbound.GenericRepositoryPort;
+import dev.ime.domain.port.outbound.StatsRepositoryPort;
+import dev.ime.domain.port.outbound.VoteRepositoryPort;
 import dev.ime.infrastructure.entity.ReviewJpaEntity;
 import dev.ime.infrastructure.entity.VoteJpaEntity;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.NoResultException;
 import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceException;
+import jakarta.persistence.Tuple;
 import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
@@ -28,16 +41,22 @@ import jakarta.persistence.criteria.Order;
 import jakarta.persistence.criteria.Root;
 
 @Repository
-public class VoteRepositoryAdapter implements GenericRepositoryPort<Vote> {
+public class VoteRepositoryAdapter implements VoteRepositoryPort {
+
+	static final String PARAM_REV_IDS = "reviewIds";
+	static final String PARAM_EMAILS = "emails";
 
 	@PersistenceContext
 	private final EntityManager entityManager;
 	private final VoteMapper voteMapper;
+	private final StatsRepositoryPort statsRepositoryAdapter;
 	
-	public VoteRepositoryAdapter(EntityManager entityManager, VoteMapper voteMapper) {
+	public VoteRepositoryAdapter(EntityManager entityManager, VoteMapper voteMapper,
+			StatsRepositoryPort statsRepositoryAdapter) {
 		super();
 		this.entityManager = entityManager;
 		this.voteMapper = voteMapper;
+		this.statsRepositoryAdapter = statsRepositoryAdapter;
 	}
 
 	@Override
@@ -68,6 +87,38 @@ public class VoteRepositoryAdapter implements GenericRepositoryPort<Vote> {
         return voteMapper.fromListJpaToListDomain(query.getResultList());
 	}
 
+	@Override
+	@Transactional(value = "transactionManager", readOnly = true)
+	public List<Vote> findAll(Pageable pageable, PageCursor cursor) {
+
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+	    CriteriaQuery<VoteJpaEntity> cq = cb.createQuery(VoteJpaEntity.class);
+	    Root<VoteJpaEntity> root = cq.from(VoteJpaEntity.class);
+	    
+	    cq.where(KeysetPredicates.after(cb, root, pageable.getSort(), GlobalConstants.VOT_ID, cursor));
+	    cq.orderBy(buildSortOrder(pageable.getSort(), cb, root));
+	    
+        TypedQuery<VoteJpaEntity> query = entityManager.createQuery(cq);
+        query.setMaxResults(pageable.getPageSize());
+        
+        return voteMapper.fromListJpaToListDomain(query.getResultList());
+	}
+
+	@Override
+	@Transactional(value = "transactionManager", readOnly = true)
+	public void streamAll(Consumer<Vote> action) {
+		
+		String queryString = "SELECT v.voteId AS voteId, v.email AS email, v.review.reviewId AS reviewId, v.useful AS useful FROM VoteJpaEntity v ORDER BY v.voteId";
+		TypedQuery<Tuple> query = entityManager.createQuery(queryString, Tuple.class);
+		query.setHint(HibernateHints.HINT_FETCH_SIZE, GlobalConstants.STREAM_FETCH_SIZE);
+		query.setHint(HibernateHints.HINT_READ_ONLY, true);
+		
+		try (Stream<Tuple> stream = query.getResultStream()) {
+			stream.map(voteMapper::fromTupleToDomain)
+			.forEach(action);
+		}
+	}
+
 	private List<Order> buildSortOrder(Sort sort, CriteriaBuilder criteriaBuilder, Root<VoteJpaEntity> root) {
 	
 		return sort.stream()
@@ -116,25 +167,120 @@ public class VoteRepositoryAdapter implements GenericRepositoryPort<Vote> {
 		ReviewJpaEntity reviewJpaEntity = findRevById(dom);
 		validateOnlyOneVoteRestricction(dom, reviewJpaEntity);		
 		
-		VoteJpaEntity entity = voteMapper.fromDomainToJpa(dom, reviewJpaEntity);
-		entityManager.persist(entity);
+		// not added to the review's votes, that would load every one of them
+		VoteJpaEntity entity = voteMapper.fromDomainToNewJpa(dom, reviewJpaEntity);
+		persistVote(dom, entity);
+		statsRepositoryAdapter.addVote(reviewJpaEntity.getReviewId(), entity.isUseful());
 		
 		return Optional.ofNullable(entity).map(voteMapper::fromJpaToDomain);
 	}
 
+	/**
+	 * one query for the reviews and one for the votes already cast by the chunk's users,
+	 * the rows are then inserted with jdbc batching and the vote counters bumped once per (review, useful)
+	 */
+	@Override
+	@Transactional("transactionManager")
+	public List<BulkOutcome<Vote>> saveAll(List<Vote> doms) {
+
+		if (doms.isEmpty()) {
+			return List.of();
+		}
+
+		Set<Long> reviewIds = doms.stream().map(dom -> dom.getReview().getReviewId()).collect(Collectors.toSet());
+		Set<String> emails = doms.stream().map(Vote::getEmail).collect(Collectors.toSet());
+		Map<Long, ReviewJpaEntity> reviews = findReviewsById(reviewIds);
+		Set<String> voted = findVotedKeys(reviews.keySet(), emails);
+		Map<Long, Map<Boolean, Long>> votes = new HashMap<>();
+		List<BulkOutcome<Vote>> outcomes = new ArrayList<>(doms.size());
+
+		for (Vote dom : doms) {
+			ReviewJpaEntity reviewJpaEntity = reviews.get(dom.getReview().getReviewId());
+			if (reviewJpaEntity == null) {
+				outcomes.add(BulkOutcome.rejected(GlobalConstants.EX_RESOURCENOTFOUND));
+			// the set also holds the rows accepted earlier in this chunk
+			} else if (!voted.add(createVoteKey(reviewJpaEntity.getReviewId(), dom.getEmail()))) {
+				outcomes.add(BulkOutcome.rejected(GlobalConstants.EX_ONLYONEVOTE));
+			} else {
+				VoteJpaEntity entity = voteMapper.fromDomainToNewJpa(dom, reviewJpaEntity);
+				entityManager.persist(entity);
+				votes.computeIfAbsent(reviewJpaEntity.getReviewId(), id -> new HashMap<>())
+				.merge(entity.isUseful(), 1L, Long::sum);
+				outcomes.add(BulkOutcome.created(voteMapper.fromJpaToDomain(entity)));
+			}
+		}
+
+		entityManager.flush();
+		votes.forEach((reviewId, counts) -> counts.forEach((useful, count) -> statsRepositoryAdapter.addVote(reviewId, useful, count)));
+
+		return outcomes;
+	}
+
+	private Map<Long, ReviewJpaEntity> findReviewsById(Set<Long> reviewIds) {
+
+		String queryString = "SELECT r FROM ReviewJpaEntity r WHERE r.reviewId IN :" + PARAM_REV_IDS;
+		TypedQuery<ReviewJpaEntity> query = entityManager.createQuery(queryString, ReviewJpaEntity.class);
+		query.setParameter(PARAM_REV_IDS, reviewIds);
+
+		return query.getResultList().stream()
+				.collect(Collectors.toMap(ReviewJpaEntity::getReviewId, Function.identity()));
+	}
+
+	private Set<String> findVotedKeys(Set<Long> reviewIds, Set<String> emails) {
+
+		if (reviewIds.isEmpty()) {
+			return new HashSet<>();
+		}
+
+		String queryString = "SELECT v.review.reviewId AS reviewId, v.email AS email FROM VoteJpaEntity v WHERE v.review.reviewId IN :" + PARAM_REV_IDS + " AND v.email IN :" + PARAM_EMAILS;
+		TypedQuery<Tuple> query = entityManager.createQuery(queryString, Tuple.class);
+		query.setParameter(PARAM_REV_IDS, reviewIds);
+		query.setParameter(PARAM_EMAILS, emails);
+
+		return query.getResultList().stream()
+				.map(tuple -> createVoteKey(tuple.get(GlobalConstants.REV_ID, Long.class), tuple.get(GlobalConstants.USER_EMAIL, String.class)))
+				.collect(Collectors.toCollection(HashSet::new));
+	}
+
+	private String createVoteKey(Long reviewId, String email) {
+		return reviewId + ":" + email;
+	}
+
 	private void validateOnlyOneVoteRestricction(Vote dom, ReviewJpaEntity reviewJpaEntity) {
-		Set<VoteJpaEntity> voteList = reviewJpaEntity.getVotes();
-		
-		boolean result = voteList.stream()
-		.anyMatch( v -> dom.getEmail().equals(v.getEmail()));
+
+		// answered from the (review_id, email) unique index, the review's votes stay unloaded
+		String queryString = "SELECT COUNT(v) FROM VoteJpaEntity v WHERE v.review.reviewId = ?1 AND v.email = ?2";
+		TypedQuery<Long> query = entityManager.createQuery(queryString, Long.class);
+		query.setParameter(1, reviewJpaEntity.getReviewId());
+		query.setParameter(2, dom.getEmail());
 		
-		if (result) {
-			throw new OnlyOneVotePerUserInReviewException(Map.of(
-					GlobalConstants.REV_ID, String.valueOf(dom.getReview().getReviewId()),
-					GlobalConstants.USER_EMAIL, dom.getEmail()
-					));
+		if (query.getSingleResult() > 0) {
+			throw createOnlyOneVoteException(dom);
 		}
 	}
+
+	private void persistVote(Vote dom, VoteJpaEntity entity) {
+
+		try {
+			// the pooled sequence leaves the insert for the next flush, it has to run inside the try
+			entityManager.persist(entity);
+			entityManager.flush();
+		} catch (PersistenceException e) {
+			// a concurrent create slipped in between the check and the insert
+			if (ConstraintViolations.isViolationOf(e, GlobalConstants.VOT_UQ_REV_EMAIL_DB)) {
+				throw createOnlyOneVoteException(dom);
+			}
+			throw e;
+		}
+	}
+
+	private OnlyOneVotePerUserInReviewException createOnlyOneVoteException(Vote dom) {
+
+		return new OnlyOneVotePerUserInReviewException(Map.of(
+				GlobalConstants.REV_ID, String.valueOf(dom.getReview().getReviewId()),
+				GlobalConstants.USER_EMAIL, dom.getEmail()
+				));
+	}
 	
 	private ReviewJpaEntity findRevById(Vote dom) {
 		return findReviewByIdCommand(dom)
@@ -156,15 +302,27 @@ public class VoteRepositoryAdapter implements GenericRepositoryPort<Vote> {
 	public Optional<Vote> update(Vote dom) {
 
 		Optional<VoteJpaEntity> optV = findByIdCommand(dom.getVoteId());
-		optV.orElseThrow(() -> new ResourceNotFoundException(
+		boolean previousUseful = optV.map(VoteJpaEntity::isUseful)
+				.orElseThrow(() -> new ResourceNotFoundException(
 				Map.of(GlobalConstants.VOT_ID, String.valueOf(dom.getVoteId()))));
 
 		return optV.map(v -> updateAttrs(dom, v))
 				.map(entityManager::merge)
+				.map(v -> moveVote(v, previousUseful))
 				.map(voteMapper::fromJpaToDomain);
 		
 	}	
 
+	private VoteJpaEntity moveVote(VoteJpaEntity entity, boolean previousUseful) {
+
+		if (entity.isUseful() != previousUseful) {
+			statsRepositoryAdapter.removeVote(entity.getReview().getReviewId(), previousUseful);
+			statsRepositoryAdapter.addVote(entity.getReview().getReviewId(), entity.isUseful());
+		}
+
+		return entity;
+	}
+
 	private VoteJpaEntity updateAttrs(Vote dom, VoteJpaEntity entity) {
 		
 		entity.setUseful(dom.isUseful());
@@ -185,6 +343,7 @@ public class VoteRepositoryAdapter implements GenericRepositoryPort<Vote> {
 
 	private boolean deleteByIdCommand(VoteJpaEntity entity) {
 
+		statsRepositoryAdapter.removeVote(entity.getReview().getReviewId(), entity.isUseful());
 		entityManager.remove(entity);
 
 		return findByIdCommand(entity.getVoteId()).isEmpty();
@@ -3,7 +3,11 @@ package dev.ime.infrastructure.entity;
 import java.util.HashSet;
 import java.util.Set;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import dev.ime.common.constants.GlobalConstants;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -20,7 +24,9 @@ import lombok.Setter;
 import lombok.ToString;
 
 @Entity
-@Table(name = GlobalConstants.PROD_CAT_DB)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = GlobalConstants.CACHE_CAT)
+@Table(name = GlobalConstants.CAT_CAT_DB)
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
@@ -0,0 +1,49 @@
+package dev.ime.infrastructure.entity;
+
+import java.time.Instant;
+
+import dev.ime.common.constants.GlobalConstants;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Entity
+@Table(name = GlobalConstants.OUTBOX_DB)
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@ToString
+@Builder
+public class OutboxEventJpaEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = GlobalConstants.OUTBOX_SEQ_DB)
+	@SequenceGenerator(name = GlobalConstants.OUTBOX_SEQ_DB, sequenceName = GlobalConstants.OUTBOX_SEQ_DB, allocationSize = GlobalConstants.ID_ALLOCATION_SIZE)
+	@Column(name = "outbox_id")
+	private Long outboxId;
+
+	@Column(name = "event_type", nullable = false, length = 100)
+	private String eventType;
+
+	@Column(name = "payload", nullable = false, columnDefinition = "text")
+	private String payload;
+
+	@Column(name = "created_at", nullable = false)
+	private Instant createdAt;
+
+	// drawn by the database when the row is inserted, the relay sends the events in this order
+	@Column(name = "relay_order", insertable = false, updatable = false)
+	private Long relayOrder;
+
+}
@@ -3,7 +3,11 @@ package dev.ime.infrastructure.entity;
 import java.util.HashSet;
 import java.util.Set;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import dev.ime.common.constants.GlobalConstants;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -22,6 +26,8 @@ import lombok.Setter;
 import lombok.ToString;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = GlobalConstants.CACHE_PROD)
 @Table(name = GlobalConstants.PROD_CAT_DB)
 @NoArgsConstructor
 @AllArgsConstructor
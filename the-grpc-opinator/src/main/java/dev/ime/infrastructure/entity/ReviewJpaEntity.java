@@ -13,7 +13,9 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -22,7 +24,7 @@ import lombok.Setter;
 import lombok.ToString;
 
 @Entity
-@Table(name = GlobalConstants.REV_CAT_DB)
+@Table(name = GlobalConstants.REV_CAT_DB, uniqueConstraints = @UniqueConstraint(name = GlobalConstants.REV_UQ_PROD_EMAIL_DB, columnNames = { GlobalConstants.PROD_ID_DB, "email" }))
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
@@ -32,7 +34,8 @@ import lombok.ToString;
 public class ReviewJpaEntity {
 	
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = GlobalConstants.REV_SEQ_DB)
+	@SequenceGenerator(name = GlobalConstants.REV_SEQ_DB, sequenceName = GlobalConstants.REV_SEQ_DB, allocationSize = GlobalConstants.ID_ALLOCATION_SIZE)
 	@Column(name = "review_id")
 	private Long reviewId;
 
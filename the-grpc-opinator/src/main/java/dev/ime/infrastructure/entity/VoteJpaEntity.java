@@ -9,7 +9,9 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -18,7 +20,7 @@ import lombok.Setter;
 import lombok.ToString;
 
 @Entity
-@Table(name = GlobalConstants.VOT_CAT_DB)
+@Table(name = GlobalConstants.VOT_CAT_DB, uniqueConstraints = @UniqueConstraint(name = GlobalConstants.VOT_UQ_REV_EMAIL_DB, columnNames = { GlobalConstants.REV_ID_DB, "email" }))
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
@@ -28,7 +30,8 @@ import lombok.ToString;
 public class VoteJpaEntity {
 	
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = GlobalConstants.VOT_SEQ_DB)
+	@SequenceGenerator(name = GlobalConstants.VOT_SEQ_DB, sequenceName = GlobalConstants.VOT_SEQ_DB, allocationSize = GlobalConstants.ID_ALLOCATION_SIZE)
 	@Column(name = "vote_id")
 	private Long voteId;
 
@@ -22,8 +22,10 @@ import com.google.protobuf.Empty;
 
 import dev.ime.api.validation.CategoryRequestValidator;
 import dev.ime.application.dto.CategoryDto;
+import dev.ime.application.exception.ValidationException;
 import dev.ime.common.constants.GlobalConstants;
 import dev.ime.common.mapper.CategoryMapper;
+import dev.ime.domain.model.PageCursor;
 import dev.ime.domain.port.inbound.GenericServicePort;
 import dev.proto.CategoryProto;
 import dev.proto.CreateCategoryRequest;
@@ -194,6 +196,46 @@ class CategoryGrpcServiceImplTest {
 				);	
 	}		
 
+	@Test
+	void listCategoriesPaginated_withPageToken_shouldSeekAfterLastRow() throws Exception {
+		
+		CategoryDto lastDto = new CategoryDto(categoryId, categoryName);
+		PaginationRequest firstRequest = PaginationRequest.newBuilder()
+				.setSize(1)
+				.setSortBy(GlobalConstants.CAT_NAME)
+				.build();
+		Mockito.when(categoryServiceAdapter.findAll(Mockito.any(Pageable.class))).thenReturn(List.of(lastDto));
+		Mockito.when(categoryServiceAdapter.findAll(Mockito.any(Pageable.class), Mockito.any(PageCursor.class))).thenReturn(List.of());
+		Mockito.when(categoryMapper.fromListDtoToListProto(Mockito.anyList())).thenReturn(List.of(categoryProto)).thenReturn(List.of());
+		StreamRecorder<ListCategoriesResponse> firstObserver = StreamRecorder.create();
+		StreamRecorder<ListCategoriesResponse> nextObserver = StreamRecorder.create();
+		
+		categoryGrpcServiceImpl.listCategoriesPaginated(firstRequest, firstObserver);
+		String nextPageToken = firstObserver.getValues().get(0).getNextPageToken();
+		categoryGrpcServiceImpl.listCategoriesPaginated(PaginationRequest.newBuilder().setSize(1).setPageToken(nextPageToken).build(), nextObserver);
+
+		if (!nextObserver.awaitCompletion(5, TimeUnit.SECONDS)) {
+			fail(GlobalConstants.MSG_TESTGRPC_NOTINTIME);
+        }
+		org.junit.jupiter.api.Assertions.assertAll(
+				()-> Assertions.assertThat(nextPageToken).isNotEmpty(),
+				()-> Assertions.assertThat(nextObserver.getValues().get(0).getNextPageToken()).isEmpty(),
+				()-> Mockito.verify(categoryServiceAdapter).findAll(Mockito.any(Pageable.class), Mockito.eq(new PageCursor(categoryName, categoryId)))
+				);	
+	}
+
+	@Test
+	void listCategoriesPaginated_withMalformedPageToken_shouldThrowValidationException() {
+		
+		PaginationRequest paginationRequest = PaginationRequest.newBuilder()
+				.setPageToken("not-a-token")
+				.build();
+		StreamRecorder<ListCategoriesResponse> responseObserver = StreamRecorder.create();
+		
+		Assertions.assertThatThrownBy(() -> categoryGrpcServiceImpl.listCategoriesPaginated(paginationRequest, responseObserver))
+			.isInstanceOf(ValidationException.class);
+	}
+
 	@Test
 	void getCategory_shouldReturnCategory() throws Exception {
 
@@ -0,0 +1,112 @@
+package dev.ime.api.endpoint;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+
+class ChunkedRequestReaderTest {
+
+	private final List<Integer> offsets = new ArrayList<>();
+	private final List<String> answered = new ArrayList<>();
+	private boolean completed;
+
+	private final StreamObserver<String> responseObserver = new StreamObserver<>() {
+		@Override
+		public void onNext(String value) {
+			answered.add(value);
+		}
+		@Override
+		public void onError(Throwable t) {
+			throw new IllegalStateException(t);
+		}
+		@Override
+		public void onCompleted() {
+			completed = true;
+		}
+	};
+
+	private String process(int offset, List<String> chunk) {
+
+		offsets.add(offset);
+		return String.join("", chunk).toUpperCase();
+	}
+
+	@Test
+	void onNext_shouldAnswerEveryChunkAsSoonAsItIsFull() {
+
+		ChunkedRequestReader<String, String> reader = new ChunkedRequestReader<>(2, this::process, responseObserver);
+
+		reader.onNext("a");
+		reader.onNext("b");
+		reader.onNext("c");
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				()-> Assertions.assertThat(answered).containsExactly("AB"),
+				()-> Assertions.assertThat(completed).isFalse()
+				);
+	}
+
+	@Test
+	void onCompleted_shouldAnswerRemainderAndComplete() {
+
+		ChunkedRequestReader<String, String> reader = new ChunkedRequestReader<>(2, this::process, responseObserver);
+
+		reader.onNext("a");
+		reader.onNext("b");
+		reader.onNext("c");
+		reader.onCompleted();
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				()-> Assertions.assertThat(offsets).containsExactly(0, 2),
+				()-> Assertions.assertThat(answered).containsExactly("AB", "C"),
+				()-> Assertions.assertThat(completed).isTrue()
+				);
+	}
+
+	@Test
+	void onError_shouldDropPendingChunk() {
+
+		ChunkedRequestReader<String, String> reader = new ChunkedRequestReader<>(2, this::process, responseObserver);
+
+		reader.onNext("a");
+		reader.onNext("b");
+		reader.onNext("c");
+		reader.onError(new IllegalStateException("cancelled"));
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				()-> Assertions.assertThat(offsets).containsExactly(0),
+				()-> Assertions.assertThat(answered).containsExactly("AB"),
+				()-> Assertions.assertThat(completed).isFalse()
+				);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void onNext_withSlowClient_shouldRequestNextChunkOnlyWhenReady() {
+
+		ServerCallStreamObserver<String> callObserver = Mockito.mock(ServerCallStreamObserver.class);
+		ArgumentCaptor<Runnable> onReady = ArgumentCaptor.forClass(Runnable.class);
+		Mockito.when(callObserver.isReady()).thenReturn(false, true);
+
+		ChunkedRequestReader<String, String> reader = new ChunkedRequestReader<>(2, this::process, callObserver);
+		Mockito.verify(callObserver).setOnReadyHandler(onReady.capture());
+		reader.onNext("a");
+		reader.onNext("b");
+		Mockito.verify(callObserver, Mockito.times(1)).request(2);
+		onReady.getValue().run();
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				()-> Mockito.verify(callObserver).disableAutoRequest(),
+				()-> Mockito.verify(callObserver).onNext("AB"),
+				()-> Mockito.verify(callObserver, Mockito.times(2)).request(2)
+				);
+	}
+
+}
@@ -5,8 +5,10 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,15 +18,20 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 
 import com.google.protobuf.Empty;
 
 import dev.ime.api.validation.ProductRequestValidator;
 import dev.ime.application.dto.ProductDto;
+import dev.ime.application.dto.ProductStatsDto;
+import dev.ime.application.exception.ValidationException;
 import dev.ime.common.constants.GlobalConstants;
 import dev.ime.common.mapper.ProductMapper;
-import dev.ime.domain.port.inbound.GenericServicePort;
+import dev.ime.domain.port.inbound.ProductServicePort;
+import dev.ime.domain.port.outbound.ResponseCachePort;
 import dev.proto.CreateProductRequest;
 import dev.proto.DeleteProductRequest;
 import dev.proto.DeleteProductResponse;
@@ -32,6 +39,9 @@ import dev.proto.GetProductRequest;
 import dev.proto.ListProductsResponse;
 import dev.proto.PaginationRequest;
 import dev.proto.ProductProto;
+import dev.proto.ProductStatsProto;
+import dev.proto.SearchProductsResponse;
+import dev.proto.SearchRequest;
 import dev.proto.UpdateProductRequest;
 import io.grpc.internal.testing.StreamRecorder;
 
@@ -39,11 +49,13 @@ import io.grpc.internal.testing.StreamRecorder;
 class ProductGrpcServiceImplTest {
 
 	@Mock
-	private GenericServicePort<ProductDto> productServiceAdapter;
+	private ProductServicePort productServiceAdapter;
 	@Mock
 	private ProductMapper productMapper;
 	@Mock
 	private ProductRequestValidator requestValidator;
+	@Mock
+	private ResponseCachePort responseCacheAdapter;
 	@InjectMocks
 	private ProductGrpcServiceImpl productGrpcServiceImpl;
 	
@@ -121,7 +133,8 @@ class ProductGrpcServiceImplTest {
         assertEquals(1, results.size());
         ProductProto proP = results.get(0);
         org.junit.jupiter.api.Assertions.assertAll(
-				()-> Assertions.assertThat(proP).isNotNull()
+				()-> Assertions.assertThat(proP).isNotNull(),
+				()-> Mockito.verify(responseCacheAdapter).evict(GlobalConstants.PROD_CAT, productId)
 				);		
 	}
 
@@ -202,6 +215,48 @@ class ProductGrpcServiceImplTest {
 				);	
 	}
 
+	@Test
+	void searchProducts_withDefaultPaging_shouldReturnFirstPage() throws Exception {
+
+		SearchRequest request = SearchRequest.newBuilder()
+				.setQuery(productName)
+				.build();
+		Mockito.doNothing().when(requestValidator).validateSearchRequest(Mockito.any(SearchRequest.class));
+		Mockito.when(productServiceAdapter.search(Mockito.anyString(), Mockito.any(Pageable.class))).thenReturn(new SliceImpl<>(List.of(productDto)));
+		Mockito.when(productMapper.fromListDtoToListProto(Mockito.anyList())).thenReturn(List.of(productProto));
+		StreamRecorder<SearchProductsResponse> responseObserver = StreamRecorder.create();
+
+		productGrpcServiceImpl.searchProducts(request, responseObserver);
+
+		if (!responseObserver.awaitCompletion(5, TimeUnit.SECONDS)) {
+			fail(GlobalConstants.MSG_TESTGRPC_NOTINTIME);
+        }
+        assertNull(responseObserver.getError());
+        SearchProductsResponse response = responseObserver.getValues().get(0);
+		org.junit.jupiter.api.Assertions.assertAll(
+				()-> Assertions.assertThat(response.getProductsList()).containsExactly(productProto),
+				()-> Assertions.assertThat(response.getHasNext()).isFalse(),
+				()-> Mockito.verify(productServiceAdapter).search(productName, PageRequest.of(0, GlobalConstants.SEARCH_MAX_SIZE))
+				);
+	}
+
+	@Test
+	void searchProducts_withPageBeyondSearchWindow_shouldThrowValidationException() {
+
+		SearchRequest request = SearchRequest.newBuilder()
+				.setQuery("excellent")
+				.setPage(Integer.MAX_VALUE)
+				.setSize(GlobalConstants.SEARCH_MAX_SIZE)
+				.build();
+		Mockito.doNothing().when(requestValidator).validateSearchRequest(Mockito.any(SearchRequest.class));
+		StreamRecorder<SearchProductsResponse> responseObserver = StreamRecorder.create();
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				() -> Assertions.assertThatThrownBy(() -> productGrpcServiceImpl.searchProducts(request, responseObserver))
+					.isInstanceOf(ValidationException.class),
+				() -> Mockito.verifyNoInteractions(productServiceAdapter));
+	}
+
 	@Test
 	void getProduct_shouldReturnProduct() throws Exception {
 
@@ -211,6 +266,8 @@ class ProductGrpcServiceImplTest {
 		Mockito.doNothing().when(requestValidator).validateGetRequest(Mockito.any(GetProductRequest.class));
 		Mockito.when(productServiceAdapter.findById(Mockito.anyLong())).thenReturn(Optional.of(productDto));
 		Mockito.when(productMapper.fromDtoToProto(Mockito.any(ProductDto.class))).thenReturn(productProto);
+		Mockito.when(responseCacheAdapter.getOrLoad(Mockito.eq(GlobalConstants.PROD_CAT), Mockito.anyLong(), Mockito.any()))
+		.thenAnswer(invocation -> invocation.<Supplier<byte[]>>getArgument(2).get());
 		StreamRecorder<ProductProto> responseObserver = StreamRecorder.create();
 		
 		productGrpcServiceImpl.getProduct(request, responseObserver);
@@ -227,4 +284,53 @@ class ProductGrpcServiceImplTest {
 				);		
 	}
 
+	@Test
+	void getProduct_withCachedPayload_shouldSkipService() throws Exception {
+
+		GetProductRequest request = GetProductRequest.newBuilder()
+				.setProductId(productId)
+				.build();
+		Mockito.doNothing().when(requestValidator).validateGetRequest(Mockito.any(GetProductRequest.class));
+		Mockito.when(responseCacheAdapter.getOrLoad(Mockito.eq(GlobalConstants.PROD_CAT), Mockito.eq(productId), Mockito.any())).thenReturn(productProto.toByteArray());
+		StreamRecorder<ProductProto> responseObserver = StreamRecorder.create();
+
+		productGrpcServiceImpl.getProduct(request, responseObserver);
+
+		if (!responseObserver.awaitCompletion(5, TimeUnit.SECONDS)) {
+            fail(GlobalConstants.MSG_TESTGRPC_NOTINTIME);
+        }
+        assertNull(responseObserver.getError());
+        org.junit.jupiter.api.Assertions.assertAll(
+				()-> Assertions.assertThat(responseObserver.getValues()).containsExactly(productProto),
+				()-> Mockito.verify(productServiceAdapter, Mockito.never()).findById(Mockito.anyLong())
+				);
+	}
+
+	@Test
+	void getProductStats_shouldReturnStats() throws Exception {
+
+		GetProductRequest request = GetProductRequest.newBuilder()
+				.setProductId(productId)
+				.build();
+		ProductStatsDto statsDto = new ProductStatsDto(productId, 1L, 5.0, Map.of(5, 1L));
+		ProductStatsProto statsProto = ProductStatsProto.newBuilder().setProductId(productId).setReviewCount(1L).setAverageRating(5.0).putRatingHistogram(5, 1L).build();
+		Mockito.doNothing().when(requestValidator).validateGetRequest(Mockito.any(GetProductRequest.class));
+		Mockito.when(productServiceAdapter.findStats(Mockito.anyLong())).thenReturn(Optional.of(statsDto));
+		Mockito.when(productMapper.fromStatsDtoToProto(Mockito.any(ProductStatsDto.class))).thenReturn(statsProto);
+		StreamRecorder<ProductStatsProto> responseObserver = StreamRecorder.create();
+
+		productGrpcServiceImpl.getProductStats(request, responseObserver);
+
+		if (!responseObserver.awaitCompletion(5, TimeUnit.SECONDS)) {
+            fail(GlobalConstants.MSG_TESTGRPC_NOTINTIME);
+        }
+        assertNull(responseObserver.getError());
+        List<ProductStatsProto> results = responseObserver.getValues();
+        assertEquals(1, results.size());
+        org.junit.jupiter.api.Assertions.assertAll(
+				()-> Assertions.assertThat(results.get(0).getReviewCount()).isEqualTo(1L),
+				()-> Assertions.assertThat(results.get(0).getRatingHistogramMap()).containsEntry(5, 1L)
+				);
+	}
+
 }
@@ -5,8 +5,11 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.function.Consumer;
 
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,35 +19,54 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 
 import com.google.protobuf.Empty;
 
 import dev.ime.api.validation.ReviewRequestValidator;
 import dev.ime.application.dto.ReviewDto;
+import dev.ime.application.dto.ReviewStatsDto;
+import dev.ime.application.exception.ValidationException;
 import dev.ime.common.constants.GlobalConstants;
 import dev.ime.common.mapper.ReviewMapper;
-import dev.ime.domain.port.inbound.GenericServicePort;
+import dev.ime.domain.model.BulkOutcome;
+import dev.ime.domain.port.inbound.ReviewServicePort;
+import dev.ime.domain.port.outbound.ResponseCachePort;
 import dev.proto.CreateReviewRequest;
+import dev.proto.CreateReviewResult;
+import dev.proto.CreateReviewsResponse;
 import dev.proto.DeleteReviewRequest;
 import dev.proto.DeleteReviewResponse;
 import dev.proto.GetReviewRequest;
 import dev.proto.ListReviewsResponse;
 import dev.proto.PaginationRequest;
+import dev.proto.ReviewGrpcServiceGrpc;
 import dev.proto.ReviewProto;
+import dev.proto.ReviewStatsProto;
+import dev.proto.SearchRequest;
+import dev.proto.SearchReviewsResponse;
 import dev.proto.UpdateReviewRequest;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
 import io.grpc.internal.testing.StreamRecorder;
+import io.grpc.stub.StreamObserver;
 
 @ExtendWith(MockitoExtension.class)
 class ReviewGrpcServiceImplTest {
 
 	@Mock
-	private GenericServicePort<ReviewDto> reviewServiceAdapter;
+	private ReviewServicePort reviewServiceAdapter;
 	@Mock
 	private ReviewMapper reviewMapper;
 	@Mock
 	private ReviewRequestValidator requestValidator;
 	
+	@Mock
+	private ResponseCachePort responseCacheAdapter;
 	@InjectMocks
 	private ReviewGrpcServiceImpl reviewGrpcServiceImpl;
 	
@@ -98,6 +120,100 @@ class ReviewGrpcServiceImplTest {
 				);
 	}
 
+	@Test
+	void createReviews_shouldAnswerEveryMessage() throws Exception {
+
+		CreateReviewRequest request = CreateReviewRequest.newBuilder()
+				.setProductId(productId)
+				.setReviewText(reviewText)
+				.setRating(rating)
+				.build();
+		Mockito.doNothing().doThrow(new ValidationException(Map.of(GlobalConstants.REV_RAT, "9")))
+		.doNothing().when(requestValidator).validateCreateRequest(Mockito.any(CreateReviewRequest.class));
+		Mockito.when(reviewMapper.fromCreateToDto(Mockito.any(CreateReviewRequest.class))).thenReturn(reviewDto);
+		Mockito.when(reviewServiceAdapter.saveAll(Mockito.anyList())).thenReturn(List.of(BulkOutcome.created(reviewDto), BulkOutcome.rejected(GlobalConstants.EX_ONLYONEREV)));
+		Mockito.when(reviewMapper.fromDtoToProto(Mockito.any(ReviewDto.class))).thenReturn(reviewProto);
+		StreamRecorder<CreateReviewsResponse> responseObserver = StreamRecorder.create();
+
+		StreamObserver<CreateReviewRequest> requestObserver = reviewGrpcServiceImpl.createReviews(responseObserver);
+		requestObserver.onNext(request);
+		requestObserver.onNext(request);
+		requestObserver.onNext(request);
+		requestObserver.onCompleted();
+
+		if (!responseObserver.awaitCompletion(5, TimeUnit.SECONDS)) {
+            fail(GlobalConstants.MSG_TESTGRPC_NOTINTIME);
+        }
+        assertNull(responseObserver.getError());
+        CreateReviewsResponse response = responseObserver.getValues().get(0);
+        org.junit.jupiter.api.Assertions.assertAll(
+				()-> Assertions.assertThat(response.getCreatedCount()).isEqualTo(1),
+				()-> Assertions.assertThat(response.getResultsList()).extracting(CreateReviewResult::getIndex).containsExactly(0, 1, 2),
+				()-> Assertions.assertThat(response.getResults(0).getReview()).isEqualTo(reviewProto),
+				()-> Assertions.assertThat(response.getResults(1).getError()).isEqualTo(GlobalConstants.EX_VALIDATION),
+				()-> Assertions.assertThat(response.getResults(2).getError()).isEqualTo(GlobalConstants.EX_ONLYONEREV)
+				);
+	}
+
+	@Test
+	void createReviews_withFailedChunk_shouldRejectItsMessages() throws Exception {
+
+		Mockito.doNothing().when(requestValidator).validateCreateRequest(Mockito.any(CreateReviewRequest.class));
+		Mockito.when(reviewMapper.fromCreateToDto(Mockito.any(CreateReviewRequest.class))).thenReturn(reviewDto);
+		Mockito.when(reviewServiceAdapter.saveAll(Mockito.anyList())).thenThrow(new IllegalStateException("down"));
+		StreamRecorder<CreateReviewsResponse> responseObserver = StreamRecorder.create();
+
+		StreamObserver<CreateReviewRequest> requestObserver = reviewGrpcServiceImpl.createReviews(responseObserver);
+		requestObserver.onNext(CreateReviewRequest.getDefaultInstance());
+		requestObserver.onCompleted();
+
+		if (!responseObserver.awaitCompletion(5, TimeUnit.SECONDS)) {
+            fail(GlobalConstants.MSG_TESTGRPC_NOTINTIME);
+        }
+        CreateReviewsResponse response = responseObserver.getValues().get(0);
+        org.junit.jupiter.api.Assertions.assertAll(
+				()-> Assertions.assertThat(response.getCreatedCount()).isZero(),
+				()-> Assertions.assertThat(response.getResults(0).getError()).isEqualTo(IllegalStateException.class.getSimpleName())
+				);
+	}
+
+	@Test
+	void createReviews_overTransport_shouldAnswerEveryChunk() throws Exception {
+
+		Mockito.doNothing().when(requestValidator).validateCreateRequest(Mockito.any(CreateReviewRequest.class));
+		Mockito.when(reviewMapper.fromCreateToDto(Mockito.any(CreateReviewRequest.class))).thenReturn(reviewDto);
+		Mockito.when(reviewServiceAdapter.saveAll(Mockito.anyList())).thenAnswer(invocation ->
+				invocation.<List<ReviewDto>>getArgument(0).stream().map(BulkOutcome::created).toList());
+		Mockito.when(reviewMapper.fromDtoToProto(Mockito.any(ReviewDto.class))).thenReturn(reviewProto);
+		String serverName = InProcessServerBuilder.generateName();
+		Server server = InProcessServerBuilder.forName(serverName).addService(reviewGrpcServiceImpl).build().start();
+		ManagedChannel channel = InProcessChannelBuilder.forName(serverName).build();
+		StreamRecorder<CreateReviewsResponse> responseObserver = StreamRecorder.create();
+		int messages = GlobalConstants.BULK_CHUNK_SIZE * 2 + 1;
+
+		try {
+			StreamObserver<CreateReviewRequest> requestObserver = ReviewGrpcServiceGrpc.newStub(channel).createReviews(responseObserver);
+			for (int i = 0; i < messages; i++) {
+				requestObserver.onNext(CreateReviewRequest.getDefaultInstance());
+			}
+			requestObserver.onCompleted();
+
+			if (!responseObserver.awaitCompletion(5, TimeUnit.SECONDS)) {
+				fail(GlobalConstants.MSG_TESTGRPC_NOTINTIME);
+			}
+		} finally {
+			channel.shutdownNow();
+			server.shutdownNow();
+		}
+
+		assertNull(responseObserver.getError());
+		org.junit.jupiter.api.Assertions.assertAll(
+				()-> Assertions.assertThat(responseObserver.getValues()).extracting(CreateReviewsResponse::getCreatedCount)
+				.containsExactly(GlobalConstants.BULK_CHUNK_SIZE, GlobalConstants.BULK_CHUNK_SIZE, 1),
+				()-> Assertions.assertThat(responseObserver.getValues().get(2).getResults(0).getIndex()).isEqualTo(messages - 1)
+				);
+	}
+
 	@Test
 	void updateReview_shouldReturnReview() throws Exception {
 
@@ -122,7 +238,8 @@ class ReviewGrpcServiceImplTest {
         assertEquals(1, results.size());
         ReviewProto revP = results.get(0);
         org.junit.jupiter.api.Assertions.assertAll(
-				()-> Assertions.assertThat(revP).isNotNull()
+				()-> Assertions.assertThat(revP).isNotNull(),
+				()-> Mockito.verify(responseCacheAdapter).evict(GlobalConstants.REV_CAT, reviewId)
 				);
 	}
 
@@ -176,6 +293,32 @@ class ReviewGrpcServiceImplTest {
 				);	
 	}
 
+	@SuppressWarnings("unchecked")
+	@Test
+	void streamReviews_shouldEmitOneMessagePerRow() throws Exception {
+
+		Mockito.doAnswer(invocation -> {
+			Consumer<ReviewDto> action = invocation.getArgument(0);
+			action.accept(reviewDto);
+			action.accept(reviewDto);
+			return null;
+		}).when(reviewServiceAdapter).streamAll(Mockito.any(Consumer.class));
+		Mockito.when(reviewMapper.fromDtoToProto(Mockito.any(ReviewDto.class))).thenReturn(reviewProto);
+		StreamRecorder<ReviewProto> responseObserver = StreamRecorder.create();
+		
+		reviewGrpcServiceImpl.streamReviews(Empty.getDefaultInstance(), responseObserver);
+        
+		if (!responseObserver.awaitCompletion(5, TimeUnit.SECONDS)) {
+			fail(GlobalConstants.MSG_TESTGRPC_NOTINTIME);
+        }
+        assertNull(responseObserver.getError());
+        List<ReviewProto> results = responseObserver.getValues();
+		org.junit.jupiter.api.Assertions.assertAll(
+				()-> Assertions.assertThat(results).hasSize(2),
+				()-> Assertions.assertThat(results.get(0)).isEqualTo(reviewProto)
+				);	
+	}
+
 	@Test
 	void listReviewsPaginated_shouldReturnList() throws Exception {
 		PaginationRequest paginationRequest = PaginationRequest.newBuilder()
@@ -204,6 +347,50 @@ class ReviewGrpcServiceImplTest {
 				);
 	}
 
+	@Test
+	void searchReviews_shouldReturnRankedPage() throws Exception {
+
+		SearchRequest request = SearchRequest.newBuilder()
+				.setQuery(" excellent ")
+				.setPage(1)
+				.setSize(500)
+				.build();
+		Mockito.doNothing().when(requestValidator).validateSearchRequest(Mockito.any(SearchRequest.class));
+		Mockito.when(reviewServiceAdapter.search(Mockito.anyString(), Mockito.any(Pageable.class))).thenReturn(new SliceImpl<>(List.of(reviewDto), PageRequest.of(1, GlobalConstants.SEARCH_MAX_SIZE), true));
+		Mockito.when(reviewMapper.fromListDtoToListProto(Mockito.anyList())).thenReturn(List.of(reviewProto));
+		StreamRecorder<SearchReviewsResponse> responseObserver = StreamRecorder.create();
+
+		reviewGrpcServiceImpl.searchReviews(request, responseObserver);
+
+		if (!responseObserver.awaitCompletion(5, TimeUnit.SECONDS)) {
+			fail(GlobalConstants.MSG_TESTGRPC_NOTINTIME);
+        }
+        assertNull(responseObserver.getError());
+        SearchReviewsResponse response = responseObserver.getValues().get(0);
+		org.junit.jupiter.api.Assertions.assertAll(
+				()-> Assertions.assertThat(response.getReviewsList()).containsExactly(reviewProto),
+				()-> Assertions.assertThat(response.getHasNext()).isTrue(),
+				()-> Mockito.verify(reviewServiceAdapter).search("excellent", PageRequest.of(1, GlobalConstants.SEARCH_MAX_SIZE))
+				);
+	}
+
+	@Test
+	void searchReviews_withPageBeyondSearchWindow_shouldThrowValidationException() {
+
+		SearchRequest request = SearchRequest.newBuilder()
+				.setQuery("excellent")
+				.setPage(Integer.MAX_VALUE)
+				.setSize(GlobalConstants.SEARCH_MAX_SIZE)
+				.build();
+		Mockito.doNothing().when(requestValidator).validateSearchRequest(Mockito.any(SearchRequest.class));
+		StreamRecorder<SearchReviewsResponse> responseObserver = StreamRecorder.create();
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				() -> Assertions.assertThatThrownBy(() -> reviewGrpcServiceImpl.searchReviews(request, responseObserver))
+					.isInstanceOf(ValidationException.class),
+				() -> Mockito.verifyNoInteractions(reviewServiceAdapter));
+	}
+
 	@Test
 	void getReview_shouldReturnReview() throws Exception {
 
@@ -213,6 +400,8 @@ class ReviewGrpcServiceImplTest {
 		Mockito.doNothing().when(requestValidator).validateGetRequest(Mockito.any(GetReviewRequest.class));
 		Mockito.when(reviewServiceAdapter.findById(Mockito.anyLong())).thenReturn(Optional.of(reviewDto));
 		Mockito.when(reviewMapper.fromDtoToProto(Mockito.any(ReviewDto.class))).thenReturn(reviewProto);
+		Mockito.when(responseCacheAdapter.getOrLoad(Mockito.eq(GlobalConstants.REV_CAT), Mockito.anyLong(), Mockito.any()))
+		.thenAnswer(invocation -> invocation.<Supplier<byte[]>>getArgument(2).get());
 		StreamRecorder<ReviewProto> responseObserver = StreamRecorder.create();
 		
 		reviewGrpcServiceImpl.getReview(request, responseObserver);
@@ -229,4 +418,53 @@ class ReviewGrpcServiceImplTest {
 				);
 	}
 
+	@Test
+	void getReview_withCachedPayload_shouldSkipService() throws Exception {
+
+		GetReviewRequest request = GetReviewRequest.newBuilder()
+				.setReviewId(reviewId)
+				.build();
+		Mockito.doNothing().when(requestValidator).validateGetRequest(Mockito.any(GetReviewRequest.class));
+		Mockito.when(responseCacheAdapter.getOrLoad(Mockito.eq(GlobalConstants.REV_CAT), Mockito.eq(reviewId), Mockito.any())).thenReturn(reviewProto.toByteArray());
+		StreamRecorder<ReviewProto> responseObserver = StreamRecorder.create();
+
+		reviewGrpcServiceImpl.getReview(request, responseObserver);
+
+		if (!responseObserver.awaitCompletion(5, TimeUnit.SECONDS)) {
+            fail(GlobalConstants.MSG_TESTGRPC_NOTINTIME);
+        }
+        assertNull(responseObserver.getError());
+        org.junit.jupiter.api.Assertions.assertAll(
+				()-> Assertions.assertThat(responseObserver.getValues()).containsExactly(reviewProto),
+				()-> Mockito.verify(reviewServiceAdapter, Mockito.never()).findById(Mockito.anyLong())
+				);
+	}
+
+	@Test
+	void getReviewStats_shouldReturnStats() throws Exception {
+
+		GetReviewRequest request = GetReviewRequest.newBuilder()
+				.setReviewId(reviewId)
+				.build();
+		ReviewStatsDto statsDto = new ReviewStatsDto(reviewId, 2L, 1L);
+		ReviewStatsProto statsProto = ReviewStatsProto.newBuilder().setReviewId(reviewId).setUsefulCount(2L).setNotUsefulCount(1L).build();
+		Mockito.doNothing().when(requestValidator).validateGetRequest(Mockito.any(GetReviewRequest.class));
+		Mockito.when(reviewServiceAdapter.findStats(Mockito.anyLong())).thenReturn(Optional.of(statsDto));
+		Mockito.when(reviewMapper.fromStatsDtoToProto(Mockito.any(ReviewStatsDto.class))).thenReturn(statsProto);
+		StreamRecorder<ReviewStatsProto> responseObserver = StreamRecorder.create();
+
+		reviewGrpcServiceImpl.getReviewStats(request, responseObserver);
+
+		if (!responseObserver.awaitCompletion(5, TimeUnit.SECONDS)) {
+            fail(GlobalConstants.MSG_TESTGRPC_NOTINTIME);
+        }
+        assertNull(responseObserver.getError());
+        List<ReviewStatsProto> results = responseObserver.getValues();
+        assertEquals(1, results.size());
+        org.junit.jupiter.api.Assertions.assertAll(
+				()-> Assertions.assertThat(results.get(0).getUsefulCount()).isEqualTo(2L),
+				()-> Assertions.assertThat(results.get(0).getNotUsefulCount()).isEqualTo(1L)
+				);
+	}
+
 }
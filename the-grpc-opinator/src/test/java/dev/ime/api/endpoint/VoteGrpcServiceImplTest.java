@@ -5,8 +5,10 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -23,10 +25,14 @@ import com.google.protobuf.Empty;
 
 import dev.ime.api.validation.VoteRequestValidator;
 import dev.ime.application.dto.VoteDto;
+import dev.ime.application.exception.ValidationException;
 import dev.ime.common.constants.GlobalConstants;
 import dev.ime.common.mapper.VoteMapper;
-import dev.ime.domain.port.inbound.GenericServicePort;
+import dev.ime.domain.model.BulkOutcome;
+import dev.ime.domain.port.inbound.VoteServicePort;
 import dev.proto.CreateVoteRequest;
+import dev.proto.CreateVoteResult;
+import dev.proto.CreateVotesResponse;
 import dev.proto.DeleteVoteRequest;
 import dev.proto.DeleteVoteResponse;
 import dev.proto.GetVoteRequest;
@@ -35,12 +41,13 @@ import dev.proto.PaginationRequest;
 import dev.proto.UpdateVoteRequest;
 import dev.proto.VoteProto;
 import io.grpc.internal.testing.StreamRecorder;
+import io.grpc.stub.StreamObserver;
 
 @ExtendWith(MockitoExtension.class)
 class VoteGrpcServiceImplTest {
 
 	@Mock
-	private GenericServicePort<VoteDto> voteServiceAdapter;
+	private VoteServicePort voteServiceAdapter;
 	@Mock
 	private VoteMapper voteMapper;
 	@Mock
@@ -96,6 +103,38 @@ class VoteGrpcServiceImplTest {
 				);
 	}
 
+	@Test
+	void createVotes_shouldAnswerEveryMessage() throws Exception {
+
+		CreateVoteRequest request = CreateVoteRequest.newBuilder()
+				.setReviewId(reviewId)
+				.setUseful(useful)
+				.build();
+		Mockito.doThrow(new ValidationException(Map.of(GlobalConstants.REV_ID, "0")))
+		.doNothing().when(requestValidator).validateCreateRequest(Mockito.any(CreateVoteRequest.class));
+		Mockito.when(voteMapper.fromCreateToDto(Mockito.any(CreateVoteRequest.class))).thenReturn(voteDto);
+		Mockito.when(voteServiceAdapter.saveAll(Mockito.anyList())).thenReturn(List.of(BulkOutcome.created(voteDto)));
+		Mockito.when(voteMapper.fromDtoToProto(Mockito.any(VoteDto.class))).thenReturn(voteProto);
+		StreamRecorder<CreateVotesResponse> responseObserver = StreamRecorder.create();
+
+		StreamObserver<CreateVoteRequest> requestObserver = voteGrpcServiceImpl.createVotes(responseObserver);
+		requestObserver.onNext(request);
+		requestObserver.onNext(request);
+		requestObserver.onCompleted();
+
+		if (!responseObserver.awaitCompletion(5, TimeUnit.SECONDS)) {
+            fail(GlobalConstants.MSG_TESTGRPC_NOTINTIME);
+        }
+        assertNull(responseObserver.getError());
+        CreateVotesResponse response = responseObserver.getValues().get(0);
+        org.junit.jupiter.api.Assertions.assertAll(
+				()-> Assertions.assertThat(response.getCreatedCount()).isEqualTo(1),
+				()-> Assertions.assertThat(response.getResultsList()).extracting(CreateVoteResult::getIndex).containsExactly(0, 1),
+				()-> Assertions.assertThat(response.getResults(0).getError()).isEqualTo(GlobalConstants.EX_VALIDATION),
+				()-> Assertions.assertThat(response.getResults(1).getVote()).isEqualTo(voteProto)
+				);
+	}
+
 	@Test
 	void updateVote_shouldReturnVote() throws Exception {
 
@@ -172,6 +211,32 @@ class VoteGrpcServiceImplTest {
 				);	
 	}	
 
+	@SuppressWarnings("unchecked")
+	@Test
+	void streamVotes_shouldEmitOneMessagePerRow() throws Exception {
+
+		Mockito.doAnswer(invocation -> {
+			Consumer<VoteDto> action = invocation.getArgument(0);
+			action.accept(voteDto);
+			action.accept(voteDto);
+			return null;
+		}).when(voteServiceAdapter).streamAll(Mockito.any(Consumer.class));
+		Mockito.when(voteMapper.fromDtoToProto(Mockito.any(VoteDto.class))).thenReturn(voteProto);
+		StreamRecorder<VoteProto> responseObserver = StreamRecorder.create();
+		
+		voteGrpcServiceImpl.streamVotes(Empty.getDefaultInstance(), responseObserver);
+        
+		if (!responseObserver.awaitCompletion(5, TimeUnit.SECONDS)) {
+			fail(GlobalConstants.MSG_TESTGRPC_NOTINTIME);
+        }
+        assertNull(responseObserver.getError());
+        List<VoteProto> results = responseObserver.getValues();
+		org.junit.jupiter.api.Assertions.assertAll(
+				()-> Assertions.assertThat(results).hasSize(2),
+				()-> Assertions.assertThat(results.get(0)).isEqualTo(voteProto)
+				);	
+	}
+
 	@Test
 	void listVotesPaginated_shouldReturnList() throws Exception {
 		PaginationRequest paginationRequest = PaginationRequest.newBuilder()
@@ -5,9 +5,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import dev.ime.application.exception.ValidationException;
 import dev.proto.CreateProductRequest;
 import dev.proto.DeleteProductRequest;
 import dev.proto.GetProductRequest;
+import dev.proto.SearchRequest;
 import dev.proto.UpdateProductRequest;
 
 @ExtendWith(MockitoExtension.class)
@@ -71,4 +73,26 @@ class ProductRequestValidatorTest {
 		org.junit.jupiter.api.Assertions.assertDoesNotThrow(() -> dtoValidator.validateGetRequest(request));
 	}
 
+	@Test
+	void validateSearchRequest_shouldValidateRight() {
+		
+		SearchRequest request = SearchRequest.newBuilder()
+				.setQuery("\"red tomatoes\" -green")
+				.build();
+		
+		org.junit.jupiter.api.Assertions.assertDoesNotThrow(() -> dtoValidator.validateSearchRequest(request));
+
+	}
+
+	@Test
+	void validateSearchRequest_withBlankQuery_shouldThrowValidationException() {
+		
+		SearchRequest request = SearchRequest.newBuilder()
+				.setQuery("   ")
+				.build();
+		
+		org.junit.jupiter.api.Assertions.assertThrows(ValidationException.class, () -> dtoValidator.validateSearchRequest(request));
+
+	}
+
 }
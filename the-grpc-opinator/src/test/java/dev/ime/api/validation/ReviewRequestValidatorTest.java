@@ -5,9 +5,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import dev.ime.application.exception.ValidationException;
 import dev.proto.CreateReviewRequest;
 import dev.proto.DeleteReviewRequest;
 import dev.proto.GetReviewRequest;
+import dev.proto.SearchRequest;
 import dev.proto.UpdateReviewRequest;
 
 @ExtendWith(MockitoExtension.class)
@@ -74,4 +76,26 @@ class ReviewRequestValidatorTest {
 
 	}
 
+	@Test
+	void validateSearchRequest_shouldValidateRight() {
+		
+		SearchRequest request = SearchRequest.newBuilder()
+				.setQuery("excellent tomatoes")
+				.build();
+		
+		org.junit.jupiter.api.Assertions.assertDoesNotThrow(() -> dtoValidator.validateSearchRequest(request));
+
+	}
+
+	@Test
+	void validateSearchRequest_withBlankQuery_shouldThrowValidationException() {
+		
+		SearchRequest request = SearchRequest.newBuilder()
+				.setQuery("   ")
+				.build();
+		
+		org.junit.jupiter.api.Assertions.assertThrows(ValidationException.class, () -> dtoValidator.validateSearchRequest(request));
+
+	}
+
 }
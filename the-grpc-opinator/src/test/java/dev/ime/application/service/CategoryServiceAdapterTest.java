@@ -27,6 +27,7 @@ import dev.ime.domain.model.Category;
 import dev.ime.domain.model.Event;
 import dev.ime.domain.port.outbound.GenericRepositoryPort;
 import dev.ime.domain.port.outbound.PublisherPort;
+import dev.ime.domain.port.outbound.QueryRepositoryPort;
 
 @ExtendWith(MockitoExtension.class)
 class CategoryServiceAdapterTest {
@@ -34,6 +35,8 @@ class CategoryServiceAdapterTest {
 	@Mock
 	private GenericRepositoryPort<Category> categoryRepositoryAdapter;
 	@Mock
+	private QueryRepositoryPort<CategoryDto> categoryQueryRepositoryAdapter;
+	@Mock
 	private CategoryMapper categoryMapper;
 	@Mock
 	private EventMapper eventMapper;
@@ -79,8 +82,7 @@ class CategoryServiceAdapterTest {
 	@Test
 	void findAll_shouldReturnList() {
 		
-		Mockito.when(categoryRepositoryAdapter.findAll()).thenReturn(List.of(category));
-		Mockito.when(categoryMapper.fromListDomainToListDto(Mockito.anyList())).thenReturn(List.of(categoryDto));
+		Mockito.when(categoryQueryRepositoryAdapter.findAll()).thenReturn(List.of(categoryDto));
 		
 		List<CategoryDto> list = categoryServiceAdapter.findAll();
 		
@@ -93,8 +95,7 @@ class CategoryServiceAdapterTest {
 	@Test
 	void findAll_withPageable_shouldReturnList() {
 		
-		Mockito.when(categoryRepositoryAdapter.findAll(Mockito.any(Pageable.class))).thenReturn(List.of(category));
-		Mockito.when(categoryMapper.fromListDomainToListDto(Mockito.anyList())).thenReturn(List.of(categoryDto));
+		Mockito.when(categoryQueryRepositoryAdapter.findAll(Mockito.any(Pageable.class))).thenReturn(List.of(categoryDto));
 		
 		List<CategoryDto> list = categoryServiceAdapter.findAll(pageable);
 		
@@ -107,8 +108,7 @@ class CategoryServiceAdapterTest {
 	@Test
 	void findById_shouldReturnOptDto() {
 		
-		Mockito.when(categoryRepositoryAdapter.findById(Mockito.anyLong())).thenReturn(Optional.of(category));
-		Mockito.when(categoryMapper.fromDomainToDto(Mockito.any(Category.class))).thenReturn(categoryDto);
+		Mockito.when(categoryQueryRepositoryAdapter.findById(Mockito.anyLong())).thenReturn(Optional.of(categoryDto));
 		
 		Optional<CategoryDto> optResult =  categoryServiceAdapter.findById(categoryId);
 		
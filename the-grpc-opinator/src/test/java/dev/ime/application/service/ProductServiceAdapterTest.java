@@ -17,9 +17,12 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 
 import dev.ime.application.dto.ProductDto;
+import dev.ime.application.dto.ProductStatsDto;
 import dev.ime.common.constants.GlobalConstants;
 import dev.ime.common.mapper.EventMapper;
 import dev.ime.common.mapper.ProductMapper;
@@ -28,6 +31,8 @@ import dev.ime.domain.model.Event;
 import dev.ime.domain.model.Product;
 import dev.ime.domain.port.outbound.GenericRepositoryPort;
 import dev.ime.domain.port.outbound.PublisherPort;
+import dev.ime.domain.port.outbound.SearchQueryRepositoryPort;
+import dev.ime.domain.port.outbound.StatsRepositoryPort;
 
 @ExtendWith(MockitoExtension.class)
 class ProductServiceAdapterTest {
@@ -35,6 +40,10 @@ class ProductServiceAdapterTest {
 	@Mock
 	private GenericRepositoryPort<Product> productRepositoryAdapter;
 	@Mock
+	private SearchQueryRepositoryPort<ProductDto> productQueryRepositoryAdapter;
+	@Mock
+	private StatsRepositoryPort statsRepositoryAdapter;
+	@Mock
 	private ProductMapper productMapper;
 	@Mock
 	private EventMapper eventMapper;
@@ -84,8 +93,7 @@ class ProductServiceAdapterTest {
 	@Test
 	void findAll_shouldReturnList() {
 		
-		Mockito.when(productRepositoryAdapter.findAll()).thenReturn(List.of(product));
-		Mockito.when(productMapper.fromListDomainToListDto(Mockito.anyList())).thenReturn(List.of(productDto));
+		Mockito.when(productQueryRepositoryAdapter.findAll()).thenReturn(List.of(productDto));
 		
 		List<ProductDto> list = productServiceAdapter.findAll();
 		
@@ -98,8 +106,7 @@ class ProductServiceAdapterTest {
 	@Test
 	void findAll_withPageable_shouldReturnList() {
 		
-		Mockito.when(productRepositoryAdapter.findAll(Mockito.any(Pageable.class))).thenReturn(List.of(product));
-		Mockito.when(productMapper.fromListDomainToListDto(Mockito.anyList())).thenReturn(List.of(productDto));
+		Mockito.when(productQueryRepositoryAdapter.findAll(Mockito.any(Pageable.class))).thenReturn(List.of(productDto));
 		
 		List<ProductDto> list = productServiceAdapter.findAll(pageable);
 		
@@ -109,11 +116,23 @@ class ProductServiceAdapterTest {
 				);		
 	}
 
+	@Test
+	void search_shouldReturnSlice() {
+		
+		Mockito.when(productQueryRepositoryAdapter.search(Mockito.anyString(), Mockito.any(Pageable.class))).thenReturn(new SliceImpl<>(List.of(productDto), pageable, true));
+		
+		Slice<ProductDto> slice = productServiceAdapter.search("excellent", pageable);
+		
+		org.junit.jupiter.api.Assertions.assertAll(
+				()-> Assertions.assertThat(slice.getContent()).containsExactly(productDto),
+				()-> Assertions.assertThat(slice.hasNext()).isTrue()
+				);		
+	}
+
 	@Test
 	void findById_shouldReturnOptDto() {
 		
-		Mockito.when(productRepositoryAdapter.findById(Mockito.anyLong())).thenReturn(Optional.of(product));
-		Mockito.when(productMapper.fromDomainToDto(Mockito.any(Product.class))).thenReturn(productDto);
+		Mockito.when(productQueryRepositoryAdapter.findById(Mockito.anyLong())).thenReturn(Optional.of(productDto));
 		
 		Optional<ProductDto> optResult =  productServiceAdapter.findById(categoryId);
 		
@@ -171,4 +190,19 @@ class ProductServiceAdapterTest {
 		);		
 	}
 
+	@Test
+	void findStats_shouldReturnOptStats() {
+
+		ProductStatsDto statsDto = new ProductStatsDto(productId, 2L, 4.5, Map.of(4, 1L, 5, 1L));
+		Mockito.when(statsRepositoryAdapter.findProductStats(Mockito.anyLong())).thenReturn(Optional.of(statsDto));
+
+		Optional<ProductStatsDto> optResult = productServiceAdapter.findStats(productId);
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				()-> Assertions.assertThat(optResult).isNotEmpty(),
+				()-> Assertions.assertThat(optResult.get().averageRating()).isEqualTo(4.5),
+				()-> Mockito.verifyNoInteractions(productRepositoryAdapter)
+				);
+	}
+
 }
@@ -1,11 +1,13 @@
 package dev.ime.application.service;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,24 +19,34 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 
 import dev.ime.application.dto.ReviewDto;
+import dev.ime.application.dto.ReviewStatsDto;
 import dev.ime.common.constants.GlobalConstants;
 import dev.ime.common.mapper.EventMapper;
 import dev.ime.common.mapper.ReviewMapper;
+import dev.ime.domain.model.BulkOutcome;
 import dev.ime.domain.model.Event;
 import dev.ime.domain.model.Product;
 import dev.ime.domain.model.Review;
 import dev.ime.domain.port.inbound.AuthorizationServicePort;
-import dev.ime.domain.port.outbound.GenericRepositoryPort;
 import dev.ime.domain.port.outbound.PublisherPort;
+import dev.ime.domain.port.outbound.SearchQueryRepositoryPort;
+import dev.ime.domain.port.outbound.StatsRepositoryPort;
+import dev.ime.domain.port.outbound.ReviewRepositoryPort;
 
 @ExtendWith(MockitoExtension.class)
 class ReviewServiceAdapterTest {
 
 	@Mock
-	private GenericRepositoryPort<Review> reviewRepositoryAdapter;
+	private ReviewRepositoryPort reviewRepositoryAdapter;
+	@Mock
+	private SearchQueryRepositoryPort<ReviewDto> reviewQueryRepositoryAdapter;
+	@Mock
+	private StatsRepositoryPort statsRepositoryAdapter;
 	@Mock
 	private ReviewMapper reviewMapper;
 	@Mock
@@ -90,8 +102,7 @@ class ReviewServiceAdapterTest {
 	@Test
 	void findAll_shouldReturnList() {
 		
-		Mockito.when(reviewRepositoryAdapter.findAll()).thenReturn(List.of(review));
-		Mockito.when(reviewMapper.fromListDomainToListDto(Mockito.anyList())).thenReturn(List.of(reviewDto));
+		Mockito.when(reviewQueryRepositoryAdapter.findAll()).thenReturn(List.of(reviewDto));
 		
 		List<ReviewDto> list = reviewServiceAdapter.findAll();
 		
@@ -104,8 +115,7 @@ class ReviewServiceAdapterTest {
 	@Test
 	void findAll_withPageable_shouldReturnList() {
 		
-		Mockito.when(reviewRepositoryAdapter.findAll(Mockito.any(Pageable.class))).thenReturn(List.of(review));
-		Mockito.when(reviewMapper.fromListDomainToListDto(Mockito.anyList())).thenReturn(List.of(reviewDto));
+		Mockito.when(reviewQueryRepositoryAdapter.findAll(Mockito.any(Pageable.class))).thenReturn(List.of(reviewDto));
 		
 		List<ReviewDto> list = reviewServiceAdapter.findAll(pageable);
 		
@@ -116,10 +126,41 @@ class ReviewServiceAdapterTest {
 	}
 
 	@Test
-	void findById_shouldReturnOptDto() {
+	void search_shouldReturnSlice() {
 		
-		Mockito.when(reviewRepositoryAdapter.findById(Mockito.anyLong())).thenReturn(Optional.of(review));
+		Mockito.when(reviewQueryRepositoryAdapter.search(Mockito.anyString(), Mockito.any(Pageable.class))).thenReturn(new SliceImpl<>(List.of(reviewDto), pageable, true));
+		
+		Slice<ReviewDto> slice = reviewServiceAdapter.search("excellent", pageable);
+		
+		org.junit.jupiter.api.Assertions.assertAll(
+				()-> Assertions.assertThat(slice.getContent()).containsExactly(reviewDto),
+				()-> Assertions.assertThat(slice.hasNext()).isTrue()
+				);		
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	void streamAll_shouldPassEveryDto() {
+		
+		Mockito.doAnswer(invocation -> {
+			((Consumer<Review>) invocation.getArgument(0)).accept(review);
+			return null;
+		}).when(reviewRepositoryAdapter).streamAll(Mockito.any(Consumer.class));
 		Mockito.when(reviewMapper.fromDomainToDto(Mockito.any(Review.class))).thenReturn(reviewDto);
+		List<ReviewDto> received = new ArrayList<>();
+		
+		reviewServiceAdapter.streamAll(received::add);
+		
+		org.junit.jupiter.api.Assertions.assertAll(
+				()-> Assertions.assertThat(received).hasSize(1),
+				()-> Assertions.assertThat(received.get(0)).isEqualTo(reviewDto)
+				);		
+	}
+
+	@Test
+	void findById_shouldReturnOptDto() {
+		
+		Mockito.when(reviewQueryRepositoryAdapter.findById(Mockito.anyLong())).thenReturn(Optional.of(reviewDto));
 		
 		Optional<ReviewDto> optResult =  reviewServiceAdapter.findById(reviewId);
 		
@@ -147,6 +188,40 @@ class ReviewServiceAdapterTest {
 		);
 	}
 
+	@Test
+	void saveAll_shouldPublishCreatedEventsOnce() {
+
+		Mockito.when(authorizationServiceAdapter.getJwtTokenEmail()).thenReturn(email);
+		Mockito.when(reviewMapper.fromDtoToDomain(Mockito.any(ReviewDto.class))).thenReturn(review);
+		Mockito.when(reviewRepositoryAdapter.saveAll(Mockito.anyList())).thenReturn(List.of(BulkOutcome.created(review), BulkOutcome.rejected(GlobalConstants.EX_ONLYONEREV)));
+		Mockito.when(reviewMapper.fromDomainToDto(Mockito.any(Review.class))).thenReturn(reviewDto);
+		Mockito.when(eventMapper.createEvent(Mockito.anyString(),Mockito.anyString(),Mockito.any(ReviewDto.class))).thenReturn(event);
+
+		List<BulkOutcome<ReviewDto>> outcomes = reviewServiceAdapter.saveAll(List.of(reviewDto, reviewDto));
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				()-> Assertions.assertThat(outcomes).extracting(BulkOutcome::item).containsExactly(reviewDto, null),
+				()-> Assertions.assertThat(outcomes.get(1).error()).isEqualTo(GlobalConstants.EX_ONLYONEREV),
+				()-> Mockito.verify(authorizationServiceAdapter).getJwtTokenEmail(),
+				()-> Mockito.verify(publisherAdapter).publishEvents(List.of(event))
+		);
+	}
+
+	@Test
+	void saveAll_withoutCreatedItems_shouldNotPublish() {
+
+		Mockito.when(authorizationServiceAdapter.getJwtTokenEmail()).thenReturn(email);
+		Mockito.when(reviewMapper.fromDtoToDomain(Mockito.any(ReviewDto.class))).thenReturn(review);
+		Mockito.when(reviewRepositoryAdapter.saveAll(Mockito.anyList())).thenReturn(List.of(BulkOutcome.rejected(GlobalConstants.EX_RESOURCENOTFOUND)));
+
+		List<BulkOutcome<ReviewDto>> outcomes = reviewServiceAdapter.saveAll(List.of(reviewDto));
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				()-> Assertions.assertThat(outcomes).hasSize(1),
+				()-> Mockito.verifyNoInteractions(publisherAdapter, eventMapper)
+		);
+	}
+
 	@Test
 	void update_shouldReturnOptDto() {
 		
@@ -182,5 +257,20 @@ class ReviewServiceAdapterTest {
 				()-> Assertions.assertThat(result).isTrue()
 		);		
 	}
-	
+
+	@Test
+	void findStats_shouldReturnOptStats() {
+
+		ReviewStatsDto statsDto = new ReviewStatsDto(reviewId, 3L, 1L);
+		Mockito.when(statsRepositoryAdapter.findReviewStats(Mockito.anyLong())).thenReturn(Optional.of(statsDto));
+
+		Optional<ReviewStatsDto> optResult = reviewServiceAdapter.findStats(reviewId);
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				()-> Assertions.assertThat(optResult).isNotEmpty(),
+				()-> Assertions.assertThat(optResult.get().usefulCount()).isEqualTo(3L),
+				()-> Mockito.verifyNoInteractions(reviewRepositoryAdapter)
+				);
+	}
+
 }
@@ -1,11 +1,13 @@
 package dev.ime.application.service;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -23,17 +25,18 @@ import dev.ime.application.dto.VoteDto;
 import dev.ime.common.constants.GlobalConstants;
 import dev.ime.common.mapper.EventMapper;
 import dev.ime.common.mapper.VoteMapper;
+import dev.ime.domain.model.BulkOutcome;
 import dev.ime.domain.model.Event;
 import dev.ime.domain.model.Vote;
 import dev.ime.domain.port.inbound.AuthorizationServicePort;
-import dev.ime.domain.port.outbound.GenericRepositoryPort;
 import dev.ime.domain.port.outbound.PublisherPort;
+import dev.ime.domain.port.outbound.VoteRepositoryPort;
 
 @ExtendWith(MockitoExtension.class)
 class VoteServiceAdapterTest {
 
 	@Mock
-	private GenericRepositoryPort<Vote> voteRepositoryAdapter;
+	private VoteRepositoryPort voteRepositoryAdapter;
 	@Mock
 	private VoteMapper voteMapper;
 	@Mock
@@ -112,6 +115,25 @@ class VoteServiceAdapterTest {
 				);		
 	}
 
+	@SuppressWarnings("unchecked")
+	@Test
+	void streamAll_shouldPassEveryDto() {
+		
+		Mockito.doAnswer(invocation -> {
+			((Consumer<Vote>) invocation.getArgument(0)).accept(vote);
+			return null;
+		}).when(voteRepositoryAdapter).streamAll(Mockito.any(Consumer.class));
+		Mockito.when(voteMapper.fromDomainToDto(Mockito.any(Vote.class))).thenReturn(voteDto);
+		List<VoteDto> received = new ArrayList<>();
+		
+		voteServiceAdapter.streamAll(received::add);
+		
+		org.junit.jupiter.api.Assertions.assertAll(
+				()-> Assertions.assertThat(received).hasSize(1),
+				()-> Assertions.assertThat(received.get(0)).isEqualTo(voteDto)
+				);		
+	}
+
 	@Test
 	void findById_shouldReturnOptDto() {
 		
@@ -144,6 +166,25 @@ class VoteServiceAdapterTest {
 		);
 	}
 
+	@Test
+	void saveAll_shouldPublishCreatedEventsOnce() {
+
+		Mockito.when(authorizationServiceAdapter.getJwtTokenEmail()).thenReturn(email);
+		Mockito.when(voteMapper.fromDtoToDomain(Mockito.any(VoteDto.class))).thenReturn(vote);
+		Mockito.when(voteRepositoryAdapter.saveAll(Mockito.anyList())).thenReturn(List.of(BulkOutcome.created(vote), BulkOutcome.rejected(GlobalConstants.EX_ONLYONEVOTE)));
+		Mockito.when(voteMapper.fromDomainToDto(Mockito.any(Vote.class))).thenReturn(voteDto);
+		Mockito.when(eventMapper.createEvent(Mockito.anyString(),Mockito.anyString(),Mockito.any(VoteDto.class))).thenReturn(event);
+
+		List<BulkOutcome<VoteDto>> outcomes = voteServiceAdapter.saveAll(List.of(voteDto, voteDto));
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				()-> Assertions.assertThat(outcomes).extracting(BulkOutcome::item).containsExactly(voteDto, null),
+				()-> Assertions.assertThat(outcomes.get(1).error()).isEqualTo(GlobalConstants.EX_ONLYONEVOTE),
+				()-> Mockito.verify(authorizationServiceAdapter).getJwtTokenEmail(),
+				()-> Mockito.verify(publisherAdapter).publishEvents(List.of(event))
+		);
+	}
+
 	@Test
 	void update_shouldReturnOptDto() {
 		
@@ -0,0 +1,89 @@
+package dev.ime.common.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+
+import javax.cache.CacheManager;
+
+import org.assertj.core.api.Assertions;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+
+import dev.ime.common.constants.GlobalConstants;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CacheConfigTest {
+
+	private final CacheConfig cacheConfig = new CacheConfig();
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private CacheManager cacheManager;
+
+	@BeforeEach
+	private void setUp() {
+
+		cacheManager = cacheConfig.hibernateCacheManager(meterRegistry, 50L, Duration.ofMinutes(10), 5L, Duration.ofMinutes(1));
+	}
+
+	@AfterEach
+	private void tearDown() {
+
+		cacheManager.close();
+	}
+
+	@SuppressWarnings("unchecked")
+	private CaffeineConfiguration<Object, Object> regionConfiguration(String region) {
+
+		return cacheManager.getCache(region).getConfiguration(CaffeineConfiguration.class);
+	}
+
+	@Test
+	void hibernateCacheManager_shouldBoundEntityAndQueryRegions() {
+
+		CaffeineConfiguration<Object, Object> productRegion = regionConfiguration(GlobalConstants.CACHE_PROD);
+		CaffeineConfiguration<Object, Object> productQueryRegion = regionConfiguration(GlobalConstants.CACHE_QUERY_PROD);
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				() -> Assertions.assertThat(cacheManager.getCacheNames()).contains(GlobalConstants.CACHE_CAT,
+						GlobalConstants.CACHE_QUERY_CAT, RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME),
+				() -> Assertions.assertThat(productRegion.getMaximumSize()).isEqualTo(OptionalLong.of(50L)),
+				() -> Assertions.assertThat(productRegion.getExpireAfterWrite()).isEqualTo(OptionalLong.of(Duration.ofMinutes(10).toNanos())),
+				() -> Assertions.assertThat(productRegion.isStatisticsEnabled()).isTrue(),
+				() -> Assertions.assertThat(productQueryRegion.getMaximumSize()).isEqualTo(OptionalLong.of(5L)),
+				() -> Assertions.assertThat(productQueryRegion.getExpireAfterWrite()).isEqualTo(OptionalLong.of(Duration.ofMinutes(1).toNanos())));
+	}
+
+	@Test
+	void hibernateCacheManager_shouldNeverExpireUpdateTimestamps() {
+
+		CaffeineConfiguration<Object, Object> timestampsRegion = regionConfiguration(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME);
+
+		Assertions.assertThat(timestampsRegion.getExpireAfterWrite()).isEmpty();
+	}
+
+	@Test
+	void hibernateCacheManager_shouldExportRegionStatistics() {
+
+		cacheManager.getCache(GlobalConstants.CACHE_PROD).get(1L);
+
+		Assertions.assertThat(meterRegistry.get("cache.gets").tag("cache", GlobalConstants.CACHE_PROD).tag("result", "miss")
+				.functionCounter().count()).isEqualTo(1.0);
+	}
+
+	@Test
+	void hibernateCacheCustomizer_shouldRegisterCacheManager() {
+
+		Map<String, Object> properties = new HashMap<>();
+
+		cacheConfig.hibernateCacheCustomizer(cacheManager).customize(properties);
+
+		Assertions.assertThat(properties).containsEntry(ConfigSettings.CACHE_MANAGER, cacheManager);
+	}
+
+}
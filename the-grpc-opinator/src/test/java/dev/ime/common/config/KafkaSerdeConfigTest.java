@@ -0,0 +1,65 @@
+package dev.ime.common.config;
+
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import dev.ime.common.constants.GlobalConstants;
+import dev.ime.common.mapper.EventProtoMapper;
+import dev.ime.domain.model.Event;
+import dev.proto.EventProto;
+
+class KafkaSerdeConfigTest {
+
+	private final EventProtoMapper eventProtoMapper = new EventProtoMapper();
+	private final List<String> protobufTopics = List.of(GlobalConstants.REV_TOPIC);
+	private final Event event = new Event(GlobalConstants.REV_CAT, GlobalConstants.REV_UPDATED, Map.of(GlobalConstants.REV_ID, 7L));
+
+	@Test
+	void createSerializer_shouldPickEncodingByTopic() throws Exception {
+
+		Serializer<Object> serializer = KafkaSerdeConfig.createSerializer(eventProtoMapper, protobufTopics, Map.of());
+		serializer.configure(Map.of(), false);
+
+		byte[] protobuf = serializer.serialize(GlobalConstants.REV_TOPIC, new RecordHeaders(), event);
+		byte[] json = serializer.serialize(GlobalConstants.PROD_TOPIC, new RecordHeaders(), event);
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				() -> Assertions.assertThat(EventProto.parseFrom(protobuf).getReview().getReviewId()).isEqualTo(7L),
+				() -> Assertions.assertThat(json[0]).isEqualTo((byte) '{'),
+				() -> Assertions.assertThat(protobuf.length).isLessThan(json.length));
+		serializer.close();
+	}
+
+	@Test
+	void createDeserializer_shouldReadWhatSerializerWrote() {
+
+		Serializer<Object> serializer = KafkaSerdeConfig.createSerializer(eventProtoMapper, protobufTopics, Map.of());
+		Deserializer<Object> deserializer = KafkaSerdeConfig.createDeserializer(eventProtoMapper, protobufTopics,
+				Map.of(JsonDeserializer.TRUSTED_PACKAGES, "*"));
+		serializer.configure(Map.of(), false);
+		deserializer.configure(Map.of(), false);
+		RecordHeaders protobufHeaders = new RecordHeaders();
+		RecordHeaders jsonHeaders = new RecordHeaders();
+
+		Object fromProtobuf = deserializer.deserialize(GlobalConstants.REV_TOPIC, protobufHeaders,
+				serializer.serialize(GlobalConstants.REV_TOPIC, protobufHeaders, event));
+		Object fromJson = deserializer.deserialize(GlobalConstants.PROD_TOPIC, jsonHeaders,
+				serializer.serialize(GlobalConstants.PROD_TOPIC, jsonHeaders, event));
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				() -> Assertions.assertThat(fromProtobuf).isInstanceOf(Event.class),
+				() -> Assertions.assertThat(((Event) fromProtobuf).getEventId()).isEqualTo(event.getEventId()),
+				() -> Assertions.assertThat(fromJson).isInstanceOf(Event.class),
+				() -> Assertions.assertThat(((Event) fromJson).getEventId()).isEqualTo(event.getEventId()));
+		serializer.close();
+		deserializer.close();
+	}
+
+}
@@ -0,0 +1,73 @@
+package dev.ime.domain.model;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import dev.ime.common.constants.GlobalConstants;
+
+class EventTest {
+
+	private static final String[] KEYS = { GlobalConstants.VOT_ID, GlobalConstants.USER_EMAIL };
+
+	@Test
+	void event_withEventData_shouldKeepItWithoutCopy() {
+
+		EventData eventData = EventData.of(KEYS, 1L, null);
+
+		Event event = new Event(GlobalConstants.VOT_CAT, GlobalConstants.VOT_CREATED, eventData);
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				() -> Assertions.assertThat(event.getEventData()).isSameAs(eventData),
+				() -> Assertions.assertThat(event.getEventData()).containsEntry(GlobalConstants.VOT_ID, 1L)
+				.containsEntry(GlobalConstants.USER_EMAIL, null)
+				.doesNotContainKey(GlobalConstants.REV_ID),
+				() -> Assertions.assertThatThrownBy(() -> event.getEventData().put(GlobalConstants.REV_ID, 2L))
+				.isInstanceOf(UnsupportedOperationException.class));
+	}
+
+	@Test
+	void eventData_shouldEqualAndSerializeLikeHashMap() throws Exception {
+
+		ObjectMapper objectMapper = new ObjectMapper();
+		Map<String, Object> hashMap = new HashMap<>();
+		hashMap.put(GlobalConstants.VOT_ID, 1L);
+		hashMap.put(GlobalConstants.USER_EMAIL, null);
+		EventData eventData = EventData.of(KEYS, 1L, null);
+
+		Map<String, Object> read = objectMapper.readValue(objectMapper.writeValueAsString(eventData), new TypeReference<Map<String, Object>>() {});
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				() -> Assertions.assertThat(eventData).isEqualTo(hashMap).hasSameHashCodeAs(hashMap),
+				() -> Assertions.assertThat(read).containsEntry(GlobalConstants.VOT_ID, 1)
+				.containsEntry(GlobalConstants.USER_EMAIL, null));
+	}
+
+	@Test
+	void eventData_withMissingValue_shouldThrowIllegalArgumentException() {
+
+		Assertions.assertThatThrownBy(() -> EventData.of(KEYS, 1L))
+		.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void nextId_shouldBeVersionSevenAndTimeOrdered() throws Exception {
+
+		UUID first = EventIdGenerator.nextId();
+		Thread.sleep(2);
+		UUID second = EventIdGenerator.nextId();
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				() -> Assertions.assertThat(first.version()).isEqualTo(7),
+				() -> Assertions.assertThat(first.variant()).isEqualTo(2),
+				() -> Assertions.assertThat(second.getMostSignificantBits() >>> 16).isGreaterThan(first.getMostSignificantBits() >>> 16),
+				() -> Assertions.assertThat(first.toString()).isLessThan(second.toString()));
+	}
+
+}
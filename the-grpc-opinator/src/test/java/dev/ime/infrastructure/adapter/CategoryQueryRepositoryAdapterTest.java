@@ -0,0 +1,121 @@
+package dev.ime.infrastructure.adapter;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.assertj.core.api.Assertions;
+import org.hibernate.jpa.HibernateHints;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import dev.ime.application.dto.CategoryDto;
+import dev.ime.application.exception.ResourceNotFoundException;
+import dev.ime.common.constants.GlobalConstants;
+import dev.ime.infrastructure.entity.CategoryJpaEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.NoResultException;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryQueryRepositoryAdapterTest {
+
+	@Mock
+	private EntityManager entityManager;
+
+	@InjectMocks
+	private CategoryQueryRepositoryAdapter categoryQueryRepositoryAdapter;
+
+	private CategoryDto categoryDto;
+
+	private final Long categoryId = 1L;
+	private final Pageable pageable = PageRequest.of(0, 10, Sort.by(GlobalConstants.CAT_ID).ascending());
+
+	@BeforeEach
+	private void setUp(){
+		
+		categoryDto = new CategoryDto(categoryId, "Vegetables");
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	void findAll_shouldProjectIntoDto() {
+
+		TypedQuery<CategoryDto> query = Mockito.mock(TypedQuery.class);
+		Mockito.when(entityManager.createQuery(Mockito.anyString(), Mockito.eq(CategoryDto.class))).thenReturn(query);
+		Mockito.when(query.getResultList()).thenReturn(List.of(categoryDto));
+
+		List<CategoryDto> list = categoryQueryRepositoryAdapter.findAll();
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				() -> Assertions.assertThat(list).hasSize(1),
+				() -> Mockito.verify(entityManager).createQuery(Mockito.startsWith("SELECT new "), Mockito.eq(CategoryDto.class)));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	void findAll_withPageable_shouldProjectIntoDto() {
+
+		CriteriaBuilder cb = Mockito.mock(CriteriaBuilder.class);
+		CriteriaQuery<CategoryDto> cq = Mockito.mock(CriteriaQuery.class);
+		Root<CategoryJpaEntity> root = Mockito.mock(Root.class, Mockito.RETURNS_DEEP_STUBS);
+		TypedQuery<CategoryDto> query = Mockito.mock(TypedQuery.class);
+		Mockito.when(entityManager.getCriteriaBuilder()).thenReturn(cb);
+		Mockito.when(cb.createQuery(CategoryDto.class)).thenReturn(cq);
+		Mockito.when(cq.from(CategoryJpaEntity.class)).thenReturn(root);
+		Mockito.when(cq.orderBy(Mockito.anyList())).thenReturn(cq);
+		Mockito.when(entityManager.createQuery(cq)).thenReturn(query);
+		Mockito.when(query.setFirstResult(Mockito.anyInt())).thenReturn(query);
+		Mockito.when(query.setMaxResults(Mockito.anyInt())).thenReturn(query);
+		Mockito.when(query.getResultList()).thenReturn(List.of(categoryDto));
+
+		List<CategoryDto> result = categoryQueryRepositoryAdapter.findAll(pageable);
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				() -> Assertions.assertThat(result).hasSize(1),
+				() -> Mockito.verify(cb).createQuery(CategoryDto.class),
+				() -> Mockito.verify(query).setFirstResult(0),
+				() -> Mockito.verify(query).setHint(HibernateHints.HINT_CACHEABLE, true),
+				() -> Mockito.verify(query).setHint(HibernateHints.HINT_CACHE_REGION, GlobalConstants.CACHE_QUERY_CAT),
+				() -> Mockito.verify(query).setMaxResults(10));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	void findById_shouldReturnOptDto() {
+
+		TypedQuery<CategoryDto> query = Mockito.mock(TypedQuery.class);
+		Mockito.when(entityManager.createQuery(Mockito.anyString(), Mockito.eq(CategoryDto.class))).thenReturn(query);
+		Mockito.when(query.getSingleResult()).thenReturn(categoryDto);
+
+		Optional<CategoryDto> optResult = categoryQueryRepositoryAdapter.findById(categoryId);
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				() -> Assertions.assertThat(optResult).contains(categoryDto),
+				() -> Mockito.verify(query).setParameter(1, categoryId),
+				() -> Mockito.verify(query).setHint(HibernateHints.HINT_CACHEABLE, true));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	void findById_withUnknownId_shouldThrowResourceNotFoundException() {
+
+		TypedQuery<CategoryDto> query = Mockito.mock(TypedQuery.class);
+		Mockito.when(entityManager.createQuery(Mockito.anyString(), Mockito.eq(CategoryDto.class))).thenReturn(query);
+		Mockito.when(query.getSingleResult()).thenThrow(NoResultException.class);
+
+		Assertions.assertThatThrownBy(() -> categoryQueryRepositoryAdapter.findById(categoryId))
+			.isInstanceOf(ResourceNotFoundException.class);
+	}
+
+}
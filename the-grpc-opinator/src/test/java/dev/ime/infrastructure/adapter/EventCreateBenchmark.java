@@ -0,0 +1,91 @@
+package dev.ime.infrastructure.adapter;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import dev.ime.application.dto.ReviewDto;
+import dev.ime.common.constants.GlobalConstants;
+import dev.ime.common.mapper.EventMapper;
+import dev.ime.domain.model.Event;
+import dev.ime.domain.model.EventIdGenerator;
+
+/**
+ * event construction per publish, the typed EventMapper against the convertValue path it replaced.
+ * read gc.alloc.rate.norm for the bytes allocated per event, the id benchmarks run on four threads
+ * because UUID.randomUUID only hurts once callers share its SecureRandom.
+ * run with: mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=dev.ime.infrastructure.adapter.EventCreateBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventCreateBenchmark {
+
+	private ObjectMapper objectMapper;
+	private EventMapper eventMapper;
+	private ReviewDto reviewDto;
+
+	@Setup
+	public void setUp() {
+
+		objectMapper = new ObjectMapper();
+		eventMapper = new EventMapper();
+		reviewDto = new ReviewDto(1L, "email@email.tk", 1L, "Excellent product, it arrived on time", 5);
+	}
+
+	@Benchmark
+	public Event typed() {
+
+		return eventMapper.createEvent(GlobalConstants.REV_CAT, GlobalConstants.REV_CREATED, reviewDto);
+	}
+
+	@Benchmark
+	public Event convertValueBaseline() {
+
+		Map<String, Object> eventData = objectMapper.convertValue(reviewDto, new TypeReference<Map<String, Object>>() {});
+		return new Event(UUID.randomUUID(), GlobalConstants.REV_CAT, GlobalConstants.REV_CREATED, Instant.now(), eventData);
+	}
+
+	@Benchmark
+	@Threads(4)
+	public UUID timeOrderedId() {
+
+		return EventIdGenerator.nextId();
+	}
+
+	@Benchmark
+	@Threads(4)
+	public UUID randomUuidBaseline() {
+
+		return UUID.randomUUID();
+	}
+
+	public static void main(String[] args) throws RunnerException {
+
+		new Runner(new OptionsBuilder().include(EventCreateBenchmark.class.getSimpleName()).addProfiler(GCProfiler.class).build()).run();
+	}
+
+}
@@ -0,0 +1,91 @@
+package dev.ime.infrastructure.adapter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import dev.ime.common.constants.GlobalConstants;
+import dev.ime.common.mapper.EventProtoMapper;
+import dev.ime.domain.model.Event;
+
+class EventProtoDeserializerTest {
+
+	private final EventProtoMapper eventProtoMapper = new EventProtoMapper();
+	private final EventProtoSerializer eventProtoSerializer = new EventProtoSerializer(eventProtoMapper);
+	private final EventProtoDeserializer eventProtoDeserializer = new EventProtoDeserializer(eventProtoMapper);
+	private final String topic = GlobalConstants.REV_TOPIC;
+
+	private Event roundTrip(Event event) {
+
+		return eventProtoDeserializer.deserialize(topic, eventProtoSerializer.serialize(topic, event));
+	}
+
+	@Test
+	void deserialize_withReview_shouldRestoreEvent() {
+
+		Event event = new Event(GlobalConstants.REV_CAT, GlobalConstants.REV_CREATED, Map.of(
+				GlobalConstants.REV_ID, 7L, GlobalConstants.USER_EMAIL, "email@email.tk", GlobalConstants.PROD_ID, 3,
+				GlobalConstants.REV_TXT, "Excellent", GlobalConstants.REV_RAT, 5));
+
+		Event result = roundTrip(event);
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				() -> Assertions.assertThat(result.getEventId()).isEqualTo(event.getEventId()),
+				() -> Assertions.assertThat(result.getEventType()).isEqualTo(event.getEventType()),
+				() -> Assertions.assertThat(result.getEventTimestamp()).isEqualTo(event.getEventTimestamp()),
+				() -> Assertions.assertThat(result.getEventData()).containsEntry(GlobalConstants.REV_ID, 7L)
+				.containsEntry(GlobalConstants.PROD_ID, 3L)
+				.containsEntry(GlobalConstants.REV_TXT, "Excellent")
+				.containsEntry(GlobalConstants.REV_RAT, 5));
+	}
+
+	@Test
+	void deserialize_withVoteWithoutUseful_shouldLeaveUsefulOut() {
+
+		Map<String, Object> data = new HashMap<>();
+		data.put(GlobalConstants.VOT_ID, 1L);
+		data.put(GlobalConstants.USER_EMAIL, null);
+		Event event = new Event(GlobalConstants.VOT_CAT, GlobalConstants.VOT_DELETED, data);
+
+		Event result = roundTrip(event);
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				() -> Assertions.assertThat(result.getEventData()).containsEntry(GlobalConstants.VOT_ID, 1L),
+				() -> Assertions.assertThat(result.getEventData()).containsEntry(GlobalConstants.USER_EMAIL, ""),
+				() -> Assertions.assertThat(result.getEventData()).doesNotContainKey(GlobalConstants.VOT_US));
+	}
+
+	@Test
+	void deserialize_withProduct_shouldRestorePayload() {
+
+		Event event = new Event(GlobalConstants.PROD_CAT, GlobalConstants.PROD_UPDATED, Map.of(
+				GlobalConstants.PROD_ID, 2L, GlobalConstants.PROD_NAME, "Tomato", GlobalConstants.CAT_ID, 1L));
+
+		Event result = roundTrip(event);
+
+		Assertions.assertThat(result.getEventData()).containsEntry(GlobalConstants.PROD_NAME, "Tomato")
+		.containsEntry(GlobalConstants.PROD_DESC, "")
+		.containsEntry(GlobalConstants.CAT_ID, 1L);
+	}
+
+	@Test
+	void deserialize_withNull_shouldReturnNull() {
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				() -> Assertions.assertThat(eventProtoSerializer.serialize(topic, null)).isNull(),
+				() -> Assertions.assertThat(eventProtoDeserializer.deserialize(topic, null)).isNull());
+	}
+
+	@Test
+	void deserialize_withCorruptBytes_shouldThrowSerializationException() {
+
+		byte[] corrupt = { 0x0A, 0x7F };
+
+		Assertions.assertThatThrownBy(() -> eventProtoDeserializer.deserialize(topic, corrupt))
+		.isInstanceOf(SerializationException.class);
+	}
+
+}
@@ -0,0 +1,103 @@
+package dev.ime.infrastructure.adapter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Properties;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.ConsumerFactory;
+
+import dev.ime.common.constants.GlobalConstants;
+import dev.ime.domain.model.Event;
+import dev.ime.domain.port.outbound.ReplayRepositoryPort;
+
+@ExtendWith(MockitoExtension.class)
+class EventReplayAdapterTest {
+
+	@Mock
+	private ConsumerFactory<String, Object> consumerFactory;
+	@Mock
+	private ReplayRepositoryPort replayRepositoryAdapter;
+
+	private EventReplayAdapter eventReplayAdapter;
+
+	private final TopicPartition reviewPartition = new TopicPartition(GlobalConstants.REV_TOPIC, 0);
+	private final TopicPartition votePartition = new TopicPartition(GlobalConstants.VOT_TOPIC, 0);
+	private final Event reviewCreated = new Event(GlobalConstants.REV_CAT, GlobalConstants.REV_CREATED, Map.of(GlobalConstants.REV_ID, 1L));
+	private final Event reviewUpdated = new Event(GlobalConstants.REV_CAT, GlobalConstants.REV_UPDATED, Map.of(GlobalConstants.REV_ID, 1L));
+	private final Event reviewDeleted = new Event(GlobalConstants.REV_CAT, GlobalConstants.REV_DELETED, Map.of(GlobalConstants.REV_ID, 1L));
+	private final Event voteCreated = new Event(GlobalConstants.VOT_CAT, GlobalConstants.VOT_CREATED, Map.of(GlobalConstants.VOT_ID, 1L));
+	private final Map<TopicPartition, List<Event>> records = Map.of(
+			reviewPartition, List.of(reviewCreated, reviewUpdated, reviewDeleted),
+			votePartition, List.of(voteCreated));
+
+	@BeforeEach
+	private void setUp() {
+
+		eventReplayAdapter = new EventReplayAdapter(consumerFactory, replayRepositoryAdapter, Duration.ofMillis(10), 100);
+		Mockito.when(consumerFactory.createConsumer(Mockito.isNull(), Mockito.anyString(), Mockito.anyString()))
+		.thenAnswer(invocation -> createConsumer());
+		Mockito.when(consumerFactory.createConsumer(Mockito.isNull(), Mockito.anyString(), Mockito.anyString(), Mockito.any(Properties.class)))
+		.thenAnswer(invocation -> createConsumer());
+	}
+
+	private MockConsumer<String, Object> createConsumer() {
+
+		MockConsumer<String, Object> consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+		Node node = new Node(0, "localhost", 9092);
+		records.keySet().forEach(partition -> consumer.updatePartitions(partition.topic(),
+				List.of(new PartitionInfo(partition.topic(), 0, node, new Node[0], new Node[0]))));
+		consumer.updateBeginningOffsets(Map.of(reviewPartition, 0L, votePartition, 0L));
+		consumer.updateEndOffsets(Map.of(reviewPartition, 3L, votePartition, 1L));
+		consumer.schedulePollTask(() -> consumer.assignment().forEach(partition -> {
+			List<Event> events = records.get(partition);
+			for (int offset = 0; offset < events.size(); offset++) {
+				Event event = events.get(offset);
+				consumer.addRecord(new ConsumerRecord<>(partition.topic(), partition.partition(), offset, EventTopology.key(event), event));
+			}
+		}));
+
+		return consumer;
+	}
+
+	@Test
+	void replay_shouldStageEveryPartitionThenRebuild() {
+
+		Mockito.when(replayRepositoryAdapter.findCheckpoint(Mockito.anyString(), Mockito.eq(0))).thenReturn(OptionalLong.empty());
+
+		eventReplayAdapter.replay();
+
+		InOrder inOrder = Mockito.inOrder(replayRepositoryAdapter);
+		inOrder.verify(replayRepositoryAdapter).saveBatch(GlobalConstants.REV_TOPIC, 0, 3L, List.of(reviewCreated, reviewUpdated, reviewDeleted));
+		inOrder.verify(replayRepositoryAdapter).rebuildReadModels();
+		Mockito.verify(replayRepositoryAdapter).saveBatch(GlobalConstants.VOT_TOPIC, 0, 1L, List.of(voteCreated));
+	}
+
+	@Test
+	void replay_withCheckpoint_shouldResumeFromIt() {
+
+		Mockito.when(replayRepositoryAdapter.findCheckpoint(GlobalConstants.REV_TOPIC, 0)).thenReturn(OptionalLong.of(2L));
+		Mockito.when(replayRepositoryAdapter.findCheckpoint(GlobalConstants.VOT_TOPIC, 0)).thenReturn(OptionalLong.of(1L));
+
+		eventReplayAdapter.replay();
+
+		Mockito.verify(replayRepositoryAdapter).saveBatch(GlobalConstants.REV_TOPIC, 0, 3L, List.of(reviewDeleted));
+		Mockito.verify(replayRepositoryAdapter, Mockito.never()).saveBatch(Mockito.eq(GlobalConstants.VOT_TOPIC), Mockito.anyInt(), Mockito.anyLong(), Mockito.anyList());
+		Mockito.verify(replayRepositoryAdapter).rebuildReadModels();
+	}
+
+}
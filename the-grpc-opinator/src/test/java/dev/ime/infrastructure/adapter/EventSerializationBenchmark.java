@@ -0,0 +1,99 @@
+package dev.ime.infrastructure.adapter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import dev.ime.application.dto.ReviewDto;
+import dev.ime.common.constants.GlobalConstants;
+import dev.ime.common.mapper.EventMapper;
+import dev.ime.common.mapper.EventProtoMapper;
+import dev.ime.domain.model.Event;
+
+/**
+ * cost of building and encoding one review event, json with its type header against the protobuf envelope.
+ * the bytesPerEvent secondary result is what each encoding puts on the wire, json counted with its header.
+ * run with: mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=dev.ime.infrastructure.adapter.EventSerializationBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventSerializationBenchmark {
+
+	/**
+	 * reported next to the timing of the benchmark that set it
+	 */
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	@State(Scope.Thread)
+	public static class WireSize {
+
+		public long bytesPerEvent;
+
+	}
+
+	private EventMapper eventMapper;
+	private JsonSerializer<Event> jsonSerializer;
+	private EventProtoSerializer eventProtoSerializer;
+	private ReviewDto reviewDto;
+
+	@Setup
+	public void setUp() {
+
+		eventMapper = new EventMapper();
+		jsonSerializer = new JsonSerializer<>();
+		eventProtoSerializer = new EventProtoSerializer(new EventProtoMapper());
+		reviewDto = new ReviewDto(1L, "email@email.tk", 1L, "Excellent product, it arrived on time", 5);
+	}
+
+	private Event createEvent() {
+
+		return eventMapper.createEvent(GlobalConstants.REV_CAT, GlobalConstants.REV_CREATED, reviewDto);
+	}
+
+	@Benchmark
+	public byte[] json(WireSize wireSize) {
+
+		RecordHeaders headers = new RecordHeaders();
+		byte[] payload = jsonSerializer.serialize(GlobalConstants.REV_TOPIC, headers, createEvent());
+		long bytes = payload.length;
+		for (Header header : headers) {
+			bytes += header.key().getBytes(StandardCharsets.UTF_8).length + header.value().length;
+		}
+		wireSize.bytesPerEvent = bytes;
+		return payload;
+	}
+
+	@Benchmark
+	public byte[] protobuf(WireSize wireSize) {
+
+		byte[] payload = eventProtoSerializer.serialize(GlobalConstants.REV_TOPIC, createEvent());
+		wireSize.bytesPerEvent = payload.length;
+		return payload;
+	}
+
+	public static void main(String[] args) throws RunnerException {
+
+		new Runner(new OptionsBuilder().include(EventSerializationBenchmark.class.getSimpleName()).build()).run();
+	}
+
+}
@@ -0,0 +1,114 @@
+package dev.ime.infrastructure.adapter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.ConsumerFactory;
+
+import dev.ime.common.constants.GlobalConstants;
+import dev.ime.domain.model.Event;
+
+@ExtendWith(MockitoExtension.class)
+class EventSnapshotReaderTest {
+
+	@Mock
+	private ConsumerFactory<String, Object> consumerFactory;
+
+	private EventSnapshotReader eventSnapshotReader;
+
+	private final String topic = GlobalConstants.REV_TOPIC;
+	private final TopicPartition partition0 = new TopicPartition(topic, 0);
+	private final TopicPartition partition1 = new TopicPartition(topic, 1);
+	private final Event created1 = createEvent(GlobalConstants.REV_CREATED, 1L);
+	private final Event updated1 = createEvent(GlobalConstants.REV_UPDATED, 1L);
+	private final Event created2 = createEvent(GlobalConstants.REV_CREATED, 2L);
+	private final Event deleted2 = createEvent(GlobalConstants.REV_DELETED, 2L);
+	private final Event created3 = createEvent(GlobalConstants.REV_CREATED, 3L);
+	private final Map<TopicPartition, List<Event>> records = Map.of(
+			partition0, List.of(created1, updated1),
+			partition1, List.of(created2, created3, deleted2));
+	// tombstoned keys, written behind the events of their partition
+	private Map<TopicPartition, List<String>> tombstones = Map.of();
+
+	@BeforeEach
+	private void setUp() {
+
+		eventSnapshotReader = new EventSnapshotReader(consumerFactory, Duration.ofMillis(10));
+	}
+
+	private Event createEvent(String eventType, Long reviewId) {
+
+		return new Event(GlobalConstants.REV_CAT, eventType, Map.of(GlobalConstants.REV_ID, reviewId));
+	}
+
+	private MockConsumer<String, Object> createConsumer() {
+
+		MockConsumer<String, Object> consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+		Node node = new Node(0, "localhost", 9092);
+		consumer.updatePartitions(topic, List.of(
+				new PartitionInfo(topic, 0, node, new Node[0], new Node[0]),
+				new PartitionInfo(topic, 1, node, new Node[0], new Node[0])));
+		consumer.updateBeginningOffsets(Map.of(partition0, 0L, partition1, 0L));
+		consumer.updateEndOffsets(Map.of(partition0, (long) size(partition0), partition1, (long) size(partition1)));
+		consumer.schedulePollTask(() -> consumer.assignment().forEach(partition -> {
+			List<Event> events = records.get(partition);
+			for (int offset = 0; offset < events.size(); offset++) {
+				Event event = events.get(offset);
+				consumer.addRecord(new ConsumerRecord<>(topic, partition.partition(), offset, EventTopology.key(event), event));
+			}
+			List<String> keys = tombstones.getOrDefault(partition, List.of());
+			for (int index = 0; index < keys.size(); index++) {
+				consumer.addRecord(new ConsumerRecord<>(topic, partition.partition(), events.size() + index, keys.get(index), null));
+			}
+		}));
+
+		return consumer;
+	}
+
+	private int size(TopicPartition partition) {
+
+		return records.get(partition).size() + tombstones.getOrDefault(partition, List.of()).size();
+	}
+
+	@Test
+	void read_shouldKeepLatestEventPerKeyAndDropDeleted() {
+
+		Mockito.when(consumerFactory.createConsumer(Mockito.isNull(), Mockito.anyString(), Mockito.anyString()))
+		.thenAnswer(invocation -> createConsumer());
+
+		Map<String, Event> snapshot = eventSnapshotReader.read(topic);
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				() -> Assertions.assertThat(snapshot).containsOnlyKeys("1", "3"),
+				() -> Assertions.assertThat(snapshot).containsEntry("1", updated1),
+				() -> Assertions.assertThat(snapshot).containsEntry("3", created3));
+		Mockito.verify(consumerFactory, Mockito.times(3)).createConsumer(Mockito.isNull(), Mockito.anyString(), Mockito.anyString());
+	}
+
+	@Test
+	void read_withTombstone_shouldDropKey() {
+
+		tombstones = Map.of(partition0, List.of("1"), partition1, List.of("2"));
+		Mockito.when(consumerFactory.createConsumer(Mockito.isNull(), Mockito.anyString(), Mockito.anyString()))
+		.thenAnswer(invocation -> createConsumer());
+
+		Map<String, Event> snapshot = eventSnapshotReader.read(topic);
+
+		Assertions.assertThat(snapshot).containsOnlyKeys("3");
+	}
+
+}
@@ -0,0 +1,135 @@
+package dev.ime.infrastructure.adapter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import dev.ime.common.constants.GlobalConstants;
+import dev.ime.domain.model.Event;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class EventSpoolTest {
+
+	@TempDir
+	private Path dir;
+
+	private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private EventSpool eventSpool;
+
+	@BeforeEach
+	private void setUp() {
+
+		eventSpool = openSpool(256);
+	}
+
+	@AfterEach
+	private void tearDown() throws IOException {
+
+		eventSpool.close();
+	}
+
+	private EventSpool openSpool(int segmentBytes) {
+
+		EventSpool spool = new EventSpool(objectMapper, meterRegistry, dir, segmentBytes);
+		spool.open();
+		return spool;
+	}
+
+	private List<Event> createEvents(long first, long last) {
+
+		return LongStream.rangeClosed(first, last)
+				.mapToObj(id -> new Event(GlobalConstants.USER_CAT, GlobalConstants.USER_CREATED, Map.of(GlobalConstants.USER_ID, id)))
+				.toList();
+	}
+
+	private long segmentFiles() throws IOException {
+
+		try (Stream<Path> paths = Files.list(dir)) {
+			return paths.filter(path -> path.getFileName().toString().endsWith(".log")).count();
+		}
+	}
+
+	@Test
+	void drain_shouldReplayInAppendOrderAcrossSegments() throws IOException {
+
+		List<Event> events = createEvents(1L, 10L);
+		List<Event> drained = new ArrayList<>();
+
+		eventSpool.append(events);
+		long segmentsBeforeDrain = segmentFiles();
+		int first = eventSpool.drain(4, drained::addAll);
+		int second = eventSpool.drain(100, drained::addAll);
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				() -> Assertions.assertThat(segmentsBeforeDrain).isGreaterThan(1L),
+				() -> Assertions.assertThat(first).isEqualTo(4),
+				() -> Assertions.assertThat(second).isEqualTo(6),
+				() -> Assertions.assertThat(drained).extracting(Event::getEventId)
+				.containsExactlyElementsOf(events.stream().map(Event::getEventId).toList()),
+				() -> Assertions.assertThat(eventSpool.hasPending()).isFalse(),
+				() -> Assertions.assertThat(segmentFiles()).isEqualTo(1L));
+	}
+
+	@Test
+	void drain_withFailingPublisher_shouldKeepEvents() {
+
+		eventSpool.append(createEvents(1L, 3L));
+
+		Assertions.assertThatThrownBy(() -> eventSpool.drain(10, events -> { throw new IllegalStateException("broker down"); }))
+		.isInstanceOf(IllegalStateException.class);
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				() -> Assertions.assertThat(eventSpool.depth()).isEqualTo(3L),
+				() -> Assertions.assertThat(eventSpool.drain(10, events -> { })).isEqualTo(3));
+	}
+
+	@Test
+	void open_shouldRecoverPendingEventsOfEarlierRun() throws IOException {
+
+		List<Event> events = createEvents(1L, 6L);
+		eventSpool.append(events);
+		eventSpool.drain(2, drained -> { });
+		eventSpool.close();
+		List<Event> drained = new ArrayList<>();
+
+		eventSpool = openSpool(256);
+		eventSpool.drain(100, drained::addAll);
+
+		Assertions.assertThat(drained).extracting(Event::getEventId)
+		.containsExactlyElementsOf(events.subList(2, 6).stream().map(Event::getEventId).toList());
+	}
+
+	@Test
+	void metrics_shouldReportDepthAndAge() {
+
+		eventSpool.append(createEvents(1L, 2L));
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				() -> Assertions.assertThat(meterRegistry.get(GlobalConstants.METRIC_SPOOL_DEPTH).gauge().value()).isEqualTo(2.0),
+				() -> Assertions.assertThat(meterRegistry.get(GlobalConstants.METRIC_SPOOL_AGE).gauge().value()).isGreaterThanOrEqualTo(0.0),
+				() -> Assertions.assertThat(eventSpool.age().isNegative()).isFalse());
+	}
+
+	@Test
+	void open_withDirectoryInUse_shouldThrow() {
+
+		EventSpool second = new EventSpool(objectMapper, meterRegistry, dir, 256);
+
+		Assertions.assertThatThrownBy(second::open).isInstanceOf(RuntimeException.class);
+	}
+
+}
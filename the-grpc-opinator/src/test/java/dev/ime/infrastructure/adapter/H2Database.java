@@ -0,0 +1,70 @@
+package dev.ime.infrastructure.adapter;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.Statistics;
+
+import dev.ime.infrastructure.entity.CategoryJpaEntity;
+import dev.ime.infrastructure.entity.ProductJpaEntity;
+import dev.ime.infrastructure.entity.ReviewJpaEntity;
+import dev.ime.infrastructure.entity.VoteJpaEntity;
+import jakarta.persistence.EntityManager;
+
+/**
+ * in-memory h2 in postgresql mode with the schema generated from the entities, for the tests that need
+ * the real unique indexes or the statements hibernate really sends
+ */
+final class H2Database implements AutoCloseable {
+
+	private final SessionFactory sessionFactory;
+
+	H2Database() {
+		super();
+		this.sessionFactory = new Configuration()
+				.addAnnotatedClass(CategoryJpaEntity.class)
+				.addAnnotatedClass(ProductJpaEntity.class)
+				.addAnnotatedClass(ReviewJpaEntity.class)
+				.addAnnotatedClass(VoteJpaEntity.class)
+				.setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1")
+				.setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+				.setProperty(AvailableSettings.GENERATE_STATISTICS, "true")
+				.setProperty(AvailableSettings.USE_SECOND_LEVEL_CACHE, "false")
+				.setProperty(AvailableSettings.DEFAULT_BATCH_FETCH_SIZE, "100")
+				.buildSessionFactory();
+	}
+
+	EntityManager createEntityManager() {
+		return sessionFactory.createEntityManager();
+	}
+
+	Statistics statistics() {
+		return sessionFactory.getStatistics();
+	}
+
+	void runInTransaction(Consumer<EntityManager> work) {
+
+		inTransaction(entityManager -> {
+			work.accept(entityManager);
+			return null;
+		});
+	}
+
+	/**
+	 * runs on a connection of its own and commits, like another node would
+	 */
+	<T> T inTransaction(Function<EntityManager, T> work) {
+
+		return sessionFactory.fromTransaction(session -> work.apply(session));
+	}
+
+	@Override
+	public void close() {
+		sessionFactory.close();
+	}
+
+}
@@ -0,0 +1,123 @@
+package dev.ime.infrastructure.adapter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import dev.ime.common.constants.GlobalConstants;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class ParallelBatchProcessorTest {
+
+	@Mock
+	private Consumer<String, String> consumer;
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final TopicPartition topicPartition = new TopicPartition(GlobalConstants.REV_TOPIC, 0);
+	private final String listener = "projection";
+	private ParallelBatchProcessor parallelBatchProcessor;
+
+	@BeforeEach
+	private void setUp() {
+
+		parallelBatchProcessor = new ParallelBatchProcessor(meterRegistry, 4);
+		Mockito.when(consumer.assignment()).thenReturn(Set.of(topicPartition));
+		Mockito.when(consumer.currentLag(topicPartition)).thenReturn(OptionalLong.of(42L));
+	}
+
+	@AfterEach
+	private void tearDown() {
+
+		parallelBatchProcessor.close();
+	}
+
+	private List<ConsumerRecord<String, String>> createRecords(int keys, int perKey) {
+
+		List<ConsumerRecord<String, String>> records = new ArrayList<>();
+		long offset = 0L;
+		for (int sequence = 0; sequence < perKey; sequence++) {
+			for (int key = 0; key < keys; key++) {
+				records.add(new ConsumerRecord<>(GlobalConstants.REV_TOPIC, 0, offset++, String.valueOf(key), key + ":" + sequence));
+			}
+		}
+		return records;
+	}
+
+	@Test
+	void process_shouldKeepOrderPerKey() {
+
+		Map<String, List<String>> handled = new ConcurrentHashMap<>();
+
+		parallelBatchProcessor.process(listener, createRecords(8, 50), consumer,
+				value -> handled.computeIfAbsent(value.substring(0, value.indexOf(':')), key -> Collections.synchronizedList(new ArrayList<>())).add(value));
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				() -> Assertions.assertThat(handled).hasSize(8),
+				() -> Assertions.assertThat(handled.get("3")).hasSize(50).isSortedAccordingTo(
+						(left, right) -> Integer.compare(Integer.parseInt(left.substring(2)), Integer.parseInt(right.substring(2)))),
+				() -> Assertions.assertThat(meterRegistry.get(GlobalConstants.METRIC_CONSUMER_RECORDS).tag(GlobalConstants.TAG_LISTENER, listener).counter().count()).isEqualTo(400.0),
+				() -> Assertions.assertThat(meterRegistry.get(GlobalConstants.METRIC_CONSUMER_LAG).tag(GlobalConstants.TAG_LISTENER, listener).gauge().value()).isEqualTo(42.0),
+				() -> Assertions.assertThat(meterRegistry.get(GlobalConstants.METRIC_CONSUMER_BATCH).tag(GlobalConstants.TAG_LISTENER, listener).timer().count()).isEqualTo(1L));
+	}
+
+	@Test
+	void process_withFailingKey_shouldFailBatchOnceOtherKeysFinished() {
+
+		List<String> handled = Collections.synchronizedList(new ArrayList<>());
+
+		Assertions.assertThatThrownBy(() -> parallelBatchProcessor.process(listener, createRecords(4, 5), consumer, value -> {
+			if (value.startsWith("2:")) {
+				throw new IllegalStateException("projection failed");
+			}
+			handled.add(value);
+		}))
+		.isInstanceOf(IllegalStateException.class)
+		.hasMessage("projection failed");
+
+		Assertions.assertThat(handled).hasSize(15);
+	}
+
+	@Test
+	void processAll_shouldHandBatchInOffsetOrder() {
+
+		List<String> handled = new ArrayList<>();
+
+		parallelBatchProcessor.processAll(listener, createRecords(2, 2), consumer, handled::addAll);
+
+		Assertions.assertThat(handled).containsExactly("0:0", "1:0", "0:1", "1:1");
+	}
+
+	@Test
+	void process_withTombstones_shouldSkipThem() {
+
+		List<ConsumerRecord<String, String>> records = new ArrayList<>(createRecords(2, 1));
+		records.add(new ConsumerRecord<>(GlobalConstants.REV_TOPIC, 0, 2L, "0", null));
+		List<String> handled = Collections.synchronizedList(new ArrayList<>());
+		List<String> handledAll = new ArrayList<>();
+
+		parallelBatchProcessor.process(listener, records, consumer, handled::add);
+		parallelBatchProcessor.processAll(listener, records, consumer, handledAll::addAll);
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				() -> Assertions.assertThat(handled).containsExactlyInAnyOrder("0:0", "1:0"),
+				() -> Assertions.assertThat(handledAll).containsExactly("0:0", "1:0"));
+	}
+
+}
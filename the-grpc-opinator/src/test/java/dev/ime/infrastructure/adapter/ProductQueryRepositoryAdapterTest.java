@@ -0,0 +1,141 @@
+package dev.ime.infrastructure.adapter;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.assertj.core.api.Assertions;
+import org.hibernate.jpa.HibernateHints;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import dev.ime.application.dto.ProductDto;
+import dev.ime.application.exception.ResourceNotFoundException;
+import dev.ime.common.constants.GlobalConstants;
+import dev.ime.infrastructure.entity.ProductJpaEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.NoResultException;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+
+@ExtendWith(MockitoExtension.class)
+class ProductQueryRepositoryAdapterTest {
+
+	@Mock
+	private EntityManager entityManager;
+
+	@InjectMocks
+	private ProductQueryRepositoryAdapter productQueryRepositoryAdapter;
+
+	private ProductDto productDto;
+
+	private final Long productId = 1L;
+	private final Pageable pageable = PageRequest.of(0, 10, Sort.by(GlobalConstants.PROD_ID).ascending());
+
+	@BeforeEach
+	private void setUp(){
+		
+		productDto = new ProductDto(productId, "Tomatoes", "full of red", 1L);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	void findAll_shouldProjectIntoDto() {
+
+		TypedQuery<ProductDto> query = Mockito.mock(TypedQuery.class);
+		Mockito.when(entityManager.createQuery(Mockito.anyString(), Mockito.eq(ProductDto.class))).thenReturn(query);
+		Mockito.when(query.getResultList()).thenReturn(List.of(productDto));
+
+		List<ProductDto> list = productQueryRepositoryAdapter.findAll();
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				() -> Assertions.assertThat(list).hasSize(1),
+				() -> Mockito.verify(entityManager).createQuery(Mockito.startsWith("SELECT new "), Mockito.eq(ProductDto.class)));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	void findAll_withPageable_shouldProjectIntoDto() {
+
+		CriteriaBuilder cb = Mockito.mock(CriteriaBuilder.class);
+		CriteriaQuery<ProductDto> cq = Mockito.mock(CriteriaQuery.class);
+		Root<ProductJpaEntity> root = Mockito.mock(Root.class, Mockito.RETURNS_DEEP_STUBS);
+		TypedQuery<ProductDto> query = Mockito.mock(TypedQuery.class);
+		Mockito.when(entityManager.getCriteriaBuilder()).thenReturn(cb);
+		Mockito.when(cb.createQuery(ProductDto.class)).thenReturn(cq);
+		Mockito.when(cq.from(ProductJpaEntity.class)).thenReturn(root);
+		Mockito.when(cq.orderBy(Mockito.anyList())).thenReturn(cq);
+		Mockito.when(entityManager.createQuery(cq)).thenReturn(query);
+		Mockito.when(query.setFirstResult(Mockito.anyInt())).thenReturn(query);
+		Mockito.when(query.setMaxResults(Mockito.anyInt())).thenReturn(query);
+		Mockito.when(query.getResultList()).thenReturn(List.of(productDto));
+
+		List<ProductDto> result = productQueryRepositoryAdapter.findAll(pageable);
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				() -> Assertions.assertThat(result).hasSize(1),
+				() -> Mockito.verify(cb).createQuery(ProductDto.class),
+				() -> Mockito.verify(query).setFirstResult(0),
+				() -> Mockito.verify(query).setHint(HibernateHints.HINT_CACHEABLE, true),
+				() -> Mockito.verify(query).setHint(HibernateHints.HINT_CACHE_REGION, GlobalConstants.CACHE_QUERY_PROD),
+				() -> Mockito.verify(query).setMaxResults(10));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	void findById_shouldReturnOptDto() {
+
+		TypedQuery<ProductDto> query = Mockito.mock(TypedQuery.class);
+		Mockito.when(entityManager.createQuery(Mockito.anyString(), Mockito.eq(ProductDto.class))).thenReturn(query);
+		Mockito.when(query.getSingleResult()).thenReturn(productDto);
+
+		Optional<ProductDto> optResult = productQueryRepositoryAdapter.findById(productId);
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				() -> Assertions.assertThat(optResult).contains(productDto),
+				() -> Mockito.verify(query).setParameter(1, productId),
+				() -> Mockito.verify(query).setHint(HibernateHints.HINT_CACHEABLE, true));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	void findById_withUnknownId_shouldThrowResourceNotFoundException() {
+
+		TypedQuery<ProductDto> query = Mockito.mock(TypedQuery.class);
+		Mockito.when(entityManager.createQuery(Mockito.anyString(), Mockito.eq(ProductDto.class))).thenReturn(query);
+		Mockito.when(query.getSingleResult()).thenThrow(NoResultException.class);
+
+		Assertions.assertThatThrownBy(() -> productQueryRepositoryAdapter.findById(productId))
+			.isInstanceOf(ResourceNotFoundException.class);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	void search_withLastPage_shouldNotHaveNext() {
+
+		Query query = Mockito.mock(Query.class);
+		Mockito.when(entityManager.createNativeQuery(Mockito.anyString())).thenReturn(query);
+		Mockito.when(query.getResultList()).thenReturn(List.<Object[]>of(new Object[] { 1, "Tomatoes", "full of red", 1L }));
+
+		Slice<ProductDto> result = productQueryRepositoryAdapter.search("tomato", pageable);
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				() -> Assertions.assertThat(result.getContent()).containsExactly(productDto),
+				() -> Assertions.assertThat(result.hasNext()).isFalse(),
+				() -> Mockito.verify(entityManager).createNativeQuery(Mockito.contains("WHERE product_search @@ websearch_to_tsquery('english', ?1) ORDER BY product_id DESC LIMIT " + GlobalConstants.SEARCH_MAX_RESULTS + ")")),
+				() -> Mockito.verify(query).setMaxResults(11),
+				() -> Mockito.verify(query, Mockito.never()).setHint(Mockito.eq(HibernateHints.HINT_CACHEABLE), Mockito.any()));
+	}
+
+}
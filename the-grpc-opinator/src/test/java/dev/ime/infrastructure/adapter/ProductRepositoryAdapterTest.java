@@ -25,6 +25,7 @@ import jakarta.persistence.EntityManager;
 import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
@@ -109,7 +110,8 @@ class ProductRepositoryAdapterTest {
 				() -> Assertions.assertThat(result).isNotNull(),
 				() -> Assertions.assertThat(result).hasSize(1), 
 				() -> Mockito.verify(query).setFirstResult(0),
-				() -> Mockito.verify(query).setMaxResults(10));
+				() -> Mockito.verify(query).setMaxResults(10),
+				() -> Mockito.verify(root, Mockito.never()).fetch(Mockito.anyString(), Mockito.any(JoinType.class)));
 	}
 
 	@SuppressWarnings("unchecked")
@@ -0,0 +1,100 @@
+package dev.ime.infrastructure.adapter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+
+import org.assertj.core.api.Assertions;
+import org.hibernate.query.NativeQuery;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import dev.ime.common.constants.GlobalConstants;
+import dev.ime.domain.model.Event;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+
+@ExtendWith(MockitoExtension.class)
+class ReplayRepositoryAdapterTest {
+
+	@Mock
+	private EntityManager entityManager;
+
+	@InjectMocks
+	private ReplayRepositoryAdapter replayRepositoryAdapter;
+
+	@SuppressWarnings("rawtypes")
+	private Query stubUpdate() {
+
+		Query query = Mockito.mock(Query.class);
+		Mockito.when(entityManager.createNativeQuery(Mockito.anyString())).thenReturn(query);
+		Mockito.when(query.unwrap(NativeQuery.class)).thenReturn(Mockito.mock(NativeQuery.class));
+		return query;
+	}
+
+	@Test
+	void findCheckpoint_withoutRow_shouldReturnEmpty() {
+
+		Query query = Mockito.mock(Query.class);
+		Mockito.when(entityManager.createNativeQuery(Mockito.anyString(), Mockito.eq(Long.class))).thenReturn(query);
+		Mockito.when(query.setParameter(Mockito.anyInt(), Mockito.any())).thenReturn(query);
+		Mockito.when(query.getResultList()).thenReturn(List.of());
+
+		OptionalLong result = replayRepositoryAdapter.findCheckpoint(GlobalConstants.REV_TOPIC, 0);
+
+		Assertions.assertThat(result).isEmpty();
+	}
+
+	@Test
+	void saveBatch_shouldUpsertLatestStateAndDeleteRemoved() {
+
+		Query query = stubUpdate();
+		Mockito.when(query.setParameter(Mockito.anyInt(), Mockito.any())).thenReturn(query);
+		List<Event> events = List.of(
+				new Event(GlobalConstants.REV_CAT, GlobalConstants.REV_CREATED, Map.of(GlobalConstants.REV_ID, 1L, GlobalConstants.PROD_ID, 7L, GlobalConstants.REV_RAT, 3)),
+				new Event(GlobalConstants.REV_CAT, GlobalConstants.REV_UPDATED, Map.of(GlobalConstants.REV_ID, 1L, GlobalConstants.PROD_ID, 7L, GlobalConstants.REV_RAT, 5)),
+				new Event(GlobalConstants.REV_CAT, GlobalConstants.REV_CREATED, Map.of(GlobalConstants.REV_ID, 2L, GlobalConstants.PROD_ID, 7L, GlobalConstants.REV_RAT, 1)),
+				new Event(GlobalConstants.REV_CAT, GlobalConstants.REV_DELETED, Map.of(GlobalConstants.REV_ID, 2L)));
+
+		replayRepositoryAdapter.saveBatch(GlobalConstants.REV_TOPIC, 0, 4L, events);
+
+		Mockito.verify(query).setParameter(1, new Long[] { 1L });
+		Mockito.verify(query).setParameter(3, new Integer[] { 5 });
+		Mockito.verify(query).setParameter(1, new Long[] { 2L });
+		Mockito.verify(query).setParameter(3, 4L);
+		Mockito.verify(query, Mockito.times(3)).executeUpdate();
+	}
+
+	@Test
+	void rebuildReadModels_shouldRecountAndClearStaging() {
+
+		Query query = stubUpdate();
+		Mockito.when(query.getSingleResult()).thenReturn(0L);
+
+		replayRepositoryAdapter.rebuildReadModels();
+
+		Mockito.verify(entityManager).createNativeQuery("LOCK TABLE reviews, votes IN SHARE MODE");
+		Mockito.verify(entityManager).createNativeQuery("TRUNCATE replay_reviews, replay_votes, replay_checkpoints");
+		Mockito.verify(query, Mockito.times(6)).executeUpdate();
+	}
+
+	@Test
+	void rebuildReadModels_withLiveWritesSinceReplay_shouldFailAndKeepStaging() {
+
+		Query query = stubUpdate();
+		Mockito.when(query.getSingleResult()).thenReturn(2L);
+
+		Assertions.assertThatThrownBy(() -> replayRepositoryAdapter.rebuildReadModels())
+		.isInstanceOf(IllegalStateException.class)
+		.hasMessageStartingWith(GlobalConstants.MSG_REPLAY_DRIFT);
+
+		Mockito.verify(entityManager, Mockito.never()).createNativeQuery("DELETE FROM product_rating_stats");
+		Mockito.verify(entityManager, Mockito.never()).createNativeQuery("TRUNCATE replay_reviews, replay_votes, replay_checkpoints");
+		Mockito.verify(query).executeUpdate();
+	}
+
+}
@@ -0,0 +1,73 @@
+package dev.ime.infrastructure.adapter;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import dev.ime.common.constants.GlobalConstants;
+
+class ResponseCacheAdapterTest {
+
+	private final ResponseCacheAdapter responseCacheAdapter = new ResponseCacheAdapter(1024L, Duration.ofMinutes(1));
+	private final AtomicInteger loads = new AtomicInteger();
+	private final Long productId = 1L;
+
+	private byte[] load(byte... payload) {
+
+		loads.incrementAndGet();
+		return payload;
+	}
+
+	@Test
+	void getOrLoad_shouldLoadOnlyOnce() {
+
+		byte[] first = responseCacheAdapter.getOrLoad(GlobalConstants.PROD_CAT, productId, () -> load((byte) 1));
+		byte[] second = responseCacheAdapter.getOrLoad(GlobalConstants.PROD_CAT, productId, () -> load((byte) 2));
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				() -> Assertions.assertThat(first).containsExactly(1),
+				() -> Assertions.assertThat(second).containsExactly(1),
+				() -> Assertions.assertThat(loads).hasValue(1));
+	}
+
+	@Test
+	void getOrLoad_shouldKeepCategoriesApart() {
+
+		responseCacheAdapter.getOrLoad(GlobalConstants.PROD_CAT, productId, () -> load((byte) 1));
+		byte[] review = responseCacheAdapter.getOrLoad(GlobalConstants.REV_CAT, productId, () -> load((byte) 2));
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				() -> Assertions.assertThat(review).containsExactly(2),
+				() -> Assertions.assertThat(loads).hasValue(2));
+	}
+
+	@Test
+	void evict_shouldForceReload() {
+
+		responseCacheAdapter.getOrLoad(GlobalConstants.PROD_CAT, productId, () -> load((byte) 1));
+		responseCacheAdapter.evict(GlobalConstants.PROD_CAT, productId);
+		byte[] result = responseCacheAdapter.getOrLoad(GlobalConstants.PROD_CAT, productId, () -> load((byte) 2));
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				() -> Assertions.assertThat(result).containsExactly(2),
+				() -> Assertions.assertThat(loads).hasValue(2));
+	}
+
+	@Test
+	void getOrLoad_withEvictionDuringLoad_shouldNotStoreStalePayload() {
+
+		byte[] stale = responseCacheAdapter.getOrLoad(GlobalConstants.PROD_CAT, productId, () -> {
+			responseCacheAdapter.evict(GlobalConstants.PROD_CAT, productId);
+			return load((byte) 1);
+		});
+		byte[] fresh = responseCacheAdapter.getOrLoad(GlobalConstants.PROD_CAT, productId, () -> load((byte) 2));
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				() -> Assertions.assertThat(stale).containsExactly(1),
+				() -> Assertions.assertThat(fresh).containsExactly(2),
+				() -> Assertions.assertThat(loads).hasValue(2));
+	}
+
+}
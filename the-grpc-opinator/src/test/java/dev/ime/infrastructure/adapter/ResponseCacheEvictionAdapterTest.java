@@ -0,0 +1,86 @@
+package dev.ime.infrastructure.adapter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import dev.ime.common.constants.GlobalConstants;
+import dev.ime.domain.model.Event;
+import dev.ime.domain.port.outbound.ResponseCachePort;
+
+@ExtendWith(MockitoExtension.class)
+class ResponseCacheEvictionAdapterTest {
+
+	@Mock
+	private ResponseCachePort responseCacheAdapter;
+	@Mock
+	private ParallelBatchProcessor parallelBatchProcessor;
+
+	@InjectMocks
+	private ResponseCacheEvictionAdapter responseCacheEvictionAdapter;
+
+	@Test
+	void onEvent_withProductUpdated_shouldEvictProduct() {
+
+		Event event = new Event(GlobalConstants.PROD_CAT, GlobalConstants.PROD_UPDATED, Map.of(GlobalConstants.PROD_ID, 7));
+
+		responseCacheEvictionAdapter.onEvent(event);
+
+		Mockito.verify(responseCacheAdapter).evict(GlobalConstants.PROD_CAT, 7L);
+	}
+
+	@Test
+	void onEvent_withReviewDeleted_shouldEvictReview() {
+
+		Event event = new Event(GlobalConstants.REV_CAT, GlobalConstants.REV_DELETED, Map.of(GlobalConstants.REV_ID, 3L));
+
+		responseCacheEvictionAdapter.onEvent(event);
+
+		Mockito.verify(responseCacheAdapter).evict(GlobalConstants.REV_CAT, 3L);
+	}
+
+	@Test
+	void onEvent_withoutId_shouldNotEvict() {
+
+		Event event = new Event(GlobalConstants.PROD_CAT, GlobalConstants.PROD_DELETED, Map.of());
+
+		responseCacheEvictionAdapter.onEvent(event);
+
+		Mockito.verifyNoInteractions(responseCacheAdapter);
+	}
+
+	@Test
+	void onEvent_withProductCreated_shouldNotEvict() {
+
+		Event event = new Event(GlobalConstants.PROD_CAT, GlobalConstants.PROD_CREATED, Map.of(GlobalConstants.PROD_ID, 7));
+
+		responseCacheEvictionAdapter.onEvent(event);
+
+		Mockito.verifyNoInteractions(responseCacheAdapter);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	void onEvents_shouldHandEachEventToOnEvent() {
+
+		Event event = new Event(GlobalConstants.PROD_CAT, GlobalConstants.PROD_DELETED, Map.of(GlobalConstants.PROD_ID, 7));
+		List<ConsumerRecord<String, Event>> records = List.of(new ConsumerRecord<>(GlobalConstants.PROD_TOPIC, 0, 0L, "7", event));
+		Mockito.doAnswer(invocation -> {
+			((Consumer<Event>) invocation.getArgument(3)).accept(event);
+			return null;
+		}).when(parallelBatchProcessor).process(Mockito.eq(GlobalConstants.CACHE_RESPONSE_GROUP), Mockito.eq(records), Mockito.any(), Mockito.any(Consumer.class));
+
+		responseCacheEvictionAdapter.onEvents(records, null);
+
+		Mockito.verify(responseCacheAdapter).evict(GlobalConstants.PROD_CAT, 7L);
+	}
+
+}
@@ -0,0 +1,118 @@
+package dev.ime.infrastructure.adapter;
+
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import dev.ime.common.mapper.ReviewMapper;
+import dev.ime.domain.model.Product;
+import dev.ime.domain.model.Review;
+import dev.ime.domain.port.outbound.StatsRepositoryPort;
+import dev.ime.infrastructure.entity.CategoryJpaEntity;
+import dev.ime.infrastructure.entity.ProductJpaEntity;
+import jakarta.persistence.EntityManager;
+
+/**
+ * review create latency against the number of reviews the product already holds, on the h2 database of the
+ * tests with the unique index in place. every create is rolled back so the product keeps existingReviews rows.
+ * inMemoryScanBaseline is the check the index replaced, it loads the product's reviews and grows with
+ * existingReviews, save stays flat.
+ * run with: mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=dev.ime.infrastructure.adapter.ReviewCreateBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReviewCreateBenchmark {
+
+	@Param({ "10", "1000", "100000" })
+	private int existingReviews;
+
+	private H2Database database;
+	private EntityManager entityManager;
+	private ReviewRepositoryAdapter reviewRepositoryAdapter;
+	private Long productId;
+	private Review review;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+
+		database = new H2Database();
+		productId = database.inTransaction(em -> {
+			CategoryJpaEntity category = CategoryJpaEntity.builder().categoryName("Vegetables").build();
+			ProductJpaEntity product = ProductJpaEntity.builder().productName("Tomato").productDescription("Red").category(category).build();
+			em.persist(category);
+			em.persist(product);
+			// negative ids stay clear of the sequence the creates draw from
+			em.createNativeQuery("INSERT INTO reviews (review_id, email, product_id, review_text, rating) SELECT -\"X\", 'user' || \"X\" || '@email.tk', ?1, 'Fine', 5 FROM system_range(1, ?2)")
+			.setParameter(1, product.getProductId())
+			.setParameter(2, existingReviews)
+			.executeUpdate();
+			return product.getProductId();
+		});
+
+		Product product = new Product();
+		product.setProductId(productId);
+		review = new Review(null, "newcomer@email.tk", product, "Excellent", 5, new HashSet<>());
+
+		entityManager = database.createEntityManager();
+		StatsRepositoryPort statsRepositoryAdapter = Mockito.mock(StatsRepositoryPort.class, Mockito.withSettings().stubOnly());
+		reviewRepositoryAdapter = new ReviewRepositoryAdapter(entityManager, new ReviewMapper(), statsRepositoryAdapter);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+
+		entityManager.close();
+		database.close();
+	}
+
+	@Benchmark
+	public Optional<Review> save() {
+
+		entityManager.getTransaction().begin();
+		try {
+			return reviewRepositoryAdapter.save(review);
+		} finally {
+			entityManager.getTransaction().rollback();
+			entityManager.clear();
+		}
+	}
+
+	@Benchmark
+	public boolean inMemoryScanBaseline() {
+
+		try {
+			return entityManager.find(ProductJpaEntity.class, productId).getReviews().stream()
+					.anyMatch(r -> review.getEmail().equals(r.getEmail()));
+		} finally {
+			entityManager.clear();
+		}
+	}
+
+	public static void main(String[] args) throws RunnerException {
+
+		new Runner(new OptionsBuilder().include(ReviewCreateBenchmark.class.getSimpleName()).build()).run();
+	}
+
+}
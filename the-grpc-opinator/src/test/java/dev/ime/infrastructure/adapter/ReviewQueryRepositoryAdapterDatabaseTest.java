@@ -0,0 +1,86 @@
+package dev.ime.infrastructure.adapter;
+
+import java.util.HashSet;
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import dev.ime.application.dto.ReviewDto;
+import dev.ime.common.constants.GlobalConstants;
+import dev.ime.domain.model.PageCursor;
+import dev.ime.infrastructure.entity.CategoryJpaEntity;
+import dev.ime.infrastructure.entity.ProductJpaEntity;
+import dev.ime.infrastructure.entity.ReviewJpaEntity;
+import dev.ime.infrastructure.entity.VoteJpaEntity;
+import jakarta.persistence.EntityManager;
+
+class ReviewQueryRepositoryAdapterDatabaseTest {
+
+	private H2Database database;
+	private EntityManager entityManager;
+	private ReviewQueryRepositoryAdapter reviewQueryRepositoryAdapter;
+
+	private final Pageable pageable = PageRequest.of(1, 20, Sort.by(GlobalConstants.REV_ID));
+
+	@BeforeEach
+	private void setUp() {
+
+		database = new H2Database();
+		database.runInTransaction(em -> {
+			CategoryJpaEntity category = CategoryJpaEntity.builder().categoryName("Vegetables").build();
+			ProductJpaEntity product = ProductJpaEntity.builder().productName("Tomato").productDescription("Red").category(category).build();
+			em.persist(category);
+			em.persist(product);
+			for (int i = 0; i < 60; i++) {
+				ReviewJpaEntity review = new ReviewJpaEntity(null, i + "email@email.tk", product, "Excellent", 5, new HashSet<>());
+				em.persist(review);
+				em.persist(new VoteJpaEntity(null, "email@email.tk", review, true));
+			}
+		});
+		entityManager = database.createEntityManager();
+		reviewQueryRepositoryAdapter = new ReviewQueryRepositoryAdapter(entityManager);
+	}
+
+	@AfterEach
+	private void tearDown() {
+
+		entityManager.close();
+		database.close();
+	}
+
+	@Test
+	void findAll_withPageable_shouldReadPageInOneStatement() {
+
+		database.statistics().clear();
+
+		List<ReviewDto> page = reviewQueryRepositoryAdapter.findAll(pageable);
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				() -> Assertions.assertThat(page).hasSize(20),
+				() -> Assertions.assertThat(page.get(0).reviewId()).isLessThan(page.get(19).reviewId()),
+				() -> Assertions.assertThat(database.statistics().getPrepareStatementCount()).isEqualTo(1L),
+				() -> Assertions.assertThat(database.statistics().getEntityLoadCount()).isZero());
+	}
+
+	@Test
+	void findAll_withCursor_shouldReadPageInOneStatement() {
+
+		Long lastId = reviewQueryRepositoryAdapter.findAll(PageRequest.of(0, 20, Sort.by(GlobalConstants.REV_ID))).get(19).reviewId();
+		database.statistics().clear();
+
+		List<ReviewDto> page = reviewQueryRepositoryAdapter.findAll(pageable, new PageCursor(lastId, lastId));
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				() -> Assertions.assertThat(page).hasSize(20),
+				() -> Assertions.assertThat(page).allSatisfy(dto -> Assertions.assertThat(dto.reviewId()).isGreaterThan(lastId)),
+				() -> Assertions.assertThat(database.statistics().getPrepareStatementCount()).isEqualTo(1L),
+				() -> Assertions.assertThat(database.statistics().getEntityLoadCount()).isZero());
+	}
+
+}
@@ -0,0 +1,152 @@
+package dev.ime.infrastructure.adapter;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import dev.ime.application.dto.ReviewDto;
+import dev.ime.application.exception.ResourceNotFoundException;
+import dev.ime.common.constants.GlobalConstants;
+import dev.ime.infrastructure.entity.ReviewJpaEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.NoResultException;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewQueryRepositoryAdapterTest {
+
+	@Mock
+	private EntityManager entityManager;
+
+	@InjectMocks
+	private ReviewQueryRepositoryAdapter reviewQueryRepositoryAdapter;
+
+	private ReviewDto reviewDto;
+
+	private final Long reviewId = 1L;
+	private final Pageable pageable = PageRequest.of(0, 10, Sort.by(GlobalConstants.REV_ID).ascending());
+
+	@BeforeEach
+	private void setUp(){
+		
+		reviewDto = new ReviewDto(reviewId, "email@email.tk", 1L, "Excellent", 5);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	void findAll_shouldProjectIntoDto() {
+
+		TypedQuery<ReviewDto> query = Mockito.mock(TypedQuery.class);
+		Mockito.when(entityManager.createQuery(Mockito.anyString(), Mockito.eq(ReviewDto.class))).thenReturn(query);
+		Mockito.when(query.getResultList()).thenReturn(List.of(reviewDto));
+
+		List<ReviewDto> list = reviewQueryRepositoryAdapter.findAll();
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				() -> Assertions.assertThat(list).hasSize(1),
+				() -> Mockito.verify(entityManager).createQuery(Mockito.startsWith("SELECT new "), Mockito.eq(ReviewDto.class)));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	void findAll_withPageable_shouldProjectIntoDto() {
+
+		CriteriaBuilder cb = Mockito.mock(CriteriaBuilder.class);
+		CriteriaQuery<ReviewDto> cq = Mockito.mock(CriteriaQuery.class);
+		Root<ReviewJpaEntity> root = Mockito.mock(Root.class, Mockito.RETURNS_DEEP_STUBS);
+		TypedQuery<ReviewDto> query = Mockito.mock(TypedQuery.class);
+		Mockito.when(entityManager.getCriteriaBuilder()).thenReturn(cb);
+		Mockito.when(cb.createQuery(ReviewDto.class)).thenReturn(cq);
+		Mockito.when(cq.from(ReviewJpaEntity.class)).thenReturn(root);
+		Mockito.when(cq.orderBy(Mockito.anyList())).thenReturn(cq);
+		Mockito.when(entityManager.createQuery(cq)).thenReturn(query);
+		Mockito.when(query.setFirstResult(Mockito.anyInt())).thenReturn(query);
+		Mockito.when(query.setMaxResults(Mockito.anyInt())).thenReturn(query);
+		Mockito.when(query.getResultList()).thenReturn(List.of(reviewDto));
+
+		List<ReviewDto> result = reviewQueryRepositoryAdapter.findAll(pageable);
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				() -> Assertions.assertThat(result).hasSize(1),
+				() -> Mockito.verify(cb).createQuery(ReviewDto.class),
+				() -> Mockito.verify(query).setFirstResult(0),
+				() -> Mockito.verify(query).setMaxResults(10));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	void findById_shouldReturnOptDto() {
+
+		TypedQuery<ReviewDto> query = Mockito.mock(TypedQuery.class);
+		Mockito.when(entityManager.createQuery(Mockito.anyString(), Mockito.eq(ReviewDto.class))).thenReturn(query);
+		Mockito.when(query.getSingleResult()).thenReturn(reviewDto);
+
+		Optional<ReviewDto> optResult = reviewQueryRepositoryAdapter.findById(reviewId);
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				() -> Assertions.assertThat(optResult).contains(reviewDto),
+				() -> Mockito.verify(query).setParameter(1, reviewId));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	void findById_withUnknownId_shouldThrowResourceNotFoundException() {
+
+		TypedQuery<ReviewDto> query = Mockito.mock(TypedQuery.class);
+		Mockito.when(entityManager.createQuery(Mockito.anyString(), Mockito.eq(ReviewDto.class))).thenReturn(query);
+		Mockito.when(query.getSingleResult()).thenThrow(NoResultException.class);
+
+		Assertions.assertThatThrownBy(() -> reviewQueryRepositoryAdapter.findById(reviewId))
+			.isInstanceOf(ResourceNotFoundException.class);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	void search_shouldMapRankedRowsAndDetectNextPage() {
+
+		Query query = Mockito.mock(Query.class);
+		Mockito.when(entityManager.createNativeQuery(Mockito.anyString())).thenReturn(query);
+		Mockito.when(query.getResultList()).thenReturn(List.of(
+				new Object[] { 1, "email@email.tk", 1L, "Excellent", 5 },
+				new Object[] { 2, "other@email.tk", 1L, "Excellent again", 4 },
+				new Object[] { 3, "third@email.tk", 1L, "Excellent too", 3 }));
+
+		Slice<ReviewDto> result = reviewQueryRepositoryAdapter.search("excellent", PageRequest.of(1, 2));
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				() -> Assertions.assertThat(result.getContent()).extracting(ReviewDto::reviewId).containsExactly(1L, 2L),
+				() -> Assertions.assertThat(result.hasNext()).isTrue(),
+				() -> Mockito.verify(entityManager).createNativeQuery(Mockito.contains("ORDER BY ts_rank(r.review_search, q) DESC")),
+				() -> Mockito.verify(entityManager).createNativeQuery(Mockito.contains("ORDER BY review_id DESC LIMIT " + GlobalConstants.SEARCH_MAX_RESULTS + ")")),
+				() -> Mockito.verify(query).setParameter(1, "excellent"),
+				() -> Mockito.verify(query).setFirstResult(2),
+				() -> Mockito.verify(query).setMaxResults(3));
+	}
+
+	@Test
+	void search_withPageBeyondIntRange_shouldComputeOffsetAsLong() {
+
+		Query query = Mockito.mock(Query.class);
+		Mockito.when(entityManager.createNativeQuery(Mockito.anyString())).thenReturn(query);
+
+		Assertions.assertThatThrownBy(() -> reviewQueryRepositoryAdapter.search("excellent", PageRequest.of(Integer.MAX_VALUE / 2, 50)))
+		.isInstanceOf(ArithmeticException.class);
+	}
+
+}
@@ -0,0 +1,157 @@
+package dev.ime.infrastructure.adapter;
+
+import java.util.HashSet;
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import dev.ime.application.exception.OnlyOneReviewPerUserInProductException;
+import dev.ime.common.constants.GlobalConstants;
+import dev.ime.common.mapper.ReviewMapper;
+import dev.ime.domain.model.Product;
+import dev.ime.domain.model.Review;
+import dev.ime.domain.port.outbound.StatsRepositoryPort;
+import dev.ime.infrastructure.entity.CategoryJpaEntity;
+import dev.ime.infrastructure.entity.ProductJpaEntity;
+import dev.ime.infrastructure.entity.ReviewJpaEntity;
+import dev.ime.infrastructure.entity.VoteJpaEntity;
+import jakarta.persistence.EntityManager;
+
+class ReviewRepositoryAdapterDatabaseTest {
+
+	private H2Database database;
+	private EntityManager entityManager;
+	private ReviewMapper reviewMapper;
+	private StatsRepositoryPort statsRepositoryAdapter;
+	private ReviewRepositoryAdapter reviewRepositoryAdapter;
+	private Long productId;
+
+	private final String email = "email@email.tk";
+
+	@BeforeEach
+	private void setUp() {
+
+		database = new H2Database();
+		productId = database.inTransaction(em -> {
+			CategoryJpaEntity category = CategoryJpaEntity.builder().categoryName("Vegetables").build();
+			ProductJpaEntity product = ProductJpaEntity.builder().productName("Tomato").productDescription("Red").category(category).build();
+			em.persist(category);
+			em.persist(product);
+			return product.getProductId();
+		});
+		entityManager = database.createEntityManager();
+		reviewMapper = Mockito.spy(new ReviewMapper());
+		statsRepositoryAdapter = Mockito.mock(StatsRepositoryPort.class);
+		reviewRepositoryAdapter = new ReviewRepositoryAdapter(entityManager, reviewMapper, statsRepositoryAdapter);
+	}
+
+	@AfterEach
+	private void tearDown() {
+
+		entityManager.close();
+		database.close();
+	}
+
+	private Review createReview() {
+
+		Product product = new Product();
+		product.setProductId(productId);
+		return new Review(null, email, product, "Excellent", 5, new HashSet<>());
+	}
+
+	@Test
+	void save_withConcurrentDuplicate_shouldMapUniqueIndexViolation() {
+
+		// the other review is committed after the check passed and before the insert
+		Mockito.doAnswer(invocation -> {
+			database.runInTransaction(em -> em.persist(new ReviewJpaEntity(null, email, em.getReference(ProductJpaEntity.class, productId), "Other", 1, new HashSet<>())));
+			return invocation.callRealMethod();
+		}).when(reviewMapper).fromDomainToNewJpa(Mockito.any(Review.class), Mockito.any(ProductJpaEntity.class));
+		Review review = createReview();
+
+		entityManager.getTransaction().begin();
+		Assertions.assertThatThrownBy(() -> reviewRepositoryAdapter.save(review)).isInstanceOf(OnlyOneReviewPerUserInProductException.class);
+		entityManager.getTransaction().rollback();
+
+		Long reviews = database.inTransaction(em -> em.createQuery("SELECT COUNT(r) FROM ReviewJpaEntity r", Long.class).getSingleResult());
+		org.junit.jupiter.api.Assertions.assertAll(
+				() -> Assertions.assertThat(reviews).isEqualTo(1L),
+				() -> Mockito.verifyNoInteractions(statsRepositoryAdapter));
+	}
+
+	@Test
+	void save_shouldInsertBeforeReturning() {
+
+		entityManager.getTransaction().begin();
+		long inserts = database.statistics().getEntityInsertCount();
+		reviewRepositoryAdapter.save(createReview());
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				() -> Assertions.assertThat(database.statistics().getEntityInsertCount() - inserts).isEqualTo(1L),
+				() -> Mockito.verify(statsRepositoryAdapter).addRating(productId, 5));
+		entityManager.getTransaction().commit();
+	}
+
+	@Test
+	void save_withExistingReviews_shouldLeaveThemUnloaded() {
+
+		createReviewsWithVotes(50, 0);
+		long collectionFetches = database.statistics().getCollectionFetchCount();
+		long reviewLoads = database.statistics().getEntityStatistics(ReviewJpaEntity.class.getName()).getLoadCount();
+
+		entityManager.getTransaction().begin();
+		reviewRepositoryAdapter.save(createReview());
+		entityManager.getTransaction().commit();
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				() -> Assertions.assertThat(database.statistics().getCollectionFetchCount()).isEqualTo(collectionFetches),
+				() -> Assertions.assertThat(database.statistics().getEntityStatistics(ReviewJpaEntity.class.getName()).getLoadCount()).isEqualTo(reviewLoads));
+	}
+
+	private void createReviewsWithVotes(int reviews, int votesPerReview) {
+
+		database.runInTransaction(em -> {
+			ProductJpaEntity product = em.getReference(ProductJpaEntity.class, productId);
+			for (int i = 0; i < reviews; i++) {
+				ReviewJpaEntity review = new ReviewJpaEntity(null, i + email, product, "Excellent", 5, new HashSet<>());
+				em.persist(review);
+				for (int j = 0; j < votesPerReview; j++) {
+					em.persist(new VoteJpaEntity(null, j + email, review, true));
+				}
+			}
+		});
+	}
+
+	private long countPageStatements(int size) {
+
+		long before = database.statistics().getPrepareStatementCount();
+		entityManager.getTransaction().begin();
+		List<Review> page = reviewRepositoryAdapter.findAll(PageRequest.of(1, size, Sort.by(GlobalConstants.REV_ID)));
+		entityManager.getTransaction().commit();
+		entityManager.clear();
+
+		Assertions.assertThat(page).hasSize(size).allSatisfy(review -> Assertions.assertThat(review.getVotes()).hasSize(3));
+		return database.statistics().getPrepareStatementCount() - before;
+	}
+
+	@Test
+	void findAll_withPageable_shouldNotGrowStatementsWithPageSize() {
+
+		createReviewsWithVotes(60, 3);
+
+		long smallPage = countPageStatements(5);
+		long largePage = countPageStatements(20);
+
+		// the page, its products and its votes, each in one batch whatever the page size
+		org.junit.jupiter.api.Assertions.assertAll(
+				() -> Assertions.assertThat(smallPage).isEqualTo(3L),
+				() -> Assertions.assertThat(largePage).isEqualTo(3L));
+	}
+
+}
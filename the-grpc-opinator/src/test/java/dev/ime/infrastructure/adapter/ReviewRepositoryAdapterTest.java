@@ -1,9 +1,14 @@
 package dev.ime.infrastructure.adapter;
 
+import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.assertj.core.api.Assertions;
+import org.hibernate.exception.ConstraintViolationException;
+import org.hibernate.jpa.HibernateHints;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,16 +20,21 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
+import dev.ime.application.exception.OnlyOneReviewPerUserInProductException;
 import dev.ime.common.constants.GlobalConstants;
 import dev.ime.common.mapper.ReviewMapper;
+import dev.ime.domain.model.BulkOutcome;
 import dev.ime.domain.model.Product;
 import dev.ime.domain.model.Review;
+import dev.ime.domain.port.outbound.StatsRepositoryPort;
 import dev.ime.infrastructure.entity.ProductJpaEntity;
 import dev.ime.infrastructure.entity.ReviewJpaEntity;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
 import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Root;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,6 +44,8 @@ class ReviewRepositoryAdapterTest {
 	private EntityManager entityManager;
 	@Mock
 	private ReviewMapper reviewMapper;	
+	@Mock
+	private StatsRepositoryPort statsRepositoryAdapter;
 
 	@InjectMocks
 	private ReviewRepositoryAdapter reviewRepositoryAdapter;
@@ -108,7 +120,8 @@ class ReviewRepositoryAdapterTest {
 				() -> Assertions.assertThat(result).isNotNull(),
 				() -> Assertions.assertThat(result).hasSize(1), 
 				() -> Mockito.verify(query).setFirstResult(0),
-				() -> Mockito.verify(query).setMaxResults(10));
+				() -> Mockito.verify(query).setMaxResults(10),
+				() -> Mockito.verify(root, Mockito.never()).fetch(Mockito.anyString(), Mockito.any(JoinType.class)));
 	}
 
 	@SuppressWarnings("unchecked")
@@ -132,16 +145,59 @@ class ReviewRepositoryAdapterTest {
 	@SuppressWarnings("unchecked")
 	void save_shouldReturnOpt() {
 
+		TypedQuery<Long> countQuery = Mockito.mock(TypedQuery.class);
 		Mockito.when(entityManager.find(Mockito.any(Class.class),Mockito.anyLong())).thenReturn(productJpaEntity);
-		Mockito.when(reviewMapper.fromDomainToJpa(Mockito.any(Review.class),Mockito.any(ProductJpaEntity.class))).thenReturn(reviewJpaEntity);
-		Mockito.doNothing().when(entityManager).persist(Mockito.any(ReviewJpaEntity.class));
+		Mockito.when(entityManager.createQuery(Mockito.anyString(), Mockito.eq(Long.class))).thenReturn(countQuery);
+		Mockito.when(countQuery.getSingleResult()).thenReturn(0L);
+		Mockito.when(reviewMapper.fromDomainToNewJpa(Mockito.any(Review.class),Mockito.any(ProductJpaEntity.class))).thenReturn(reviewJpaEntity);
+		Mockito.doNothing().when(entityManager).flush();
 		Mockito.when(reviewMapper.fromJpaToDomain(Mockito.any(ReviewJpaEntity.class))).thenReturn(review);
 
 		Optional<Review> optResult = reviewRepositoryAdapter.save(review);
 		
 		org.junit.jupiter.api.Assertions.assertAll(
 				()-> Assertions.assertThat(optResult).isNotNull(),
-				()-> Assertions.assertThat(optResult.get().getReviewId()).isEqualTo(reviewId)
+				()-> Assertions.assertThat(optResult.get().getReviewId()).isEqualTo(reviewId),
+				()-> Mockito.verify(statsRepositoryAdapter).addRating(productId, rating),
+				()-> Mockito.verify(countQuery).setParameter(1, productId),
+				()-> Mockito.verify(countQuery).setParameter(2, email)
+				);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void save_withReviewFromSameUser_shouldThrowException() {
+
+		TypedQuery<Long> countQuery = Mockito.mock(TypedQuery.class);
+		Mockito.when(entityManager.find(Mockito.any(Class.class),Mockito.anyLong())).thenReturn(productJpaEntity);
+		Mockito.when(entityManager.createQuery(Mockito.anyString(), Mockito.eq(Long.class))).thenReturn(countQuery);
+		Mockito.when(countQuery.getSingleResult()).thenReturn(1L);
+
+		Exception ex = org.junit.jupiter.api.Assertions.assertThrows(OnlyOneReviewPerUserInProductException.class, () -> reviewRepositoryAdapter.save(review));
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				()-> Assertions.assertThat(ex).isNotNull(),
+				()-> Mockito.verify(entityManager, Mockito.never()).persist(Mockito.any())
+				);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void save_withConcurrentDuplicate_shouldMapConstraintViolation() {
+
+		TypedQuery<Long> countQuery = Mockito.mock(TypedQuery.class);
+		Mockito.when(entityManager.find(Mockito.any(Class.class),Mockito.anyLong())).thenReturn(productJpaEntity);
+		Mockito.when(entityManager.createQuery(Mockito.anyString(), Mockito.eq(Long.class))).thenReturn(countQuery);
+		Mockito.when(countQuery.getSingleResult()).thenReturn(0L);
+		Mockito.when(reviewMapper.fromDomainToNewJpa(Mockito.any(Review.class),Mockito.any(ProductJpaEntity.class))).thenReturn(reviewJpaEntity);
+		Mockito.doThrow(new ConstraintViolationException("duplicate", new SQLException(), GlobalConstants.REV_UQ_PROD_EMAIL_DB))
+		.when(entityManager).flush();
+
+		Exception ex = org.junit.jupiter.api.Assertions.assertThrows(OnlyOneReviewPerUserInProductException.class, () -> reviewRepositoryAdapter.save(review));
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				()-> Assertions.assertThat(ex).isNotNull(),
+				()-> Mockito.verifyNoInteractions(statsRepositoryAdapter)
 				);
 	}
 
@@ -159,10 +215,30 @@ class ReviewRepositoryAdapterTest {
 		
 		org.junit.jupiter.api.Assertions.assertAll(
 				()-> Assertions.assertThat(optResult).isNotNull(),
-				()-> Assertions.assertThat(optResult.get().getReviewId()).isEqualTo(reviewId)
+				()-> Assertions.assertThat(optResult.get().getReviewId()).isEqualTo(reviewId),
+				()-> Mockito.verifyNoInteractions(statsRepositoryAdapter)
 				);		
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	void update_withNewRating_shouldMoveRatingCounter() {
+
+		Review rerated = new Review(reviewId, email, product, reviewText, 2, null);
+		TypedQuery<ReviewJpaEntity> queryFindBy = Mockito.mock(TypedQuery.class);
+		Mockito.when(entityManager.createQuery(Mockito.anyString(), Mockito.any(Class.class))).thenReturn(queryFindBy);
+		Mockito.when(queryFindBy.getSingleResult()).thenReturn(reviewJpaEntity);
+		Mockito.when(entityManager.merge(Mockito.any(ReviewJpaEntity.class))).thenReturn(reviewJpaEntity);
+		Mockito.when(reviewMapper.fromJpaToDomain(Mockito.any(ReviewJpaEntity.class))).thenReturn(rerated);
+
+		reviewRepositoryAdapter.update(rerated);
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				()-> Mockito.verify(statsRepositoryAdapter).removeRating(productId, rating),
+				()-> Mockito.verify(statsRepositoryAdapter).addRating(productId, 2)
+				);
+	}
+
 	@Test
 	@SuppressWarnings("unchecked")
 	void deleteById_shouldReturnTrue() {
@@ -176,8 +252,84 @@ class ReviewRepositoryAdapterTest {
 		boolean result = reviewRepositoryAdapter.deleteById(reviewId);
 
 		org.junit.jupiter.api.Assertions.assertAll(
-				()-> Assertions.assertThat(result).isTrue()
+				()-> Assertions.assertThat(result).isTrue(),
+				()-> Mockito.verify(statsRepositoryAdapter).removeRating(productId, rating)
 				);		
 	}
 	
+
+	@SuppressWarnings("unchecked")
+	@Test
+	void streamAll_shouldMapEveryRow() {
+
+		TypedQuery<Tuple> query = Mockito.mock(TypedQuery.class);
+		Tuple tuple = Mockito.mock(Tuple.class);
+		Mockito.when(entityManager.createQuery(Mockito.anyString(), Mockito.any(Class.class))).thenReturn(query);
+		Mockito.when(query.getResultStream()).thenReturn(Stream.of(tuple, tuple));
+		Mockito.when(reviewMapper.fromTupleToDomain(Mockito.any(Tuple.class))).thenReturn(review);
+		List<Review> result = new ArrayList<>();
+
+		reviewRepositoryAdapter.streamAll(result::add);
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				()-> Assertions.assertThat(result).hasSize(2),
+				()-> Mockito.verify(query).setHint(HibernateHints.HINT_FETCH_SIZE, GlobalConstants.STREAM_FETCH_SIZE)
+				);
+	}
+
+	private Review createReview(Long reviewProductId, String reviewEmail) {
+
+		Product reviewProduct = new Product();
+		reviewProduct.setProductId(reviewProductId);
+		Review dom = new Review();
+		dom.setEmail(reviewEmail);
+		dom.setReviewText(reviewText);
+		dom.setRating(rating);
+		dom.setProduct(reviewProduct);
+
+		return dom;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	void saveAll_shouldRejectPerItemAndAggregateStats() {
+
+		String newEmail = "new@email.tk";
+		TypedQuery<ProductJpaEntity> productQuery = Mockito.mock(TypedQuery.class);
+		TypedQuery<Tuple> keyQuery = Mockito.mock(TypedQuery.class);
+		Tuple tuple = Mockito.mock(Tuple.class);
+		Mockito.when(entityManager.createQuery(Mockito.anyString(), Mockito.eq(ProductJpaEntity.class))).thenReturn(productQuery);
+		Mockito.when(productQuery.getResultList()).thenReturn(List.of(productJpaEntity));
+		Mockito.when(entityManager.createQuery(Mockito.anyString(), Mockito.eq(Tuple.class))).thenReturn(keyQuery);
+		Mockito.when(keyQuery.getResultList()).thenReturn(List.of(tuple));
+		Mockito.when(tuple.get(GlobalConstants.PROD_ID, Long.class)).thenReturn(productId);
+		Mockito.when(tuple.get(GlobalConstants.USER_EMAIL, String.class)).thenReturn(email);
+		Mockito.when(reviewMapper.fromDomainToNewJpa(Mockito.any(Review.class), Mockito.any(ProductJpaEntity.class))).thenReturn(reviewJpaEntity);
+		Mockito.when(reviewMapper.fromJpaToDomain(Mockito.any(ReviewJpaEntity.class))).thenReturn(review);
+		List<Review> doms = List.of(createReview(productId, newEmail), createReview(productId, email),
+				createReview(2L, newEmail), createReview(productId, newEmail));
+
+		List<BulkOutcome<Review>> outcomes = reviewRepositoryAdapter.saveAll(doms);
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				()-> Assertions.assertThat(outcomes).extracting(BulkOutcome::error).containsExactly(null,
+						GlobalConstants.EX_ONLYONEREV, GlobalConstants.EX_RESOURCENOTFOUND, GlobalConstants.EX_ONLYONEREV),
+				()-> Assertions.assertThat(outcomes.get(0).item()).isEqualTo(review),
+				()-> Mockito.verify(entityManager).persist(reviewJpaEntity),
+				()-> Mockito.verify(entityManager).flush(),
+				()-> Mockito.verify(statsRepositoryAdapter).addRating(productId, rating, 1L)
+				);
+	}
+
+	@Test
+	void saveAll_withEmptyList_shouldNotQuery() {
+
+		List<BulkOutcome<Review>> outcomes = reviewRepositoryAdapter.saveAll(List.of());
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				()-> Assertions.assertThat(outcomes).isEmpty(),
+				()-> Mockito.verifyNoInteractions(entityManager, statsRepositoryAdapter)
+				);
+	}
+
 }
@@ -0,0 +1,153 @@
+package dev.ime.infrastructure.adapter;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.assertj.core.api.Assertions;
+import org.hibernate.query.NativeQuery;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import dev.ime.application.dto.ProductStatsDto;
+import dev.ime.application.dto.ReviewStatsDto;
+import dev.ime.application.exception.ResourceNotFoundException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+
+@ExtendWith(MockitoExtension.class)
+class StatsRepositoryAdapterTest {
+
+	@Mock
+	private EntityManager entityManager;
+
+	@InjectMocks
+	private StatsRepositoryAdapter statsRepositoryAdapter;
+
+	private final Long productId = 1L;
+	private final Long reviewId = 1L;
+
+	private Query stubNativeQuery(List<Object[]> rows) {
+
+		Query query = Mockito.mock(Query.class);
+		Mockito.when(entityManager.createNativeQuery(Mockito.anyString(), Mockito.eq(Object[].class))).thenReturn(query);
+		Mockito.when(query.setParameter(Mockito.anyInt(), Mockito.any())).thenReturn(query);
+		Mockito.when(query.getResultList()).thenReturn(rows);
+		return query;
+	}
+
+	@SuppressWarnings("rawtypes")
+	private NativeQuery stubCounterUpdate(Query query) {
+
+		NativeQuery nativeQuery = Mockito.mock(NativeQuery.class);
+		Mockito.when(entityManager.createNativeQuery(Mockito.anyString())).thenReturn(query);
+		Mockito.when(query.unwrap(NativeQuery.class)).thenReturn(nativeQuery);
+		Mockito.when(query.setParameter(Mockito.anyInt(), Mockito.any())).thenReturn(query);
+		Mockito.when(query.executeUpdate()).thenReturn(1);
+		return nativeQuery;
+	}
+
+	@Test
+	void findProductStats_shouldFoldCounterRows() {
+
+		stubNativeQuery(List.of(new Object[] { productId, 5, 3L }, new Object[] { productId, 2, 1L }));
+
+		Optional<ProductStatsDto> optResult = statsRepositoryAdapter.findProductStats(productId);
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				()-> Assertions.assertThat(optResult).isNotEmpty(),
+				()-> Assertions.assertThat(optResult.get().reviewCount()).isEqualTo(4L),
+				()-> Assertions.assertThat(optResult.get().averageRating()).isEqualTo(4.25),
+				()-> Assertions.assertThat(optResult.get().ratingHistogram()).containsEntry(5, 3L).containsEntry(2, 1L).containsEntry(1, 0L).hasSize(5)
+				);
+	}
+
+	@Test
+	void findProductStats_withoutReviews_shouldReturnZeros() {
+
+		List<Object[]> rows = List.<Object[]>of(new Object[] { productId, null, null });
+		stubNativeQuery(rows);
+
+		Optional<ProductStatsDto> optResult = statsRepositoryAdapter.findProductStats(productId);
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				()-> Assertions.assertThat(optResult.get().reviewCount()).isZero(),
+				()-> Assertions.assertThat(optResult.get().averageRating()).isZero()
+				);
+	}
+
+	@Test
+	void findProductStats_withUnknownProduct_shouldThrowException() {
+
+		stubNativeQuery(List.of());
+
+		Exception ex = org.junit.jupiter.api.Assertions.assertThrows(ResourceNotFoundException.class, () -> statsRepositoryAdapter.findProductStats(productId));
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				()-> Assertions.assertThat(ex).isNotNull()
+				);
+	}
+
+	@Test
+	void findReviewStats_shouldSplitUsefulAndNotUseful() {
+
+		stubNativeQuery(List.of(new Object[] { reviewId, true, 7L }, new Object[] { reviewId, false, 2L }));
+
+		Optional<ReviewStatsDto> optResult = statsRepositoryAdapter.findReviewStats(reviewId);
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				()-> Assertions.assertThat(optResult.get().usefulCount()).isEqualTo(7L),
+				()-> Assertions.assertThat(optResult.get().notUsefulCount()).isEqualTo(2L)
+				);
+	}
+
+	@Test
+	void addRating_shouldUpsertCounterRow() {
+
+		Query query = Mockito.mock(Query.class);
+		NativeQuery<?> nativeQuery = stubCounterUpdate(query);
+
+		statsRepositoryAdapter.addRating(productId, 4);
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				()-> Mockito.verify(entityManager).createNativeQuery(Mockito.contains("ON CONFLICT (product_id, rating)")),
+				()-> Mockito.verify(query).setParameter(2, 4),
+				()-> Mockito.verify(query).executeUpdate(),
+				()-> Mockito.verify(nativeQuery).addSynchronizedQuerySpace("product_rating_stats")
+				);
+	}
+
+	@Test
+	void addVote_withCount_shouldAddWholeCount() {
+
+		Query query = Mockito.mock(Query.class);
+		NativeQuery<?> nativeQuery = stubCounterUpdate(query);
+
+		statsRepositoryAdapter.addVote(reviewId, false, 7L);
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				()-> Mockito.verify(entityManager).createNativeQuery(Mockito.contains("vote_count = review_vote_stats.vote_count + ?3")),
+				()-> Mockito.verify(query).setParameter(3, 7L),
+				()-> Mockito.verify(nativeQuery).addSynchronizedQuerySpace("review_vote_stats")
+				);
+	}
+
+	@Test
+	void removeVote_shouldDecrementCounterRow() {
+
+		Query query = Mockito.mock(Query.class);
+		NativeQuery<?> nativeQuery = stubCounterUpdate(query);
+
+		statsRepositoryAdapter.removeVote(reviewId, true);
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				()-> Mockito.verify(entityManager).createNativeQuery(Mockito.contains("vote_count = vote_count - 1")),
+				()-> Mockito.verify(query).setParameter(2, true),
+				()-> Mockito.verify(nativeQuery).addSynchronizedQuerySpace("review_vote_stats")
+				);
+	}
+
+}
@@ -0,0 +1,120 @@
+package dev.ime.infrastructure.adapter;
+
+import java.util.HashSet;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import dev.ime.application.exception.OnlyOneVotePerUserInReviewException;
+import dev.ime.common.mapper.VoteMapper;
+import dev.ime.domain.model.Review;
+import dev.ime.domain.model.Vote;
+import dev.ime.domain.port.outbound.StatsRepositoryPort;
+import dev.ime.infrastructure.entity.CategoryJpaEntity;
+import dev.ime.infrastructure.entity.ProductJpaEntity;
+import dev.ime.infrastructure.entity.ReviewJpaEntity;
+import dev.ime.infrastructure.entity.VoteJpaEntity;
+import jakarta.persistence.EntityManager;
+
+class VoteRepositoryAdapterDatabaseTest {
+
+	private H2Database database;
+	private EntityManager entityManager;
+	private VoteMapper voteMapper;
+	private StatsRepositoryPort statsRepositoryAdapter;
+	private VoteRepositoryAdapter voteRepositoryAdapter;
+	private Long reviewId;
+
+	private final String email = "email@email.tk";
+
+	@BeforeEach
+	private void setUp() {
+
+		database = new H2Database();
+		reviewId = database.inTransaction(em -> {
+			CategoryJpaEntity category = CategoryJpaEntity.builder().categoryName("Vegetables").build();
+			ProductJpaEntity product = ProductJpaEntity.builder().productName("Tomato").productDescription("Red").category(category).build();
+			ReviewJpaEntity review = new ReviewJpaEntity(null, "author@email.tk", product, "Excellent", 5, new HashSet<>());
+			em.persist(category);
+			em.persist(product);
+			em.persist(review);
+			return review.getReviewId();
+		});
+		entityManager = database.createEntityManager();
+		voteMapper = Mockito.spy(new VoteMapper());
+		statsRepositoryAdapter = Mockito.mock(StatsRepositoryPort.class);
+		voteRepositoryAdapter = new VoteRepositoryAdapter(entityManager, voteMapper, statsRepositoryAdapter);
+	}
+
+	@AfterEach
+	private void tearDown() {
+
+		entityManager.close();
+		database.close();
+	}
+
+	private Vote createVote() {
+
+		Review review = new Review();
+		review.setReviewId(reviewId);
+		return new Vote(null, email, review, true);
+	}
+
+	@Test
+	void save_withConcurrentDuplicate_shouldMapUniqueIndexViolation() {
+
+		// the other vote is committed after the check passed and before the insert
+		Mockito.doAnswer(invocation -> {
+			database.runInTransaction(em -> em.persist(new VoteJpaEntity(null, email, em.getReference(ReviewJpaEntity.class, reviewId), false)));
+			return invocation.callRealMethod();
+		}).when(voteMapper).fromDomainToNewJpa(Mockito.any(Vote.class), Mockito.any(ReviewJpaEntity.class));
+		Vote vote = createVote();
+
+		entityManager.getTransaction().begin();
+		Assertions.assertThatThrownBy(() -> voteRepositoryAdapter.save(vote)).isInstanceOf(OnlyOneVotePerUserInReviewException.class);
+		entityManager.getTransaction().rollback();
+
+		Long votes = database.inTransaction(em -> em.createQuery("SELECT COUNT(v) FROM VoteJpaEntity v", Long.class).getSingleResult());
+		org.junit.jupiter.api.Assertions.assertAll(
+				() -> Assertions.assertThat(votes).isEqualTo(1L),
+				() -> Mockito.verifyNoInteractions(statsRepositoryAdapter));
+	}
+
+	@Test
+	void save_shouldInsertBeforeReturning() {
+
+		entityManager.getTransaction().begin();
+		long inserts = database.statistics().getEntityInsertCount();
+		voteRepositoryAdapter.save(createVote());
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				() -> Assertions.assertThat(database.statistics().getEntityInsertCount() - inserts).isEqualTo(1L),
+				() -> Mockito.verify(statsRepositoryAdapter).addVote(reviewId, true));
+		entityManager.getTransaction().commit();
+	}
+
+	@Test
+	void save_withExistingVotes_shouldLeaveThemUnloaded() {
+
+		database.runInTransaction(em -> {
+			ReviewJpaEntity review = em.getReference(ReviewJpaEntity.class, reviewId);
+			for (int i = 0; i < 50; i++) {
+				em.persist(new VoteJpaEntity(null, i + email, review, true));
+			}
+		});
+		long collectionFetches = database.statistics().getCollectionFetchCount();
+		long voteLoads = database.statistics().getEntityStatistics(VoteJpaEntity.class.getName()).getLoadCount();
+
+		entityManager.getTransaction().begin();
+		voteRepositoryAdapter.save(createVote());
+		entityManager.getTransaction().commit();
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				() -> Assertions.assertThat(database.statistics().getCollectionFetchCount()).isEqualTo(collectionFetches),
+				() -> Assertions.assertThat(database.statistics().getEntityStatistics(VoteJpaEntity.class.getName()).getLoadCount()).isEqualTo(voteLoads));
+	}
+
+}
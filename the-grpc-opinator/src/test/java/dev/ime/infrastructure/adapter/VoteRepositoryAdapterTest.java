@@ -1,9 +1,14 @@
 package dev.ime.infrastructure.adapter;
 
+import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.assertj.core.api.Assertions;
+import org.hibernate.exception.ConstraintViolationException;
+import org.hibernate.jpa.HibernateHints;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,16 +20,23 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
+import dev.ime.application.exception.OnlyOneVotePerUserInReviewException;
 import dev.ime.common.constants.GlobalConstants;
 import dev.ime.common.mapper.VoteMapper;
+import dev.ime.domain.model.BulkOutcome;
+import dev.ime.domain.model.PageCursor;
 import dev.ime.domain.model.Review;
 import dev.ime.domain.model.Vote;
+import dev.ime.domain.port.outbound.StatsRepositoryPort;
 import dev.ime.infrastructure.entity.ReviewJpaEntity;
 import dev.ime.infrastructure.entity.VoteJpaEntity;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
 import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,6 +46,8 @@ class VoteRepositoryAdapterTest {
 	private EntityManager entityManager;
 	@Mock
 	private VoteMapper voteMapper;
+	@Mock
+	private StatsRepositoryPort statsRepositoryAdapter;
 
 	@InjectMocks
 	private VoteRepositoryAdapter voteRepositoryAdapter;
@@ -110,6 +124,36 @@ class VoteRepositoryAdapterTest {
 				() -> Mockito.verify(query).setMaxResults(10));
 	}
 
+	@SuppressWarnings("unchecked")
+	@Test
+	void findAll_withCursor_shouldSeekWithoutOffset() {
+
+		CriteriaBuilder cb = Mockito.mock(CriteriaBuilder.class);
+		CriteriaQuery<VoteJpaEntity> cq = Mockito.mock(CriteriaQuery.class);
+		Root<VoteJpaEntity> root = Mockito.mock(Root.class);
+		TypedQuery<VoteJpaEntity> query = Mockito.mock(TypedQuery.class);
+		Predicate predicate = Mockito.mock(Predicate.class);
+		Pageable keysetPageable = PageRequest.of(0, 10, Sort.by(GlobalConstants.VOT_ID).ascending());
+		Mockito.when(entityManager.getCriteriaBuilder()).thenReturn(cb);
+		Mockito.when(cb.createQuery(VoteJpaEntity.class)).thenReturn(cq);
+		Mockito.when(cq.from(VoteJpaEntity.class)).thenReturn(root);
+		Mockito.when(cb.greaterThan(Mockito.<Expression<Long>>any(), Mockito.eq(voteId))).thenReturn(predicate);
+		Mockito.when(cq.where(predicate)).thenReturn(cq);
+		Mockito.when(cq.orderBy(Mockito.anyList())).thenReturn(cq);
+		Mockito.when(entityManager.createQuery(cq)).thenReturn(query);
+		Mockito.when(query.setMaxResults(Mockito.anyInt())).thenReturn(query);
+		Mockito.when(query.getResultList()).thenReturn(List.of(voteJpaEntity));
+		Mockito.when(voteMapper.fromListJpaToListDomain(Mockito.anyList())).thenReturn(List.of(vote));
+
+		List<Vote> result = voteRepositoryAdapter.findAll(keysetPageable, new PageCursor(voteId, voteId));
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				() -> Assertions.assertThat(result).hasSize(1),
+				() -> Mockito.verify(cq).where(predicate),
+				() -> Mockito.verify(query, Mockito.never()).setFirstResult(Mockito.anyInt()),
+				() -> Mockito.verify(query).setMaxResults(10));
+	}
+
 	@SuppressWarnings("unchecked")
 	@Test
 	void findById_shouldReturnOpt() {
@@ -131,16 +175,59 @@ class VoteRepositoryAdapterTest {
 	@SuppressWarnings("unchecked")
 	void save_shouldReturnOpt() {
 		
+		TypedQuery<Long> countQuery = Mockito.mock(TypedQuery.class);
 		Mockito.when(entityManager.find(Mockito.any(Class.class),Mockito.anyLong())).thenReturn(reviewJpaEntity);
-		Mockito.when(voteMapper.fromDomainToJpa(Mockito.any(Vote.class),Mockito.any(ReviewJpaEntity.class))).thenReturn(voteJpaEntity);
-		Mockito.doNothing().when(entityManager).persist(Mockito.any(VoteJpaEntity.class));
+		Mockito.when(entityManager.createQuery(Mockito.anyString(), Mockito.eq(Long.class))).thenReturn(countQuery);
+		Mockito.when(countQuery.getSingleResult()).thenReturn(0L);
+		Mockito.when(voteMapper.fromDomainToNewJpa(Mockito.any(Vote.class),Mockito.any(ReviewJpaEntity.class))).thenReturn(voteJpaEntity);
+		Mockito.doNothing().when(entityManager).flush();
 		Mockito.when(voteMapper.fromJpaToDomain(Mockito.any(VoteJpaEntity.class))).thenReturn(vote);
 
 		Optional<Vote> optResult = voteRepositoryAdapter.save(vote);
 		
 		org.junit.jupiter.api.Assertions.assertAll(
 				()-> Assertions.assertThat(optResult).isNotNull(),
-				()-> Assertions.assertThat(optResult.get().getVoteId()).isEqualTo(voteId)
+				()-> Assertions.assertThat(optResult.get().getVoteId()).isEqualTo(voteId),
+				()-> Mockito.verify(statsRepositoryAdapter).addVote(reviewId, useful),
+				()-> Mockito.verify(countQuery).setParameter(1, reviewId),
+				()-> Mockito.verify(countQuery).setParameter(2, email)
+				);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void save_withVoteFromSameUser_shouldThrowException() {
+
+		TypedQuery<Long> countQuery = Mockito.mock(TypedQuery.class);
+		Mockito.when(entityManager.find(Mockito.any(Class.class),Mockito.anyLong())).thenReturn(reviewJpaEntity);
+		Mockito.when(entityManager.createQuery(Mockito.anyString(), Mockito.eq(Long.class))).thenReturn(countQuery);
+		Mockito.when(countQuery.getSingleResult()).thenReturn(1L);
+
+		Exception ex = org.junit.jupiter.api.Assertions.assertThrows(OnlyOneVotePerUserInReviewException.class, () -> voteRepositoryAdapter.save(vote));
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				()-> Assertions.assertThat(ex).isNotNull(),
+				()-> Mockito.verify(entityManager, Mockito.never()).persist(Mockito.any())
+				);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void save_withConcurrentDuplicate_shouldMapConstraintViolation() {
+
+		TypedQuery<Long> countQuery = Mockito.mock(TypedQuery.class);
+		Mockito.when(entityManager.find(Mockito.any(Class.class),Mockito.anyLong())).thenReturn(reviewJpaEntity);
+		Mockito.when(entityManager.createQuery(Mockito.anyString(), Mockito.eq(Long.class))).thenReturn(countQuery);
+		Mockito.when(countQuery.getSingleResult()).thenReturn(0L);
+		Mockito.when(voteMapper.fromDomainToNewJpa(Mockito.any(Vote.class),Mockito.any(ReviewJpaEntity.class))).thenReturn(voteJpaEntity);
+		Mockito.doThrow(new ConstraintViolationException("duplicate", new SQLException(), GlobalConstants.VOT_UQ_REV_EMAIL_DB))
+		.when(entityManager).flush();
+
+		Exception ex = org.junit.jupiter.api.Assertions.assertThrows(OnlyOneVotePerUserInReviewException.class, () -> voteRepositoryAdapter.save(vote));
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				()-> Assertions.assertThat(ex).isNotNull(),
+				()-> Mockito.verifyNoInteractions(statsRepositoryAdapter)
 				);
 	}
 
@@ -158,10 +245,30 @@ class VoteRepositoryAdapterTest {
 		
 		org.junit.jupiter.api.Assertions.assertAll(
 				()-> Assertions.assertThat(optResult).isNotNull(),
-				()-> Assertions.assertThat(optResult.get().getVoteId()).isEqualTo(voteId)
+				()-> Assertions.assertThat(optResult.get().getVoteId()).isEqualTo(voteId),
+				()-> Mockito.verifyNoInteractions(statsRepositoryAdapter)
 				);		
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	void update_withFlippedVote_shouldMoveVoteCounter() {
+
+		vote.setUseful(!useful);
+		TypedQuery<VoteJpaEntity> queryFindBy = Mockito.mock(TypedQuery.class);
+		Mockito.when(entityManager.createQuery(Mockito.anyString(), Mockito.any(Class.class))).thenReturn(queryFindBy);
+		Mockito.when(queryFindBy.getSingleResult()).thenReturn(voteJpaEntity);
+		Mockito.when(entityManager.merge(Mockito.any(VoteJpaEntity.class))).thenReturn(voteJpaEntity);
+		Mockito.when(voteMapper.fromJpaToDomain(Mockito.any(VoteJpaEntity.class))).thenReturn(vote);
+
+		voteRepositoryAdapter.update(vote);
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				()-> Mockito.verify(statsRepositoryAdapter).removeVote(reviewId, useful),
+				()-> Mockito.verify(statsRepositoryAdapter).addVote(reviewId, !useful)
+				);
+	}
+
 	@Test
 	@SuppressWarnings("unchecked")
 	void deleteById_shouldReturnTrue() {
@@ -174,8 +281,82 @@ class VoteRepositoryAdapterTest {
 		boolean result = voteRepositoryAdapter.deleteById(voteId);
 
 		org.junit.jupiter.api.Assertions.assertAll(
-				()-> Assertions.assertThat(result).isTrue()
-				);		
+				()-> Assertions.assertThat(result).isTrue(),
+				()-> Mockito.verify(statsRepositoryAdapter).removeVote(reviewId, useful)
+				);
 	}
-	
+
+	@SuppressWarnings("unchecked")
+	@Test
+	void streamAll_shouldMapEveryRow() {
+
+		TypedQuery<Tuple> query = Mockito.mock(TypedQuery.class);
+		Tuple tuple = Mockito.mock(Tuple.class);
+		Mockito.when(entityManager.createQuery(Mockito.anyString(), Mockito.any(Class.class))).thenReturn(query);
+		Mockito.when(query.getResultStream()).thenReturn(Stream.of(tuple, tuple));
+		Mockito.when(voteMapper.fromTupleToDomain(Mockito.any(Tuple.class))).thenReturn(vote);
+		List<Vote> result = new ArrayList<>();
+
+		voteRepositoryAdapter.streamAll(result::add);
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				()-> Assertions.assertThat(result).hasSize(2),
+				()-> Mockito.verify(query).setHint(HibernateHints.HINT_FETCH_SIZE, GlobalConstants.STREAM_FETCH_SIZE)
+				);
+	}
+
+	private Vote createVote(Long voteReviewId, String voteEmail) {
+
+		Review voteReview = new Review();
+		voteReview.setReviewId(voteReviewId);
+		Vote dom = new Vote();
+		dom.setEmail(voteEmail);
+		dom.setUseful(useful);
+		dom.setReview(voteReview);
+
+		return dom;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	void saveAll_shouldRejectPerItemAndAggregateStats() {
+
+		String newEmail = "new@email.tk";
+		TypedQuery<ReviewJpaEntity> reviewQuery = Mockito.mock(TypedQuery.class);
+		TypedQuery<Tuple> keyQuery = Mockito.mock(TypedQuery.class);
+		Tuple tuple = Mockito.mock(Tuple.class);
+		Mockito.when(entityManager.createQuery(Mockito.anyString(), Mockito.eq(ReviewJpaEntity.class))).thenReturn(reviewQuery);
+		Mockito.when(reviewQuery.getResultList()).thenReturn(List.of(reviewJpaEntity));
+		Mockito.when(entityManager.createQuery(Mockito.anyString(), Mockito.eq(Tuple.class))).thenReturn(keyQuery);
+		Mockito.when(keyQuery.getResultList()).thenReturn(List.of(tuple));
+		Mockito.when(tuple.get(GlobalConstants.REV_ID, Long.class)).thenReturn(reviewId);
+		Mockito.when(tuple.get(GlobalConstants.USER_EMAIL, String.class)).thenReturn(email);
+		Mockito.when(voteMapper.fromDomainToNewJpa(Mockito.any(Vote.class), Mockito.any(ReviewJpaEntity.class))).thenReturn(voteJpaEntity);
+		Mockito.when(voteMapper.fromJpaToDomain(Mockito.any(VoteJpaEntity.class))).thenReturn(vote);
+		List<Vote> doms = List.of(createVote(reviewId, newEmail), createVote(reviewId, email),
+				createVote(2L, newEmail), createVote(reviewId, newEmail));
+
+		List<BulkOutcome<Vote>> outcomes = voteRepositoryAdapter.saveAll(doms);
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				()-> Assertions.assertThat(outcomes).extracting(BulkOutcome::error).containsExactly(null,
+						GlobalConstants.EX_ONLYONEVOTE, GlobalConstants.EX_RESOURCENOTFOUND, GlobalConstants.EX_ONLYONEVOTE),
+				()-> Assertions.assertThat(outcomes.get(0).item()).isEqualTo(vote),
+				()-> Mockito.verify(entityManager).persist(voteJpaEntity),
+				()-> Mockito.verify(entityManager).flush(),
+				()-> Mockito.verify(statsRepositoryAdapter).addVote(reviewId, useful, 1L)
+				);
+	}
+
+	@Test
+	void saveAll_withEmptyList_shouldNotQuery() {
+
+		List<BulkOutcome<Vote>> outcomes = voteRepositoryAdapter.saveAll(List.of());
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				()-> Assertions.assertThat(outcomes).isEmpty(),
+				()-> Mockito.verifyNoInteractions(entityManager, statsRepositoryAdapter)
+				);
+	}
+
 }
@@ -16,6 +16,7 @@ import dev.ime.api.validation.DtoValidator;
 import dev.ime.application.dto.PaginationDto;
 import dev.ime.application.dto.UserAppDto;
 import dev.ime.application.exception.EmptyResponseException;
+import dev.ime.application.utils.PageToken;
 import dev.ime.common.config.GlobalConstants;
 import dev.ime.common.mapper.UserAppMapper;
 import dev.ime.domain.port.inbound.UserAppServicePort;
@@ -36,6 +37,7 @@ public class UserAppGrpcServiceImpl extends UserAppGrpcServiceGrpc.UserAppGrpcSe
 	private final UserAppMapper userAppMapper;
 	private final DtoValidator dtoValidator;
 	private static final Logger logger = LoggerFactory.getLogger(UserAppGrpcServiceImpl.class);
+	private static final Set<String> SORT_ATTRS = Set.of(GlobalConstants.USERAPP_ID, GlobalConstants.USERAPP_EMAIL, GlobalConstants.USERAPP_NAME, GlobalConstants.USERAPP_LASTNAME);
 
 	public UserAppGrpcServiceImpl(UserAppServicePort<UserAppDto> userAppServiceAdapter,
 			UserAppMapper userAppMapper, DtoValidator dtoValidator) {
@@ -100,11 +102,16 @@ public class UserAppGrpcServiceImpl extends UserAppGrpcServiceGrpc.UserAppGrpcSe
 
 		logger.info(GlobalConstants.MSG_PATTERN_INFO, request.getClass().getSimpleName(), request);
 		
-		PaginationDto paginationDto = createPaginationDto(request);
+		Optional<PageToken> pageToken = PageToken.decode(request.getPageToken(), SORT_ATTRS);
+		PaginationDto requestPagination = createPaginationDto(request);
+		PaginationDto paginationDto = pageToken.map(token -> token.applyTo(requestPagination)).orElse(requestPagination);
 		PageRequest pageRequest = createPageable(paginationDto);
-		List<UserAppProto> userAppProtoList = userAppMapper
-				.fromListUserAppDtoToListUserAppProto(userAppServiceAdapter.findAll(pageRequest));
+		List<UserAppDto> dtoList = pageToken
+				.map(token -> userAppServiceAdapter.findAll(pageRequest, token.toCursor()))
+				.orElseGet(() -> userAppServiceAdapter.findAll(pageRequest));
+		List<UserAppProto> userAppProtoList = userAppMapper.fromListUserAppDtoToListUserAppProto(dtoList);
 		ListUsersAppResponse listUsersAppResponse = ListUsersAppResponse.newBuilder().addAllUsers(userAppProtoList)
+				.setNextPageToken(createNextPageToken(dtoList, paginationDto))
 				.build();
 
 		responseObserver.onNext(listUsersAppResponse);
@@ -113,10 +120,9 @@ public class UserAppGrpcServiceImpl extends UserAppGrpcServiceGrpc.UserAppGrpcSe
 	
 	private PaginationDto createPaginationDto(PaginationRequest request) {
 		
-		Set<String> attrsSet = Set.of(GlobalConstants.USERAPP_ID,GlobalConstants.USERAPP_EMAIL,GlobalConstants.USERAPP_NAME, GlobalConstants.USERAPP_LASTNAME);
 		Integer page = Optional.ofNullable(request.getPage()).filter( i -> i >= 0).orElse(0);
     	Integer size = Optional.ofNullable(request.getSize()).filter( i -> i > 0).orElse(100);
-        String sortBy = Optional.ofNullable(request.getSortBy()).filter(attrsSet::contains).orElse(GlobalConstants.USERAPP_ID);
+        String sortBy = Optional.ofNullable(request.getSortBy()).filter(SORT_ATTRS::contains).orElse(GlobalConstants.USERAPP_ID);
         String sortDir = Optional.ofNullable(request.getSortDir())
         		.map(String::toUpperCase)
         		.filter( sorting -> sorting.equals(GlobalConstants.PS_A) || sorting.equals(GlobalConstants.PS_D))
@@ -127,8 +133,22 @@ public class UserAppGrpcServiceImpl extends UserAppGrpcServiceGrpc.UserAppGrpcSe
 	
 	private PageRequest createPageable(PaginationDto paginationDto) {
 
-		Sort sort = Sort.by(Sort.Direction.fromString(paginationDto.sortDir()), paginationDto.sortBy());
+		Sort.Direction direction = Sort.Direction.fromString(paginationDto.sortDir());
+		Sort sort = Sort.by(direction, paginationDto.sortBy());
+		if (!paginationDto.sortBy().equals(GlobalConstants.USERAPP_ID)) {
+			sort = sort.and(Sort.by(direction, GlobalConstants.USERAPP_ID));
+		}
 		return PageRequest.of(paginationDto.page(), paginationDto.size(), sort);
 	}
 
+	private String createNextPageToken(List<UserAppDto> dtoList, PaginationDto paginationDto) {
+
+		return PageToken.next(dtoList, paginationDto, dto -> switch (paginationDto.sortBy()) {
+			case GlobalConstants.USERAPP_EMAIL -> dto.email();
+			case GlobalConstants.USERAPP_NAME -> dto.name();
+			case GlobalConstants.USERAPP_LASTNAME -> dto.lastname();
+			default -> dto.userAppId();
+		}, UserAppDto::userAppId);
+	}
+
 }
@@ -1,13 +1,17 @@
 package dev.ime.application.service;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import dev.ime.application.dto.UserAppDto;
 import dev.ime.application.exception.CreateJpaEntityException;
@@ -17,6 +21,8 @@ import dev.ime.application.exception.ResourceNotFoundException;
 import dev.ime.application.utils.JwtUtil;
 import dev.ime.common.config.GlobalConstants;
 import dev.ime.common.mapper.UserAppMapper;
+import dev.ime.domain.model.Event;
+import dev.ime.domain.model.PageCursor;
 import dev.ime.domain.model.UserApp;
 import dev.ime.domain.port.inbound.UserAppServicePort;
 import dev.ime.domain.port.outbound.PublisherPort;
@@ -53,6 +59,13 @@ public class UserAppServiceAdapter implements UserAppServicePort<UserAppDto>{
 	}
 
 	@Override
+	public List<UserAppDto> findAll(Pageable pageable, PageCursor cursor) {
+		
+		return userAppMapper.fromListDomainToListDto(userAppRepository.findAll(pageable, cursor));
+	}
+
+	@Override
+	@Transactional("transactionManager")
 	public boolean create(UserAppDto userAppDto) {
 
 		logger.info(GlobalConstants.MSG_PATTERN_INFO, GlobalConstants.CREATE_USERAPP, userAppDto);
@@ -70,6 +83,54 @@ public class UserAppServiceAdapter implements UserAppServicePort<UserAppDto>{
 		return optUserAppSaved.isPresent();
 	}
 
+	/**
+	 * profiles for the users registered in autho. a redelivered event is skipped on its id and
+	 * an email that already has a profile is left as it is, so replaying the topic changes nothing.
+	 * an incomplete event can never become a profile, autho is told so it undoes the registration
+	 */
+	@Override
+	@Transactional("transactionManager")
+	public int createFromEvents(List<Event> events) {
+
+		Map<UUID, UserApp> userApps = new LinkedHashMap<>();
+		List<Event> incomplete = new ArrayList<>();
+		for (Event event : events) {
+			UserApp userApp = userAppMapper.fromEventToDom(event);
+			if (userApp.getEmail() == null || userApp.getName() == null || userApp.getLastname() == null) {
+				logger.error(GlobalConstants.MSG_PATTERN_SEVERE, GlobalConstants.MSG_USER_EVENT_SKIP, event);
+				incomplete.add(event);
+			} else {
+				userApps.putIfAbsent(event.getEventId(), userApp);
+			}
+		}
+		if (!incomplete.isEmpty()) {
+			failFromEvents(incomplete);
+		}
+
+		List<UserApp> saved = userAppRepository.saveAllOnce(userApps);
+		if (!saved.isEmpty()) {
+			publisherAdapter.publishEvents(saved.stream()
+					.map(userApp -> userAppMapper.fromDomToEvent(GlobalConstants.USERAPP_CREATED, userApp))
+					.toList());
+		}
+		logger.info(GlobalConstants.MSG_PATTERN_INFO, GlobalConstants.MSG_USER_EVENTS_CONSUMED, saved.size());
+
+		return saved.size();
+	}
+
+	/**
+	 * the compensation request of the registration saga, one userapp.creation.failed per user.created event
+	 */
+	@Override
+	@Transactional("transactionManager")
+	public void failFromEvents(List<Event> events) {
+
+		publisherAdapter.publishEvents(events.stream()
+				.map(userAppMapper::fromUserEventToFailedEvent)
+				.toList());
+	}
+
+	@Transactional("transactionManager")
 	public Optional<UserAppDto> update(UserAppDto userAppDto) {
 
 		logger.info(GlobalConstants.MSG_PATTERN_INFO, GlobalConstants.UPDATE_USERAPP, userAppDto);
@@ -8,6 +8,7 @@ public class GlobalConstants {
 
 	// Values
 	public static final Long EXPIRATION_TIME = 3600L;
+	public static final int ID_ALLOCATION_SIZE = 50;
 
 	// Patterns
 	public static final String PATTERN_NAME_FULL = "^[a-zA-Z0-9ñÑáéíóúÁÉÍÓÚ][a-zA-Z0-9ñÑáéíóúÁÉÍÓÚ\\s\\-\\.&,:]{1,49}$";
@@ -27,6 +28,20 @@ public class GlobalConstants {
 	public static final String MSG_PUBLISH_OK = "Publish Event Succesfully";	
 	public static final String MSG_PUBLISH_FAIL = "Publish Event Failed";		
 	public static final String MSG_TESTGRPC_NOTINTIME = "The call did not terminate in time";		
+	public static final String MSG_OUTBOX_RELAYED = "Outbox events relayed";
+	public static final String MSG_OUTBOX_FAIL = "Outbox relay failed, retrying on next run";
+	public static final String MSG_OUTBOX_UNREADABLE = "Unreadable outbox payload dropped";
+	public static final String MSG_GROUP_COMMIT_FAIL = "Group commit failed";
+	public static final String MSG_GROUP_COMMIT_FULL = "Group commit queue full";
+	public static final String MSG_SPOOLED = "Kafka unavailable, events spooled";
+	public static final String MSG_SPOOL_DRAINED = "Spooled events drained";
+	public static final String MSG_SPOOL_DRAIN_FAIL = "Spool drain failed, retrying on next run";
+	public static final String MSG_SPOOL_UNREADABLE = "Unreadable spool record dropped";
+	public static final String MSG_USER_EVENTS_CONSUMED = "User created events consumed, profiles created";
+	public static final String MSG_USER_EVENT_SKIP = "Incomplete user created event skipped";
+	public static final String MSG_USER_EVENT_FAILED = "User created event failed, reported back to autho";
+	public static final String MSG_EMAIL_FILTER_BUILT = "Email filter built";
+	public static final String MSG_EMAIL_FILTER_FAIL = "Email filter build failed, checks keep querying the database";
 
 	// Models
 	public static final String USER_CAT = "User";
@@ -69,6 +84,9 @@ public class GlobalConstants {
 	public static final String VOT_ID = "voteId";
 	public static final String VOT_ID_DB = "vote_id";
 	public static final String VOT_US = "useful";
+	public static final String USERAPP_SEQ_DB = "usersapp_user_app_id_seq";
+	public static final String OUTBOX_DB = "outbox_events";
+	public static final String PROCESSED_EVENTS_DB = "processed_events";
 	
 	// Orders
 	public static final String CREATE_USER = "create.user";
@@ -97,6 +115,7 @@ public class GlobalConstants {
 	public static final String USERAPP_CREATED = "userapp.created";
 	public static final String USERAPP_UPDATED = "userapp.updated";
 	public static final String USERAPP_DELETED = "userapp.deleted";
+	public static final String USERAPP_CREATION_FAILED = "userapp.creation.failed";
 	public static final String CAT_CREATED = "category.created";
 	public static final String CAT_UPDATED = "category.updated";
 	public static final String CAT_DELETED = "category.deleted";
@@ -109,6 +128,16 @@ public class GlobalConstants {
 	public static final String VOT_CREATED = "vote.created";
 	public static final String VOT_UPDATED = "vote.updated";
 	public static final String VOT_DELETED = "vote.deleted";
+	public static final String USER_TOPIC = "user.events";
+	public static final String USERAPP_TOPIC = "userapp.events";
+	public static final String CAT_TOPIC = "category.events";
+	public static final String PROD_TOPIC = "product.events";
+	public static final String REV_TOPIC = "review.events";
+	public static final String VOT_TOPIC = "vote.events";
+	public static final String HEADER_EVENT_TYPE = "eventType";
+	public static final String BATCH_LISTENER_FACTORY = "batchListenerFactory";
+	public static final String USERPACK_GROUP = "user-pack";
+	public static final String EMAIL_FILTER_GROUP = "email-filter";
 
 	// Exceptions
 	public static final String EX_BASIC = "BasicException";
@@ -149,7 +178,28 @@ public class GlobalConstants {
 	public static final String PS_DIR = "sortDir";
 	public static final String PS_A = "ASC";
 	public static final String PS_D = "DESC";
+	public static final String PS_TOKEN = "pageToken";
 	
+	// Metrics
+	public static final String METRIC_PUBLISH_BATCH = "publisher.batch.size";
+	public static final String METRIC_PUBLISH_COMMIT = "publisher.commit.latency";
+	public static final String METRIC_PUBLISH_PENDING = "publisher.pending";
+	public static final String METRIC_SPOOL_DEPTH = "publisher.spool.depth";
+	public static final String METRIC_SPOOL_AGE = "publisher.spool.age";
+	public static final String METRIC_SEND_LATENCY = "publisher.send.latency";
+	public static final String METRIC_SEND_FAILURES = "publisher.send.failures";
+	public static final String METRIC_SEND_RETRIES = "publisher.send.retries";
+	public static final String METRIC_IN_FLIGHT = "publisher.in.flight";
+	public static final String METRIC_CONSUMER_BATCH = "consumer.batch.duration";
+	public static final String METRIC_CONSUMER_RECORDS = "consumer.records";
+	public static final String METRIC_CONSUMER_LAG = "consumer.lag";
+	public static final String TAG_LISTENER = "listener";
+	public static final String TAG_TOPIC = "topic";
+	public static final String METRIC_EMAIL_FILTER_CHECKS = "email.filter.checks";
+	public static final String METRIC_EMAIL_FILTER_FPP = "email.filter.false.positive.rate";
+	public static final String METRIC_EMAIL_FILTER_REBUILD = "email.filter.rebuild";
+	public static final String TAG_RESULT = "result";
+
 	// Others
 	public static final String JWT_USER = "sub";
 	public static final String OBJ_FIELD = "field";
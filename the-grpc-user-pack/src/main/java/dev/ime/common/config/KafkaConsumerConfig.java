@@ -0,0 +1,72 @@
+package dev.ime.common.config;
+
+import java.time.Duration;
+import java.util.Properties;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.ExponentialBackOffWithMaxRetries;
+
+import dev.ime.infrastructure.adapter.UserEventListenerAdapter;
+
+@Configuration
+public class KafkaConsumerConfig {
+
+	/**
+	 * batch listeners for projections, built on the boot defaults. offsets are committed only once the
+	 * listener returned for the whole poll, a thrown exception has the batch delivered again
+	 * @param configurer
+	 * @param consumerFactory
+	 * @param maxPollRecords
+	 * @return ConcurrentKafkaListenerContainerFactory
+	 */
+	@Bean(GlobalConstants.BATCH_LISTENER_FACTORY)
+	ConcurrentKafkaListenerContainerFactory<Object, Object> batchListenerFactory(ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+			ConsumerFactory<Object, Object> consumerFactory,
+			@Value("${userpack.consumer.max-poll-records:500}") int maxPollRecords) {
+
+		ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+		configurer.configure(factory, consumerFactory);
+		factory.setBatchListener(true);
+
+		ContainerProperties containerProperties = factory.getContainerProperties();
+		containerProperties.setAckMode(ContainerProperties.AckMode.BATCH);
+		containerProperties.setMicrometerEnabled(true);
+		Properties consumerProperties = new Properties();
+		consumerProperties.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, String.valueOf(maxPollRecords));
+		consumerProperties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+		containerProperties.setKafkaConsumerProperties(consumerProperties);
+
+		return factory;
+	}
+
+	/**
+	 * picked up by the boot configurer for every listener factory. a failing poll is retried in place with a
+	 * growing pause, what still fails after that goes to the recoverer and the offsets move on
+	 * @param userEventListenerAdapter
+	 * @param maxRetries
+	 * @param initialInterval
+	 * @param maxInterval
+	 * @return DefaultErrorHandler
+	 */
+	@Bean
+	DefaultErrorHandler userEventErrorHandler(UserEventListenerAdapter userEventListenerAdapter,
+			@Value("${userpack.events.user.retry.max-retries:6}") int maxRetries,
+			@Value("${userpack.events.user.retry.initial-interval:1s}") Duration initialInterval,
+			@Value("${userpack.events.user.retry.max-interval:30s}") Duration maxInterval) {
+
+		ExponentialBackOffWithMaxRetries backOff = new ExponentialBackOffWithMaxRetries(maxRetries);
+		backOff.setInitialInterval(initialInterval.toMillis());
+		backOff.setMaxInterval(maxInterval.toMillis());
+
+		return new DefaultErrorHandler(userEventListenerAdapter::recover, backOff);
+	}
+
+}
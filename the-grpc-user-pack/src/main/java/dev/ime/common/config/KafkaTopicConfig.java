@@ -0,0 +1,32 @@
+package dev.ime.common.config;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.KafkaAdmin;
+
+@Configuration
+public class KafkaTopicConfig {
+
+	/**
+	 * the aggregate topic published by this service, compacted so each key keeps its latest event
+	 * @param partitions
+	 * @return NewTopics
+	 */
+	@Bean
+	KafkaAdmin.NewTopics aggregateTopics(@Value("${userpack.events.partitions:6}") int partitions) {
+
+		return new KafkaAdmin.NewTopics(createTopic(GlobalConstants.USERAPP_TOPIC, partitions));
+	}
+
+	private NewTopic createTopic(String name, int partitions) {
+
+		return TopicBuilder.name(name)
+				.partitions(partitions)
+				.compact()
+				.build();
+	}
+
+}
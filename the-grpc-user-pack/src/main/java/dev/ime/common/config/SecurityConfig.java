@@ -17,6 +17,7 @@ public class SecurityConfig {
 
 		return http.authorizeHttpRequests(auth -> {
 			auth.requestMatchers("/api/**").permitAll();
+			auth.requestMatchers("/actuator/health", "/actuator/prometheus").permitAll();
 			auth.anyRequest().authenticated();
 		}).csrf(AbstractHttpConfigurer::disable)
 				.oauth2ResourceServer(resourceServer -> resourceServer.jwt(Customizer.withDefaults())).build();
@@ -6,12 +6,10 @@ import java.util.Map;
 
 import org.springframework.stereotype.Component;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-
 import dev.ime.application.dto.UserAppDto;
 import dev.ime.common.config.GlobalConstants;
 import dev.ime.domain.model.Event;
+import dev.ime.domain.model.EventData;
 import dev.ime.domain.model.UserApp;
 import dev.ime.infrastructure.entity.UserAppJpaEntity;
 import dev.proto.CreateUserAppRequest;
@@ -21,12 +19,9 @@ import dev.proto.UserAppProto;
 @Component
 public class UserAppMapper {
 
-	private final ObjectMapper objectMapper;
-	
-	public UserAppMapper(ObjectMapper objectMapper) {
-		super();
-		this.objectMapper = objectMapper;
-	}
+	private static final String[] USERAPP_EVENT_KEYS = { GlobalConstants.USERAPP_ID, GlobalConstants.USERAPP_EMAIL,
+			GlobalConstants.USERAPP_NAME, GlobalConstants.USERAPP_LASTNAME };
+	private static final String[] FAILED_EVENT_KEYS = { GlobalConstants.USER_ID, GlobalConstants.USER_EMAIL };
 
 	public UserAppJpaEntity fromDomainToJpa(UserApp domain) {
 
@@ -134,6 +129,32 @@ public class UserAppMapper {
 				);
 	}
 
+	public UserApp fromEventToDom(Event event) {
+
+		Map<String, Object> data = event.getEventData();
+		return new UserApp(
+				null,
+				(String) data.get(GlobalConstants.USER_EMAIL),
+				(String) data.get(GlobalConstants.USERAPP_NAME),
+				(String) data.get(GlobalConstants.USERAPP_LASTNAME)
+				);
+	}
+
+	/**
+	 * names the registration autho has to undo, the user id and email of the user.created event
+	 * @param event the user.created event
+	 * @return Event
+	 */
+	public Event fromUserEventToFailedEvent(Event event) {
+
+		Map<String, Object> data = event.getEventData();
+		return new Event(
+				GlobalConstants.USERAPP_CAT,
+				GlobalConstants.USERAPP_CREATION_FAILED,
+				EventData.of(FAILED_EVENT_KEYS, data.get(GlobalConstants.USER_ID), data.get(GlobalConstants.USER_EMAIL))
+				);
+	}
+
 	public Event fromDomToEvent(String eventType, UserApp dom) {		
 		
 		return new Event(
@@ -144,9 +165,9 @@ public class UserAppMapper {
 		
 	}
 	
-	private Map<String, Object> createEventData(UserApp dom) {
+	private EventData createEventData(UserApp dom) {
 		
-		return objectMapper.convertValue(dom, new TypeReference<Map<String, Object>>() {});
+		return EventData.of(USERAPP_EVENT_KEYS, dom.getUserAppId(), dom.getEmail(), dom.getName(), dom.getLastname());
 
 	}	
 }
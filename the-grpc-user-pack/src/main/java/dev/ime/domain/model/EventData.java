@@ -0,0 +1,104 @@
+package dev.ime.domain.model;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * read-only event data over fixed keys and the values taken straight from a payload, it replaces the
+ * map jackson used to build and the copy the event made of it. reads as a plain map so json and every
+ * consumer keep working, and unlike Map.of it holds the null fields a payload may carry
+ */
+public final class EventData extends AbstractMap<String, Object> {
+
+	private final String[] keys;
+	private final Object[] values;
+
+	private EventData(String[] keys, Object[] values) {
+		super();
+		this.keys = keys;
+		this.values = values;
+	}
+
+	/**
+	 * the keys array is shared between events and must never be changed by the caller
+	 * @param keys
+	 * @param values in the same order as keys
+	 * @return EventData
+	 */
+	public static EventData of(String[] keys, Object... values) {
+
+		if (keys.length != values.length) {
+			throw new IllegalArgumentException(keys.length + " keys for " + values.length + " values");
+		}
+		return new EventData(keys, values);
+	}
+
+	@Override
+	public int size() {
+		return keys.length;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return indexOf(key) >= 0;
+	}
+
+	@Override
+	public Object get(Object key) {
+
+		int index = indexOf(key);
+		return index >= 0 ? values[index] : null;
+	}
+
+	private int indexOf(Object key) {
+
+		for (int i = 0; i < keys.length; i++) {
+			if (keys[i].equals(key)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	@Override
+	public Set<Map.Entry<String, Object>> entrySet() {
+
+		return new AbstractSet<>() {
+
+			@Override
+			public int size() {
+				return keys.length;
+			}
+
+			@Override
+			public Iterator<Map.Entry<String, Object>> iterator() {
+
+				return new Iterator<>() {
+
+					private int next;
+
+					@Override
+					public boolean hasNext() {
+						return next < keys.length;
+					}
+
+					@Override
+					public Map.Entry<String, Object> next() {
+
+						if (!hasNext()) {
+							throw new NoSuchElementException();
+						}
+						Map.Entry<String, Object> entry = new SimpleImmutableEntry<>(keys[next], values[next]);
+						next++;
+						return entry;
+					}
+				};
+			}
+		};
+	}
+
+}
@@ -0,0 +1,26 @@
+package dev.ime.domain.model;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * time ordered ids in the uuid version 7 layout: 48 bits of epoch millis, then 74 random bits.
+ * the random part comes from ThreadLocalRandom, an event id only has to be unique, not secret,
+ * so there is no reason to queue on the shared SecureRandom behind UUID.randomUUID
+ */
+public final class EventIdGenerator {
+
+	private EventIdGenerator() {
+		super();
+	}
+
+	public static UUID nextId() {
+
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		long mostSigBits = (System.currentTimeMillis() << 16) | 0x7000L | (random.nextLong() & 0x0FFFL);
+		long leastSigBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+
+		return new UUID(mostSigBits, leastSigBits);
+	}
+
+}
@@ -5,10 +5,16 @@ import java.util.Optional;
 
 import org.springframework.data.domain.Pageable;
 
+import dev.ime.domain.model.Event;
+import dev.ime.domain.model.PageCursor;
+
 public interface UserAppServicePort<T> {
 
 	List<T> findAll();
 	List<T> findAll(Pageable pageable);
+	List<T> findAll(Pageable pageable, PageCursor cursor);
 	boolean create(T dto);
 	Optional<T> update(T dto);
+	int createFromEvents(List<Event> events);
+	void failFromEvents(List<Event> events);
 }
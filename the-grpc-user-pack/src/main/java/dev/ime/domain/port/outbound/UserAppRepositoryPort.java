@@ -1,18 +1,23 @@
 package dev.ime.domain.port.outbound;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 
 import org.springframework.data.domain.Pageable;
 
+import dev.ime.domain.model.PageCursor;
 import dev.ime.domain.model.UserApp;
 
 public interface UserAppRepositoryPort {
 
 	List<UserApp> findAll();
 	List<UserApp> findAll(Pageable pageable);
+	List<UserApp> findAll(Pageable pageable, PageCursor cursor);
 	Optional<UserApp> findById(Long userAppId);
 	Optional<UserApp> save(UserApp userApp);
 	int countByEmail(String email);
+	List<UserApp> saveAllOnce(Map<UUID, UserApp> userApps);
 
 }
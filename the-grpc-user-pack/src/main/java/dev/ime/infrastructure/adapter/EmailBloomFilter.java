@@ -0,0 +1,174 @@
+package dev.ime.infrastructure.adapter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import dev.ime.common.config.GlobalConstants;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * bloom filter of the registered emails, a definite no skips the database and a maybe still asks it.
+ * it is filled from the table once at startup and told about every insert from then on, until it is
+ * built every check goes to the database. emails are never taken out, a deleted one only costs a query
+ */
+@Component
+public class EmailBloomFilter {
+
+	private static final double LN2 = Math.log(2);
+
+	private final AtomicLongArray bits;
+	private final long bitCount;
+	private final int hashCount;
+	private final int buildParallelism;
+	private final long chunkSize;
+	private final Counter absent;
+	private final Counter present;
+	private final Counter falsePositive;
+	private final Timer rebuildTimer;
+	private volatile boolean ready;
+
+	public EmailBloomFilter(MeterRegistry meterRegistry,
+			@Value("${userpack.email-filter.expected-insertions:1000000}") long expectedInsertions,
+			@Value("${userpack.email-filter.false-positive-rate:0.01}") double falsePositiveRate,
+			@Value("${userpack.email-filter.build.parallelism:4}") int buildParallelism,
+			@Value("${userpack.email-filter.build.chunk-size:50000}") long chunkSize) {
+		super();
+		long insertions = Math.max(1L, expectedInsertions);
+		long words = Math.max(1L, (long) Math.ceil(-insertions * Math.log(falsePositiveRate) / (LN2 * LN2) / Long.SIZE));
+		this.bits = new AtomicLongArray(Math.toIntExact(words));
+		this.bitCount = words * Long.SIZE;
+		this.hashCount = Math.max(1, (int) Math.round((double) bitCount / insertions * LN2));
+		this.buildParallelism = Math.max(1, buildParallelism);
+		this.chunkSize = Math.max(1L, chunkSize);
+		this.absent = checks(meterRegistry, "absent");
+		this.present = checks(meterRegistry, "present");
+		this.falsePositive = checks(meterRegistry, "false_positive");
+		this.rebuildTimer = Timer.builder(GlobalConstants.METRIC_EMAIL_FILTER_REBUILD).register(meterRegistry);
+		Gauge.builder(GlobalConstants.METRIC_EMAIL_FILTER_FPP, this, EmailBloomFilter::falsePositiveRate).register(meterRegistry);
+	}
+
+	private static Counter checks(MeterRegistry meterRegistry, String result) {
+
+		return Counter.builder(GlobalConstants.METRIC_EMAIL_FILTER_CHECKS)
+				.tag(GlobalConstants.TAG_RESULT, result)
+				.register(meterRegistry);
+	}
+
+	/**
+	 * the lookup only runs when the filter cannot rule the email out
+	 * @param email
+	 * @param lookup indexed query for the email
+	 * @return whether the email is registered
+	 */
+	public boolean contains(String email, Predicate<String> lookup) {
+
+		if (!ready) {
+			return lookup.test(email);
+		}
+		if (!mightContain(email)) {
+			absent.increment();
+			return false;
+		}
+		boolean found = lookup.test(email);
+		(found ? present : falsePositive).increment();
+		return found;
+	}
+
+	public void put(String email) {
+
+		long hash = hash(email);
+		long step = mix(hash ^ 0x9e3779b97f4a7c15L) | 1L;
+		for (int i = 0; i < hashCount; i++) {
+			long index = Math.floorMod(hash + i * step, bitCount);
+			long mask = 1L << index;
+			bits.getAndAccumulate((int) (index >>> 6), mask, (word, bit) -> word | bit);
+		}
+	}
+
+	/**
+	 * loads the id range in chunks, a few at a time so the build does not take the whole connection pool.
+	 * inserts made meanwhile go in through put, so the filter is complete once this returns
+	 * @param minId
+	 * @param maxId
+	 * @param loader emails of the rows with an id between both bounds, inclusive
+	 */
+	public void build(long minId, long maxId, BiFunction<Long, Long, List<String>> loader) {
+
+		long start = System.nanoTime();
+		try (ExecutorService executor = Executors.newFixedThreadPool(buildParallelism)) {
+			List<Future<?>> chunks = new ArrayList<>();
+			for (long from = minId; from <= maxId; from += chunkSize) {
+				long chunkFrom = from;
+				long chunkTo = Math.min(maxId, from + chunkSize - 1);
+				chunks.add(executor.submit(() -> loader.apply(chunkFrom, chunkTo).forEach(this::put)));
+			}
+			for (Future<?> chunk : chunks) {
+				chunk.get();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return;
+		} catch (ExecutionException e) {
+			throw new IllegalStateException(e.getCause());
+		}
+		rebuildTimer.record(Duration.ofNanos(System.nanoTime() - start));
+		ready = true;
+	}
+
+	public boolean isReady() {
+		return ready;
+	}
+
+	/**
+	 * share of the unregistered emails that still went to the database
+	 */
+	public double falsePositiveRate() {
+
+		double negatives = absent.count() + falsePositive.count();
+		return negatives == 0 ? 0.0 : falsePositive.count() / negatives;
+	}
+
+	private boolean mightContain(String email) {
+
+		long hash = hash(email);
+		long step = mix(hash ^ 0x9e3779b97f4a7c15L) | 1L;
+		for (int i = 0; i < hashCount; i++) {
+			long index = Math.floorMod(hash + i * step, bitCount);
+			if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static long hash(String email) {
+
+		long hash = 0xcbf29ce484222325L;
+		for (int i = 0; i < email.length(); i++) {
+			hash = (hash ^ email.charAt(i)) * 0x100000001b3L;
+		}
+		return mix(hash);
+	}
+
+	private static long mix(long value) {
+
+		long z = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL;
+		z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+		return z ^ (z >>> 33);
+	}
+
+}
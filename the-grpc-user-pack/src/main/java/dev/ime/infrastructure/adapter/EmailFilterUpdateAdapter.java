@@ -0,0 +1,46 @@
+package dev.ime.infrastructure.adapter;
+
+import java.util.List;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import dev.ime.common.config.GlobalConstants;
+import dev.ime.domain.model.Event;
+
+/**
+ * every node joins its own consumer group, so its email filter also learns the profiles created on the
+ * other nodes. the local inserts are already in it, seeing them again changes nothing
+ */
+@Component
+public class EmailFilterUpdateAdapter {
+
+	private final EmailBloomFilter emailFilter;
+	private final ParallelBatchProcessor parallelBatchProcessor;
+
+	public EmailFilterUpdateAdapter(EmailBloomFilter emailFilter, ParallelBatchProcessor parallelBatchProcessor) {
+		super();
+		this.emailFilter = emailFilter;
+		this.parallelBatchProcessor = parallelBatchProcessor;
+	}
+
+	@KafkaListener(topics = GlobalConstants.USERAPP_TOPIC,
+			groupId = GlobalConstants.EMAIL_FILTER_GROUP + "-${random.uuid}",
+			properties = "auto.offset.reset=latest",
+			containerFactory = GlobalConstants.BATCH_LISTENER_FACTORY)
+	public void onEvents(List<ConsumerRecord<String, Event>> records, Consumer<?, ?> consumer) {
+
+		parallelBatchProcessor.process(GlobalConstants.EMAIL_FILTER_GROUP, records, consumer, this::onEvent);
+	}
+
+	public void onEvent(Event event) {
+
+		if (GlobalConstants.USERAPP_CREATED.equals(event.getEventType())
+				&& event.getEventData().get(GlobalConstants.USERAPP_EMAIL) instanceof String email) {
+			emailFilter.put(email);
+		}
+	}
+
+}
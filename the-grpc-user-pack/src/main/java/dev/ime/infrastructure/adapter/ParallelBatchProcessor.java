@@ -0,0 +1,177 @@
+package dev.ime.infrastructure.adapter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import dev.ime.common.config.GlobalConstants;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * runs the records of a polled batch on virtual threads, one task per topic and key so the events of an
+ * aggregate keep their partition order while different aggregates run side by side. returns once every
+ * task is done, so the container commits the offsets of a fully handled batch only. tombstones never reach
+ * the handlers
+ */
+@Component
+public class ParallelBatchProcessor {
+
+	private final MeterRegistry meterRegistry;
+	private final Semaphore permits;
+	private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+	private final Map<String, AtomicLong> lags = new ConcurrentHashMap<>();
+
+	public ParallelBatchProcessor(MeterRegistry meterRegistry,
+			@Value("${userpack.consumer.parallelism:64}") int parallelism) {
+		super();
+		this.meterRegistry = meterRegistry;
+		this.permits = new Semaphore(parallelism);
+	}
+
+	@PreDestroy
+	public void close() {
+		executor.close();
+	}
+
+	/**
+	 * the handler must be idempotent, a failed key has the whole batch redelivered
+	 * @param listener names the metrics
+	 * @param records
+	 * @param consumer the listener's consumer, read for the lag before the batch is handed out
+	 * @param handler called in order for the records of one key
+	 */
+	public <V> void process(String listener, List<ConsumerRecord<String, V>> records,
+			org.apache.kafka.clients.consumer.Consumer<?, ?> consumer, Consumer<V> handler) {
+
+		measure(listener, records.size(), consumer, () -> {
+			Map<String, List<V>> groups = groupByKey(records);
+			if (groups.size() == 1) {
+				groups.values().forEach(group -> group.forEach(handler));
+			} else {
+				runGroups(groups.values(), handler);
+			}
+		});
+	}
+
+	/**
+	 * for listeners that handle a poll as one unit, one transaction for instance, they get the same metrics
+	 * @param listener
+	 * @param records
+	 * @param consumer
+	 * @param handler
+	 */
+	public <V> void processAll(String listener, List<ConsumerRecord<String, V>> records,
+			org.apache.kafka.clients.consumer.Consumer<?, ?> consumer, Consumer<List<V>> handler) {
+
+		measure(listener, records.size(), consumer, () -> handler.accept(records.stream()
+				.map(ConsumerRecord::value)
+				.filter(Objects::nonNull)
+				.toList()));
+	}
+
+	private void measure(String listener, int records,
+			org.apache.kafka.clients.consumer.Consumer<?, ?> consumer, Runnable batch) {
+
+		lags.computeIfAbsent(listener, name -> registerLag(name)).set(lag(consumer));
+		Timer.builder(GlobalConstants.METRIC_CONSUMER_BATCH)
+		.tag(GlobalConstants.TAG_LISTENER, listener)
+		.register(meterRegistry)
+		.record(batch);
+		Counter.builder(GlobalConstants.METRIC_CONSUMER_RECORDS)
+		.tag(GlobalConstants.TAG_LISTENER, listener)
+		.register(meterRegistry)
+		.increment(records);
+	}
+
+	private <V> Map<String, List<V>> groupByKey(List<ConsumerRecord<String, V>> records) {
+
+		Map<String, List<V>> groups = new LinkedHashMap<>();
+		for (ConsumerRecord<String, V> consumerRecord : records) {
+			// a tombstone only tells compaction to drop its key, the deleted event before it was already handled
+			if (consumerRecord.value() == null) {
+				continue;
+			}
+			// without a key only the partition order is known
+			String key = consumerRecord.topic() + ":" + (consumerRecord.key() != null ? consumerRecord.key() : consumerRecord.partition());
+			groups.computeIfAbsent(key, k -> new ArrayList<>()).add(consumerRecord.value());
+		}
+		return groups;
+	}
+
+	private <V> void runGroups(Iterable<List<V>> groups, Consumer<V> handler) {
+
+		List<Future<?>> futures = new ArrayList<>();
+		for (List<V> group : groups) {
+			futures.add(executor.submit(() -> runGroup(group, handler)));
+		}
+
+		// every task ends before the batch is failed, none may still run while it is redelivered
+		RuntimeException failure = null;
+		for (Future<?> future : futures) {
+			try {
+				future.get();
+			} catch (ExecutionException e) {
+				if (failure == null) {
+					failure = e.getCause() instanceof RuntimeException runtimeException
+							? runtimeException
+							: new IllegalStateException(e.getCause());
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				futures.forEach(pending -> pending.cancel(true));
+				throw new IllegalStateException(e);
+			}
+		}
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
+	private <V> void runGroup(List<V> group, Consumer<V> handler) {
+
+		permits.acquireUninterruptibly();
+		try {
+			group.forEach(handler);
+		} finally {
+			permits.release();
+		}
+	}
+
+	private long lag(org.apache.kafka.clients.consumer.Consumer<?, ?> consumer) {
+
+		return consumer.assignment().stream()
+				.map(consumer::currentLag)
+				.filter(OptionalLong::isPresent)
+				.mapToLong(OptionalLong::getAsLong)
+				.sum();
+	}
+
+	private AtomicLong registerLag(String listener) {
+
+		AtomicLong lag = new AtomicLong();
+		Gauge.builder(GlobalConstants.METRIC_CONSUMER_LAG, lag, AtomicLong::get)
+		.tag(GlobalConstants.TAG_LISTENER, listener)
+		.register(meterRegistry);
+		return lag;
+	}
+
+}
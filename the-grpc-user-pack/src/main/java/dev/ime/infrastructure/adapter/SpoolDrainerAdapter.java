@@ -0,0 +1,50 @@
+package dev.ime.infrastructure.adapter;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import dev.ime.common.config.GlobalConstants;
+
+/**
+ * replays the spool once kafka is back, one kafka transaction per batch. the spool only moves past
+ * a batch after its commit, so delivery is at least once and in the order the events were spooled
+ */
+@Component
+public class SpoolDrainerAdapter {
+
+	private final EventSpool eventSpool;
+	private final KafkaPublisherAdapter kafkaPublisherAdapter;
+	private final int batchSize;
+	private static final Logger logger = LoggerFactory.getLogger(SpoolDrainerAdapter.class);
+
+	public SpoolDrainerAdapter(EventSpool eventSpool, KafkaPublisherAdapter kafkaPublisherAdapter,
+			@Value("${userpack.spool.drain.batch-size:500}") int batchSize) {
+		super();
+		this.eventSpool = eventSpool;
+		this.kafkaPublisherAdapter = kafkaPublisherAdapter;
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * keeps draining while batches come back full, a backlog does not wait for the next run
+	 */
+	@Scheduled(fixedDelayString = "${userpack.spool.drain.delay-ms:1000}")
+	public void drain() {
+
+		try {
+			int drained;
+			do {
+				drained = eventSpool.drain(batchSize, kafkaPublisherAdapter::publishSpooled);
+				if (drained > 0) {
+					logger.info(GlobalConstants.MSG_PATTERN_INFO, GlobalConstants.MSG_SPOOL_DRAINED, drained);
+				}
+			} while (drained == batchSize);
+		} catch (RuntimeException e) {
+			logger.error(GlobalConstants.MSG_PATTERN_SEVERE, GlobalConstants.MSG_SPOOL_DRAIN_FAIL, e.getMessage());
+		}
+	}
+
+}
@@ -1,8 +1,19 @@
 package dev.ime.infrastructure.adapter;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
@@ -10,8 +21,10 @@ import org.springframework.transaction.annotation.Transactional;
 
 import dev.ime.common.config.GlobalConstants;
 import dev.ime.common.mapper.UserAppMapper;
+import dev.ime.domain.model.PageCursor;
 import dev.ime.domain.model.UserApp;
 import dev.ime.domain.port.outbound.UserAppRepositoryPort;
+import dev.ime.infrastructure.entity.ProcessedEventJpaEntity;
 import dev.ime.infrastructure.entity.UserAppJpaEntity;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.NoResultException;
@@ -25,14 +38,46 @@ import jakarta.persistence.criteria.Root;
 @Repository
 public class UserAppRepositoryAdapter implements UserAppRepositoryPort{
 
+	private static final String PARAM_EVENT_IDS = "eventIds";
+	private static final String PARAM_EMAILS = "emails";
     @PersistenceContext
 	private final EntityManager entityManager;
 	private final UserAppMapper userAppMapper;
+	private final EmailBloomFilter emailFilter;
+	private static final Logger logger = LoggerFactory.getLogger(UserAppRepositoryAdapter.class);
     
-	public UserAppRepositoryAdapter(EntityManager entityManager, UserAppMapper userAppMapper) {
+	public UserAppRepositoryAdapter(EntityManager entityManager, UserAppMapper userAppMapper, EmailBloomFilter emailFilter) {
 		super();
 		this.entityManager = entityManager;
 		this.userAppMapper = userAppMapper;
+		this.emailFilter = emailFilter;
+	}
+
+	/**
+	 * fills the email filter from id ranges of the table, until then countByEmail asks the database every time
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void buildEmailFilter() {
+
+		try {
+			Object[] bounds = entityManager.createQuery("SELECT MIN(u.userAppId), MAX(u.userAppId) FROM UserAppJpaEntity u", Object[].class)
+					.getSingleResult();
+			long minId = bounds[0] instanceof Number min ? min.longValue() : 0L;
+			long maxId = bounds[1] instanceof Number max ? max.longValue() : -1L;
+			emailFilter.build(minId, maxId, this::findEmailsBetween);
+			logger.info(GlobalConstants.MSG_PATTERN_INFO, GlobalConstants.MSG_EMAIL_FILTER_BUILT, minId + ".." + maxId);
+		} catch (RuntimeException e) {
+			logger.error(GlobalConstants.MSG_PATTERN_SEVERE, GlobalConstants.MSG_EMAIL_FILTER_FAIL, e.getMessage());
+		}
+	}
+
+	private List<String> findEmailsBetween(Long fromId, Long toId) {
+
+		String queryString = "SELECT u.email FROM UserAppJpaEntity u WHERE u.userAppId BETWEEN :fromId AND :toId";
+		return entityManager.createQuery(queryString, String.class)
+				.setParameter("fromId", fromId)
+				.setParameter("toId", toId)
+				.getResultList();
 	}
 
 	@Override
@@ -61,6 +106,22 @@ public class UserAppRepositoryAdapter implements UserAppRepositoryPort{
         return userAppMapper.fromListJpaToListDomain(query.getResultList());
 	}
 
+	@Override
+	public List<UserApp> findAll(Pageable pageable, PageCursor cursor) {
+		
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+	    CriteriaQuery<UserAppJpaEntity> cq = cb.createQuery(UserAppJpaEntity.class);
+	    Root<UserAppJpaEntity> root = cq.from(UserAppJpaEntity.class);	  
+	    
+	    cq.where(KeysetPredicates.after(cb, root, pageable.getSort(), GlobalConstants.USERAPP_ID, cursor));
+	    cq.orderBy(buildSortOrder(pageable.getSort(), cb, root));
+	    
+        TypedQuery<UserAppJpaEntity> query = entityManager.createQuery(cq);
+        query.setMaxResults(pageable.getPageSize());                           
+        
+        return userAppMapper.fromListJpaToListDomain(query.getResultList());
+	}
+
 	private List<Order> buildSortOrder(Sort sort, CriteriaBuilder criteriaBuilder, Root<UserAppJpaEntity> root) {
 	
 		return sort.stream()
@@ -97,6 +158,7 @@ public class UserAppRepositoryAdapter implements UserAppRepositoryPort{
 		UserAppJpaEntity userAppJpaEntity = userAppMapper.fromDomainToJpa(userApp);
 		if (userAppJpaEntity.getUserAppId() == null) {
 			entityManager.persist(userAppJpaEntity);
+			emailFilter.put(userAppJpaEntity.getEmail());
 		} else {
 			userAppJpaEntity = entityManager.merge(userAppJpaEntity);  
 		}
@@ -104,8 +166,70 @@ public class UserAppRepositoryAdapter implements UserAppRepositoryPort{
 				.map(userAppMapper::fromJpaToDomain);
 	}
 
+	/**
+	 * one query for the event ids already handled and one for the emails that already have a profile,
+	 * the new profiles and the handled ids are then inserted with jdbc batching
+	 */
+	@Override
+	@Transactional("transactionManager")
+	public List<UserApp> saveAllOnce(Map<UUID, UserApp> userApps) {
+
+		if (userApps.isEmpty()) {
+			return List.of();
+		}
+
+		Set<UUID> processed = findProcessedEventIds(userApps.keySet());
+		Set<String> emails = findExistingEmails(userApps.values().stream().map(UserApp::getEmail).collect(Collectors.toSet()));
+		Instant processedAt = Instant.now();
+		List<UserApp> saved = new ArrayList<>();
+
+		userApps.forEach((eventId, userApp) -> {
+			if (processed.contains(eventId)) {
+				return;
+			}
+			entityManager.persist(new ProcessedEventJpaEntity(eventId, processedAt));
+			// the set also holds the emails accepted earlier in this batch
+			if (emails.add(userApp.getEmail())) {
+				UserAppJpaEntity entity = userAppMapper.fromDomainToJpa(userApp);
+				entityManager.persist(entity);
+				emailFilter.put(entity.getEmail());
+				saved.add(userAppMapper.fromJpaToDomain(entity));
+			}
+		});
+
+		entityManager.flush();
+		return saved;
+	}
+
+	private Set<UUID> findProcessedEventIds(Set<UUID> eventIds) {
+
+		String queryString = "SELECT p.eventId FROM ProcessedEventJpaEntity p WHERE p.eventId IN :" + PARAM_EVENT_IDS;
+		TypedQuery<UUID> query = entityManager.createQuery(queryString, UUID.class);
+		query.setParameter(PARAM_EVENT_IDS, eventIds);
+
+		return new HashSet<>(query.getResultList());
+	}
+
+	private Set<String> findExistingEmails(Set<String> emails) {
+
+		String queryString = "SELECT u.email FROM UserAppJpaEntity u WHERE u.email IN :" + PARAM_EMAILS;
+		TypedQuery<String> query = entityManager.createQuery(queryString, String.class);
+		query.setParameter(PARAM_EMAILS, emails);
+
+		return new HashSet<>(query.getResultList());
+	}
+
+	/**
+	 * the email is unique, so the count is one or zero. the filter answers zero on its own,
+	 * only a possible hit runs the count on the unique index
+	 */
 	@Override
 	public int countByEmail(String email) {
+
+		return emailFilter.contains(email, this::queryExistsByEmail) ? 1 : 0;
+	}
+
+	private boolean queryExistsByEmail(String email) {
 		
 	    CriteriaBuilder cb = entityManager.getCriteriaBuilder();
 	    CriteriaQuery<Long> cq = cb.createQuery(Long.class);
@@ -114,7 +238,7 @@ public class UserAppRepositoryAdapter implements UserAppRepositoryPort{
 	    cq.select(cb.count(root))
 	      .where(cb.equal(root.get(GlobalConstants.USERAPP_EMAIL), email));
 	    
-	    return entityManager.createQuery(cq).getSingleResult().intValue();
+	    return entityManager.createQuery(cq).getSingleResult() > 0;
 	}
 
 }
@@ -0,0 +1,78 @@
+package dev.ime.infrastructure.adapter;
+
+import java.util.List;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import dev.ime.application.dto.UserAppDto;
+import dev.ime.common.config.GlobalConstants;
+import dev.ime.domain.model.Event;
+import dev.ime.domain.port.inbound.UserAppServicePort;
+
+/**
+ * autho publishes user.created once the user row is stored, the profile is built here from that event.
+ * a whole poll is handled as one batch in one transaction, events are keyed by email so a user's
+ * events stay in order within their partition
+ */
+@Component
+public class UserEventListenerAdapter {
+
+	private final UserAppServicePort<UserAppDto> userAppService;
+	private final ParallelBatchProcessor parallelBatchProcessor;
+	private static final Logger logger = LoggerFactory.getLogger(UserEventListenerAdapter.class);
+
+	public UserEventListenerAdapter(UserAppServicePort<UserAppDto> userAppService, ParallelBatchProcessor parallelBatchProcessor) {
+		super();
+		this.userAppService = userAppService;
+		this.parallelBatchProcessor = parallelBatchProcessor;
+	}
+
+	/**
+	 * the poll stays whole rather than split by key, its profiles are inserted in one transaction
+	 * @param records
+	 * @param consumer
+	 */
+	@KafkaListener(topics = GlobalConstants.USER_TOPIC, groupId = GlobalConstants.USERPACK_GROUP,
+			properties = "max.poll.records=${userpack.events.user.max-batch:500}",
+			containerFactory = GlobalConstants.BATCH_LISTENER_FACTORY)
+	public void onRecords(List<ConsumerRecord<String, Event>> records, Consumer<?, ?> consumer) {
+
+		parallelBatchProcessor.processAll(GlobalConstants.USERPACK_GROUP, records, consumer, this::onEvents);
+	}
+
+	public void onEvents(List<Event> events) {
+
+		List<Event> created = events.stream()
+				.filter(event -> GlobalConstants.USER_CREATED.equals(event.getEventType()))
+				.toList();
+		if (!created.isEmpty()) {
+			userAppService.createFromEvents(created);
+		}
+	}
+
+	/**
+	 * called per record once the poll kept failing through every retry. the event is tried once more on its own,
+	 * the rest of the poll may have been the problem, and only then reported back to autho as failed
+	 * @param consumerRecord
+	 * @param ex
+	 */
+	public void recover(ConsumerRecord<?, ?> consumerRecord, Exception ex) {
+
+		if (!(consumerRecord.value() instanceof Event event) || !GlobalConstants.USER_CREATED.equals(event.getEventType())) {
+			return;
+		}
+
+		try {
+			userAppService.createFromEvents(List.of(event));
+		} catch (RuntimeException e) {
+			logger.error(GlobalConstants.MSG_PATTERN_SEVERE, GlobalConstants.MSG_USER_EVENT_FAILED, e.getMessage());
+			userAppService.failFromEvents(List.of(event));
+		}
+	}
+
+}
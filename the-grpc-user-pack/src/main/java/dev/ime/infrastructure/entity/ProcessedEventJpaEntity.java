@@ -0,0 +1,35 @@
+package dev.ime.infrastructure.entity;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import dev.ime.common.config.GlobalConstants;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Entity
+@Table(name = GlobalConstants.PROCESSED_EVENTS_DB)
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@ToString
+@Builder
+public class ProcessedEventJpaEntity {
+
+	@Id
+	@Column(name = "event_id")
+	private UUID eventId;
+
+	@Column(name = "processed_at", nullable = false)
+	private Instant processedAt;
+
+}
@@ -1,9 +1,12 @@
 package dev.ime.infrastructure.entity;
+
+import dev.ime.common.config.GlobalConstants;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -23,7 +26,8 @@ import lombok.ToString;
 public class UserAppJpaEntity {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = GlobalConstants.USERAPP_SEQ_DB)
+	@SequenceGenerator(name = GlobalConstants.USERAPP_SEQ_DB, sequenceName = GlobalConstants.USERAPP_SEQ_DB, allocationSize = GlobalConstants.ID_ALLOCATION_SIZE)
 	@Column( name = "user_app_id" )
 	private Long userAppId;
 	
@@ -137,4 +137,37 @@ class UserAppServiceAdapterTest {
 				()-> Assertions.assertThat(optResult.get().userAppId()).isEqualTo(userAppId)
 		);
 	}
+
+	@Test
+	void createFromEvents_shouldSaveOncePerEventAndPublishCreated() {
+
+		Event userCreated = new Event(GlobalConstants.USER_CAT, GlobalConstants.USER_CREATED, Map.of());
+		UserApp fromEvent = new UserApp(null, email, name, lastname);
+		Mockito.when(userAppMapper.fromEventToDom(userCreated)).thenReturn(fromEvent);
+		Mockito.when(userAppRepository.saveAllOnce(Map.of(userCreated.getEventId(), fromEvent))).thenReturn(List.of(userApp));
+		Mockito.when(userAppMapper.fromDomToEvent(GlobalConstants.USERAPP_CREATED, userApp)).thenReturn(event);
+
+		int result = userAppServiceAdapter.createFromEvents(List.of(userCreated, userCreated));
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				()-> Assertions.assertThat(result).isEqualTo(1)
+		);
+		Mockito.verify(publisherAdapter).publishEvents(List.of(event));
+	}
+
+	@Test
+	void createFromEvents_withIncompleteEvent_shouldSkipItAndReportFailure() {
+
+		Event userCreated = new Event(GlobalConstants.USER_CAT, GlobalConstants.USER_CREATED, Map.of());
+		Mockito.when(userAppMapper.fromEventToDom(userCreated)).thenReturn(new UserApp(null, email, null, lastname));
+		Mockito.when(userAppMapper.fromUserEventToFailedEvent(userCreated)).thenReturn(event);
+		Mockito.when(userAppRepository.saveAllOnce(Map.of())).thenReturn(List.of());
+
+		int result = userAppServiceAdapter.createFromEvents(List.of(userCreated));
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				()-> Assertions.assertThat(result).isZero()
+		);
+		Mockito.verify(publisherAdapter).publishEvents(List.of(event));
+	}
 }
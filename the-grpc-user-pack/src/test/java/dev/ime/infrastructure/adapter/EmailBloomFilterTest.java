@@ -0,0 +1,78 @@
+package dev.ime.infrastructure.adapter;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import dev.ime.common.config.GlobalConstants;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class EmailBloomFilterTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final EmailBloomFilter emailFilter = new EmailBloomFilter(meterRegistry, 1000L, 0.01, 3, 10L);
+	private final AtomicInteger lookups = new AtomicInteger();
+
+	private boolean lookup(String email) {
+
+		lookups.incrementAndGet();
+		return email.startsWith("user");
+	}
+
+	private static String email(long id) {
+		return "user" + id + "@email.tk";
+	}
+
+	@Test
+	void contains_beforeBuild_shouldAlwaysQuery() {
+
+		boolean found = emailFilter.contains("other@email.tk", this::lookup);
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				() -> Assertions.assertThat(found).isFalse(),
+				() -> Assertions.assertThat(lookups).hasValue(1),
+				() -> Assertions.assertThat(emailFilter.isReady()).isFalse());
+	}
+
+	@Test
+	void build_shouldLoadEveryChunkAndAnswerAbsentWithoutQuery() {
+
+		Set<Long> loadedFrom = ConcurrentHashMap.newKeySet();
+		emailFilter.build(1L, 95L, (from, to) -> {
+			loadedFrom.add(from);
+			return LongStream.rangeClosed(from, to).mapToObj(EmailBloomFilterTest::email).toList();
+		});
+
+		boolean registered = emailFilter.contains(email(42L), this::lookup);
+		long queried = LongStream.range(0, 500).filter(i -> emailFilter.contains("other" + i + "@email.tk", this::lookup)).count();
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				() -> Assertions.assertThat(loadedFrom).hasSize(10),
+				() -> Assertions.assertThat(registered).isTrue(),
+				() -> Assertions.assertThat(queried).isZero(),
+				() -> Assertions.assertThat(lookups.get()).isLessThan(30),
+				() -> Assertions.assertThat(meterRegistry.get(GlobalConstants.METRIC_EMAIL_FILTER_REBUILD).timer().count()).isEqualTo(1L),
+				() -> Assertions.assertThat(meterRegistry.get(GlobalConstants.METRIC_EMAIL_FILTER_FPP).gauge().value()).isLessThan(0.05));
+	}
+
+	@Test
+	void put_afterBuild_shouldSendEmailToQuery() {
+
+		emailFilter.build(1L, 0L, (from, to) -> List.of());
+		emailFilter.put(email(7L));
+
+		boolean found = emailFilter.contains(email(7L), this::lookup);
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				() -> Assertions.assertThat(found).isTrue(),
+				() -> Assertions.assertThat(lookups).hasValue(1),
+				() -> Assertions.assertThat(meterRegistry.get(GlobalConstants.METRIC_EMAIL_FILTER_CHECKS)
+						.tag(GlobalConstants.TAG_RESULT, "present").counter().count()).isEqualTo(1.0));
+	}
+
+}
@@ -0,0 +1,44 @@
+package dev.ime.infrastructure.adapter;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import dev.ime.common.config.GlobalConstants;
+import dev.ime.domain.model.Event;
+
+@ExtendWith(MockitoExtension.class)
+class EmailFilterUpdateAdapterTest {
+
+	@Mock
+	private EmailBloomFilter emailFilter;
+	@Mock
+	private ParallelBatchProcessor parallelBatchProcessor;
+
+	@InjectMocks
+	private EmailFilterUpdateAdapter emailFilterUpdateAdapter;
+
+	private final String email = "email@email.tk";
+
+	@Test
+	void onEvent_withUserAppCreated_shouldPutEmail() {
+
+		emailFilterUpdateAdapter.onEvent(new Event(GlobalConstants.USERAPP_CAT, GlobalConstants.USERAPP_CREATED, Map.of(GlobalConstants.USERAPP_EMAIL, email)));
+
+		Mockito.verify(emailFilter).put(email);
+	}
+
+	@Test
+	void onEvent_withUserAppDeleted_shouldIgnore() {
+
+		emailFilterUpdateAdapter.onEvent(new Event(GlobalConstants.USERAPP_CAT, GlobalConstants.USERAPP_DELETED, Map.of(GlobalConstants.USERAPP_EMAIL, email)));
+
+		Mockito.verifyNoInteractions(emailFilter);
+	}
+
+}
@@ -0,0 +1,64 @@
+package dev.ime.infrastructure.adapter;
+
+import java.util.List;
+import java.util.Map;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import dev.ime.common.config.GlobalConstants;
+import dev.ime.domain.model.Event;
+import dev.ime.infrastructure.entity.OutboxEventJpaEntity;
+import jakarta.persistence.EntityManager;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxPublisherAdapterTest {
+
+	@Mock
+	private EntityManager entityManager;
+
+	private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+	private OutboxPublisherAdapter outboxPublisherAdapter;
+	private final Event event = new Event(GlobalConstants.USERAPP_CAT, GlobalConstants.USERAPP_CREATED, Map.of(GlobalConstants.USERAPP_EMAIL, "email@email.tk"));
+
+	@BeforeEach
+	private void setUp() {
+
+		outboxPublisherAdapter = new OutboxPublisherAdapter(entityManager, objectMapper);
+	}
+
+	@Test
+	void publishEvent_shouldPersistSerializedEvent() throws Exception {
+
+		ArgumentCaptor<OutboxEventJpaEntity> captor = ArgumentCaptor.forClass(OutboxEventJpaEntity.class);
+
+		outboxPublisherAdapter.publishEvent(event);
+
+		InOrder inOrder = Mockito.inOrder(entityManager);
+		inOrder.verify(entityManager).flush();
+		inOrder.verify(entityManager).persist(captor.capture());
+		OutboxEventJpaEntity entity = captor.getValue();
+		org.junit.jupiter.api.Assertions.assertAll(
+				() -> Assertions.assertThat(entity.getEventType()).isEqualTo(GlobalConstants.USERAPP_CREATED),
+				() -> Assertions.assertThat(entity.getCreatedAt()).isEqualTo(event.getEventTimestamp()),
+				() -> Assertions.assertThat(objectMapper.readValue(entity.getPayload(), Event.class)).isEqualTo(event));
+	}
+
+	@Test
+	void publishEvents_shouldPersistEveryEvent() {
+
+		outboxPublisherAdapter.publishEvents(List.of(event, event));
+
+		Mockito.verify(entityManager, Mockito.times(2)).persist(Mockito.any(OutboxEventJpaEntity.class));
+	}
+
+}
@@ -0,0 +1,125 @@
+package dev.ime.infrastructure.adapter;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import dev.ime.common.config.GlobalConstants;
+import dev.ime.domain.model.Event;
+import dev.ime.infrastructure.entity.OutboxEventJpaEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayAdapterTest {
+
+	@Mock
+	private EntityManager entityManager;
+	@Mock
+	private KafkaPublisherAdapter kafkaPublisherAdapter;
+	@Mock
+	private PlatformTransactionManager transactionManager;
+	@Mock
+	private TypedQuery<OutboxEventJpaEntity> selectQuery;
+	@Mock
+	private Query deleteQuery;
+
+	private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+	private OutboxRelayAdapter outboxRelayAdapter;
+	private final Event event = new Event(GlobalConstants.USERAPP_CAT, GlobalConstants.USERAPP_CREATED, Map.of(GlobalConstants.USERAPP_EMAIL, "email@email.tk"));
+
+	@BeforeEach
+	private void setUp() {
+
+		outboxRelayAdapter = new OutboxRelayAdapter(entityManager, kafkaPublisherAdapter, objectMapper, transactionManager, 2);
+	}
+
+	private OutboxEventJpaEntity createOutboxEvent(Long id, String payload) {
+
+		return new OutboxEventJpaEntity(id, event.getEventType(), payload, Instant.now());
+	}
+
+	private void stubSelect() {
+
+		Mockito.when(entityManager.createQuery(Mockito.anyString(), Mockito.eq(OutboxEventJpaEntity.class))).thenReturn(selectQuery);
+	}
+
+	private void stubDelete() {
+
+		Mockito.when(entityManager.createQuery(Mockito.startsWith("DELETE"))).thenReturn(deleteQuery);
+	}
+
+	@Test
+	void relay_shouldPublishThenDeleteBatch() throws JsonProcessingException {
+
+		String payload = objectMapper.writeValueAsString(event);
+		stubSelect();
+		stubDelete();
+		Mockito.when(selectQuery.getResultList()).thenReturn(List.of(createOutboxEvent(1L, payload)));
+
+		outboxRelayAdapter.relay();
+
+		Mockito.verify(selectQuery).setLockMode(LockModeType.PESSIMISTIC_WRITE);
+		Mockito.verify(selectQuery).setMaxResults(2);
+		Mockito.verify(kafkaPublisherAdapter).publishRelayed(List.of(event));
+		Mockito.verify(deleteQuery).setParameter(Mockito.anyString(), Mockito.eq(List.of(1L)));
+		Mockito.verify(deleteQuery).executeUpdate();
+	}
+
+	@Test
+	void relay_withFullBatch_shouldKeepDraining() throws JsonProcessingException {
+
+		String payload = objectMapper.writeValueAsString(event);
+		stubSelect();
+		stubDelete();
+		Mockito.when(selectQuery.getResultList()).thenReturn(
+				List.of(createOutboxEvent(1L, payload), createOutboxEvent(2L, payload)),
+				List.of());
+
+		outboxRelayAdapter.relay();
+
+		Mockito.verify(selectQuery, Mockito.times(2)).getResultList();
+		Mockito.verify(kafkaPublisherAdapter).publishRelayed(List.of(event, event));
+	}
+
+	@Test
+	void relay_withKafkaFailure_shouldKeepRows() throws JsonProcessingException {
+
+		String payload = objectMapper.writeValueAsString(event);
+		stubSelect();
+		Mockito.when(selectQuery.getResultList()).thenReturn(List.of(createOutboxEvent(1L, payload)));
+		Mockito.doThrow(new IllegalStateException("broker down")).when(kafkaPublisherAdapter).publishRelayed(Mockito.anyList());
+
+		outboxRelayAdapter.relay();
+
+		Mockito.verify(entityManager, Mockito.never()).createQuery(Mockito.startsWith("DELETE"));
+		Mockito.verify(transactionManager).rollback(Mockito.any());
+	}
+
+	@Test
+	void relay_withUnreadablePayload_shouldDropRowOnly() {
+
+		stubSelect();
+		stubDelete();
+		Mockito.when(selectQuery.getResultList()).thenReturn(List.of(createOutboxEvent(1L, "{")));
+
+		outboxRelayAdapter.relay();
+
+		Mockito.verifyNoInteractions(kafkaPublisherAdapter);
+		Mockito.verify(deleteQuery).executeUpdate();
+	}
+
+}
@@ -0,0 +1,50 @@
+package dev.ime.infrastructure.adapter;
+
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SpoolDrainerAdapterTest {
+
+	@Mock
+	private EventSpool eventSpool;
+	@Mock
+	private KafkaPublisherAdapter kafkaPublisherAdapter;
+
+	private SpoolDrainerAdapter spoolDrainerAdapter;
+
+	@BeforeEach
+	private void setUp() {
+
+		spoolDrainerAdapter = new SpoolDrainerAdapter(eventSpool, kafkaPublisherAdapter, 2);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	void drain_shouldLoopWhileBatchesComeBackFull() {
+
+		Mockito.when(eventSpool.drain(Mockito.eq(2), Mockito.any(Consumer.class))).thenReturn(2, 2, 1);
+
+		spoolDrainerAdapter.drain();
+
+		Mockito.verify(eventSpool, Mockito.times(3)).drain(Mockito.eq(2), Mockito.any(Consumer.class));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	void drain_withKafkaDown_shouldStopUntilNextRun() {
+
+		Mockito.when(eventSpool.drain(Mockito.eq(2), Mockito.any(Consumer.class))).thenThrow(new IllegalStateException("broker down"));
+
+		spoolDrainerAdapter.drain();
+
+		Mockito.verify(eventSpool).drain(Mockito.eq(2), Mockito.any(Consumer.class));
+	}
+
+}
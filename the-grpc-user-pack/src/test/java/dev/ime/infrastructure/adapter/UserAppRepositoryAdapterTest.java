@@ -1,7 +1,10 @@
 package dev.ime.infrastructure.adapter;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,12 +19,15 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
 import dev.ime.common.mapper.UserAppMapper;
+import dev.ime.domain.model.PageCursor;
 import dev.ime.domain.model.UserApp;
+import dev.ime.infrastructure.entity.ProcessedEventJpaEntity;
 import dev.ime.infrastructure.entity.UserAppJpaEntity;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Root;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,6 +37,8 @@ class UserAppRepositoryAdapterTest {
 	private EntityManager entityManager;
 	@Mock
 	private UserAppMapper userAppMapper;
+	@Mock
+	private EmailBloomFilter emailFilter;
 
 	@InjectMocks
 	private UserAppRepositoryAdapter userAppRepositoryAdapter;	
@@ -98,6 +106,33 @@ class UserAppRepositoryAdapterTest {
 				() -> Mockito.verify(query).setMaxResults(10));
 	}
 
+	@SuppressWarnings("unchecked")
+	@Test
+	void findAll_withCursor_shouldSeekWithoutOffset() {
+
+		CriteriaBuilder cb = Mockito.mock(CriteriaBuilder.class);
+		CriteriaQuery<UserAppJpaEntity> cq = Mockito.mock(CriteriaQuery.class);
+		Root<UserAppJpaEntity> root = Mockito.mock(Root.class);
+		TypedQuery<UserAppJpaEntity> query = Mockito.mock(TypedQuery.class);
+		Mockito.when(entityManager.getCriteriaBuilder()).thenReturn(cb);
+		Mockito.when(cb.createQuery(UserAppJpaEntity.class)).thenReturn(cq);
+		Mockito.when(cq.from(UserAppJpaEntity.class)).thenReturn(root);
+		Mockito.when(cq.orderBy(Mockito.anyList())).thenReturn(cq);
+		Mockito.when(entityManager.createQuery(cq)).thenReturn(query);
+		Mockito.when(query.setMaxResults(Mockito.anyInt())).thenReturn(query);
+		Mockito.when(query.getResultList()).thenReturn(List.of(userAppJpaEntity));
+		Mockito.when(userAppMapper.fromListJpaToListDomain(Mockito.anyList())).thenReturn(List.of(userApp));
+
+		List<UserApp> result = userAppRepositoryAdapter.findAll(pageable, new PageCursor(email, userAppId));
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				() -> Assertions.assertThat(result).hasSize(1),
+				() -> Mockito.verify(cb).greaterThan(Mockito.<Expression<String>>any(), Mockito.eq(email)),
+				() -> Mockito.verify(cb).greaterThan(Mockito.<Expression<Long>>any(), Mockito.eq(userAppId)),
+				() -> Mockito.verify(query, Mockito.never()).setFirstResult(Mockito.anyInt()),
+				() -> Mockito.verify(query).setMaxResults(10));
+	}
+
 	@SuppressWarnings("unchecked")
 	@Test
 	void findById_shouldReturnOptUserApp() {
@@ -145,4 +180,62 @@ class UserAppRepositoryAdapterTest {
 				);	
 	}
 	
+	@SuppressWarnings("unchecked")
+	@Test
+	void saveAllOnce_shouldSkipHandledEventsAndExistingEmails() {
+
+		UUID handled = UUID.randomUUID();
+		UUID existingEmail = UUID.randomUUID();
+		UUID fresh = UUID.randomUUID();
+		UUID repeatedEmail = UUID.randomUUID();
+		String otherEmail = "other@email.tk";
+		Map<UUID, UserApp> userApps = new LinkedHashMap<>();
+		userApps.put(handled, new UserApp(null, email, name, lastname));
+		userApps.put(existingEmail, new UserApp(null, otherEmail, name, lastname));
+		userApps.put(fresh, userApp);
+		userApps.put(repeatedEmail, userApp);
+		TypedQuery<UUID> processedQuery = Mockito.mock(TypedQuery.class);
+		TypedQuery<String> emailQuery = Mockito.mock(TypedQuery.class);
+		Mockito.when(entityManager.createQuery(Mockito.anyString(), Mockito.eq(UUID.class))).thenReturn(processedQuery);
+		Mockito.when(processedQuery.getResultList()).thenReturn(List.of(handled));
+		Mockito.when(entityManager.createQuery(Mockito.anyString(), Mockito.eq(String.class))).thenReturn(emailQuery);
+		Mockito.when(emailQuery.getResultList()).thenReturn(List.of(otherEmail));
+		Mockito.when(userAppMapper.fromDomainToJpa(userApp)).thenReturn(userAppJpaEntityNew);
+		Mockito.when(userAppMapper.fromJpaToDomain(userAppJpaEntityNew)).thenReturn(userApp);
+
+		List<UserApp> saved = userAppRepositoryAdapter.saveAllOnce(userApps);
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				()-> Assertions.assertThat(saved).containsExactly(userApp)
+				);
+		Mockito.verify(entityManager, Mockito.times(3)).persist(Mockito.any(ProcessedEventJpaEntity.class));
+		Mockito.verify(entityManager).persist(userAppJpaEntityNew);
+		Mockito.verify(emailFilter).put(email);
+		Mockito.verify(entityManager).flush();
+	}
+
+	@Test
+	void saveAllOnce_withNoUserApps_shouldNotQuery() {
+
+		List<UserApp> saved = userAppRepositoryAdapter.saveAllOnce(Map.of());
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				()-> Assertions.assertThat(saved).isEmpty()
+				);
+		Mockito.verifyNoInteractions(entityManager);
+	}
+
+	@Test
+	void countByEmail_withFilterRulingOut_shouldNotQuery() {
+
+		Mockito.when(emailFilter.contains(Mockito.eq(email), Mockito.any())).thenReturn(false);
+
+		int count = userAppRepositoryAdapter.countByEmail(email);
+
+		org.junit.jupiter.api.Assertions.assertAll(
+				()-> Assertions.assertThat(count).isZero()
+				);
+		Mockito.verifyNoInteractions(entityManager);
+	}
+
 }
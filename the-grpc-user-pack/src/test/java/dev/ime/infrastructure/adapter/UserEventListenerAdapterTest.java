@@ -0,0 +1,100 @@
+package dev.ime.infrastructure.adapter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import dev.ime.application.dto.UserAppDto;
+import dev.ime.common.config.GlobalConstants;
+import dev.ime.domain.model.Event;
+import dev.ime.domain.port.inbound.UserAppServicePort;
+
+@ExtendWith(MockitoExtension.class)
+class UserEventListenerAdapterTest {
+
+	@Mock
+	private UserAppServicePort<UserAppDto> userAppService;
+	@Mock
+	private ParallelBatchProcessor parallelBatchProcessor;
+
+	@InjectMocks
+	private UserEventListenerAdapter userEventListenerAdapter;
+
+	@Test
+	void onEvents_shouldPassOnlyCreatedEvents() {
+
+		Event created = new Event(GlobalConstants.USER_CAT, GlobalConstants.USER_CREATED, Map.of());
+		Event deleted = new Event(GlobalConstants.USER_CAT, GlobalConstants.USER_DELETED, Map.of());
+
+		userEventListenerAdapter.onEvents(List.of(created, deleted));
+
+		Mockito.verify(userAppService).createFromEvents(List.of(created));
+	}
+
+	@Test
+	void onEvents_withoutCreatedEvents_shouldNotCallService() {
+
+		Event updated = new Event(GlobalConstants.USER_CAT, GlobalConstants.USER_UPDATED, Map.of());
+
+		userEventListenerAdapter.onEvents(List.of(updated));
+
+		Mockito.verifyNoInteractions(userAppService);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	void onRecords_shouldHandWholePollToOnEvents() {
+
+		Event created = new Event(GlobalConstants.USER_CAT, GlobalConstants.USER_CREATED, Map.of());
+		List<ConsumerRecord<String, Event>> records = List.of(new ConsumerRecord<>(GlobalConstants.USER_TOPIC, 0, 0L, "1", created));
+		Mockito.doAnswer(invocation -> {
+			((Consumer<List<Event>>) invocation.getArgument(3)).accept(List.of(created));
+			return null;
+		}).when(parallelBatchProcessor).processAll(Mockito.eq(GlobalConstants.USERPACK_GROUP), Mockito.eq(records), Mockito.any(), Mockito.any(Consumer.class));
+
+		userEventListenerAdapter.onRecords(records, null);
+
+		Mockito.verify(userAppService).createFromEvents(List.of(created));
+	}
+
+	@Test
+	void recover_withCreatedEventPassingAlone_shouldNotReportFailure() {
+
+		Event created = new Event(GlobalConstants.USER_CAT, GlobalConstants.USER_CREATED, Map.of());
+
+		userEventListenerAdapter.recover(new ConsumerRecord<>(GlobalConstants.USER_TOPIC, 0, 0L, "1", created), new IllegalStateException());
+
+		Mockito.verify(userAppService).createFromEvents(List.of(created));
+		Mockito.verify(userAppService, Mockito.never()).failFromEvents(Mockito.anyList());
+	}
+
+	@Test
+	void recover_withCreatedEventFailingAlone_shouldReportFailure() {
+
+		Event created = new Event(GlobalConstants.USER_CAT, GlobalConstants.USER_CREATED, Map.of());
+		Mockito.when(userAppService.createFromEvents(List.of(created))).thenThrow(new IllegalStateException());
+
+		userEventListenerAdapter.recover(new ConsumerRecord<>(GlobalConstants.USER_TOPIC, 0, 0L, "1", created), new IllegalStateException());
+
+		Mockito.verify(userAppService).failFromEvents(List.of(created));
+	}
+
+	@Test
+	void recover_withOtherEvent_shouldDoNothing() {
+
+		Event deleted = new Event(GlobalConstants.USER_CAT, GlobalConstants.USER_DELETED, Map.of());
+
+		userEventListenerAdapter.recover(new ConsumerRecord<>(GlobalConstants.USER_TOPIC, 0, 0L, "1", deleted), new IllegalStateException());
+
+		Mockito.verifyNoInteractions(userAppService);
+	}
+
+}